@@ -0,0 +1,84 @@
+package teammates.client.scripts.sql;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import teammates.client.connector.DatastoreClient;
+import teammates.client.util.ClientProperties;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlapi.FeedbackResponsesDb;
+import teammates.storage.sqlentity.FeedbackSession;
+
+/**
+ * Brings the recorded submissions of all feedback sessions in line with their responses.
+ *
+ * <p>The submissions of responses created before submissions were recorded are added by the database migration.
+ * This script repairs sessions whose responses were changed afterwards by instances still running an earlier version,
+ * e.g. during a rolling deployment.
+ *
+ * <p>The script can be run again safely, e.g. after it is interrupted, as sessions which are
+ * already up to date are left unchanged.
+ */
+public class BackfillFeedbackSessionSubmissions extends DatastoreClient {
+
+    private static final int BATCH_SIZE = 100;
+
+    private BackfillFeedbackSessionSubmissions() {
+        String connectionUrl = ClientProperties.SCRIPT_API_URL;
+        String username = ClientProperties.SCRIPT_API_NAME;
+        String password = ClientProperties.SCRIPT_API_PASSWORD;
+
+        HibernateUtil.buildSessionFactory(connectionUrl, username, password);
+    }
+
+    public static void main(String[] args) {
+        new BackfillFeedbackSessionSubmissions().doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        long numSessions = 0;
+        long numSubmissions = 0;
+        UUID lastId = null;
+
+        while (true) {
+            HibernateUtil.beginTransaction();
+            List<FeedbackSession> sessions = getFeedbackSessionsAfterId(lastId);
+            for (FeedbackSession session : sessions) {
+                numSubmissions += FeedbackResponsesDb.inst().refreshSubmissionsForSession(session);
+                lastId = session.getId();
+            }
+            HibernateUtil.commitTransaction();
+            HibernateUtil.clearSession();
+
+            if (sessions.isEmpty()) {
+                break;
+            }
+            numSessions += sessions.size();
+            log("Processed " + numSessions + " sessions, added " + numSubmissions + " submissions");
+        }
+
+        log("Backfill completed: " + numSessions + " sessions, " + numSubmissions + " submissions added");
+    }
+
+    private List<FeedbackSession> getFeedbackSessionsAfterId(UUID lastId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSession> cr = cb.createQuery(FeedbackSession.class);
+        Root<FeedbackSession> root = cr.from(FeedbackSession.class);
+
+        cr.select(root).orderBy(cb.asc(root.get("id")));
+        if (lastId != null) {
+            cr.where(cb.greaterThan(root.get("id"), lastId));
+        }
+
+        return HibernateUtil.createQuery(cr).setMaxResults(BATCH_SIZE).getResultList();
+    }
+
+    private void log(String message) {
+        System.out.println(message);
+    }
+}
@@ -7,16 +7,31 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.QueryResults;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.ObjectifyService;
 import com.googlecode.objectify.cmd.Query;
+import com.googlecode.objectify.util.Closeable;
 
 import teammates.client.connector.DatastoreClient;
 import teammates.client.util.ClientProperties;
@@ -29,13 +44,21 @@ import teammates.test.FileHelper;
  *
  * <ul>
  * <li>Supports full scan of entities without {@code OutOfMemoryError}.</li>
+ * <li>Splits the key space into shards which are read concurrently by a pool of reader threads.</li>
+ * <li>Saves the migrated entities in JDBC batches from a pool of writer threads, which are fed by
+ * the readers through a bounded queue so that reading cannot run ahead of saving.</li>
  * <li>Supports automatic continuation from the last failure point (Checkpoint
- * feature).</li>
+ * feature). The batches of each shard are saved one at a time in the order they are read, and the cursor
+ * of the shard is saved after each of them, so that no batch after the checkpoint is ever saved.</li>
  * <li>Supports transaction between {@link #isMigrationNeeded(BaseEntity)} and
  * {@link #migrateEntity(BaseEntity)}.</li>
  * <li>Supports batch saving if transaction is not used.</li>
+ * <li>Reports the throughput and the estimated time to completion periodically.</li>
  * </ul>
  *
+ * <p>JDBC batching requires the migrated entities to have application-assigned ids, which is the case for
+ * all SQL entities.
+ *
  * @param <E> The datastore entity type to be migrated by the script.
  * @param <T> The SQL entity type to be migrated by the script.
  */
@@ -43,18 +66,25 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
         E extends teammates.storage.entity.BaseEntity, T extends teammates.storage.sqlentity.BaseEntity>
         extends DatastoreClient {
 
-    /* NOTE
-     * Before running the migration, please enable hibernate.jdbc.batch_size, hibernate.order_updates,
-     * hibernate.batch_versioned_data, hibernate.jdbc.fetch_size in HibernateUtil.java
-     * for optimized batch-insertion, batch-update and batch-fetching. Also, verify that your schema
-     * meets the conditions for them.
-    */
-
-    // the folder where the cursor position and console output is saved as a file
+    // the folder where the cursor positions and console output are saved as files
     private static final String BASE_LOG_URI = "src/client/java/teammates/client/scripts/log/";
 
     private static final int BATCH_SIZE = 1000;
 
+    // the number of keys sampled per shard to find the boundaries of the shards
+    private static final int SCATTER_OVERSAMPLING = 32;
+
+    private static final String SHARD_COMPLETED = "COMPLETED";
+
+    private static final long PROGRESS_REPORT_INTERVAL_SECONDS = 30;
+
+    private static final Map<String, String> MIGRATION_HIBERNATE_PROPERTIES = Map.of(
+            "hibernate.jdbc.batch_size", "50",
+            "hibernate.order_inserts", "true",
+            "hibernate.order_updates", "true",
+            "hibernate.batch_versioned_data", "true",
+            "hibernate.jdbc.fetch_size", "50");
+
     // Creates the folder that will contain the stored log.
     static {
         new File(BASE_LOG_URI).mkdir();
@@ -63,22 +93,31 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     AtomicLong numberOfAffectedEntities;
     AtomicLong numberOfScannedKey;
     AtomicLong numberOfUpdatedEntities;
+    AtomicLong numberOfSavedEntities;
+
+    // buffer of entities to save, kept per reader thread
+    private final ThreadLocal<List<T>> entitiesSavingBuffer = ThreadLocal.withInitial(ArrayList::new);
+
+    // batches of entities read but not yet saved
+    private BlockingQueue<Batch> savingQueue;
+
+    // marks the end of the batches for the writers
+    private final Batch endOfBatches = new Batch(null, -1, new ArrayList<>(), null, true);
 
-    // buffer of entities to save
-    private List<T> entitiesSavingBuffer;
+    // the first failure of any reader or writer, which stops the migration
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
 
     public DataMigrationEntitiesBaseScriptSql() {
         numberOfAffectedEntities = new AtomicLong();
         numberOfScannedKey = new AtomicLong();
         numberOfUpdatedEntities = new AtomicLong();
-
-        entitiesSavingBuffer = new ArrayList<>();
+        numberOfSavedEntities = new AtomicLong();
 
         String connectionUrl = ClientProperties.SCRIPT_API_URL;
         String username = ClientProperties.SCRIPT_API_NAME;
         String password = ClientProperties.SCRIPT_API_PASSWORD;
 
-        HibernateUtil.buildSessionFactory(connectionUrl, username, password);
+        HibernateUtil.buildSessionFactory(connectionUrl, username, password, MIGRATION_HIBERNATE_PROPERTIES);
     }
 
     /**
@@ -100,8 +139,7 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     /**
      * Checks whether data migration is needed.
      *
-     * <p>Causation: this method might be called in multiple threads if using
-     * transaction.
+     * <p>Causation: this method is called in multiple threads as the shards are read concurrently.
      * </p>
      */
     protected abstract boolean isMigrationNeeded(E entity);
@@ -109,8 +147,7 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     /**
      * Migrates the entity.
      *
-     * <p>Causation: this method might be called in multiple threads if using
-     * transaction.
+     * <p>Causation: this method is called in multiple threads as the shards are read concurrently.
      * </p>
      */
     protected abstract void migrateEntity(E oldEntity) throws Exception;
@@ -131,6 +168,33 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
         return false;
     }
 
+    /**
+     * Returns the number of shards the key space of {@link #getFilterQuery()} is split into.
+     *
+     * <p>A shard reads the filter query restricted to a range of keys, which Datastore does not allow if the
+     * query has an inequality filter or a sort order on another property. Such scripts should return 1.
+     *
+     * <p>The shards are kept in the checkpoint files, so changing this has no effect on an unfinished migration.
+     */
+    protected int getNumberOfShards() {
+        return 16;
+    }
+
+    /**
+     * Returns the number of threads which read and migrate the shards.
+     */
+    protected int getNumberOfReaderThreads() {
+        return 4;
+    }
+
+    /**
+     * Returns the number of threads which save the migrated entities.
+     * Each of them uses a database connection while saving a batch.
+     */
+    protected int getNumberOfWriterThreads() {
+        return 4;
+    }
+
     /**
      * Returns the prefix for the log line.
      */
@@ -183,62 +247,214 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void doOperation() {
         log("Running " + getClass().getSimpleName() + "...");
         log("Preview: " + isPreview());
         setMigrationCriteria();
 
-        Cursor cursor = readPositionOfCursorFromFile().orElse(null);
-        if (cursor == null) {
-            log("Start from the beginning");
-        } else {
-            log("Start from cursor position: " + cursor.toUrlSafe());
+        List<Shard> shards = getShards();
+        List<Shard> pendingShards = new ArrayList<>();
+        for (Shard shard : shards) {
+            Optional<String> checkpoint = shard.readCheckpoint();
+            if (checkpoint.isEmpty()) {
+                pendingShards.add(shard);
+            } else if (!SHARD_COMPLETED.equals(checkpoint.get())) {
+                shard.startCursor = Cursor.fromUrlSafe(checkpoint.get());
+                pendingShards.add(shard);
+            }
         }
 
-        boolean shouldContinue = true;
-        while (shouldContinue) {
-            shouldContinue = false;
-            Query<E> filterQueryKeys = getFilterQuery().limit(BATCH_SIZE);
-            if (cursor != null) {
-                filterQueryKeys = filterQueryKeys.startAt(cursor);
+        int numberOfReaders = Math.max(1, Math.min(pendingShards.size(), getNumberOfReaderThreads()));
+        int numberOfWriters = Math.max(1, getNumberOfWriterThreads());
+        log(String.format("Migrating %d of %d shards with %d readers and %d writers",
+                pendingShards.size(), shards.size(), numberOfReaders, numberOfWriters));
+
+        savingQueue = new ArrayBlockingQueue<>(2 * numberOfWriters);
+        ExecutorService readers = Executors.newFixedThreadPool(numberOfReaders);
+        ExecutorService writers = Executors.newFixedThreadPool(numberOfWriters);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        try {
+            long numberOfEntitiesToScan = countEntitiesToScan(readers, pendingShards);
+            log("Number of entities to scan: " + (numberOfEntitiesToScan < 0 ? "unknown" : numberOfEntitiesToScan));
+
+            long startTime = System.currentTimeMillis();
+            reporter.scheduleAtFixedRate(() -> logProgress(startTime, numberOfEntitiesToScan),
+                    PROGRESS_REPORT_INTERVAL_SECONDS, PROGRESS_REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+            List<Future<?>> writerTasks = new ArrayList<>();
+            for (int i = 0; i < numberOfWriters; i++) {
+                writerTasks.add(writers.submit(this::saveBatches));
+            }
+            List<Future<?>> readerTasks = new ArrayList<>();
+            for (Shard shard : pendingShards) {
+                readerTasks.add(readers.submit(() -> readShard(shard)));
             }
-            QueryResults<?> iterator;
-            if (shouldUseTransaction()) {
-                iterator = filterQueryKeys.keys().iterator();
-            } else {
-                iterator = filterQueryKeys.iterator();
+
+            waitFor(readerTasks);
+            for (int i = 0; i < numberOfWriters; i++) {
+                savingQueue.put(endOfBatches);
             }
+            waitFor(writerTasks);
+            logProgress(startTime, numberOfEntitiesToScan);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } finally {
+            readers.shutdownNow();
+            writers.shutdownNow();
+            reporter.shutdownNow();
+        }
 
-            while (iterator.hasNext()) {
-                shouldContinue = true;
+        if (failure.get() != null) {
+            logError("Migration stopped: " + failure.get());
+            log("Run the script again to continue from the last saved batch of each shard");
+            return;
+        }
 
-                // migrate
+        deleteCheckpointFiles(shards);
+        log(isPreview() ? "Preview Completed!" : "Migration Completed!");
+        log("Total number of entities: " + numberOfScannedKey.get());
+        log("Number of affected entities: " + numberOfAffectedEntities.get());
+        log("Number of updated entities: " + numberOfUpdatedEntities.get());
+        log("Number of saved entities: " + numberOfSavedEntities.get());
+    }
+
+    /**
+     * Reads and migrates the entities of the shard, and queues the migrated entities page by page for saving.
+     */
+    @SuppressWarnings("unchecked")
+    private void readShard(Shard shard) {
+        try (Closeable ignored = ObjectifyService.begin()) {
+            Cursor cursor = shard.startCursor;
+            long sequenceNumber = 0;
+            while (failure.get() == null) {
+                Query<E> filterQueryKeys = shard.getQuery().limit(BATCH_SIZE);
+                if (cursor != null) {
+                    filterQueryKeys = filterQueryKeys.startAt(cursor);
+                }
+                QueryResults<?> iterator;
                 if (shouldUseTransaction()) {
-                    migrateWithTrx((Key<E>) iterator.next());
+                    iterator = filterQueryKeys.keys().iterator();
                 } else {
-                    migrateWithoutTrx((E) iterator.next());
+                    iterator = filterQueryKeys.iterator();
                 }
 
-                numberOfScannedKey.incrementAndGet();
+                boolean hasResults = false;
+                while (iterator.hasNext()) {
+                    hasResults = true;
+
+                    // migrate
+                    if (shouldUseTransaction()) {
+                        migrateWithTrx((Key<E>) iterator.next());
+                    } else {
+                        migrateWithoutTrx((E) iterator.next());
+                    }
+
+                    numberOfScannedKey.incrementAndGet();
+                }
+
+                if (hasResults) {
+                    cursor = iterator.getCursorAfter();
+                }
+                List<T> entities = new ArrayList<>(entitiesSavingBuffer.get());
+                entitiesSavingBuffer.get().clear();
+                savingQueue.put(new Batch(shard, sequenceNumber++, entities, cursor, !hasResults));
+                if (!hasResults) {
+                    return;
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            logError("Problem reading shard " + shard.index + ": " + e.getMessage());
+            failure.compareAndSet(null, e);
+        } finally {
+            entitiesSavingBuffer.remove();
+        }
+    }
 
-            if (shouldContinue) {
-                cursor = iterator.getCursorAfter();
-                flushEntitiesSavingBuffer();
-                savePositionOfCursorToFile(cursor);
-                log(String.format("Cursor Position: %s", cursor.toUrlSafe()));
-                log(String.format("Number Of Entity Key Scanned: %d", numberOfScannedKey.get()));
-                log(String.format("Number Of Entity affected: %d", numberOfAffectedEntities.get()));
-                log(String.format("Number Of Entity updated: %d", numberOfUpdatedEntities.get()));
+    /**
+     * Saves the queued batches until the end of the batches is reached.
+     *
+     * <p>Batches of different shards are saved concurrently, while the batches of a shard wait for the batches
+     * read before them. As the batches are queued in the order they are read, the batch waited for has always
+     * been taken by another writer already.
+     *
+     * <p>After a failure, the remaining batches are discarded so that the readers are not blocked;
+     * they are read again when the migration is continued.
+     */
+    private void saveBatches() {
+        try {
+            while (true) {
+                Batch batch = savingQueue.take();
+                if (batch == endOfBatches) {
+                    return;
+                }
+                if (failure.get() != null) {
+                    continue;
+                }
+                batch.shard.save(batch);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
         }
+    }
 
-        deleteCursorPositionFile();
-        log(isPreview() ? "Preview Completed!" : "Migration Completed!");
-        log("Total number of entities: " + numberOfScannedKey.get());
-        log("Number of affected entities: " + numberOfAffectedEntities.get());
-        log("Number of updated entities: " + numberOfUpdatedEntities.get());
+    /**
+     * Waits for the tasks to complete, recording the first failure.
+     */
+    private void waitFor(List<Future<?>> tasks) throws InterruptedException {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * Counts the keys left to scan in the shards, or returns -1 if they cannot be counted.
+     */
+    private long countEntitiesToScan(ExecutorService executor, List<Shard> shards) throws InterruptedException {
+        List<Future<Integer>> counts = new ArrayList<>();
+        for (Shard shard : shards) {
+            counts.add(executor.submit(shard::countRemainingEntities));
+        }
+        long total = 0;
+        for (Future<Integer> count : counts) {
+            try {
+                total += count.get();
+            } catch (ExecutionException e) {
+                logError("Fail to count entities " + e.getMessage());
+                total = -1;
+            }
+        }
+        return total < 0 ? -1 : total;
+    }
+
+    /**
+     * Logs the number of entities scanned and saved so far, the throughput and the estimated time to completion.
+     */
+    private void logProgress(long startTime, long numberOfEntitiesToScan) {
+        long scanned = numberOfScannedKey.get();
+        double elapsedSeconds = Math.max(1, System.currentTimeMillis() - startTime) / 1000.0;
+        double throughput = scanned / elapsedSeconds;
+
+        String total = "?";
+        String eta = "unknown";
+        if (numberOfEntitiesToScan >= 0) {
+            total = String.valueOf(numberOfEntitiesToScan);
+            if (throughput > 0) {
+                long remaining = Math.max(0, numberOfEntitiesToScan - scanned);
+                Duration duration = Duration.ofSeconds((long) (remaining / throughput));
+                eta = String.format("%d:%02d:%02d", duration.toHours(), duration.toMinutesPart(), duration.toSecondsPart());
+            }
+        }
+        log(String.format("Progress: %d/%s entities scanned, %d entities saved, %.1f entities/s, ETA %s",
+                scanned, total, numberOfSavedEntities.get(), throughput, eta));
     }
 
     /**
@@ -248,68 +464,126 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
         if (shouldUseTransaction()) {
             throw new RuntimeException("Batch saving is not supported for transaction!");
         }
-        entitiesSavingBuffer.add(entity);
+        entitiesSavingBuffer.get().add(entity);
     }
 
     /**
-     * Flushes the saving buffer by issuing Cloud SQL save request.
+     * Saves the entities in a single Cloud SQL transaction.
      */
-    private void flushEntitiesSavingBuffer() {
-        if (!entitiesSavingBuffer.isEmpty() && !isPreview()) {
-            log("Saving entities in batch..." + entitiesSavingBuffer.size());
+    private void saveEntities(List<T> entities) {
+        if (entities.isEmpty() || isPreview()) {
+            return;
+        }
 
-            long startTime = System.currentTimeMillis();
-            HibernateUtil.beginTransaction();
-            for (T entity : entitiesSavingBuffer) {
-                HibernateUtil.persist(entity);
-            }
+        long startTime = System.currentTimeMillis();
+        HibernateUtil.beginTransaction();
+        for (T entity : entities) {
+            HibernateUtil.persist(entity);
+        }
 
-            HibernateUtil.flushSession();
-            HibernateUtil.clearSession();
-            HibernateUtil.commitTransaction();
-            long endTime = System.currentTimeMillis();
-            log("Flushing " + entitiesSavingBuffer.size() + " took " + (endTime - startTime) + " milliseconds");
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+        HibernateUtil.commitTransaction();
+        numberOfSavedEntities.addAndGet(entities.size());
+        long endTime = System.currentTimeMillis();
+        log("Flushing " + entities.size() + " took " + (endTime - startTime) + " milliseconds");
+    }
+
+    /**
+     * Returns the shards of the key space, reusing the shards of the unfinished migration if there is one.
+     */
+    private List<Shard> getShards() {
+        List<Key<E>> splitKeys = readSplitKeysFromFile().orElseGet(() -> {
+            List<Key<E>> keys = computeSplitKeys();
+            saveSplitKeysToFile(keys);
+            return keys;
+        });
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i <= splitKeys.size(); i++) {
+            Key<E> startKey = i == 0 ? null : splitKeys.get(i - 1);
+            Key<E> endKey = i == splitKeys.size() ? null : splitKeys.get(i);
+            shards.add(new Shard(i, startKey, endKey));
         }
-        entitiesSavingBuffer.clear();
+        return shards;
     }
 
     /**
-     * Saves the cursor position to a file so it can be used in the next run.
+     * Splits the key space into shards of about the same number of entities.
+     *
+     * <p>Datastore assigns a random {@code __scatter__} value to a sample of the entities,
+     * so ordering by it gives keys spread evenly over the key space.
      */
-    private void savePositionOfCursorToFile(Cursor cursor) {
+    private List<Key<E>> computeSplitKeys() {
+        List<Key<E>> splitKeys = new ArrayList<>();
+        int numberOfShards = getNumberOfShards();
+        if (numberOfShards <= 1) {
+            return splitKeys;
+        }
+
+        List<Key<E>> sampledKeys = new ArrayList<>(getFilterQuery().order("__scatter__")
+                .limit(numberOfShards * SCATTER_OVERSAMPLING).keys().list());
+        Collections.sort(sampledKeys);
+        for (int i = 1; i < numberOfShards && !sampledKeys.isEmpty(); i++) {
+            Key<E> splitKey = sampledKeys.get(i * sampledKeys.size() / numberOfShards);
+            if (splitKeys.isEmpty() || !splitKeys.get(splitKeys.size() - 1).equals(splitKey)) {
+                splitKeys.add(splitKey);
+            }
+        }
+        return splitKeys;
+    }
+
+    private String getShardsFilePath() {
+        return BASE_LOG_URI + this.getClass().getSimpleName() + ".shards";
+    }
+
+    /**
+     * Saves the boundaries of the shards to a file so they can be used in the next run.
+     */
+    private void saveSplitKeysToFile(List<Key<E>> splitKeys) {
+        String content = splitKeys.stream()
+                .map(key -> key.getRaw().toUrlSafe())
+                .collect(Collectors.joining(System.lineSeparator()));
         try {
-            FileHelper.saveFile(
-                    BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor", cursor.toUrlSafe());
+            FileHelper.saveFile(getShardsFilePath(), content);
         } catch (IOException e) {
-            logError("Fail to save cursor position " + e.getMessage());
+            logError("Fail to save shards " + e.getMessage());
         }
     }
 
     /**
-     * Reads the cursor position from the saved file.
+     * Reads the boundaries of the shards from the saved file.
      *
-     * @return cursor if the file can be properly decoded.
+     * @return the keys splitting the shards if the file can be properly decoded.
      */
-    private Optional<Cursor> readPositionOfCursorFromFile() {
+    private Optional<List<Key<E>>> readSplitKeysFromFile() {
         try {
-            String cursorPosition = FileHelper.readFile(BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor");
-            return Optional.of(Cursor.fromUrlSafe(cursorPosition));
+            List<Key<E>> splitKeys = new ArrayList<>();
+            for (String line : FileHelper.readFile(getShardsFilePath()).split("\\R")) {
+                if (!line.isBlank()) {
+                    splitKeys.add(Key.create(com.google.cloud.datastore.Key.fromUrlSafe(line.trim())));
+                }
+            }
+            return Optional.of(splitKeys);
         } catch (IOException | IllegalArgumentException e) {
             return Optional.empty();
         }
     }
 
     /**
-     * Deletes the cursor position file.
+     * Deletes the shards file and the cursor position files of the shards.
      */
-    private void deleteCursorPositionFile() {
-        FileHelper.deleteFile(BASE_LOG_URI + this.getClass().getSimpleName() + ".cursor");
+    private void deleteCheckpointFiles(List<Shard> shards) {
+        for (Shard shard : shards) {
+            FileHelper.deleteFile(shard.getCursorFilePath());
+        }
+        FileHelper.deleteFile(getShardsFilePath());
     }
 
     /**
      * Logs a line and persists it to the disk.
      */
-    protected void log(String logLine) {
+    protected synchronized void log(String logLine) {
         System.out.println(String.format("%s %s", getLogPrefix(), logLine));
 
         Path logPath = Paths.get(BASE_LOG_URI + this.getClass().getSimpleName() + ".log");
@@ -401,4 +675,132 @@ public abstract class DataMigrationEntitiesBaseScriptSql<
                 .replace("&amp;", "&");
     }
 
+    /**
+     * A range of keys of the filter query which is read by one reader at a time.
+     */
+    private final class Shard {
+        private final int index;
+        // inclusive, or null for the start of the key space
+        private final Key<E> startKey;
+        // exclusive, or null for the end of the key space
+        private final Key<E> endKey;
+        private Cursor startCursor;
+
+        // the sequence number of the batch of the shard to be saved next
+        private long nextSequenceNumberToSave;
+
+        Shard(int index, Key<E> startKey, Key<E> endKey) {
+            this.index = index;
+            this.startKey = startKey;
+            this.endKey = endKey;
+        }
+
+        Query<E> getQuery() {
+            Query<E> query = getFilterQuery();
+            if (startKey != null) {
+                query = query.filterKey(">=", startKey);
+            }
+            if (endKey != null) {
+                query = query.filterKey("<", endKey);
+            }
+            return query;
+        }
+
+        int countRemainingEntities() {
+            try (Closeable ignored = ObjectifyService.begin()) {
+                Query<E> query = getQuery();
+                if (startCursor != null) {
+                    query = query.startAt(startCursor);
+                }
+                return query.count();
+            }
+        }
+
+        /**
+         * Saves the batch once all batches of the shard read before it are saved, and moves the checkpoint
+         * past the batch.
+         *
+         * <p>If the migration fails before it is the turn of the batch, the batch is not saved, so a batch is
+         * never saved after a batch before it has failed and is read again when the migration is continued.
+         */
+        synchronized void save(Batch batch) throws InterruptedException {
+            while (nextSequenceNumberToSave != batch.sequenceNumber && failure.get() == null) {
+                wait();
+            }
+            try {
+                if (failure.get() != null) {
+                    return;
+                }
+                saveEntities(batch.entities);
+                if (batch.isLast) {
+                    saveCheckpoint(SHARD_COMPLETED);
+                } else {
+                    saveCheckpoint(batch.cursorAfter.toUrlSafe());
+                }
+            } catch (RuntimeException e) {
+                HibernateUtil.rollbackTransaction();
+                logError("Problem saving batch of shard " + index + ": " + e.getMessage());
+                // recorded before the next batch of the shard is let through, so that it is not saved
+                failure.compareAndSet(null, e);
+            } finally {
+                nextSequenceNumberToSave++;
+                notifyAll();
+            }
+        }
+
+        String getCursorFilePath() {
+            return BASE_LOG_URI + DataMigrationEntitiesBaseScriptSql.this.getClass().getSimpleName()
+                    + ".shard" + index + ".cursor";
+        }
+
+        /**
+         * Saves the cursor position of the shard to a file so it can be used in the next run.
+         */
+        private void saveCheckpoint(String checkpoint) {
+            try {
+                FileHelper.saveFile(getCursorFilePath(), checkpoint);
+            } catch (IOException e) {
+                logError("Fail to save cursor position of shard " + index + " " + e.getMessage());
+            }
+        }
+
+        /**
+         * Reads the cursor position of the shard from the saved file.
+         *
+         * @return the cursor position, or {@value #SHARD_COMPLETED} if the shard is already migrated.
+         */
+        Optional<String> readCheckpoint() {
+            try {
+                String checkpoint = FileHelper.readFile(getCursorFilePath()).trim();
+                if (!SHARD_COMPLETED.equals(checkpoint)) {
+                    Cursor.fromUrlSafe(checkpoint);
+                }
+                return Optional.of(checkpoint);
+            } catch (IOException | IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * The entities migrated from one page of a shard.
+     */
+    private final class Batch {
+        private final Shard shard;
+        private final long sequenceNumber;
+        private final List<T> entities;
+        // the cursor after the page, or null if nothing is read from the shard
+        private final Cursor cursorAfter;
+        // whether the page is past the end of the shard
+        private final boolean isLast;
+
+        Batch(Shard shard, long sequenceNumber, List<T> entities, Cursor cursorAfter, boolean isLast) {
+            this.shard = shard;
+            this.sequenceNumber = sequenceNumber;
+            this.entities = entities;
+            this.cursorAfter = cursorAfter;
+            this.isLast = isLast;
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package teammates.client.scripts.sql;
 // CHECKSTYLE.OFF:ImportOrder
 import java.util.LinkedList;
 import java.util.List;
+import java.util.UUID;
 
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
@@ -54,20 +55,22 @@ public class VerifyAccountAttributes
     }
 
     @Override
-    protected List<teammates.storage.sqlentity.Account> lookupSqlEntitiesByPageNumber(int pageNum) {
+    protected List<teammates.storage.sqlentity.Account> lookupSqlEntitiesAfterId(UUID lastId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<teammates.storage.sqlentity.Account> pageQuery = cb.createQuery(sqlEntityClass);
 
         // sort by id to maintain stable order.
         Root<teammates.storage.sqlentity.Account> root = pageQuery.from(sqlEntityClass);
         pageQuery.select(root);
+        if (lastId != null) {
+            pageQuery.where(cb.greaterThan(root.<UUID>get("id"), lastId));
+        }
         List<Order> orderList = new LinkedList<>();
         orderList.add(cb.asc(root.get("id")));
         pageQuery.orderBy(orderList);
 
         // perform query with pagination
         TypedQuery<teammates.storage.sqlentity.Account> query = HibernateUtil.createQuery(pageQuery);
-        query.setFirstResult(calculateOffset(pageNum));
         query.setMaxResults(CONST_SQL_FETCH_BASE_SIZE);
 
         // Fetch read notifications eagerly with one join
@@ -5,6 +5,7 @@ import java.util.AbstractMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.TypedQuery;
@@ -79,13 +80,6 @@ public abstract class VerifyNonCourseEntityAttributesBaseScript<E extends teamma
         return ofy().load().type(datastoreEntityClass).ids(datastoreEntitiesIds);
     }
 
-    /**
-     * Calculate offset.
-     */
-    protected int calculateOffset(int pageNum) {
-        return (pageNum - 1) * CONST_SQL_FETCH_BASE_SIZE;
-    }
-
     /**
      * Get number of pages in database table.
      */
@@ -101,24 +95,27 @@ public abstract class VerifyNonCourseEntityAttributesBaseScript<E extends teamma
     }
 
     /**
-     * Sort SQL entities by id in ascending order and return entities on page.
-     * @param pageNum page in a sorted entities tables
-     * @return list of SQL entities on page num
+     * Sort SQL entities by id in ascending order and return the page of entities after the given id.
+     * Paging by the last seen id (rather than by offset) keeps the cost of each page constant.
+     * @param lastId id of the last entity of the previous page, or null for the first page
+     * @return list of SQL entities on the page
      */
-    protected List<T> lookupSqlEntitiesByPageNumber(int pageNum) {
+    protected List<T> lookupSqlEntitiesAfterId(UUID lastId) {
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaQuery<T> pageQuery = cb.createQuery(sqlEntityClass);
 
         // sort by id to maintain stable order.
         Root<T> root = pageQuery.from(sqlEntityClass);
         pageQuery.select(root);
+        if (lastId != null) {
+            pageQuery.where(cb.greaterThan(root.<UUID>get("id"), lastId));
+        }
         List<Order> orderList = new LinkedList<>();
         orderList.add(cb.asc(root.get("id")));
         pageQuery.orderBy(orderList);
 
         // perform query with pagination
         TypedQuery<T> query = HibernateUtil.createQuery(pageQuery);
-        query.setFirstResult(calculateOffset(pageNum));
         query.setMaxResults(CONST_SQL_FETCH_BASE_SIZE);
 
         return query.getResultList();
@@ -139,12 +136,17 @@ public abstract class VerifyNonCourseEntityAttributesBaseScript<E extends teamma
             return failures;
         }
 
+        UUID lastId = null;
         for (int currPageNum = 1; currPageNum <= numPages; currPageNum++) {
             log(String.format("Verification Progress %d %%",
                      (int) ((float) currPageNum / (float) numPages * 100)));
 
             long startTimeForSql = System.currentTimeMillis();
-            List<T> sqlEntities = lookupSqlEntitiesByPageNumber(currPageNum);
+            List<T> sqlEntities = lookupSqlEntitiesAfterId(lastId);
+            if (sqlEntities.isEmpty()) {
+                break;
+            }
+            lastId = (UUID) HibernateUtil.getIdentifier(sqlEntities.get(sqlEntities.size() - 1));
             long endTimeForSql = System.currentTimeMillis();
             log("Querying for SQL for page " + currPageNum + " took "
                     + (endTimeForSql - startTimeForSql) + " milliseconds");
@@ -178,6 +180,9 @@ public abstract class VerifyNonCourseEntityAttributesBaseScript<E extends teamma
             long endTimeForEquals = System.currentTimeMillis();
             log("Verifying SQL and Datastore for page " + currPageNum + " took "
                     + (endTimeForEquals - startTimeForEquals) + " milliseconds");
+
+            // verified entities are not needed anymore, keep the session small
+            HibernateUtil.clearSession();
         }
         return failures;
     }
@@ -1,20 +1,32 @@
 package teammates.it.sqllogic.core;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.sqllogic.core.UsersLogic;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.questions.FeedbackRankRecipientsQuestion;
+import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
 
 /**
  * SUT: {@link FeedbackResponsesLogic}.
@@ -22,6 +34,8 @@ import teammates.storage.sqlentity.Section;
 public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
     private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final UsersLogic usersLogic = UsersLogic.inst();
 
     private SqlDataBundle typicalDataBundle;
 
@@ -55,6 +69,113 @@ public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess
         assertTrue(frcLogic.getFeedbackResponseCommentsForResponse(fr1.getId()).isEmpty());
     }
 
+    @Test
+    public void testDeleteFeedbackResponsesForCourseCascade() {
+        FeedbackResponse fr1 = typicalDataBundle.feedbackResponses.get("response1ForQ1");
+        FeedbackResponse responseToStudent1 = typicalDataBundle.feedbackResponses.get("response1ForQ2");
+        FeedbackResponse responseOfStudent2 = typicalDataBundle.feedbackResponses.get("response2ForQ1");
+        FeedbackResponse responseOfStudent3 = typicalDataBundle.feedbackResponses.get("response2ForQ2");
+        String courseId = frLogic.getFeedbackResponse(fr1.getId()).getFeedbackQuestion().getCourseId();
+
+        ______TS("success: responses given by or to the entities are deleted together with their comments");
+        frLogic.deleteFeedbackResponsesForCourseCascade(courseId, List.of(fr1.getGiver(), "non-existent-team"));
+
+        assertNull(frLogic.getFeedbackResponse(fr1.getId()));
+        assertNull(frLogic.getFeedbackResponse(responseToStudent1.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentsForResponse(fr1.getId()).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(courseId, fr1.getGiver()).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesForRecipientForCourse(courseId, fr1.getGiver()).isEmpty());
+
+        ______TS("success: responses not involving the entities are kept");
+        assertNotNull(frLogic.getFeedbackResponse(responseOfStudent2.getId()));
+        assertNotNull(frLogic.getFeedbackResponse(responseOfStudent3.getId()));
+    }
+
+    @Test
+    public void testUpdateFeedbackResponsesForChangingEmailAndSection() throws Exception {
+        FeedbackResponse fr1 = frLogic.getFeedbackResponse(
+                typicalDataBundle.feedbackResponses.get("response1ForQ1").getId());
+        FeedbackResponse responseToStudent1 = frLogic.getFeedbackResponse(
+                typicalDataBundle.feedbackResponses.get("response1ForQ2").getId());
+        Course course = fr1.getFeedbackQuestion().getFeedbackSession().getCourse();
+        String oldEmail = fr1.getGiver();
+        String newEmail = "new-email@teammates.tmt";
+
+        ______TS("success: giver and recipient are changed, and responses already loaded are read again");
+        frLogic.updateFeedbackResponsesForChangingEmail(course.getId(), oldEmail, newEmail);
+
+        fr1 = frLogic.getFeedbackResponse(fr1.getId());
+        responseToStudent1 = frLogic.getFeedbackResponse(responseToStudent1.getId());
+        assertEquals(newEmail, fr1.getGiver());
+        assertEquals(newEmail, fr1.getRecipient());
+        assertEquals(newEmail, responseToStudent1.getRecipient());
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForCourse(course.getId(), oldEmail).isEmpty());
+        assertTrue(frLogic.getFeedbackResponsesForRecipientForCourse(course.getId(), oldEmail).isEmpty());
+
+        ______TS("success: sections of the responses and their comments are changed");
+        Section newSection = typicalDataBundle.sections.get("section2InCourse1");
+        frLogic.updateFeedbackResponsesForChangingSection(course, List.of(newEmail), newSection);
+
+        fr1 = frLogic.getFeedbackResponse(fr1.getId());
+        responseToStudent1 = frLogic.getFeedbackResponse(responseToStudent1.getId());
+        assertEquals(newSection.getId(), fr1.getGiverSection().getId());
+        assertEquals(newSection.getId(), fr1.getRecipientSection().getId());
+        assertEquals(newSection.getId(), responseToStudent1.getRecipientSection().getId());
+        for (FeedbackResponseComment comment : frcLogic.getFeedbackResponseCommentsForResponse(fr1.getId())) {
+            assertEquals(newSection.getId(), comment.getGiverSection().getId());
+            assertEquals(newSection.getId(), comment.getRecipientSection().getId());
+        }
+    }
+
+    @Test
+    public void testMakeRankRecipientResponsesConsistent() throws Exception {
+        FeedbackSession session = typicalDataBundle.feedbackSessions.get("session1InCourse1");
+        Section section = typicalDataBundle.sections.get("section1InCourse1");
+        String courseId = session.getCourse().getId();
+
+        FeedbackRankRecipientsQuestionDetails questionDetails = new FeedbackRankRecipientsQuestionDetails("Rank them");
+        questionDetails.setMaxOptionsToBeRanked(2);
+        FeedbackQuestion question = fqLogic.createFeedbackQuestion(new FeedbackRankRecipientsQuestion(session, 10,
+                "rank students", FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.STUDENTS,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                questionDetails));
+        // the five students of the course are ranked partially, with ranks above the number of ranked students
+        FeedbackRankRecipientsResponse rankOfStudent1ByInstr1 = createRankResponse(question, "instr1@teammates.tmt",
+                "student1@teammates.tmt", section, 1);
+        FeedbackRankRecipientsResponse rankOfStudent2ByInstr1 = createRankResponse(question, "instr1@teammates.tmt",
+                "student2@teammates.tmt", section, 7);
+        FeedbackRankRecipientsResponse rankOfStudent1ByInstr2 = createRankResponse(question, "instr2@teammates.tmt",
+                "student1@teammates.tmt", section, 2);
+        FeedbackRankRecipientsResponse rankOfStudent3ByInstr2 = createRankResponse(question, "instr2@teammates.tmt",
+                "student3@teammates.tmt", section, 5);
+
+        ______TS("success: ranks above the number of recipients are closed up, other ranks are kept");
+        frLogic.makeRankRecipientResponsesConsistent(courseId, List.of(rankOfStudent1ByInstr1, rankOfStudent2ByInstr1,
+                rankOfStudent1ByInstr2, rankOfStudent3ByInstr2));
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        assertEquals(1, getRank(rankOfStudent1ByInstr1));
+        assertEquals(5, getRank(rankOfStudent2ByInstr1));
+        assertEquals(2, getRank(rankOfStudent1ByInstr2));
+        assertEquals(5, getRank(rankOfStudent3ByInstr2));
+
+        ______TS("success: ranks of a giver who did not rank a deleted recipient are made consistent");
+        String deletedStudentEmail = "student4@teammates.tmt";
+        List<FeedbackRankRecipientsResponse> affectedResponses =
+                frLogic.getRankRecipientResponsesAffectedByRecipients(courseId, List.of(deletedStudentEmail));
+        frLogic.deleteFeedbackResponsesForCourseCascade(courseId, List.of(deletedStudentEmail));
+        usersLogic.deleteUser(usersLogic.getStudentForEmail(courseId, deletedStudentEmail));
+        frLogic.makeRankRecipientResponsesConsistent(courseId, affectedResponses);
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        assertEquals(1, getRank(rankOfStudent1ByInstr1));
+        assertEquals(4, getRank(rankOfStudent2ByInstr1));
+        assertEquals(2, getRank(rankOfStudent1ByInstr2));
+        assertEquals(4, getRank(rankOfStudent3ByInstr2));
+    }
+
     @Test
     public void testUpdatedFeedbackResponsesAndCommentsCascade() throws Exception {
         ______TS("success: feedbackresponse and feedbackresponsecomment has been updated");
@@ -131,4 +252,16 @@ public class FeedbackResponsesLogicIT extends BaseTestCaseWithSqlDatabaseAccess
         }
         assertEquals(fr.getGiver(), newGiver);
     }
+
+    private FeedbackRankRecipientsResponse createRankResponse(FeedbackQuestion question, String giver,
+            String recipient, Section section, int rank) throws Exception {
+        FeedbackRankRecipientsResponseDetails responseDetails = new FeedbackRankRecipientsResponseDetails();
+        responseDetails.setAnswer(rank);
+        return (FeedbackRankRecipientsResponse) frLogic.createFeedbackResponse(new FeedbackRankRecipientsResponse(
+                question, giver, section, recipient, section, responseDetails));
+    }
+
+    private int getRank(FeedbackRankRecipientsResponse response) {
+        return ((FeedbackRankRecipientsResponse) frLogic.getFeedbackResponse(response.getId())).getAnswer().getAnswer();
+    }
 }
@@ -1,22 +1,47 @@
 package teammates.it.sqllogic.core;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.InstructorPermissions;
+import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.sqllogic.core.AccountsLogic;
 import teammates.sqllogic.core.CoursesLogic;
+import teammates.sqllogic.core.DeadlineExtensionsLogic;
+import teammates.sqllogic.core.FeedbackQuestionsLogic;
+import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
+import teammates.sqllogic.core.FeedbackResponsesLogic;
+import teammates.sqllogic.core.FeedbackSessionsLogic;
 import teammates.sqllogic.core.UsersLogic;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.storage.sqlentity.questions.FeedbackTextQuestion;
+import teammates.storage.sqlentity.responses.FeedbackTextResponse;
 
 /**
  * SUT: {@link UsersLogic}.
@@ -29,6 +54,16 @@ public class UsersLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
 
     private final CoursesLogic coursesLogic = CoursesLogic.inst();
 
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+
+    private final DeadlineExtensionsLogic deLogic = DeadlineExtensionsLogic.inst();
+
     private Course course;
 
     private Account account;
@@ -125,6 +160,133 @@ public class UsersLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(anotherAccount, accountsLogic.getAccountForGoogleId(googleId));
     }
 
+    @Test
+    public void testEnrollStudents() {
+        ______TS("success: new students are created together with their sections and teams");
+        List<Student> studentsToEnroll = List.of(
+                createStudentToEnroll("Alice", "alice@teammates.tmt", "Section 1", "Team 1"),
+                createStudentToEnroll("Bob", "bob@teammates.tmt", "Section 1", "Team 1"),
+                createStudentToEnroll("Carol", "carol@teammates.tmt", "Section 2", "Team 2"));
+
+        StudentEnrollmentResult result = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(3, result.getEnrolledStudents().size());
+        assertEquals(3, result.getModifiedStudents().size());
+        assertTrue(result.getFailedEmailsToErrorMessages().isEmpty());
+        Student alice = usersLogic.getStudentForEmail(course.getId(), "alice@teammates.tmt");
+        Student bob = usersLogic.getStudentForEmail(course.getId(), "bob@teammates.tmt");
+        assertEquals("Team 1", alice.getTeamName());
+        assertEquals("Section 1", alice.getSectionName());
+        assertEquals(alice.getTeam(), bob.getTeam());
+        assertEquals(3, usersLogic.getStudentsForCourse(course.getId()).size());
+
+        ______TS("success: unchanged students are not modified, changed students are updated");
+        studentsToEnroll = List.of(
+                createStudentToEnroll("Alice", "alice@teammates.tmt", "Section 1", "Team 1"),
+                createStudentToEnroll("Bob", "bob@teammates.tmt", "Section 2", "Team 2"),
+                createStudentToEnroll("Carol Renamed", "carol@teammates.tmt", "Section 2", "Team 2"));
+
+        result = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(3, result.getEnrolledStudents().size());
+        assertEquals(List.of("bob@teammates.tmt", "carol@teammates.tmt"),
+                result.getModifiedStudents().stream().map(Student::getEmail).collect(Collectors.toList()));
+        bob = usersLogic.getStudentForEmail(course.getId(), "bob@teammates.tmt");
+        Student carol = usersLogic.getStudentForEmail(course.getId(), "carol@teammates.tmt");
+        assertEquals("Section 2", bob.getSectionName());
+        assertEquals(carol.getTeam(), bob.getTeam());
+        assertEquals("Carol Renamed", carol.getName());
+
+        ______TS("failure: invalid students are reported and not enrolled");
+        studentsToEnroll = List.of(
+                createStudentToEnroll("Dave", "invalid-email", "Section 1", "Team 1"),
+                createStudentToEnroll("Eve", "eve@teammates.tmt", "Section 1", "Team 1"));
+
+        result = usersLogic.enrollStudents(course, studentsToEnroll);
+
+        assertEquals(1, result.getEnrolledStudents().size());
+        assertEquals("eve@teammates.tmt", result.getEnrolledStudents().get(0).getEmail());
+        assertTrue(result.getFailedEmailsToErrorMessages().containsKey("invalid-email"));
+        assertNull(usersLogic.getStudentForEmail(course.getId(), "invalid-email"));
+    }
+
+    @Test
+    public void testDeleteUsersInCourseCascade() throws Exception {
+        // more students than deleted in one batch, so that the students are deleted over several batches
+        int numStudents = 1100;
+        List<Student> studentsToEnroll = new ArrayList<>();
+        for (int i = 0; i < numStudents; i++) {
+            studentsToEnroll.add(createStudentToEnroll("Student " + i, "student" + i + "@teammates.tmt",
+                    "Section " + i / Const.SECTION_SIZE_LIMIT, "Team " + i / 5));
+        }
+        usersLogic.enrollStudents(course, studentsToEnroll);
+
+        Instructor instructor = getTypicalInstructor();
+        instructor.setCourse(course);
+        usersLogic.createInstructor(instructor);
+
+        FeedbackSession session = fsLogic.createFeedbackSession(getTypicalFeedbackSessionForCourse(course));
+        FeedbackQuestion studentQuestion = fqLogic.createFeedbackQuestion(new FeedbackTextQuestion(session, 1,
+                "student question", FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.STUDENTS_EXCLUDING_SELF, Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new FeedbackTextQuestionDetails("How did they do?")));
+        FeedbackQuestion teamQuestion = fqLogic.createFeedbackQuestion(new FeedbackTextQuestion(session, 2,
+                "team question", FeedbackParticipantType.TEAMS, FeedbackParticipantType.NONE,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackTextQuestionDetails("What did your team do?")));
+        FeedbackQuestion instructorQuestion = fqLogic.createFeedbackQuestion(new FeedbackTextQuestion(session, 3,
+                "instructor question", FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.NONE,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackTextQuestionDetails("How did the course go?")));
+
+        Student firstStudent = usersLogic.getStudentForEmail(course.getId(), "student0@teammates.tmt");
+        Student middleStudent = usersLogic.getStudentForEmail(course.getId(), "student600@teammates.tmt");
+        Student lastStudent = usersLogic.getStudentForEmail(course.getId(), "student1099@teammates.tmt");
+        Section defaultSection = usersLogic.getSectionOrCreate(course.getId(), Const.DEFAULT_SECTION);
+        List<FeedbackResponse> responses = List.of(
+                createResponse(studentQuestion, firstStudent.getEmail(), firstStudent.getSection(),
+                        lastStudent.getEmail(), lastStudent.getSection()),
+                createResponse(studentQuestion, lastStudent.getEmail(), lastStudent.getSection(),
+                        middleStudent.getEmail(), middleStudent.getSection()),
+                createResponse(teamQuestion, middleStudent.getTeamName(), middleStudent.getSection(),
+                        Const.GENERAL_QUESTION, defaultSection),
+                createResponse(instructorQuestion, instructor.getEmail(), defaultSection,
+                        Const.GENERAL_QUESTION, defaultSection));
+        FeedbackResponseComment comment = frcLogic.createFeedbackResponseComment(new FeedbackResponseComment(
+                responses.get(0), instructor.getEmail(), FeedbackParticipantType.INSTRUCTORS,
+                firstStudent.getSection(), lastStudent.getSection(), "comment", true, true,
+                new ArrayList<>(), new ArrayList<>(), instructor.getEmail()));
+        Instant extendedDeadline = session.getEndTime().plus(Duration.ofDays(1));
+        deLogic.createDeadlineExtension(new DeadlineExtension(middleStudent, session, extendedDeadline));
+        deLogic.createDeadlineExtension(new DeadlineExtension(instructor, session, extendedDeadline));
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+        assertEquals(4, frLogic.getGiverSetThatAnsweredFeedbackSession(session.getId()).size());
+
+        ______TS("success: all students and instructors are deleted together with their associated entities");
+        usersLogic.deleteStudentsInCourseCascade(course.getId());
+        usersLogic.deleteInstructorsInCourseCascade(course.getId());
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        assertTrue(usersLogic.getStudentsForCourse(course.getId()).isEmpty());
+        assertTrue(usersLogic.getInstructorsForCourse(course.getId()).isEmpty());
+        for (FeedbackResponse response : responses) {
+            assertNull(frLogic.getFeedbackResponse(response.getId()));
+        }
+        assertNull(frcLogic.getFeedbackResponseComment(comment.getId()));
+        assertNull(deLogic.getDeadlineExtensionEntityForUser(session, middleStudent));
+        assertNull(deLogic.getDeadlineExtensionEntityForUser(session, instructor));
+        assertTrue(frLogic.getGiverSetThatAnsweredFeedbackSession(session.getId()).isEmpty());
+
+        ______TS("success: deleting the users of a course without users does nothing");
+        usersLogic.deleteStudentsInCourseCascade(course.getId());
+        usersLogic.deleteInstructorsInCourseCascade(course.getId());
+
+        assertTrue(usersLogic.getStudentsForCourse(course.getId()).isEmpty());
+        assertTrue(usersLogic.getInstructorsForCourse(course.getId()).isEmpty());
+    }
+
     @Test
     public void testUpdateToEnsureValidityOfInstructorsForTheCourse() {
         Instructor instructor = getTypicalInstructor();
@@ -140,4 +302,15 @@ public class UsersLogicIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertFalse(instructor.getPrivileges().isAllowedForPrivilege(
                 Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR));
     }
+
+    private Student createStudentToEnroll(String name, String email, String sectionName, String teamName) {
+        Team team = new Team(new Section(course, sectionName), teamName);
+        return new Student(course, name, email, "", team);
+    }
+
+    private FeedbackResponse createResponse(FeedbackQuestion question, String giver, Section giverSection,
+            String recipient, Section recipientSection) throws Exception {
+        return frLogic.createFeedbackResponse(new FeedbackTextResponse(question, giver, giverSection,
+                recipient, recipientSection, new FeedbackTextResponseDetails("answer")));
+    }
 }
@@ -0,0 +1,82 @@
+package teammates.it.storage.sqlapi;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.HibernateUtil;
+import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.CoursesDb;
+import teammates.storage.sqlapi.EnrollmentJobsDb;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+
+/**
+ * SUT: {@link EnrollmentJobsDb}.
+ */
+public class EnrollmentJobsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
+
+    private final CoursesDb coursesDb = CoursesDb.inst();
+    private final EnrollmentJobsDb enrollmentJobsDb = EnrollmentJobsDb.inst();
+
+    @Test
+    public void testCreateAndGetEnrollmentJob() throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course);
+
+        ______TS("success: created job can be read back with its failures");
+        EnrollmentJob enrollmentJob = new EnrollmentJob(course, "hash", "{\"studentEnrollRequests\":[]}", 2);
+        enrollmentJob.setFailedEnrollments(Map.of("invalid-email", "error message"));
+        enrollmentJobsDb.createEnrollmentJob(enrollmentJob);
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        EnrollmentJob actualJob = enrollmentJobsDb.getEnrollmentJob(enrollmentJob.getId());
+        assertEquals(course.getId(), actualJob.getCourseId());
+        assertEquals("hash", actualJob.getRequestHash());
+        assertEquals(2, actualJob.getTotalCount());
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, actualJob.getStatus());
+        assertEquals(Map.of("invalid-email", "error message"), actualJob.getFailedEnrollments());
+
+        ______TS("success: only jobs in progress are found by request hash");
+        assertEquals(actualJob, enrollmentJobsDb.getInProgressEnrollmentJob(course.getId(), "hash"));
+        assertNull(enrollmentJobsDb.getInProgressEnrollmentJob(course.getId(), "other-hash"));
+        assertNull(enrollmentJobsDb.getInProgressEnrollmentJob("other-course-id", "hash"));
+
+        actualJob.setStatus(EnrollmentJobStatus.COMPLETED);
+        HibernateUtil.flushSession();
+
+        assertNull(enrollmentJobsDb.getInProgressEnrollmentJob(course.getId(), "hash"));
+    }
+
+    @Test
+    public void testCreateEnrollmentJobIfAbsent() throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course = new Course("test-id2", "test-name2", "UTC", "NUS");
+        coursesDb.createCourse(course);
+
+        ______TS("success: job created if no job is in progress");
+        EnrollmentJob firstJob = new EnrollmentJob(course, "hash", "{\"studentEnrollRequests\":[]}", 2);
+        EnrollmentJob actualJob = enrollmentJobsDb.createEnrollmentJobIfAbsent(firstJob);
+
+        assertEquals(firstJob.getId(), actualJob.getId());
+        assertEquals(course.getId(), actualJob.getCourseId());
+        assertEquals(2, actualJob.getTotalCount());
+        assertTrue(actualJob.getFailedEnrollments().isEmpty());
+
+        ______TS("success: job in progress with the same request hash returned instead of creating another");
+        EnrollmentJob secondJob = new EnrollmentJob(course, "hash", "{\"studentEnrollRequests\":[]}", 2);
+
+        assertEquals(firstJob.getId(), enrollmentJobsDb.createEnrollmentJobIfAbsent(secondJob).getId());
+        assertNull(enrollmentJobsDb.getEnrollmentJob(secondJob.getId()));
+
+        ______TS("success: job created once the job in progress has failed");
+        actualJob.setStatus(EnrollmentJobStatus.FAILED);
+
+        assertEquals(secondJob.getId(), enrollmentJobsDb.createEnrollmentJobIfAbsent(secondJob).getId());
+        assertEquals(EnrollmentJobStatus.FAILED, enrollmentJobsDb.getEnrollmentJob(firstJob.getId()).getStatus());
+    }
+
+}
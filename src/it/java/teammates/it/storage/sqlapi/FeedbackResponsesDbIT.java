@@ -1,19 +1,28 @@
 package teammates.it.storage.sqlapi;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.stat.Statistics;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SqlDataBundle;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
 import teammates.common.util.HibernateUtil;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
+import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlentity.Course;
@@ -22,6 +31,9 @@ import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.questions.FeedbackRankRecipientsQuestion;
+import teammates.storage.sqlentity.questions.FeedbackTextQuestion;
+import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
 import teammates.storage.sqlentity.responses.FeedbackTextResponse;
 
 /**
@@ -29,8 +41,12 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  */
 public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
 
+    private static final int NUMBER_OF_RESPONSES_IN_LARGE_SESSION = 1000;
+    private static final int MAX_QUERIES_FOR_LARGE_SESSION = 10;
+
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb frcDb = FeedbackResponseCommentsDb.inst();
+    private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
 
     private SqlDataBundle testDataBundle;
 
@@ -110,6 +126,190 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertFalse(actualHasReponses2);
     }
 
+    @Test
+    public void testSubmissionsForSession() throws Exception {
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+
+        ______TS("submissions are recorded when responses are created");
+        Set<String> expectedGivers = new HashSet<>(List.of("student1@teammates.tmt", "student2@teammates.tmt",
+                "student3@teammates.tmt", "student4@teammates.tmt"));
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+        assertEquals(expectedGivers.size(), frDb.getNumSubmittedGiversForSession(fs.getId()));
+        assertEquals(expectedGivers, frDb.getGiversOfResponsesForSession(fs.getId()));
+
+        ______TS("submission is removed with the last response of the giver");
+        frDb.deleteFeedbackResponse(frDb.getFeedbackResponse(
+                testDataBundle.feedbackResponses.get("response2ForQ2").getId()));
+        expectedGivers.remove("student3@teammates.tmt");
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+
+        ______TS("submission is kept while the giver has other responses");
+        frDb.deleteFeedbackResponse(frDb.getFeedbackResponse(
+                testDataBundle.feedbackResponses.get("response2ForQ1").getId()));
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+
+        ______TS("submissions are updated when responses of a question are deleted");
+        frDb.deleteFeedbackResponsesForQuestionCascade(fq.getId());
+        expectedGivers.remove("student4@teammates.tmt");
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+        assertEquals(expectedGivers, frDb.getGiversOfResponsesForSession(fs.getId()));
+
+        ______TS("recording a submission which exists does not fail");
+        FeedbackQuestion fq2 = testDataBundle.feedbackQuestions.get("qn2InSession1InCourse1");
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        frDb.createFeedbackResponse(new FeedbackTextResponse(fq2, "student1@teammates.tmt", section,
+                "student3@teammates.tmt", section, new FeedbackTextResponseDetails("new answer")));
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+
+        ______TS("submission is recorded again once the giver responds again");
+        frDb.createFeedbackResponse(new FeedbackTextResponse(fq2, "student3@teammates.tmt", section,
+                "student4@teammates.tmt", section, new FeedbackTextResponseDetails("new answer")));
+        expectedGivers.add("student3@teammates.tmt");
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+        assertEquals(expectedGivers.size(), frDb.getNumSubmittedGiversForSession(fs.getId()));
+
+        ______TS("refreshing an up-to-date session adds no submissions");
+        assertEquals(0, frDb.refreshSubmissionsForSession(fs));
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+
+        ______TS("session without responses has no submissions");
+        FeedbackSession sessionWithoutResponses = testDataBundle.feedbackSessions.get(
+                "unpublishedSession1InTypicalCourse");
+
+        assertTrue(frDb.getSubmittedGiversForSession(sessionWithoutResponses.getId()).isEmpty());
+        assertEquals(0, frDb.getNumSubmittedGiversForSession(sessionWithoutResponses.getId()));
+    }
+
+    @Test
+    public void testUpdateGiverOfFeedbackResponsesForCourse() {
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = fs.getCourse().getId();
+        String oldGiver = "student1@teammates.tmt";
+        String newGiver = "new-student1@teammates.tmt";
+        Set<String> expectedGivers = frDb.getSubmittedGiversForSession(fs.getId());
+
+        ______TS("submissions of the old giver are moved to the new giver");
+        assertTrue(frDb.updateGiverOfFeedbackResponsesForCourse(courseId, oldGiver, newGiver) > 0);
+        expectedGivers.remove(oldGiver);
+        expectedGivers.add(newGiver);
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+        assertEquals(expectedGivers, frDb.getGiversOfResponsesForSession(fs.getId()));
+
+        ______TS("giver without responses changes no submissions");
+        assertEquals(0, frDb.updateGiverOfFeedbackResponsesForCourse(courseId, oldGiver, newGiver));
+
+        assertEquals(expectedGivers, frDb.getSubmittedGiversForSession(fs.getId()));
+    }
+
+    @Test
+    public void testDeleteFeedbackResponsesForChangingTeamCascade() throws Exception {
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        String courseId = fs.getCourse().getId();
+
+        FeedbackQuestion teamQuestion = fqDb.createFeedbackQuestion(new FeedbackTextQuestion(fs, 7,
+                "team question", FeedbackParticipantType.TEAMS, FeedbackParticipantType.NONE,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackTextQuestionDetails("What did your team do?")));
+        FeedbackQuestion teamMembersQuestion = fqDb.createFeedbackQuestion(new FeedbackTextQuestion(fs, 8,
+                "team members question", FeedbackParticipantType.STUDENTS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackTextQuestionDetails("How did your team members do?")));
+
+        // team responses are given by the team, but may have been recorded under the student who gave them
+        FeedbackResponse teamResponseOfStudent = frDb.createFeedbackResponse(new FeedbackTextResponse(teamQuestion,
+                "student1@teammates.tmt", section, Const.GENERAL_QUESTION, section,
+                new FeedbackTextResponseDetails("answer")));
+        FeedbackResponse teamResponseOfTeam = frDb.createFeedbackResponse(new FeedbackTextResponse(teamQuestion,
+                "Team 1", section, Const.GENERAL_QUESTION, section, new FeedbackTextResponseDetails("answer")));
+        FeedbackResponse responseFromStudent = frDb.createFeedbackResponse(new FeedbackTextResponse(
+                teamMembersQuestion, "student1@teammates.tmt", section, "student2@teammates.tmt", section,
+                new FeedbackTextResponseDetails("answer")));
+        FeedbackResponse responseToStudent = frDb.createFeedbackResponse(new FeedbackTextResponse(
+                teamMembersQuestion, "student2@teammates.tmt", section, "student1@teammates.tmt", section,
+                new FeedbackTextResponseDetails("answer")));
+        FeedbackResponse responseBetweenTeamMembers = frDb.createFeedbackResponse(new FeedbackTextResponse(
+                teamMembersQuestion, "student2@teammates.tmt", section, "student3@teammates.tmt", section,
+                new FeedbackTextResponseDetails("answer")));
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        ______TS("team responses of the student and responses from or to the student about team members are deleted");
+        assertEquals(3, frDb.deleteFeedbackResponsesForChangingTeamCascade(courseId, List.of("student1@teammates.tmt")));
+
+        assertNull(frDb.getFeedbackResponse(teamResponseOfStudent.getId()));
+        assertNull(frDb.getFeedbackResponse(responseFromStudent.getId()));
+        assertNull(frDb.getFeedbackResponse(responseToStudent.getId()));
+
+        ______TS("responses of the team, between other team members and not about team members are kept");
+        assertNotNull(frDb.getFeedbackResponse(teamResponseOfTeam.getId()));
+        assertNotNull(frDb.getFeedbackResponse(responseBetweenTeamMembers.getId()));
+        assertNotNull(frDb.getFeedbackResponse(testDataBundle.feedbackResponses.get("response1ForQ1").getId()));
+        assertNotNull(frDb.getFeedbackResponse(testDataBundle.feedbackResponses.get("response3ForQ2").getId()));
+        assertEquals(frDb.getGiversOfResponsesForSession(fs.getId()), frDb.getSubmittedGiversForSession(fs.getId()));
+
+        ______TS("nothing to delete");
+        assertEquals(0, frDb.deleteFeedbackResponsesForChangingTeamCascade(courseId, List.of("student1@teammates.tmt")));
+    }
+
+    @Test
+    public void testGetRankRecipientResponsesAffectedByRecipientsForCourse() throws Exception {
+        FeedbackSession fs = testDataBundle.feedbackSessions.get("session1InCourse1");
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        String courseId = fs.getCourse().getId();
+
+        FeedbackQuestion instructorQuestion = fqDb.createFeedbackQuestion(new FeedbackRankRecipientsQuestion(fs, 7,
+                "rank students", FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.STUDENTS,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackRankRecipientsQuestionDetails("Rank the students")));
+        FeedbackQuestion studentQuestion = fqDb.createFeedbackQuestion(new FeedbackRankRecipientsQuestion(fs, 8,
+                "rank other students", FeedbackParticipantType.STUDENTS, FeedbackParticipantType.STUDENTS_EXCLUDING_SELF,
+                Const.MAX_POSSIBLE_RECIPIENTS, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new FeedbackRankRecipientsQuestionDetails("Rank the other students")));
+
+        // instr1 did not rank student3, but the maximum rank of instr1 still drops when student3 is removed
+        FeedbackResponse rankOfStudent1ByInstr1 = createRankResponse(instructorQuestion, "instr1@teammates.tmt",
+                "student1@teammates.tmt", section, 1);
+        FeedbackResponse rankOfStudent2ByInstr1 = createRankResponse(instructorQuestion, "instr1@teammates.tmt",
+                "student2@teammates.tmt", section, 5);
+        createRankResponse(instructorQuestion, "instr2@teammates.tmt",
+                "student3@teammates.tmt", section, 1);
+        FeedbackResponse rankOfStudent4ByInstr2 = createRankResponse(instructorQuestion, "instr2@teammates.tmt",
+                "student4@teammates.tmt", section, 2);
+        createRankResponse(studentQuestion, "student3@teammates.tmt",
+                "student1@teammates.tmt", section, 1);
+        createRankResponse(studentQuestion, "student1@teammates.tmt",
+                "student3@teammates.tmt", section, 1);
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        ______TS("success: all rank recipient responses of the course not given by or to the recipients");
+        Set<UUID> expectedIds = Set.of(rankOfStudent1ByInstr1.getId(), rankOfStudent2ByInstr1.getId(),
+                rankOfStudent4ByInstr2.getId());
+        Set<UUID> actualIds = new HashSet<>();
+        for (FeedbackRankRecipientsResponse response : frDb.getRankRecipientResponsesAffectedByRecipientsForCourse(
+                courseId, List.of("student3@teammates.tmt"))) {
+            actualIds.add(response.getId());
+        }
+
+        assertEquals(expectedIds, actualIds);
+
+        ______TS("success: no recipients");
+        assertTrue(frDb.getRankRecipientResponsesAffectedByRecipientsForCourse(courseId, List.of()).isEmpty());
+
+        ______TS("success: no rank recipient responses in the course");
+        assertTrue(frDb.getRankRecipientResponsesAffectedByRecipientsForCourse(
+                "course-2", List.of("student3@teammates.tmt")).isEmpty());
+    }
+
     @Test
     public void testAreThereResponsesForQuestion() {
         ______TS("success: typical case");
@@ -419,6 +619,49 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(0, actual.size());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSession_largeSession_loadsAssociationsWithConstantQueries()
+            throws Exception {
+        FeedbackSession session = testDataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestion fq = testDataBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        Section section = testDataBundle.sections.get("section1InCourse1");
+        String courseId = session.getCourse().getId();
+        int numberOfExistingResponses = frDb.getFeedbackResponsesForSession(session, courseId).size();
+
+        for (int i = 0; i < NUMBER_OF_RESPONSES_IN_LARGE_SESSION; i++) {
+            String giver = "giver" + i + "@teammates.tmt";
+            FeedbackResponse response = new FeedbackTextResponse(fq, giver, section,
+                    "recipient" + i + "@teammates.tmt", section, new FeedbackTextResponseDetails("answer " + i));
+            frDb.createFeedbackResponse(response);
+            frcDb.createFeedbackResponseComment(new FeedbackResponseComment(response, giver,
+                    FeedbackParticipantType.GIVER, section, section, "comment " + i, true, true,
+                    new ArrayList<>(), new ArrayList<>(), giver));
+        }
+        HibernateUtil.flushSession();
+        HibernateUtil.clearSession();
+
+        Statistics statistics = HibernateUtil.getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<FeedbackResponse> responses = frDb.getFeedbackResponsesForSession(session, courseId);
+        for (FeedbackResponse response : responses) {
+            assertNotNull(response.getFeedbackQuestion().getQuestionDetailsCopy());
+            assertNotNull(response.getGiverSection().getName());
+            assertNotNull(response.getRecipientSection().getName());
+            for (FeedbackResponseComment comment : response.getFeedbackResponseComments()) {
+                assertEquals(response, comment.getFeedbackResponse());
+            }
+        }
+
+        long numberOfQueries = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+
+        assertEquals(numberOfExistingResponses + NUMBER_OF_RESPONSES_IN_LARGE_SESSION, responses.size());
+        assertTrue("Expected at most " + MAX_QUERIES_FOR_LARGE_SESSION + " queries but got " + numberOfQueries,
+                numberOfQueries <= MAX_QUERIES_FOR_LARGE_SESSION);
+    }
+
     private void assertListResponsesEqual(List<FeedbackResponse> expected, List<FeedbackResponse> actual) {
         assertEquals("List size not equal.", expected.size(), actual.size());
         assertTrue(
@@ -426,4 +669,12 @@ public class FeedbackResponsesDbIT extends BaseTestCaseWithSqlDatabaseAccess {
                         expected.toString(), actual.toString()),
                 new HashSet<>(expected).equals(new HashSet<>(actual)));
     }
+
+    private FeedbackResponse createRankResponse(FeedbackQuestion question, String giver, String recipient,
+            Section section, int rank) throws Exception {
+        FeedbackRankRecipientsResponseDetails responseDetails = new FeedbackRankRecipientsResponseDetails();
+        responseDetails.setAnswer(rank);
+        return frDb.createFeedbackResponse(new FeedbackRankRecipientsResponse(question, giver, section,
+                recipient, section, responseDetails));
+    }
 }
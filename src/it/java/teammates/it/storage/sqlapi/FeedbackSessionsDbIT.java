@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.common.util.SanitizationHelper;
 import teammates.it.test.BaseTestCaseWithSqlDatabaseAccess;
 import teammates.storage.sqlapi.CoursesDb;
@@ -127,6 +128,33 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         verifyEquals(fs1, restoredFs);
     }
 
+    @Test
+    public void testMarkAutomatedEmailSent()
+            throws EntityAlreadyExistsException, InvalidParametersException {
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        FeedbackSession fs1 = new FeedbackSession("name1", course1, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        fsDb.createFeedbackSession(fs1);
+
+        ______TS("success: email not sent yet is marked as sent");
+        assertTrue(fsDb.markAutomatedEmailSent(fs1, EmailType.FEEDBACK_OPENED));
+        assertTrue(fs1.isOpenedEmailSent());
+        assertFalse(fs1.isClosedEmailSent());
+
+        ______TS("failure: email already sent is not marked again");
+        assertFalse(fsDb.markAutomatedEmailSent(fs1, EmailType.FEEDBACK_OPENED));
+
+        ______TS("success: other email types are marked independently");
+        assertTrue(fsDb.markAutomatedEmailSent(fs1, EmailType.FEEDBACK_CLOSED));
+        assertTrue(fs1.isClosedEmailSent());
+
+        ______TS("failure: email type which is not automated");
+        assertThrows(IllegalArgumentException.class,
+                () -> fsDb.markAutomatedEmailSent(fs1, EmailType.FEEDBACK_PUBLISHED));
+    }
+
     // It is not possible to use quotation marks in a FeedbackSession name. It is not known if it is possible to do SQL
     // injection here. We keep this here to show it was not missed out.
     // @Test
@@ -296,6 +324,49 @@ public class FeedbackSessionsDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertEquals(0, nonExistentSessions.size());
     }
 
+    @Test
+    public void testGetFeedbackSessionsForCourses()
+            throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
+        Course course1 = new Course("test-id1", "test-name1", "UTC", "NUS");
+        Course course2 = new Course("test-id2", "test-name2", "UTC", "NUS");
+        Course course3 = new Course("test-id3", "test-name3", "UTC", "NUS");
+        coursesDb.createCourse(course1);
+        coursesDb.createCourse(course2);
+        coursesDb.createCourse(course3);
+        FeedbackSession c1Fs = new FeedbackSession("name1", course1, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        FeedbackSession c2Fs = new FeedbackSession("name2", course2, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        FeedbackSession c2DeletedFs = new FeedbackSession("name3", course2, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        FeedbackSession c3Fs = new FeedbackSession("name4", course3, "test1@test.com", "test-instruction",
+                Instant.now().plus(Duration.ofDays(1)), Instant.now().plus(Duration.ofDays(7)), Instant.now(),
+                Instant.now().plus(Duration.ofDays(7)), Duration.ofMinutes(10), true, true, true);
+        fsDb.createFeedbackSession(c1Fs);
+        fsDb.createFeedbackSession(c2Fs);
+        fsDb.createFeedbackSession(c2DeletedFs);
+        fsDb.createFeedbackSession(c3Fs);
+        fsDb.softDeleteFeedbackSession(c2DeletedFs.getName(), course2.getId());
+
+        ______TS("success: sessions of all given courses, except soft-deleted ones");
+        List<FeedbackSession> sessions = fsDb.getFeedbackSessionsForCourses(List.of(course1.getId(), course2.getId()));
+
+        assertEquals(Set.of(c1Fs, c2Fs), new HashSet<>(sessions));
+
+        ______TS("success: soft-deleted sessions of all given courses");
+        List<FeedbackSession> softDeletedSessions =
+                fsDb.getSoftDeletedFeedbackSessionsForCourses(List.of(course1.getId(), course2.getId()));
+
+        assertEquals(List.of(c2DeletedFs), softDeletedSessions);
+
+        ______TS("success: no courses");
+        assertTrue(fsDb.getFeedbackSessionsForCourses(List.of()).isEmpty());
+        assertTrue(fsDb.getSoftDeletedFeedbackSessionsForCourses(List.of()).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackSessionEntitiesForCourseStartingAfter_sqlInjectionAttempt_shouldNotRunSqlInjectionQuery()
             throws EntityAlreadyExistsException, InvalidParametersException, EntityDoesNotExistException {
@@ -264,6 +264,41 @@ public class UsersDbIT extends BaseTestCaseWithSqlDatabaseAccess {
         assertTrue(expectedStudents.containsAll(actualStudents));
     }
 
+    @Test
+    public void testGetStudentsForCourse_keysetPagination()
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        List<Student> expectedStudents = new ArrayList<>();
+        expectedStudents.add(student);
+        for (int i = 1; i <= 4; i++) {
+            Student newStudent = getTypicalStudent();
+            newStudent.setEmail("valid-student-" + i + "@email.tmt");
+            newStudent.setCourse(course);
+            newStudent.setTeam(student.getTeam());
+            usersDb.createStudent(newStudent);
+            expectedStudents.add(newStudent);
+        }
+        HibernateUtil.flushSession();
+
+        ______TS("success: pages cover all students exactly once");
+        List<Student> actualStudents = new ArrayList<>();
+        List<Student> page = usersDb.getStudentsForCourse(course.getId(), null, 2);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 2);
+            actualStudents.addAll(page);
+            page = usersDb.getStudentsForCourse(course.getId(), page.get(page.size() - 1).getId(), 2);
+        }
+
+        assertEquals(expectedStudents.size(), actualStudents.size());
+        assertTrue(actualStudents.containsAll(expectedStudents));
+        assertEquals(expectedStudents.size(), usersDb.getNumStudentsForCourse(course.getId()));
+
+        ______TS("success: instructors are paged in the same way");
+        List<Instructor> instructors = usersDb.getInstructorsForCourse(course.getId(), null, 2);
+        assertEquals(List.of(instructor), instructors);
+        assertTrue(usersDb.getInstructorsForCourse(course.getId(), instructor.getId(), 2).isEmpty());
+        assertEquals(1, usersDb.getNumInstructorsForCourse(course.getId()));
+    }
+
     @Test
     public void testGetStudentsByGoogleId()
             throws EntityAlreadyExistsException, InvalidParametersException {
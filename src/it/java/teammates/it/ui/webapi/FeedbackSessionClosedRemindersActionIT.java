@@ -46,7 +46,7 @@ public class FeedbackSessionClosedRemindersActionIT extends BaseActionIT<Feedbac
 
         loginAsAdmin();
 
-        ______TS("Typical Success Case: email task added for 1 owner of session");
+        ______TS("Typical Success Case: automated email task added for session");
 
         FeedbackSession session = typicalBundle.feedbackSessions.get("session1InCourse1");
         session.setClosedEmailSent(false);
@@ -60,9 +60,10 @@ public class FeedbackSessionClosedRemindersActionIT extends BaseActionIT<Feedbac
         MessageOutput response1 = (MessageOutput) actionOutput1.getOutput();
 
         assertEquals("Successful", response1.getMessage());
-        assertTrue(session.isClosedEmailSent());
+        // the closed email is only marked as sent by the worker which prepares the emails
+        assertFalse(session.isClosedEmailSent());
 
-        verifySpecifiedTasksAdded("send-email-queue", 1);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
 
         ______TS("Success Case: no sessions to consider (`session` already sent closed email)");
         session.setClosedEmailSent(true);
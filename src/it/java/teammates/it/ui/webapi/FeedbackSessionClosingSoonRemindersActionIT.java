@@ -81,10 +81,10 @@ public class FeedbackSessionClosingSoonRemindersActionIT extends BaseActionIT<Fe
     protected void testExecute() throws Exception {
         loginAsAdmin();
 
-        ______TS("Typical Success Case 1: email tasks added for 1 all users of 1 session");
+        ______TS("Typical Success Case 1: automated email task added for 1 session");
         textExecute_typicalSuccess1();
 
-        ______TS("Typical Success Case 2: email tasks added for 1 all users of 1 session and 1 deadline extension");
+        ______TS("Typical Success Case 2: email tasks added for 1 session and 1 deadline extension");
         textExecute_typicalSuccess2();
 
         ______TS("Typical Success Case 3: Only 1 email task queued -- "
@@ -121,13 +121,11 @@ public class FeedbackSessionClosingSoonRemindersActionIT extends BaseActionIT<Fe
         MessageOutput response1 = (MessageOutput) actionOutput1.getOutput();
 
         assertEquals("Successful", response1.getMessage());
-        assertTrue(session.isClosingSoonEmailSent());
+        // the closing-soon email is only marked as sent by the worker which prepares the emails
+        assertFalse(session.isClosingSoonEmailSent());
         assertTrue(session.getDeadlineExtensions().stream().allMatch(de -> !de.isClosingSoonEmailSent()));
 
-        // 7 email tasks queued:
-        // 1 co-owner, 5 students and 3 instructors,
-        // but 1 student and 1 instructor have deadline extensions (should not receive email)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 7);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
     }
 
     private void textExecute_typicalSuccess2() {
@@ -150,14 +148,12 @@ public class FeedbackSessionClosingSoonRemindersActionIT extends BaseActionIT<Fe
         MessageOutput response1 = (MessageOutput) actionOutput1.getOutput();
 
         assertEquals("Successful", response1.getMessage());
-        assertTrue(session.isClosingSoonEmailSent());
+        assertFalse(session.isClosingSoonEmailSent());
         assertTrue(de.isClosingSoonEmailSent());
 
-        // 8 email tasks queued:
-        // - 7 emails: 1 co-owner, 5 students and 3 instructors,
-        //             but 1 student and 1 instructor have deadline extensions (should not receive email)
-        // - 1 email:  1 student deadline extension
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
+        // 1 automated email task for the session and 1 email task for the student deadline extension
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
     }
 
     private void textExecute_typicalSuccess3() {
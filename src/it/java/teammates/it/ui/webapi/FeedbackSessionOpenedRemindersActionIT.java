@@ -4,20 +4,19 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
-import teammates.ui.request.SendEmailRequest;
 import teammates.ui.webapi.FeedbackSessionOpenedRemindersAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -76,7 +75,7 @@ public class FeedbackSessionOpenedRemindersActionIT extends BaseActionIT<Feedbac
     protected void testExecute() throws Exception {
         loginAsAdmin();
 
-        ______TS("Typical Success Case 1: Email tasks added for co-owner, students and instructors of 1 session");
+        ______TS("Typical Success Case 1: Automated email task added for 1 session");
         testExecute_typicalSuccess1();
 
         ______TS("Typical Success Case 2: No email tasks added for session -- already sent opened emails");
@@ -105,23 +104,17 @@ public class FeedbackSessionOpenedRemindersActionIT extends BaseActionIT<Feedbac
         MessageOutput response1 = (MessageOutput) actionOutput1.getOutput();
 
         assertEquals("Successful", response1.getMessage());
-        assertTrue(session.isOpenedEmailSent());
+        // the opened email is only marked as sent by the worker which prepares the emails
+        assertFalse(session.isOpenedEmailSent());
 
-        // # of email to send =
-        //    # emails sent to instructorsToNotify (ie co-owner), 1 +
-        //    # emails sent to students, 5 +
-        //    # emails sent to instructors, 3 (including instructorsToNotify)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 9);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
 
         List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-
-            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
-                    + String.format(EmailType.FEEDBACK_OPENED.getSubject(),
-                    session.getCourse().getName(), session.getName());
-            assertEquals(expectedSubject, email.getSubject());
+            Map<String, String> paramMap = task.getParamMap();
+            assertEquals(session.getCourse().getId(), paramMap.get(Const.ParamsNames.COURSE_ID));
+            assertEquals(session.getName(), paramMap.get(Const.ParamsNames.FEEDBACK_SESSION_NAME));
+            assertEquals(EmailType.FEEDBACK_OPENED.name(), paramMap.get(Const.ParamsNames.EMAIL_TYPE));
         }
     }
 
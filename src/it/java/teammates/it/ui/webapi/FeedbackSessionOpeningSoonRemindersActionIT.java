@@ -3,19 +3,18 @@ package teammates.it.ui.webapi;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TaskWrapper;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
-import teammates.ui.request.SendEmailRequest;
 import teammates.ui.webapi.FeedbackSessionOpeningSoonRemindersAction;
 import teammates.ui.webapi.JsonResult;
 
@@ -54,7 +53,7 @@ public class FeedbackSessionOpeningSoonRemindersActionIT extends BaseActionIT<Fe
     protected void testExecute() throws Exception {
         loginAsAdmin();
 
-        ______TS("Typical Success Case 1: Add 1 email task for 1 opening-soon session with only 1 co-owner");
+        ______TS("Typical Success Case 1: Add 1 automated email task for 1 opening-soon session");
         textExecute_typicalSuccess1();
 
         ______TS("Typical Success Case 2: No email task queued -- opening soon email already sent");
@@ -82,22 +81,17 @@ public class FeedbackSessionOpeningSoonRemindersActionIT extends BaseActionIT<Fe
         MessageOutput response1 = (MessageOutput) actionOutput1.getOutput();
 
         assertEquals("Successful", response1.getMessage());
-        assertTrue(session.isOpeningSoonEmailSent());
+        // the opening soon email is only marked as sent by the worker which prepares the emails
+        assertFalse(session.isOpeningSoonEmailSent());
 
-        // Notify only co-owner (1 instructor only for session1InCourse1)
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
 
         List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        String emailSubjectFormat = EmailType.FEEDBACK_OPENING_SOON.getSubject();
-        String courseName = session.getCourse().getName();
-        String sessionName = session.getName();
         for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-            assertEquals(
-                    String.format(emailSubjectFormat, courseName, sessionName),
-                    email.getSubject());
-
+            Map<String, String> paramMap = task.getParamMap();
+            assertEquals(session.getCourse().getId(), paramMap.get(Const.ParamsNames.COURSE_ID));
+            assertEquals(session.getName(), paramMap.get(Const.ParamsNames.FEEDBACK_SESSION_NAME));
+            assertEquals(EmailType.FEEDBACK_OPENING_SOON.name(), paramMap.get(Const.ParamsNames.EMAIL_TYPE));
         }
     }
 
@@ -0,0 +1,109 @@
+package teammates.common.datatransfer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the access checks of an instructor with section-level and session-level privileges
+ * in every section and session of the course.
+ *
+ * <p>SUT: {@link InstructorPrivileges}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstructorPrivilegesBenchmark {
+
+    @Param({ "10", "50" })
+    private int numSections;
+
+    @Param({ "20" })
+    private int numSessions;
+
+    private InstructorPrivileges privileges;
+
+    private String[] sections;
+
+    private String[] sessions;
+
+    private int checkIndex;
+
+    @Setup
+    public void setUp() {
+        privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        sections = new String[numSections];
+        sessions = new String[numSessions];
+        for (int j = 0; j < numSessions; j++) {
+            sessions[j] = "Session " + j;
+        }
+        for (int i = 0; i < numSections; i++) {
+            sections[i] = "Section " + i;
+            privileges.updatePrivilege(sections[i], Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS, i % 2 == 0);
+            for (int j = 0; j < numSessions; j++) {
+                privileges.updatePrivilege(sections[i], sessions[j],
+                        Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, (i + j) % 3 == 0);
+            }
+        }
+    }
+
+    private int nextCheckIndex() {
+        checkIndex = (checkIndex + 1) % (numSections * numSessions);
+        return checkIndex;
+    }
+
+    @Benchmark
+    public boolean isAllowedForPrivilegeInSession() {
+        int i = nextCheckIndex();
+        return privileges.isAllowedForPrivilege(sections[i / numSessions], sessions[i % numSessions],
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+    }
+
+    @Benchmark
+    public boolean isAllowedForPrivilegeAnySection() {
+        int i = nextCheckIndex();
+        return privileges.isAllowedForPrivilegeAnySection(sessions[i % numSessions],
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+    }
+
+    @Benchmark
+    public boolean hasSectionWithPrivilege() {
+        return privileges.hasSectionWithPrivilege(Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS);
+    }
+
+    @Benchmark
+    public Map<String, InstructorPermissionSet> getSectionsWithPrivilege() {
+        return privileges.getSectionsWithPrivilege(Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS);
+    }
+
+    /**
+     * Measures an access check right after the privileges are updated, which includes compiling them again.
+     */
+    @Benchmark
+    public boolean updateThenCheckPrivilege() {
+        int i = nextCheckIndex();
+        String section = sections[i / numSessions];
+        String session = sessions[i % numSessions];
+        privileges.updatePrivilege(section, session, Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS,
+                i % 2 == 0);
+        return privileges.isAllowedForPrivilege(section, session,
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS);
+    }
+
+}
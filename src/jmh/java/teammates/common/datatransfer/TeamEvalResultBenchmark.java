@@ -0,0 +1,67 @@
+package teammates.common.datatransfer;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks calculating the contribution question result of a team.
+ *
+ * <p>SUT: {@link TeamEvalResult}, {@link TeamEvalCalculator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamEvalResultBenchmark {
+
+    @Param({ "5", "20" })
+    private int teamSize;
+
+    private int[][] submissionValues;
+    private TeamEvalCalculator calculator;
+
+    @Setup
+    public void setUp() {
+        calculator = new TeamEvalCalculator();
+        Random random = new Random(0);
+        submissionValues = new int[teamSize][teamSize];
+        for (int i = 0; i < teamSize; i++) {
+            for (int j = 0; j < teamSize; j++) {
+                // most students submit a value around 100, a few are not sure or did not submit
+                int outcome = random.nextInt(20);
+                if (outcome == 0) {
+                    submissionValues[i][j] = TeamEvalResult.NSU;
+                } else if (outcome == 1) {
+                    submissionValues[i][j] = TeamEvalResult.NSB;
+                } else {
+                    submissionValues[i][j] = 50 + random.nextInt(101);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public TeamEvalResult calculateResult() {
+        return new TeamEvalResult(submissionValues);
+    }
+
+    @Benchmark
+    public TeamEvalResult calculateResultWithCalculator() {
+        return calculator.calculate(submissionValues);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for {@link teammates.common.datatransfer} package.
+ */
+package teammates.common.datatransfer;
@@ -0,0 +1,49 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks validating the fields of an enrolled student, which is done for every row of an enrollment.
+ *
+ * <p>SUT: {@link FieldValidator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidatorBenchmark {
+
+    @Benchmark
+    public void validateValidStudent(Blackhole blackhole) {
+        blackhole.consume(FieldValidator.getInvalidityInfoForCourseId("CS2103T-2024"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForEmail("alice.tan.2024@u.nus.edu"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForPersonName("Alice Tan Wei Ling"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForTeamName("Team 12"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForSectionName("Tutorial Group 3"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForStudentRoleComments("Transferred from another module"));
+    }
+
+    @Benchmark
+    public void validateInvalidStudent(Blackhole blackhole) {
+        blackhole.consume(FieldValidator.getInvalidityInfoForCourseId("CS2103T 2024!"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForEmail("alice.tan@@u.nus.edu"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForPersonName("|Alice Tan"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForTeamName(" Team 12"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForSectionName("%Tutorial Group 3"));
+        blackhole.consume(FieldValidator.getInvalidityInfoForStudentRoleComments("x".repeat(600)));
+    }
+
+}
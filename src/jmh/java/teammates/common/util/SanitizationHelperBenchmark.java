@@ -0,0 +1,50 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks sanitizing user input, e.g. question descriptions and text responses.
+ *
+ * <p>SUT: {@link SanitizationHelper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizationHelperBenchmark {
+
+    private final String richText = ("<p>My teammate <b>contributed</b> a lot to the <i>design</i> of the "
+            + "<a href=\"https://example.com/design\" target=\"_blank\">system</a>.</p>"
+            + "<ul><li>Wrote the parser &amp; the tests</li><li>Reviewed 'most' pull requests</li></ul>"
+            + "<script>alert('not allowed');</script>").repeat(10);
+
+    private final String plainText = "Alice's report: 5 > 3 && \"all tests pass\" / see notes".repeat(10);
+
+    @Benchmark
+    public String sanitizeForRichText() {
+        return SanitizationHelper.sanitizeForRichText(richText);
+    }
+
+    @Benchmark
+    public String sanitizeForHtml() {
+        return SanitizationHelper.sanitizeForHtml(plainText);
+    }
+
+    @Benchmark
+    public String sanitizeTextField() {
+        return SanitizationHelper.sanitizeTextField(plainText);
+    }
+
+}
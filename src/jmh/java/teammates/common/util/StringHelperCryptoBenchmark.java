@@ -0,0 +1,85 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.exception.InvalidParametersException;
+
+/**
+ * Benchmarks encrypting registration keys and cookies, decrypting them and signing user IDs.
+ *
+ * <p>{@link #encryptWithNewCipher()} encrypts the way it was done before the key and ciphers were reused,
+ * as the baseline.
+ *
+ * <p>SUT: {@link StringHelper}, {@link CryptoService}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringHelperCryptoBenchmark {
+
+    @Param({ "1000" })
+    private int numKeys;
+
+    private final String plaintext = "student1InCourse1@gmail.tmt%idOfTypicalCourse1%1234567890";
+
+    private String ciphertext;
+    private List<String> plaintexts;
+
+    @Setup
+    public void setUp() {
+        ciphertext = StringHelper.encrypt(plaintext);
+        plaintexts = new ArrayList<>(numKeys);
+        for (int i = 0; i < numKeys; i++) {
+            plaintexts.add("student" + i + "@gmail.tmt%idOfTypicalCourse1%" + i);
+        }
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return StringHelper.encrypt(plaintext);
+    }
+
+    @Benchmark
+    public String encryptWithNewCipher() throws Exception {
+        SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, sks);
+        return StringHelper.byteArrayToHexString(cipher.doFinal(plaintext.getBytes(Const.ENCODING)));
+    }
+
+    @Benchmark
+    public String decrypt() throws InvalidParametersException {
+        return StringHelper.decrypt(ciphertext);
+    }
+
+    @Benchmark
+    public String generateSignature() {
+        return StringHelper.generateSignature(plaintext);
+    }
+
+    @Benchmark
+    public List<String> encryptBatch() {
+        return StringHelper.encrypt(plaintexts);
+    }
+
+}
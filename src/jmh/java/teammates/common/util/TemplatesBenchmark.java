@@ -0,0 +1,46 @@
+package teammates.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks populating the feedback session email, which is done once per recipient of the email.
+ *
+ * <p>SUT: {@link Templates#populateTemplate(String, String...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplatesBenchmark {
+
+    private final String instructions = "<p>Please answer all questions <b>honestly</b>.</p>".repeat(20);
+
+    @Benchmark
+    public String populateFeedbackSessionEmail() {
+        return Templates.populateTemplate(Templates.EmailTemplates.USER_FEEDBACK_SESSION,
+                "${userName}", "Student Name",
+                "${courseName}", "Software Engineering",
+                "${courseId}", "CS2103T-2024",
+                "${feedbackSessionName}", "Peer Evaluation 1",
+                "${deadline}", "Sun, 14 Jan 2024, 11:59 PM SGT",
+                "${instructorPreamble}", "",
+                "${sessionInstructions}", instructions,
+                "${submitUrl}", "https://teammates.example.com/web/sessions/submission?key=abcdef0123456789",
+                "${status}", "The session is now open for submission.",
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", "");
+    }
+
+}
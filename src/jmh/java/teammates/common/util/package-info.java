@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for {@link teammates.common.util} package.
+ */
+package teammates.common.util;
@@ -0,0 +1,113 @@
+package teammates.jmh;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPermissionRole;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackResponse;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+
+/**
+ * A course with a synthetic roster and a feedback session in which every student has answered
+ * every question about each of their teammates.
+ */
+public final class SyntheticCourse {
+
+    /** The number of students in each team. */
+    public static final int TEAM_SIZE = 5;
+
+    /** The number of teams in each section. */
+    public static final int TEAMS_PER_SECTION = 20;
+
+    /** The course. */
+    public final Course course;
+
+    /** The students of the course, in teams of {@value #TEAM_SIZE}. */
+    public final List<Student> students = new ArrayList<>();
+
+    /** The instructors of the course. */
+    public final List<Instructor> instructors = new ArrayList<>();
+
+    /** The feedback session of the course. */
+    public final FeedbackSession session;
+
+    /** The questions of the session, each asking the students about their teammates. */
+    public final List<FeedbackQuestion> questions = new ArrayList<>();
+
+    /** The responses to all questions of the session. */
+    public final List<FeedbackResponse> responses = new ArrayList<>();
+
+    /**
+     * Creates a course with {@code numStudents} students and a session of {@code numQuestions} questions.
+     */
+    public SyntheticCourse(int numStudents, int numQuestions) {
+        course = new Course("benchmark-course", "Benchmark Course", Const.DEFAULT_TIME_ZONE, "teammates");
+
+        List<List<Student>> teams = new ArrayList<>();
+        Section section = null;
+        Team team = null;
+        for (int i = 0; i < numStudents; i++) {
+            int teamIndex = i / TEAM_SIZE;
+            if (i % (TEAM_SIZE * TEAMS_PER_SECTION) == 0) {
+                section = new Section(course, "Section " + teamIndex / TEAMS_PER_SECTION);
+            }
+            if (i % TEAM_SIZE == 0) {
+                team = new Team(section, "Team " + teamIndex);
+                teams.add(new ArrayList<>());
+            }
+            Student student = new Student(course, "Student " + i, "student" + i + "@benchmark.tmt", "", team);
+            students.add(student);
+            teams.get(teamIndex).add(student);
+        }
+
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        instructors.add(new Instructor(course, "Instructor", "instructor@benchmark.tmt", true,
+                Const.DEFAULT_DISPLAY_NAME_FOR_INSTRUCTOR, InstructorPermissionRole.INSTRUCTOR_PERMISSION_ROLE_COOWNER,
+                privileges));
+
+        Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+        Instant endTime = Instant.parse("2024-01-08T00:00:00Z");
+        session = new FeedbackSession("Benchmark Session", course, "instructor@benchmark.tmt", "",
+                startTime, endTime, startTime, endTime, Duration.ofMinutes(5), false, false, false);
+
+        List<FeedbackParticipantType> visibleTo = List.of(
+                FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.RECEIVER);
+        for (int q = 1; q <= numQuestions; q++) {
+            FeedbackQuestion question = FeedbackQuestion.makeQuestion(session, q, "",
+                    FeedbackParticipantType.STUDENTS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                    Const.MAX_POSSIBLE_RECIPIENTS, visibleTo, visibleTo, visibleTo,
+                    new FeedbackTextQuestionDetails("Comment on the contribution of your teammate"));
+            questions.add(question);
+
+            for (List<Student> members : teams) {
+                for (Student giver : members) {
+                    for (Student recipient : members) {
+                        if (giver == recipient) {
+                            continue;
+                        }
+                        responses.add(FeedbackResponse.makeResponse(question,
+                                giver.getEmail(), giver.getTeam().getSection(),
+                                recipient.getEmail(), recipient.getTeam().getSection(),
+                                new FeedbackTextResponseDetails("Response from " + giver.getName()
+                                        + " to " + recipient.getName())));
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains infrastructure and helpers needed for running the microbenchmarks.
+ */
+package teammates.jmh;
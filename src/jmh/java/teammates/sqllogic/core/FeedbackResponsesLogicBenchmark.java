@@ -0,0 +1,80 @@
+package teammates.sqllogic.core;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.jmh.SyntheticCourse;
+import teammates.storage.sqlapi.FeedbackQuestionsDb;
+import teammates.storage.sqlapi.FeedbackResponsesDb;
+
+/**
+ * Benchmarks building the session results bundle on synthetic rosters, with the database calls stubbed out.
+ *
+ * <p>SUT: {@link FeedbackResponsesLogic#getSessionResultsForCourse}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedbackResponsesLogicBenchmark {
+
+    @Param({ "100", "1000" })
+    private int numStudents;
+
+    @Param({ "5" })
+    private int numQuestions;
+
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private SyntheticCourse syntheticCourse;
+
+    @Setup
+    public void setUp() {
+        syntheticCourse = new SyntheticCourse(numStudents, numQuestions);
+        String courseId = syntheticCourse.course.getId();
+
+        FeedbackResponsesDb frDb = mock(FeedbackResponsesDb.class);
+        FeedbackQuestionsDb fqDb = mock(FeedbackQuestionsDb.class);
+        UsersLogic usersLogic = mock(UsersLogic.class);
+        FeedbackResponseCommentsLogic frcLogic = mock(FeedbackResponseCommentsLogic.class);
+
+        when(frDb.getFeedbackResponsesForSession(syntheticCourse.session, courseId))
+                .thenReturn(syntheticCourse.responses);
+        when(fqDb.getFeedbackQuestionsForSession(any())).thenReturn(new ArrayList<>(syntheticCourse.questions));
+        when(usersLogic.getStudentsForCourse(courseId)).thenReturn(syntheticCourse.students);
+        when(usersLogic.getInstructorsForCourse(courseId)).thenReturn(syntheticCourse.instructors);
+        when(usersLogic.getInstructorForEmail(courseId, syntheticCourse.instructors.get(0).getEmail()))
+                .thenReturn(syntheticCourse.instructors.get(0));
+
+        FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+        fqLogic.initLogicDependencies(fqDb, mock(CoursesLogic.class), frLogic, usersLogic,
+                mock(FeedbackSessionsLogic.class));
+        frLogic.initLogicDependencies(frDb, usersLogic, fqLogic, frcLogic);
+    }
+
+    @Benchmark
+    public SqlSessionResultsBundle getSessionResultsForCourse() {
+        return frLogic.getSessionResultsForCourse(syntheticCourse.session, syntheticCourse.course.getId(),
+                syntheticCourse.instructors.get(0).getEmail(), null, null, null);
+    }
+
+}
@@ -0,0 +1,72 @@
+package teammates.sqllogic.core;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.exception.EnrollException;
+import teammates.jmh.SyntheticCourse;
+import teammates.storage.sqlapi.UsersDb;
+import teammates.storage.sqlentity.Student;
+
+/**
+ * Benchmarks validating the re-enrollment of a whole synthetic roster, with the database calls stubbed out.
+ *
+ * <p>SUT: {@link UsersLogic#validateSectionsAndTeams}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsersLogicBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int numStudents;
+
+    private final UsersLogic usersLogic = UsersLogic.inst();
+
+    private String courseId;
+
+    private final List<Student> studentsToEnroll = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        SyntheticCourse syntheticCourse = new SyntheticCourse(numStudents, 0);
+        courseId = syntheticCourse.course.getId();
+
+        // every student is enrolled again with the same details, so that all of them are matched against the roster
+        for (Student student : syntheticCourse.students) {
+            studentsToEnroll.add(new Student(syntheticCourse.course, student.getName(),
+                    student.getEmail().toUpperCase(), student.getComments(), student.getTeam()));
+        }
+
+        UsersDb usersDb = mock(UsersDb.class);
+        when(usersDb.getStudentsForCourse(courseId)).thenReturn(syntheticCourse.students);
+
+        usersLogic.initLogicDependencies(usersDb, mock(AccountsLogic.class), mock(FeedbackResponsesLogic.class),
+                mock(FeedbackResponseCommentsLogic.class), mock(DeadlineExtensionsLogic.class));
+    }
+
+    @Benchmark
+    public void validateSectionsAndTeams() throws EnrollException {
+        usersLogic.validateSectionsAndTeams(studentsToEnroll, courseId);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for {@link teammates.sqllogic.core} package.
+ */
+package teammates.sqllogic.core;
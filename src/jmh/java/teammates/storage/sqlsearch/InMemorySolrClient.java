@@ -0,0 +1,136 @@
+package teammates.storage.sqlsearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrRequest;
+import org.apache.solr.client.solrj.request.UpdateRequest;
+import org.apache.solr.common.SolrDocument;
+import org.apache.solr.common.SolrDocumentList;
+import org.apache.solr.common.SolrInputDocument;
+import org.apache.solr.common.params.CommonParams;
+import org.apache.solr.common.params.SolrParams;
+import org.apache.solr.common.util.NamedList;
+
+/**
+ * Stand-in for the Solr search service which keeps an in-memory inverted index of the {@code _text_} field.
+ *
+ * <p>A query matches the documents which contain all of its terms. Terms filter queries, i.e.
+ * {@code {!terms f=<field>}<value>,<value>}, are supported as filter queries. All other parameters are ignored.
+ */
+class InMemorySolrClient extends SolrClient {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String TERMS_FILTER_QUERY_PREFIX = "{!terms f=";
+    private static final Pattern NON_WORD_CHARS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final List<SolrDocument> documents = new ArrayList<>();
+    private final List<Set<String>> documentTerms = new ArrayList<>();
+    private final Map<String, List<Integer>> postings = new HashMap<>();
+
+    @Override
+    public NamedList<Object> request(@SuppressWarnings("rawtypes") SolrRequest request, String collection) {
+        NamedList<Object> response = new NamedList<>();
+        if (request instanceof UpdateRequest) {
+            List<SolrInputDocument> inputDocuments = ((UpdateRequest) request).getDocuments();
+            if (inputDocuments != null) {
+                inputDocuments.forEach(this::index);
+            }
+        } else {
+            response.add("response", search(request.getParams()));
+        }
+        return response;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    private void index(SolrInputDocument inputDocument) {
+        SolrDocument document = new SolrDocument();
+        for (String name : inputDocument.getFieldNames()) {
+            document.addField(name, String.valueOf(inputDocument.getFieldValue(name)));
+        }
+
+        int position = documents.size();
+        Set<String> terms = tokenize((String) document.getFirstValue("_text_"));
+        documents.add(document);
+        documentTerms.add(terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new ArrayList<>()).add(position);
+        }
+    }
+
+    private SolrDocumentList search(SolrParams params) {
+        Set<String> queryTerms = tokenize(params.get(CommonParams.Q));
+        int rows = params.getInt(CommonParams.ROWS, 10);
+
+        Map<String, Set<String>> filters = new HashMap<>();
+        String[] filterQueries = params.getParams(CommonParams.FQ);
+        if (filterQueries != null) {
+            for (String filterQuery : filterQueries) {
+                int fieldEnd = filterQuery.indexOf('}');
+                String field = filterQuery.substring(TERMS_FILTER_QUERY_PREFIX.length(), fieldEnd);
+                filters.put(field, new HashSet<>(Arrays.asList(filterQuery.substring(fieldEnd + 1).split(","))));
+            }
+        }
+
+        // the documents are looked up through the rarest term and then checked against the other terms
+        List<Integer> candidates = null;
+        for (String term : queryTerms) {
+            List<Integer> termPostings = postings.getOrDefault(term, List.of());
+            if (candidates == null || termPostings.size() < candidates.size()) {
+                candidates = termPostings;
+            }
+        }
+
+        SolrDocumentList results = new SolrDocumentList();
+        long numFound = 0;
+        for (int position : candidates == null ? List.<Integer>of() : candidates) {
+            SolrDocument document = documents.get(position);
+            if (documentTerms.get(position).containsAll(queryTerms) && isMatchingFilters(document, filters)) {
+                numFound++;
+                if (results.size() < rows) {
+                    results.add(document);
+                }
+            }
+        }
+        results.setNumFound(numFound);
+        results.setStart(0);
+        return results;
+    }
+
+    private static boolean isMatchingFilters(SolrDocument document, Map<String, Set<String>> filters) {
+        for (Map.Entry<String, Set<String>> filter : filters.entrySet()) {
+            if (!filter.getValue().contains((String) document.getFirstValue(filter.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        // escaped characters and double quotes are treated as separators, as Solr's standard tokenizer does
+        for (String term : NON_WORD_CHARS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+}
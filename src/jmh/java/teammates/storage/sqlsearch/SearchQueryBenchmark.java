@@ -0,0 +1,61 @@
+package teammates.storage.sqlsearch;
+
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building the Solr queries of a search, for an instructor of many courses.
+ *
+ * <p>SUT: {@link SearchManager#cleanSpecialChars(String)} and
+ * {@link StudentSearchManager#getCourseIdFilterQuery(SortedSet)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchQueryBenchmark {
+
+    @Param({ "10", "500" })
+    private int numCourses;
+
+    private SortedSet<String> courseIds;
+
+    @Setup
+    public void setUp() {
+        courseIds = new TreeSet<>();
+        for (int i = 0; i < numCourses; i++) {
+            courseIds.add("CS" + (1000 + i) + "-AY2024-S" + (i % 2 + 1));
+        }
+    }
+
+    @Benchmark
+    public String cleanSpecialCharsOfName() {
+        return SearchManager.cleanSpecialChars("Alice Tan");
+    }
+
+    @Benchmark
+    public String cleanSpecialCharsOfQuery() {
+        return SearchManager.cleanSpecialChars("<b>alice.tan@u.nus.edu</b> (Team 1) && [CS2103T-AY2024] \"peer\"");
+    }
+
+    @Benchmark
+    public String getCourseIdFilterQuery() {
+        return StudentSearchManager.getCourseIdFilterQuery(courseIds);
+    }
+
+}
@@ -0,0 +1,108 @@
+package teammates.storage.sqlsearch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.solr.common.SolrDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.InstructorPermissionRole;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+
+/**
+ * Benchmarks the latency distribution of student searches by an instructor of many courses, including the p99 latency.
+ *
+ * <p>The searches are executed against {@link InMemorySolrClient}, a stand-in index of all the students,
+ * and the students are looked up from memory instead of the database.
+ * The latency thus covers building and running the query and filtering, converting and sorting the results,
+ * but not the network and Solr itself.
+ *
+ * <p>SUT: {@link StudentSearchManager#searchStudents(String, List)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudentSearchBenchmark {
+
+    private static final int STUDENTS_PER_COURSE = 100;
+    private static final int STUDENTS_PER_TEAM = 5;
+
+    @Param({ "10", "500" })
+    private int numCourses;
+
+    @Param({ "Student 42", "student42@course7.tmt", "Team 3" })
+    private String queryString;
+
+    private StudentSearchManager searchManager;
+
+    private final List<Instructor> instructors = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws SearchServiceException {
+        Map<String, Student> studentsByKey = new HashMap<>();
+        List<Student> students = new ArrayList<>();
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+
+        for (int c = 0; c < numCourses; c++) {
+            Course course = new Course("CS" + (1000 + c) + "-AY2024-S" + (c % 2 + 1), "Course " + c,
+                    Const.DEFAULT_TIME_ZONE, "teammates");
+            instructors.add(new Instructor(course, "Instructor", "instructor@benchmark.tmt", true,
+                    Const.DEFAULT_DISPLAY_NAME_FOR_INSTRUCTOR,
+                    InstructorPermissionRole.INSTRUCTOR_PERMISSION_ROLE_COOWNER, privileges));
+
+            Section section = new Section(course, "Section 1");
+            Team team = null;
+            for (int i = 0; i < STUDENTS_PER_COURSE; i++) {
+                if (i % STUDENTS_PER_TEAM == 0) {
+                    team = new Team(section, "Team " + i / STUDENTS_PER_TEAM);
+                }
+                Student student = new Student(course, "Student " + i, "student" + i + "@course" + c + ".tmt", "", team);
+                students.add(student);
+                studentsByKey.put(course.getId() + "%" + student.getEmail(), student);
+            }
+        }
+
+        searchManager = new StudentSearchManager(new InMemorySolrClient(), false) {
+            @Override
+            StudentSearchDocument createDocument(Student student) {
+                return new StudentSearchDocument(student, student.getCourse());
+            }
+
+            @Override
+            Student getEntityFromDocument(SolrDocument document) {
+                return studentsByKey.get(document.getFirstValue("courseId") + "%" + document.getFirstValue("email"));
+            }
+        };
+        searchManager.putDocuments(students);
+    }
+
+    @Benchmark
+    public List<Student> searchStudents() throws SearchServiceException {
+        return searchManager.searchStudents(queryString, instructors);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for {@link teammates.storage.sqlsearch} package.
+ */
+package teammates.storage.sqlsearch;
@@ -0,0 +1,75 @@
+package teammates.ui.output;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.jmh.SyntheticCourse;
+import teammates.storage.sqlentity.FeedbackResponse;
+
+/**
+ * Benchmarks building and serializing the session results shown to instructors.
+ *
+ * <p>SUT: {@link SessionResultsData#initForInstructor(SqlSessionResultsBundle)} and
+ * {@link JsonUtils#toCompactJson(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionResultsDataBenchmark {
+
+    @Param({ "100", "1000" })
+    private int numStudents;
+
+    @Param({ "5" })
+    private int numQuestions;
+
+    private SqlSessionResultsBundle bundle;
+
+    private SessionResultsData sessionResultsData;
+
+    @Setup
+    public void setUp() {
+        SyntheticCourse syntheticCourse = new SyntheticCourse(numStudents, numQuestions);
+
+        Map<FeedbackResponse, Boolean> visibilityTable = new HashMap<>();
+        for (FeedbackResponse response : syntheticCourse.responses) {
+            visibilityTable.put(response, true);
+        }
+        bundle = new SqlSessionResultsBundle(syntheticCourse.questions, new HashSet<>(), new HashSet<>(),
+                syntheticCourse.responses, List.of(), visibilityTable, visibilityTable, new HashMap<>(),
+                new HashMap<>(), new SqlCourseRoster(syntheticCourse.students, syntheticCourse.instructors));
+        sessionResultsData = SessionResultsData.initForInstructor(bundle);
+    }
+
+    @Benchmark
+    public SessionResultsData initForInstructor() {
+        return SessionResultsData.initForInstructor(bundle);
+    }
+
+    @Benchmark
+    public String toCompactJson() {
+        return JsonUtils.toCompactJson(sessionResultsData);
+    }
+
+}
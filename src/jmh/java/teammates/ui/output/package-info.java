@@ -0,0 +1,4 @@
+/**
+ * Contains microbenchmarks for {@link teammates.ui.output} package.
+ */
+package teammates.ui.output;
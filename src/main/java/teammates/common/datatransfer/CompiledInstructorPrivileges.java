@@ -0,0 +1,134 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only form of {@link InstructorPrivileges} compiled for fast access checks.
+ *
+ * <p>Each permission set is reduced to a bitmask of {@link InstructorPermissionSet#getPrivilegeBit(String)},
+ * sections and sessions are interned to indexes, and the session-level overrides are kept in a sorted
+ * array keyed by (section index, session index). Checks resolve the privilege hierarchy
+ * (session, then section, then course) without allocating.
+ */
+final class CompiledInstructorPrivileges {
+
+    private final int courseLevelMask;
+    private final int sectionLevelAnyMask;
+
+    private final Map<String, Integer> sectionIndexes = new HashMap<>();
+    private final int[] sectionMasks;
+
+    private final Map<String, Integer> sessionIndexes = new HashMap<>();
+    private final int[] sessionAnySectionMasks;
+    private final int defaultAnySectionMask;
+
+    private final int[] sessionOverrideKeys;
+    private final int[] sessionOverrideMasks;
+
+    CompiledInstructorPrivileges(InstructorPermissionSet courseLevel,
+            Map<String, InstructorPermissionSet> sectionLevel,
+            Map<String, Map<String, InstructorPermissionSet>> sessionLevel) {
+        courseLevelMask = courseLevel.toBitmask();
+
+        int anyMask = 0;
+        for (InstructorPermissionSet permissionSet : sectionLevel.values()) {
+            anyMask |= permissionSet.toBitmask();
+        }
+        sectionLevelAnyMask = anyMask;
+
+        // sections without section-level privileges fall back to the course-level privileges
+        Set<String> sections = new LinkedHashSet<>(sessionLevel.keySet());
+        sections.addAll(sectionLevel.keySet());
+        sectionMasks = new int[sections.size()];
+        int defaultMask = 0;
+        for (String section : sections) {
+            int sectionIndex = sectionIndexes.size();
+            sectionIndexes.put(section, sectionIndex);
+            InstructorPermissionSet permissionSet = sectionLevel.get(section);
+            sectionMasks[sectionIndex] = permissionSet == null ? courseLevelMask : permissionSet.toBitmask();
+            defaultMask |= sectionMasks[sectionIndex];
+        }
+        defaultAnySectionMask = defaultMask;
+
+        int numOverrides = 0;
+        for (Map<String, InstructorPermissionSet> sessions : sessionLevel.values()) {
+            for (String session : sessions.keySet()) {
+                sessionIndexes.putIfAbsent(session, sessionIndexes.size());
+            }
+            numOverrides += sessions.size();
+        }
+
+        long[] overrides = new long[numOverrides];
+        int i = 0;
+        for (Map.Entry<String, Map<String, InstructorPermissionSet>> section : sessionLevel.entrySet()) {
+            int sectionIndex = sectionIndexes.get(section.getKey());
+            for (Map.Entry<String, InstructorPermissionSet> session : section.getValue().entrySet()) {
+                long key = getOverrideKey(sectionIndex, sessionIndexes.get(session.getKey()));
+                overrides[i++] = key << Integer.SIZE | session.getValue().toBitmask();
+            }
+        }
+        Arrays.sort(overrides);
+        sessionOverrideKeys = new int[numOverrides];
+        sessionOverrideMasks = new int[numOverrides];
+        for (i = 0; i < numOverrides; i++) {
+            sessionOverrideKeys[i] = (int) (overrides[i] >>> Integer.SIZE);
+            sessionOverrideMasks[i] = (int) overrides[i];
+        }
+
+        sessionAnySectionMasks = new int[sessionIndexes.size()];
+        for (int sessionIndex = 0; sessionIndex < sessionAnySectionMasks.length; sessionIndex++) {
+            int mask = 0;
+            for (int sectionIndex = 0; sectionIndex < sectionMasks.length; sectionIndex++) {
+                mask |= getSessionMask(sectionIndex, sessionIndex);
+            }
+            sessionAnySectionMasks[sessionIndex] = mask;
+        }
+    }
+
+    boolean isAllowedInCourseLevel(int privilegeBit) {
+        return (courseLevelMask & privilegeBit) != 0;
+    }
+
+    boolean isAllowedInSectionLevel(String sectionName, int privilegeBit) {
+        Integer sectionIndex = sectionIndexes.get(sectionName);
+        int mask = sectionIndex == null ? courseLevelMask : sectionMasks[sectionIndex];
+        return (mask & privilegeBit) != 0;
+    }
+
+    boolean isAllowedInSessionLevel(String sectionName, String sessionName, int privilegeBit) {
+        Integer sectionIndex = sectionIndexes.get(sectionName);
+        if (sectionIndex == null) {
+            return isAllowedInCourseLevel(privilegeBit);
+        }
+        Integer sessionIndex = sessionIndexes.get(sessionName);
+        int mask = sessionIndex == null ? sectionMasks[sectionIndex] : getSessionMask(sectionIndex, sessionIndex);
+        return (mask & privilegeBit) != 0;
+    }
+
+    boolean isAllowedInSessionLevelAnySection(String sessionName, int privilegeBit) {
+        Integer sessionIndex = sessionIndexes.get(sessionName);
+        int mask = sessionIndex == null ? defaultAnySectionMask : sessionAnySectionMasks[sessionIndex];
+        return (mask & privilegeBit) != 0;
+    }
+
+    /**
+     * Returns true if any section with section-level privileges allows the privilege.
+     */
+    boolean isAllowedInAnySectionLevel(int privilegeBit) {
+        return (sectionLevelAnyMask & privilegeBit) != 0;
+    }
+
+    private int getSessionMask(int sectionIndex, int sessionIndex) {
+        int i = Arrays.binarySearch(sessionOverrideKeys, getOverrideKey(sectionIndex, sessionIndex));
+        return i < 0 ? sectionMasks[sectionIndex] : sessionOverrideMasks[i];
+    }
+
+    private int getOverrideKey(int sectionIndex, int sessionIndex) {
+        return sectionIndex * sessionIndexes.size() + sessionIndex;
+    }
+
+}
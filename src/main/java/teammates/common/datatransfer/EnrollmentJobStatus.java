@@ -0,0 +1,23 @@
+package teammates.common.datatransfer;
+
+/**
+ * The status of an enrollment job.
+ */
+public enum EnrollmentJobStatus {
+
+    /**
+     * Some students of the enrollment job have not been enrolled yet.
+     */
+    IN_PROGRESS,
+
+    /**
+     * All students of the enrollment job have been processed.
+     */
+    COMPLETED,
+
+    /**
+     * The enrollment job has stopped making progress, e.g. as a chunk of its students has failed
+     * more times than the task queue retries it.
+     */
+    FAILED
+}
@@ -0,0 +1,125 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compact representation of all possible giver-recipient pairs of a feedback question.
+ *
+ * <p>Givers and recipients are interned to integer indexes and the pairs are stored
+ * as one {@link BitSet} per giver, which is much cheaper to keep around and to query
+ * than a map of recipient objects per giver.
+ */
+public final class GiverRecipientMatrix {
+
+    private final List<String> givers = new ArrayList<>();
+    private final Map<String, Integer> giverIndexes = new HashMap<>();
+    private final List<String> recipients = new ArrayList<>();
+    private final Map<String, Integer> recipientIndexes = new HashMap<>();
+    private final List<BitSet> rows = new ArrayList<>();
+
+    /**
+     * Sets the possible recipients of a giver, replacing any recipients previously set for the giver.
+     */
+    public void setRecipientsForGiver(String giver, Collection<String> recipientsOfGiver) {
+        BitSet row = getOrCreateRow(giver);
+        row.clear();
+        for (String recipient : recipientsOfGiver) {
+            row.set(internRecipient(recipient));
+        }
+    }
+
+    /**
+     * Returns the number of possible givers.
+     */
+    public int getNumberOfGivers() {
+        return givers.size();
+    }
+
+    /**
+     * Returns the giver identifier for the given giver index.
+     */
+    public String getGiver(int giverIndex) {
+        return givers.get(giverIndex);
+    }
+
+    /**
+     * Returns the recipient identifier for the given recipient index.
+     */
+    public String getRecipient(int recipientIndex) {
+        return recipients.get(recipientIndex);
+    }
+
+    /**
+     * Returns a copy of the recipient indexes of the giver at the given index.
+     *
+     * <p>The copy can be modified freely, e.g. to clear pairs which already have a response.
+     */
+    public BitSet copyRecipientIndexesForGiver(int giverIndex) {
+        return (BitSet) rows.get(giverIndex).clone();
+    }
+
+    /**
+     * Returns the index of the recipient, or -1 if the recipient is not a possible recipient of any giver.
+     */
+    public int getRecipientIndex(String recipient) {
+        Integer recipientIndex = recipientIndexes.get(recipient);
+        return recipientIndex == null ? -1 : recipientIndex;
+    }
+
+    /**
+     * Returns the index of the giver, or -1 if the giver is not a possible giver.
+     */
+    public int getGiverIndex(String giver) {
+        Integer giverIndex = giverIndexes.get(giver);
+        return giverIndex == null ? -1 : giverIndex;
+    }
+
+    /**
+     * Expands the matrix into a map from giver to the set of possible recipients.
+     */
+    public Map<String, Set<String>> toGiverRecipientMap() {
+        Map<String, Set<String>> giverRecipientMap = new LinkedHashMap<>();
+        for (int i = 0; i < givers.size(); i++) {
+            giverRecipientMap.put(givers.get(i), toRecipientSet(rows.get(i)));
+        }
+        return giverRecipientMap;
+    }
+
+    private Set<String> toRecipientSet(BitSet row) {
+        Set<String> recipientSet = new HashSet<>();
+        for (int i = row.nextSetBit(0); i >= 0; i = row.nextSetBit(i + 1)) {
+            recipientSet.add(recipients.get(i));
+        }
+        return recipientSet;
+    }
+
+    private BitSet getOrCreateRow(String giver) {
+        Integer giverIndex = giverIndexes.get(giver);
+        if (giverIndex != null) {
+            return rows.get(giverIndex);
+        }
+        giverIndexes.put(giver, givers.size());
+        givers.add(giver);
+        BitSet row = new BitSet();
+        rows.add(row);
+        return row;
+    }
+
+    private int internRecipient(String recipient) {
+        Integer recipientIndex = recipientIndexes.get(recipient);
+        if (recipientIndex != null) {
+            return recipientIndex;
+        }
+        recipientIndexes.put(recipient, recipients.size());
+        recipients.add(recipient);
+        return recipients.size() - 1;
+    }
+}
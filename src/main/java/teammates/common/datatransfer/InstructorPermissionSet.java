@@ -119,6 +119,48 @@ public class InstructorPermissionSet {
         }
     }
 
+    /**
+     * Returns the bit representing the privilege in {@link #toBitmask()}, or 0 if the privilege name is not valid.
+     */
+    static int getPrivilegeBit(String privilegeName) {
+        switch (privilegeName) {
+        case Const.InstructorPermissions.CAN_MODIFY_COURSE:
+            return 1;
+        case Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR:
+            return 1 << 1;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION:
+            return 1 << 2;
+        case Const.InstructorPermissions.CAN_MODIFY_STUDENT:
+            return 1 << 3;
+        case Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS:
+            return 1 << 4;
+        case Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS:
+            return 1 << 5;
+        case Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS:
+            return 1 << 6;
+        case Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS:
+            return 1 << 7;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the allowed privileges as a bitmask of {@link #getPrivilegeBit(String)}.
+     */
+    int toBitmask() {
+        int bitmask = 0;
+        bitmask |= canModifyCourse ? 1 : 0;
+        bitmask |= canModifyInstructor ? 1 << 1 : 0;
+        bitmask |= canModifySession ? 1 << 2 : 0;
+        bitmask |= canModifyStudent ? 1 << 3 : 0;
+        bitmask |= canViewStudentInSections ? 1 << 4 : 0;
+        bitmask |= canViewSessionInSections ? 1 << 5 : 0;
+        bitmask |= canSubmitSessionInSections ? 1 << 6 : 0;
+        bitmask |= canModifySessionCommentsInSections ? 1 << 7 : 0;
+        return bitmask;
+    }
+
     void put(String privilegeName, boolean value) {
         switch (privilegeName) {
         case Const.InstructorPermissions.CAN_MODIFY_COURSE:
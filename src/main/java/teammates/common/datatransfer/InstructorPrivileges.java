@@ -11,6 +11,9 @@ import teammates.common.util.Const;
 
 /**
  * Representation of instructor privileges. Store the privileges of the instructor
+ *
+ * <p>Access checks are answered by a {@link CompiledInstructorPrivileges} which is built on first use
+ * and discarded whenever the privileges are changed.
  */
 public final class InstructorPrivileges {
 
@@ -95,6 +98,8 @@ public final class InstructorPrivileges {
     private final Map<String, InstructorPermissionSet> sectionLevel;
     private final Map<String, Map<String, InstructorPermissionSet>> sessionLevel;
 
+    private transient CompiledInstructorPrivileges compiled;
+
     public InstructorPrivileges() {
         this.courseLevel = new InstructorPermissionSet();
         this.sectionLevel = new LinkedHashMap<>();
@@ -217,6 +222,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(InstructorPermissionSet defaultPrivileges) {
+        compiled = null;
         courseLevel.setCanModifyCourse(defaultPrivileges.isCanModifyCourse());
         courseLevel.setCanModifyInstructor(defaultPrivileges.isCanModifyInstructor());
         courseLevel.setCanModifySession(defaultPrivileges.isCanModifySession());
@@ -263,6 +269,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
+        compiled = null;
         this.courseLevel.put(privilegeName, isAllowed);
     }
 
@@ -271,6 +278,7 @@ public final class InstructorPrivileges {
             return;
         }
         addSectionWithDefaultPrivileges(sectionName);
+        compiled = null;
         this.sectionLevel.get(sectionName).put(privilegeName, isAllowed);
     }
 
@@ -280,6 +288,7 @@ public final class InstructorPrivileges {
             return;
         }
         verifyExistenceOfsectionName(sectionName);
+        compiled = null;
         this.sessionLevel.get(sectionName).computeIfAbsent(sessionName, key -> new InstructorPermissionSet())
                                           .put(privilegeName, isAllowed);
     }
@@ -292,6 +301,7 @@ public final class InstructorPrivileges {
     }
 
     void addSectionWithDefaultPrivileges(String sectionName) {
+        compiled = null;
         this.sectionLevel.putIfAbsent(sectionName, getOverallPrivilegesForSections());
     }
 
@@ -323,6 +333,18 @@ public final class InstructorPrivileges {
         return isAllowedInSessionLevelAnySection(sessionName, privilegeName);
     }
 
+    /**
+     * Returns true if the privilege specified by privilegeName is allowed in any section
+     * which has section-level privileges.
+     *
+     * <p>This is equivalent to checking that {@link #getSectionsWithPrivilege(String)} is not empty.
+     */
+    public boolean hasSectionWithPrivilege(String privilegeName) {
+        assert isPrivilegeNameValid(privilegeName);
+
+        return getCompiled().isAllowedInAnySectionLevel(InstructorPermissionSet.getPrivilegeBit(privilegeName));
+    }
+
     /**
      * Returns true if co-owner privilege exists.
      */
@@ -355,44 +377,39 @@ public final class InstructorPrivileges {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        return this.courseLevel.get(privilegeName);
+        return getCompiled().isAllowedInCourseLevel(InstructorPermissionSet.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-
-        return this.sectionLevel.get(sectionName).get(privilegeName);
+        return getCompiled().isAllowedInSectionLevel(sectionName, InstructorPermissionSet.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-
-        return this.sessionLevel.get(sectionName).get(sessionName).get(privilegeName);
+        return getCompiled().isAllowedInSessionLevel(
+                sectionName, sessionName, InstructorPermissionSet.getPrivilegeBit(privilegeName));
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
 
         assert isPrivilegeNameValid(privilegeName);
 
-        Set<String> sections = new LinkedHashSet<>(this.sessionLevel.keySet());
-        sections.addAll(this.sectionLevel.keySet());
-        for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
-                return true;
-            }
+        return getCompiled().isAllowedInSessionLevelAnySection(
+                sessionName, InstructorPermissionSet.getPrivilegeBit(privilegeName));
+    }
+
+    private CompiledInstructorPrivileges getCompiled() {
+        CompiledInstructorPrivileges compiledPrivileges = compiled;
+        if (compiledPrivileges == null) {
+            compiledPrivileges = new CompiledInstructorPrivileges(courseLevel, sectionLevel, sessionLevel);
+            compiled = compiledPrivileges;
         }
-        return false;
+        return compiledPrivileges;
     }
 
     /**
@@ -402,6 +419,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        compiled = null;
         if (this.courseLevel.isCanModifySessionCommentsInSections()) {
             this.courseLevel.setCanViewSessionInSections(true);
         }
@@ -469,9 +487,9 @@ public final class InstructorPrivileges {
         }
 
         InstructorPrivileges rhs = (InstructorPrivileges) another;
-        return this.getCourseLevelPrivileges().equals(rhs.getCourseLevelPrivileges())
-                && this.getSectionLevelPrivileges().equals(rhs.getSectionLevelPrivileges())
-                && this.getSessionLevelPrivileges().equals(rhs.getSessionLevelPrivileges());
+        return this.courseLevel.equals(rhs.courseLevel)
+                && this.sectionLevel.equals(rhs.sectionLevel)
+                && this.sessionLevel.equals(rhs.sessionLevel);
     }
 
     @Override
@@ -479,9 +497,9 @@ public final class InstructorPrivileges {
         int prime = 31;
         int result = 1;
 
-        result = prime * result + this.getCourseLevelPrivileges().hashCode();
-        result = prime * result + this.getSectionLevelPrivileges().hashCode();
-        result = prime * result + this.getSessionLevelPrivileges().hashCode();
+        result = prime * result + this.courseLevel.hashCode();
+        result = prime * result + this.sectionLevel.hashCode();
+        result = prime * result + this.sessionLevel.hashCode();
 
         return result;
     }
@@ -0,0 +1,61 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.storage.sqlentity.Student;
+
+/**
+ * The result of enrolling a list of students into a course.
+ */
+public class StudentEnrollmentResult {
+
+    private final List<Student> enrolledStudents = new ArrayList<>();
+    private final List<Student> modifiedStudents = new ArrayList<>();
+    private final Map<String, String> failedEmailsToErrorMessages = new LinkedHashMap<>();
+
+    /**
+     * Records a student which is enrolled.
+     *
+     * @param isModified whether the student is created or updated by the enrollment,
+     *                   as opposed to being enrolled already with the same details
+     */
+    public void addEnrolledStudent(Student student, boolean isModified) {
+        enrolledStudents.add(student);
+        if (isModified) {
+            modifiedStudents.add(student);
+        }
+    }
+
+    /**
+     * Records a student which cannot be enrolled.
+     */
+    public void addFailure(String email, String errorMessage) {
+        failedEmailsToErrorMessages.put(email, errorMessage);
+    }
+
+    /**
+     * Returns all enrolled students, in the order they are enrolled.
+     */
+    public List<Student> getEnrolledStudents() {
+        return Collections.unmodifiableList(enrolledStudents);
+    }
+
+    /**
+     * Returns the enrolled students which are created or updated by the enrollment.
+     */
+    public List<Student> getModifiedStudents() {
+        return Collections.unmodifiableList(modifiedStudents);
+    }
+
+    /**
+     * Returns the emails of the students which cannot be enrolled, mapped to the reason of the failure.
+     */
+    public Map<String, String> getFailedEmailsToErrorMessages() {
+        return Collections.unmodifiableMap(failedEmailsToErrorMessages);
+    }
+
+}
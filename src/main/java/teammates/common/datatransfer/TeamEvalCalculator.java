@@ -0,0 +1,198 @@
+package teammates.common.datatransfer;
+
+import teammates.common.util.Const;
+
+/**
+ * Calculates {@link TeamEvalResult}s using flat working buffers which are reused across teams.
+ *
+ * <p>The results are identical to those of {@link TeamEvalResult#TeamEvalResult(int[][])}, which remains
+ * the reference implementation. The calculation here is done in a single pass per step without
+ * intermediate matrices or debug logging, so that the results of all the teams of a question can be
+ * calculated with only the result arrays being allocated.
+ *
+ * <p>A calculator is not thread-safe; use one instance per thread.
+ */
+public final class TeamEvalCalculator {
+
+    private static final int NA = TeamEvalResult.NA;
+    private static final int NSU = TeamEvalResult.NSU;
+    private static final int NSB = TeamEvalResult.NSB;
+
+    /** Row-major peer contribution ratios of the team, i.e. normalized claims excluding self ratings. */
+    private double[] peerContributionRatio = new double[0];
+    private double[] normalizedAveragePerceived = new double[0];
+
+    /**
+     * Calculates the result for a team from the submission values of its members.
+     */
+    public TeamEvalResult calculate(int[][] submissionValues) {
+        int teamSize = submissionValues.length;
+        ensureCapacity(teamSize);
+
+        int[][] normalizedClaimed = new int[teamSize][teamSize];
+        for (int i = 0; i < teamSize; i++) {
+            calculateClaimsForStudent(i, submissionValues[i], normalizedClaimed[i]);
+        }
+
+        // the column averages are normalized, and the same factor is used to adjust the peer contribution ratios
+        double factor = calculateAveragePerceived(teamSize);
+        int[][] normalizedPeerContributionRatio = new int[teamSize][teamSize];
+        int[] normalizedAveragePerceivedAsInt = new int[teamSize];
+        for (int j = 0; j < teamSize; j++) {
+            normalizedAveragePerceived[j] = multiplyByFactor(factor, normalizedAveragePerceived[j]);
+            normalizedAveragePerceivedAsInt[j] = round(normalizedAveragePerceived[j]);
+        }
+        for (int i = 0; i < teamSize; i++) {
+            for (int j = 0; j < teamSize; j++) {
+                normalizedPeerContributionRatio[i][j] =
+                        round(multiplyByFactor(factor, peerContributionRatio[i * teamSize + j]));
+            }
+        }
+
+        int[][] denormalizedAveragePerceived = new int[teamSize][];
+        for (int k = 0; k < teamSize; k++) {
+            denormalizedAveragePerceived[k] = calculatePerceivedForStudent(submissionValues[k], teamSize);
+        }
+
+        return new TeamEvalResult(submissionValues, normalizedClaimed, normalizedAveragePerceivedAsInt,
+                denormalizedAveragePerceived, normalizedPeerContributionRatio);
+    }
+
+    private void ensureCapacity(int teamSize) {
+        if (normalizedAveragePerceived.length < teamSize) {
+            peerContributionRatio = new double[teamSize * teamSize];
+            normalizedAveragePerceived = new double[teamSize];
+        }
+    }
+
+    /**
+     * Normalizes the claims of a student into {@code normalizedClaimedRow}, and stores the
+     * peer contribution ratios derived from the claims into the working buffer.
+     */
+    private void calculateClaimsForStudent(int row, int[] claimedRow, int[] normalizedClaimedRow) {
+        int teamSize = claimedRow.length;
+        int offset = row * teamSize;
+
+        // 'did not submit' is sanitized to NA, which does not change the factor as both are special values
+        double claimedFactor = calculateFactor(claimedRow);
+        for (int j = 0; j < teamSize; j++) {
+            int points = claimedRow[j];
+            double normalized = multiplyByFactor(claimedFactor, points);
+            normalizedClaimedRow[j] = round(normalized);
+            peerContributionRatio[offset + j] = j == row || points == NSB ? NA : normalized;
+        }
+
+        double actualSum = 0;
+        int count = 0;
+        for (int j = 0; j < teamSize; j++) {
+            double value = peerContributionRatio[offset + j];
+            if (!isSpecialValue((int) value)) {
+                actualSum += value;
+                count++;
+            }
+        }
+        double peerFactor = toFactor(actualSum, count);
+        for (int j = 0; j < teamSize; j++) {
+            peerContributionRatio[offset + j] = multiplyByFactor(peerFactor, peerContributionRatio[offset + j]);
+        }
+    }
+
+    /**
+     * Averages the peer contribution ratios per column into the working buffer.
+     *
+     * @return the factor to normalize the averages with
+     */
+    private double calculateAveragePerceived(int teamSize) {
+        double actualSum = 0;
+        int count = 0;
+        for (int j = 0; j < teamSize; j++) {
+            double sum = 0;
+            int numValues = 0;
+            for (int i = 0; i < teamSize; i++) {
+                double value = peerContributionRatio[i * teamSize + j];
+                if (!isValidSpecialValue(value)) {
+                    sum += value;
+                    numValues++;
+                }
+            }
+            double average = numValues == 0 ? NA : (sum / numValues);
+            normalizedAveragePerceived[j] = average;
+
+            if (!isSpecialValue((int) average)) {
+                actualSum += average;
+                count++;
+            }
+        }
+        return toFactor(actualSum, count);
+    }
+
+    private int[] calculatePerceivedForStudent(int[] claimedRow, int teamSize) {
+        double sumOfPerceived = teamSize == 0 ? 0 : NA;
+        double sumOfActual = teamSize == 0 ? 0 : NA;
+        for (int i = 0; i < teamSize; i++) {
+            int claimed = claimedRow[i] == NSB ? NA : claimedRow[i];
+            double perceived = normalizedAveragePerceived[i];
+
+            // values matching special values in the other array are left out of both sums
+            boolean isClaimedSpecial = isValidSpecialValue(claimed);
+            if (!isClaimedSpecial && !isValidSpecialValue(perceived)) {
+                sumOfPerceived = sumOfPerceived == NA ? perceived : sumOfPerceived + perceived;
+            }
+            if (!isClaimedSpecial && !isSpecialValue((int) perceived)) {
+                sumOfActual = sumOfActual == NA ? claimed : sumOfActual + claimed;
+            }
+        }
+        // the claimed values are integers, so the sum of actual values is truncated as in TeamEvalResult
+        sumOfActual = (int) sumOfActual;
+
+        // if the student did not submit
+        if (sumOfActual == NA) {
+            sumOfActual = sumOfPerceived;
+        }
+
+        double factor = sumOfActual / sumOfPerceived;
+
+        int[] output = new int[teamSize];
+        for (int i = 0; i < teamSize; i++) {
+            output[i] = round(multiplyByFactor(factor, normalizedAveragePerceived[i]));
+        }
+        return output;
+    }
+
+    private static double calculateFactor(int[] input) {
+        double actualSum = 0;
+        int count = 0;
+        for (int value : input) {
+            if (!isSpecialValue(value)) {
+                actualSum += value;
+                count++;
+            }
+        }
+        return toFactor(actualSum, count);
+    }
+
+    private static double toFactor(double actualSum, int count) {
+        double idealSum = count * Const.POINTS_EQUAL_SHARE * 1.0;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
+    }
+
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
+        }
+        return factor == 0 ? value : value * factor;
+    }
+
+    private static int round(double value) {
+        return (int) Math.round(value);
+    }
+
+    private static boolean isSpecialValue(int value) {
+        return value == NA || value == NSU || value == NSB;
+    }
+
+    private static boolean isValidSpecialValue(double value) {
+        return value == NA || value == NSU;
+    }
+
+}
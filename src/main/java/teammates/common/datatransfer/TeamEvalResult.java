@@ -86,6 +86,18 @@ public class TeamEvalResult {
         log.fine("==================");
     }
 
+    /**
+     * Creates a result from values which have already been calculated, e.g. by {@link TeamEvalCalculator}.
+     */
+    TeamEvalResult(int[][] claimed, int[][] normalizedClaimed, int[] normalizedAveragePerceived,
+            int[][] denormalizedAveragePerceived, int[][] normalizedPeerContributionRatio) {
+        this.claimed = claimed;
+        this.normalizedClaimed = normalizedClaimed;
+        this.normalizedAveragePerceived = normalizedAveragePerceived;
+        this.denormalizedAveragePerceived = denormalizedAveragePerceived;
+        this.normalizedPeerContributionRatio = normalizedPeerContributionRatio;
+    }
+
     /**
      * Replaces all missing points ('not sure' with NSU and 'did not submit' with NA).
      */
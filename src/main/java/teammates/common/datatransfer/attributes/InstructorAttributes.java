@@ -367,6 +367,13 @@ public final class InstructorAttributes extends EntityAttributes<Instructor> {
         return this.privileges.getSectionsWithPrivilege(privilegeName);
     }
 
+    /**
+     * Returns true if the instructor has the specified privilege in any section.
+     */
+    public boolean hasSectionWithPrivilege(String privilegeName) {
+        return this.privileges.hasSectionWithPrivilege(privilegeName);
+    }
+
     /**
      * Updates with {@link UpdateOptionsWithEmail}.
      */
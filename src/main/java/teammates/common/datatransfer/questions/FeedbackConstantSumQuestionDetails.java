@@ -1,8 +1,11 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -318,6 +321,25 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return "";
     }
 
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        List<Integer> answers = ((FeedbackConstantSumResponseDetails) responseDetails).getAnswers();
+        if (distributeToRecipients) {
+            // the points given to the recipient of the response are tallied under the number of points
+            if (answers.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            int points = answers.get(0);
+            return Map.of(String.valueOf(points), (double) points);
+        }
+
+        Map<String, Double> values = new HashMap<>();
+        for (int i = 0; i < answers.size() && i < constSumOptions.size(); i++) {
+            values.put(constSumOptions.get(i), (double) answers.get(i));
+        }
+        return values;
+    }
+
     public int getNumOfConstSumOptions() {
         return constSumOptions.size();
     }
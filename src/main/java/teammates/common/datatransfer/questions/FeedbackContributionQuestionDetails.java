@@ -2,6 +2,7 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,9 +12,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.TeamEvalCalculator;
 import teammates.common.datatransfer.TeamEvalResult;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -24,6 +29,7 @@ import teammates.common.util.Logger;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.responses.FeedbackContributionResponse;
 
 /**
  * Contains specific structure and processing logic for contribution feedback questions.
@@ -46,6 +52,16 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     private static final int SUMMARY_INDEX_CLAIMED = 0;
     private static final int SUMMARY_INDEX_PERCEIVED = 1;
 
+    private static final int TEAM_RESULTS_CACHE_SIZE = 10000;
+
+    /**
+     * Results of teams keyed by their submissions, which is all the results depend on.
+     * This allows the results to be shared by all the viewers of a question, and by unchanged teams
+     * across versions of the responses.
+     */
+    private static final Cache<TeamSubmissions, TeamEvalResult> TEAM_RESULTS_CACHE =
+            CacheBuilder.newBuilder().maximumSize(TEAM_RESULTS_CACHE_SIZE).build();
+
     private static final Logger log = Logger.getLogger();
 
     private boolean isZeroSum;
@@ -82,7 +98,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         List<String> teamNames;
         if (isStudent) {
-            teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
+            // only the results of the student's own team are shown to the student
+            String studentTeam = bundle.getRoster().getInfoForIdentifier(studentEmail).getTeamName();
+            teamNames = getTeamsWithAtLeastOneResponse(responses, bundle).contains(studentTeam)
+                    ? Collections.singletonList(studentTeam)
+                    : Collections.emptyList();
         } else {
             teamNames = new ArrayList<>(bundle.getRoster().getTeamToMembersTable().keySet());
         }
@@ -175,7 +195,11 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         List<String> teamNames;
         if (isStudent) {
-            teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
+            // only the results of the student's own team are shown to the student
+            String studentTeam = bundle.getRoster().getInfoForIdentifier(studentEmail).getTeamName();
+            teamNames = getTeamsWithAtLeastOneResponse(responses, bundle).contains(studentTeam)
+                    ? Collections.singletonList(studentTeam)
+                    : Collections.emptyList();
         } else {
             teamNames = new ArrayList<>(bundle.getRoster().getTeamToMembersTable().keySet());
         }
@@ -280,8 +304,15 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
             Map<String, int[][]> teamSubmissionArray) {
         Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        TeamEvalCalculator calculator = new TeamEvalCalculator();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
+            int[][] submissions = teamSubmissionArray.get(team);
+            TeamSubmissions key = new TeamSubmissions(submissions);
+            TeamEvalResult teamEvalResult = TEAM_RESULTS_CACHE.getIfPresent(key);
+            if (teamEvalResult == null) {
+                teamEvalResult = calculator.calculate(submissions);
+                TEAM_RESULTS_CACHE.put(key, teamEvalResult);
+            }
             teamResults.put(team, teamEvalResult);
         }
         return teamResults;
@@ -309,7 +340,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 if (giverIndx == -1 || recipientIndx == -1) {
                     continue;
                 }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
+                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
                 teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
             }
         }
@@ -338,7 +369,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 if (giverIndx == -1 || recipientIndx == -1) {
                     continue;
                 }
-                int points = ((FeedbackContributionResponseDetails) response.getFeedbackResponseDetailsCopy()).getAnswer();
+                int points = ((FeedbackContributionResponse) response).getAnswer().getAnswer();
                 teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
             }
         }
@@ -624,4 +655,37 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             return perceivedOthers;
         }
     }
+
+    /**
+     * Submissions of a team, used as the key of the team results cache.
+     */
+    private static final class TeamSubmissions {
+        private final int teamSize;
+        private final int[] points;
+
+        private TeamSubmissions(int[][] submissions) {
+            this.teamSize = submissions.length;
+            this.points = new int[teamSize * teamSize];
+            for (int i = 0; i < teamSize; i++) {
+                System.arraycopy(submissions[i], 0, points, i * teamSize, teamSize);
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TeamSubmissions)) {
+                return false;
+            }
+            TeamSubmissions other = (TeamSubmissions) obj;
+            return teamSize == other.teamSize && Arrays.equals(points, other.points);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * teamSize + Arrays.hashCode(points);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -157,6 +159,16 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        FeedbackMcqResponseDetails details = (FeedbackMcqResponseDetails) responseDetails;
+        String option = details.isOther() ? FeedbackResponseStatistics.OTHER_OPTION : details.getAnswer();
+        if (option == null) {
+            return Collections.emptyMap();
+        }
+        return Map.of(option, 1.0);
+    }
+
     public boolean isHasAssignedWeights() {
         return hasAssignedWeights;
     }
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -277,6 +279,17 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        FeedbackMsqResponseDetails details = (FeedbackMsqResponseDetails) responseDetails;
+        Map<String, Double> values = new HashMap<>();
+        for (String answer : details.getAnswers()) {
+            boolean isOtherAnswer = details.isOther() && answer.equals(details.getOtherFieldContent());
+            values.put(isOtherAnswer ? FeedbackResponseStatistics.OTHER_OPTION : answer, 1.0);
+        }
+        return values;
+    }
+
     public List<String> getMsqChoices() {
         return msqChoices;
     }
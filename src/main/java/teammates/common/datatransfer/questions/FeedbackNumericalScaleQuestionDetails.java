@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.storage.sqlentity.FeedbackQuestion;
@@ -98,6 +99,12 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return "";
     }
 
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        double answer = ((FeedbackNumericalScaleResponseDetails) responseDetails).getAnswer();
+        return Map.of(String.valueOf(answer), answer);
+    }
+
     public int getMinScale() {
         return minScale;
     }
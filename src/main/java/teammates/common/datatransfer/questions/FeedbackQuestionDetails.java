@@ -1,6 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
@@ -55,6 +57,18 @@ public abstract class FeedbackQuestionDetails {
         return "";
     }
 
+    /**
+     * Gets the values which a response contributes to the statistics of the question,
+     * keyed by what they are tallied under.
+     *
+     * <p>Override in Feedback*QuestionDetails whose statistics can be aggregated on the server.
+     *
+     * @see FeedbackResponseStatistics
+     */
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        return Collections.emptyMap();
+    }
+
     /**
      * Checks whether the changes to the question details require deletion of corresponding responses.
      */
@@ -1,8 +1,10 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -71,4 +73,13 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestion feedbackQuestion) {
         return "";
     }
+
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        int answer = ((FeedbackRankRecipientsResponseDetails) responseDetails).getAnswer();
+        if (answer == Const.POINTS_NOT_SUBMITTED) {
+            return Collections.emptyMap();
+        }
+        return Map.of(String.valueOf(answer), (double) answer);
+    }
 }
@@ -108,6 +108,60 @@ public class FeedbackRankRecipientsResponseDetails extends FeedbackResponseDetai
         return updateOptions;
     }
 
+    /**
+     * Makes the ranks given by one giver to 'rank recipient question' consistent, such that no rank exceeds
+     * {@code maxRank}.
+     *
+     * <p>The ranks are compacted in the same way as {@link #getUpdateOptionsForRankRecipientQuestions(List, int)},
+     * i.e. the largest unused ranks are closed up until the ranks fit, but in a single pass over a counting array.
+     * Ranks which are not positive are left as they are.
+     *
+     * @param ranks the ranks given by one giver to one question
+     * @param maxRank the maximum rank in each response
+     * @return the consistent ranks in the same order, or {@code ranks} itself if they are already consistent
+     */
+    public static int[] getConsistentRanks(int[] ranks, int maxRank) {
+        int maxAnswer = 0;
+        for (int rank : ranks) {
+            maxAnswer = Math.max(maxAnswer, rank);
+        }
+        if (maxRank <= 0 || maxAnswer <= maxRank) {
+            return ranks;
+        }
+
+        int[] rankCounts = new int[maxAnswer + 1];
+        for (int rank : ranks) {
+            if (rank > 0) {
+                rankCounts[rank]++;
+            }
+        }
+
+        // Marks the largest unused ranks as closed, until closing them brings the largest rank down to maxRank.
+        int numberOfRanksToClose = maxAnswer - maxRank;
+        for (int rank = maxAnswer; rank > 0 && numberOfRanksToClose > 0; rank--) {
+            if (rankCounts[rank] == 0) {
+                rankCounts[rank] = -1;
+                numberOfRanksToClose--;
+            }
+        }
+
+        // Reuses the counting array to map every rank to its rank after the closed ranks are removed.
+        int numberOfClosedRanks = 0;
+        for (int rank = 1; rank <= maxAnswer; rank++) {
+            if (rankCounts[rank] == -1) {
+                numberOfClosedRanks++;
+            } else {
+                rankCounts[rank] = rank - numberOfClosedRanks;
+            }
+        }
+
+        int[] consistentRanks = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            consistentRanks[i] = ranks[i] > 0 ? rankCounts[ranks[i]] : ranks[i];
+        }
+        return consistentRanks;
+    }
+
     @Override
     public String getAnswerString() {
         return Integer.toString(answer);
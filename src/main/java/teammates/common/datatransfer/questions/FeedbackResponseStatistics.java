@@ -0,0 +1,133 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics of the responses to a question.
+ *
+ * <p>Each response contributes values keyed by what they are tallied under, as given by
+ * {@link FeedbackQuestionDetails#getResponseStatisticsValues(FeedbackResponseDetails)}.
+ * The values are tallied over all responses as well as per recipient.
+ */
+public class FeedbackResponseStatistics {
+
+    /**
+     * The key which answers to the "other" option of MCQ and MSQ questions are tallied under.
+     */
+    public static final String OTHER_OPTION = "Other";
+
+    private int numResponses;
+    private final Map<String, Tally> tallies = new TreeMap<>();
+    private final Map<String, Map<String, Tally>> talliesPerRecipient = new TreeMap<>();
+
+    /**
+     * Adds the values of a response to the statistics.
+     */
+    void add(String recipient, boolean isSelfResponse, Map<String, Double> values) {
+        update(recipient, isSelfResponse, values, 1);
+    }
+
+    /**
+     * Removes the values of a response previously added to the statistics.
+     */
+    void remove(String recipient, boolean isSelfResponse, Map<String, Double> values) {
+        update(recipient, isSelfResponse, values, -1);
+    }
+
+    private void update(String recipient, boolean isSelfResponse, Map<String, Double> values, int sign) {
+        numResponses += sign;
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<String, Tally> recipientTallies = talliesPerRecipient.computeIfAbsent(recipient, k -> new TreeMap<>());
+        for (Map.Entry<String, Double> value : values.entrySet()) {
+            update(tallies, value.getKey(), value.getValue(), isSelfResponse, sign);
+            update(recipientTallies, value.getKey(), value.getValue(), isSelfResponse, sign);
+        }
+        if (recipientTallies.isEmpty()) {
+            talliesPerRecipient.remove(recipient);
+        }
+    }
+
+    private static void update(Map<String, Tally> tallies, String key, double value, boolean isSelfResponse, int sign) {
+        Tally tally = tallies.computeIfAbsent(key, k -> new Tally());
+        tally.update(value, isSelfResponse, sign);
+        if (tally.count == 0) {
+            tallies.remove(key);
+        }
+    }
+
+    /**
+     * Merges the statistics from {@code other} into this statistics.
+     */
+    void merge(FeedbackResponseStatistics other) {
+        numResponses += other.numResponses;
+        merge(tallies, other.tallies);
+        for (Map.Entry<String, Map<String, Tally>> recipientTallies : other.talliesPerRecipient.entrySet()) {
+            merge(talliesPerRecipient.computeIfAbsent(recipientTallies.getKey(), k -> new TreeMap<>()),
+                    recipientTallies.getValue());
+        }
+    }
+
+    private static void merge(Map<String, Tally> tallies, Map<String, Tally> otherTallies) {
+        for (Map.Entry<String, Tally> otherTally : otherTallies.entrySet()) {
+            tallies.computeIfAbsent(otherTally.getKey(), k -> new Tally()).merge(otherTally.getValue());
+        }
+    }
+
+    public int getNumResponses() {
+        return numResponses;
+    }
+
+    public Map<String, Tally> getTallies() {
+        return tallies;
+    }
+
+    public Map<String, Map<String, Tally>> getTalliesPerRecipient() {
+        return talliesPerRecipient;
+    }
+
+    /**
+     * The number and sum of the values tallied under a key, with and without self responses.
+     */
+    public static class Tally {
+        private int count;
+        private double sum;
+        private int countExcludingSelf;
+        private double sumExcludingSelf;
+
+        private void update(double value, boolean isSelfResponse, int sign) {
+            count += sign;
+            sum += sign * value;
+            if (!isSelfResponse) {
+                countExcludingSelf += sign;
+                sumExcludingSelf += sign * value;
+            }
+        }
+
+        private void merge(Tally other) {
+            count += other.count;
+            sum += other.sum;
+            countExcludingSelf += other.countExcludingSelf;
+            sumExcludingSelf += other.sumExcludingSelf;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public int getCountExcludingSelf() {
+            return countExcludingSelf;
+        }
+
+        public double getSumExcludingSelf() {
+            return sumExcludingSelf;
+        }
+    }
+
+}
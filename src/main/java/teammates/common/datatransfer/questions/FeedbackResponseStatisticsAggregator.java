@@ -0,0 +1,98 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+/**
+ * Incrementally aggregates the statistics of the responses to a question.
+ *
+ * <p>The statistics are kept per pair of giver section and recipient section, so that the statistics of
+ * any combination of sections can be obtained by merging the relevant pairs without revisiting the responses.
+ * The contribution of each response is remembered so that a response can be updated or removed
+ * without knowing its previous state.
+ *
+ * <p>The aggregator is thread-safe.
+ */
+public class FeedbackResponseStatisticsAggregator {
+
+    private final FeedbackQuestionDetails questionDetails;
+    private final Map<String, Map<String, FeedbackResponseStatistics>> statisticsPerSections = new HashMap<>();
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+
+    public FeedbackResponseStatisticsAggregator(FeedbackQuestionDetails questionDetails) {
+        this.questionDetails = questionDetails;
+    }
+
+    /**
+     * Adds a response to the statistics, replacing the previous version of the response if it has been added before.
+     *
+     * @param responseId the identifier of the response, which stays the same when the response is updated
+     */
+    public synchronized void putResponse(UUID responseId, String giver, String giverSection,
+            String recipient, String recipientSection, FeedbackResponseDetails responseDetails) {
+        removeResponse(responseId);
+
+        Contribution contribution = new Contribution(giverSection, recipientSection, recipient,
+                giver.equals(recipient), questionDetails.getResponseStatisticsValues(responseDetails));
+        contributions.put(responseId, contribution);
+        statisticsPerSections.computeIfAbsent(giverSection, k -> new HashMap<>())
+                .computeIfAbsent(recipientSection, k -> new FeedbackResponseStatistics())
+                .add(contribution.recipient, contribution.isSelfResponse, contribution.values);
+    }
+
+    /**
+     * Removes a response from the statistics. Does nothing if the response has not been added.
+     */
+    public synchronized void removeResponse(UUID responseId) {
+        Contribution contribution = contributions.remove(responseId);
+        if (contribution == null) {
+            return;
+        }
+
+        Map<String, FeedbackResponseStatistics> statisticsPerRecipientSection =
+                statisticsPerSections.get(contribution.giverSection);
+        FeedbackResponseStatistics statistics = statisticsPerRecipientSection.get(contribution.recipientSection);
+        statistics.remove(contribution.recipient, contribution.isSelfResponse, contribution.values);
+        if (statistics.getNumResponses() == 0) {
+            statisticsPerRecipientSection.remove(contribution.recipientSection);
+        }
+        if (statisticsPerRecipientSection.isEmpty()) {
+            statisticsPerSections.remove(contribution.giverSection);
+        }
+    }
+
+    /**
+     * Gets the statistics of the responses whose giver section and recipient section satisfy {@code isIncluded}.
+     */
+    public synchronized FeedbackResponseStatistics getStatistics(BiPredicate<String, String> isIncluded) {
+        FeedbackResponseStatistics merged = new FeedbackResponseStatistics();
+        for (Map.Entry<String, Map<String, FeedbackResponseStatistics>> giverSection : statisticsPerSections.entrySet()) {
+            for (Map.Entry<String, FeedbackResponseStatistics> recipientSection : giverSection.getValue().entrySet()) {
+                if (isIncluded.test(giverSection.getKey(), recipientSection.getKey())) {
+                    merged.merge(recipientSection.getValue());
+                }
+            }
+        }
+        return merged;
+    }
+
+    private static final class Contribution {
+        private final String giverSection;
+        private final String recipientSection;
+        private final String recipient;
+        private final boolean isSelfResponse;
+        private final Map<String, Double> values;
+
+        private Contribution(String giverSection, String recipientSection, String recipient,
+                boolean isSelfResponse, Map<String, Double> values) {
+            this.giverSection = giverSection;
+            this.recipientSection = recipientSection;
+            this.recipient = recipient;
+            this.isSelfResponse = isSelfResponse;
+            this.values = values;
+        }
+    }
+
+}
@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.storage.sqlentity.FeedbackQuestion;
@@ -182,6 +184,22 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public Map<String, Double> getResponseStatisticsValues(FeedbackResponseDetails responseDetails) {
+        List<Integer> answer = ((FeedbackRubricResponseDetails) responseDetails).getAnswer();
+        Map<String, Double> values = new HashMap<>();
+        for (int subQuestion = 0; subQuestion < answer.size(); subQuestion++) {
+            int choice = answer.get(subQuestion);
+            if (choice == RUBRIC_ANSWER_NOT_CHOSEN) {
+                continue;
+            }
+            // choices are tallied under "<sub-question index>-<choice index>", weighted if weights are assigned
+            double weight = hasAssignedWeights ? rubricWeightsForEachCell.get(subQuestion).get(choice) : 1;
+            values.put(subQuestion + "-" + choice, weight);
+        }
+        return values;
+    }
+
     /**
      * Returns a list of rubric weights if the weights are assigned,
      * otherwise returns an empty list.
@@ -0,0 +1,12 @@
+package teammates.common.exception;
+
+/**
+ * Exception thrown when a task cannot be added to the task queue.
+ */
+public class TaskQueueException extends RuntimeException {
+
+    public TaskQueueException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
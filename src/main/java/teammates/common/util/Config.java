@@ -112,6 +112,27 @@ public final class Config {
     /** The value of the "app.maintenance" in build.properties file. */
     public static final boolean MAINTENANCE;
 
+    /** The value of the "app.jetty.threadpool.virtualthreads" in build.properties file. */
+    public static final boolean JETTY_THREADPOOL_VIRTUAL_THREADS;
+
+    /** The value of the "app.jetty.threadpool.maxthreads" in build.properties file. */
+    public static final int JETTY_THREADPOOL_MAX_THREADS;
+
+    /** The value of the "app.jetty.threadpool.minthreads" in build.properties file. */
+    public static final int JETTY_THREADPOOL_MIN_THREADS;
+
+    /** The value of the "app.jetty.threadpool.idletimeout" in build.properties file. */
+    public static final int JETTY_THREADPOOL_IDLE_TIMEOUT;
+
+    /** The value of the "app.jetty.threadpool.queuecapacity" in build.properties file. */
+    public static final int JETTY_THREADPOOL_QUEUE_CAPACITY;
+
+    /** The value of the "app.jetty.acceptors" in build.properties file. */
+    public static final int JETTY_ACCEPTORS;
+
+    /** The value of the "app.jetty.selectors" in build.properties file. */
+    public static final int JETTY_SELECTORS;
+
     /** The value of the "app.localdatastore.port" in build-dev.properties file. */
     public static final int APP_LOCALDATASTORE_PORT;
 
@@ -190,6 +211,18 @@ public final class Config {
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
+        JETTY_THREADPOOL_VIRTUAL_THREADS = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.jetty.threadpool.virtualthreads", "false"));
+        JETTY_THREADPOOL_MAX_THREADS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.jetty.threadpool.maxthreads", "200"));
+        JETTY_THREADPOOL_MIN_THREADS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.jetty.threadpool.minthreads", "8"));
+        JETTY_THREADPOOL_IDLE_TIMEOUT = Integer.parseInt(
+                getProperty(properties, devProperties, "app.jetty.threadpool.idletimeout", "60000"));
+        JETTY_THREADPOOL_QUEUE_CAPACITY = Integer.parseInt(
+                getProperty(properties, devProperties, "app.jetty.threadpool.queuecapacity", "0"));
+        JETTY_ACCEPTORS = Integer.parseInt(getProperty(properties, devProperties, "app.jetty.acceptors", "-1"));
+        JETTY_SELECTORS = Integer.parseInt(getProperty(properties, devProperties, "app.jetty.selectors", "-1"));
 
         // The following properties are not used in production server.
         // So they will only be read from build-dev.properties file.
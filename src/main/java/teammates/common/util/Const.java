@@ -199,6 +199,9 @@ public final class Const {
 
         public static final String LIMIT = "limit";
 
+        public static final String ENROLLMENT_JOB_ID = "enrollmentjobid";
+        public static final String ENROLLMENT_JOB_OFFSET = "enrollmentjoboffset";
+
         public static final String NOTIFICATION_ID = "notificationid";
         public static final String NOTIFICATION_TARGET_USER = "usertype";
         public static final String NOTIFICATION_IS_FETCHING_ALL = "isfetchingall";
@@ -358,6 +361,7 @@ public final class Const {
         public static final String INSTRUCTOR_KEY = URI_PREFIX + "/instructor/key";
         public static final String RESULT = URI_PREFIX + "/result";
         public static final String STUDENTS = URI_PREFIX + "/students";
+        public static final String STUDENTS_ENROLLMENT_JOB = URI_PREFIX + "/students/enrollmentjob";
         public static final String STUDENT = URI_PREFIX + "/student";
         public static final String STUDENT_KEY = URI_PREFIX + "/student/key";
         public static final String NOTIFICATION = URI_PREFIX + "/notification";
@@ -378,8 +382,10 @@ public final class Const {
         public static final String QUESTIONS = URI_PREFIX + "/questions";
         public static final String QUESTION = URI_PREFIX + "/question";
         public static final String QUESTION_RECIPIENTS = URI_PREFIX + "/question/recipients";
+        public static final String QUESTION_STATISTICS = URI_PREFIX + "/question/statistics";
         public static final String RESPONSES = URI_PREFIX + "/responses";
         public static final String USAGE_STATISTICS = URI_PREFIX + "/usagestats";
+        public static final String METRICS = URI_PREFIX + "/metrics";
         public static final String HAS_RESPONSES = URI_PREFIX + "/hasResponses";
         public static final String JOIN = URI_PREFIX + "/join";
         public static final String JOIN_REMIND = URI_PREFIX + "/join/remind";
@@ -433,6 +439,11 @@ public final class Const {
         public static final String FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL =
                 URI_PREFIX + "/feedbackSessionResendPublishedEmail";
 
+        public static final String FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME =
+                "feedback-session-automated-email-queue";
+        public static final String FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionAutomatedEmail";
+
         public static final String FEEDBACK_SESSION_REMIND_EMAIL_QUEUE_NAME = "feedback-session-remind-email-queue";
         public static final String FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL = URI_PREFIX + "/feedbackSessionRemindEmail";
 
@@ -460,6 +471,10 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+        public static final String STUDENTS_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentsSearchIndexing";
+
+        public static final String ENROLLMENT_JOB_QUEUE_NAME = "enrollment-job-queue";
+        public static final String ENROLLMENT_JOB_WORKER_URL = URI_PREFIX + "/enrollmentJob";
     }
 
 }
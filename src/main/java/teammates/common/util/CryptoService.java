@@ -0,0 +1,100 @@
+package teammates.common.util;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts, decrypts and signs data with the application's encryption key.
+ *
+ * <p>The key is decoded only once. As {@link Cipher} and {@link Mac} instances are not thread-safe
+ * but are costly to look up and initialize, every thread keeps its own initialized instances.
+ * The instances reset themselves after every operation, so they are reused without being re-initialized.
+ *
+ * @see StringHelper#encrypt(String)
+ * @see StringHelper#decrypt(String)
+ * @see StringHelper#generateSignature(String)
+ */
+final class CryptoService {
+
+    private static final String CIPHER_ALGORITHM = "AES";
+    private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String MAC_ALGORITHM = "HmacSHA1";
+
+    private static final CryptoService instance = new CryptoService(Config.ENCRYPTION_KEY);
+
+    private final SecretKeySpec encryptionKey;
+    private final SecretKeySpec signingKey;
+
+    private final ThreadLocal<Cipher> encryptionCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private final ThreadLocal<Cipher> decryptionCiphers = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::createMac);
+
+    CryptoService(String hexKey) {
+        byte[] key = StringHelper.hexStringToByteArray(hexKey);
+        this.encryptionKey = new SecretKeySpec(key, CIPHER_ALGORITHM);
+        this.signingKey = new SecretKeySpec(key, MAC_ALGORITHM);
+    }
+
+    static CryptoService inst() {
+        return instance;
+    }
+
+    /**
+     * Encrypts the given plaintext.
+     */
+    byte[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+        return doFinal(encryptionCiphers, plaintext);
+    }
+
+    /**
+     * Decrypts the given ciphertext.
+     *
+     * @throws javax.crypto.IllegalBlockSizeException if the length of the ciphertext is invalid
+     * @throws javax.crypto.BadPaddingException if the ciphertext is not encrypted with the key
+     */
+    byte[] decrypt(byte[] ciphertext) throws GeneralSecurityException {
+        return doFinal(decryptionCiphers, ciphertext);
+    }
+
+    /**
+     * Generates the HMAC SHA-1 signature of the given data.
+     */
+    byte[] sign(byte[] data) {
+        // Mac#doFinal cannot fail once the Mac is initialized
+        return macs.get().doFinal(data);
+    }
+
+    private static byte[] doFinal(ThreadLocal<Cipher> ciphers, byte[] input) throws GeneralSecurityException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (GeneralSecurityException e) {
+            // a cipher may need to be re-initialized after a failed operation
+            ciphers.remove();
+            throw e;
+        }
+    }
+
+    private Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, encryptionKey);
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize cipher", e);
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize MAC", e);
+        }
+    }
+
+}
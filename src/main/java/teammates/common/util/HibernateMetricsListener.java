@@ -0,0 +1,38 @@
+package teammates.common.util;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Counts the JDBC statements executed by a Hibernate session, and the time taken by them,
+ * towards the metrics of the current request.
+ *
+ * <p>An instance is created for every session; see {@link HibernateUtil#buildSessionFactory}.
+ */
+public class HibernateMetricsListener implements SessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient long statementStartNanos;
+    private transient long batchStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTracer.recordDbStatement(System.nanoTime() - statementStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTracer.recordDbStatement(System.nanoTime() - batchStartNanos);
+    }
+
+}
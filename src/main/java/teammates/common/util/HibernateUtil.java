@@ -1,30 +1,43 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
 
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
 import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.jpa.SpecHints;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.stat.Statistics;
 
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.BaseEntity;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.EnrollmentJob;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.FeedbackSessionLog;
+import teammates.storage.sqlentity.FeedbackSessionSubmission;
 import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Notification;
 import teammates.storage.sqlentity.ReadNotification;
@@ -56,6 +69,12 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
  * Utility class for Hibernate related methods.
  */
 public final class HibernateUtil {
+    /**
+     * The maximum number of ids bound to a single statement, well within the limit on the number of
+     * bind parameters of a PostgreSQL statement.
+     */
+    public static final int MAX_IDS_PER_STATEMENT = 1000;
+
     private static SessionFactory sessionFactory;
 
     private static final List<Class<? extends BaseEntity>> ANNOTATED_CLASSES = List.of(
@@ -93,7 +112,9 @@ public final class HibernateUtil {
             FeedbackRubricResponse.class,
             FeedbackTextResponse.class,
             FeedbackResponseComment.class,
-            FeedbackSessionLog.class);
+            FeedbackSessionLog.class,
+            FeedbackSessionSubmission.class,
+            EnrollmentJob.class);
 
     private HibernateUtil() {
         // Utility class
@@ -104,6 +125,16 @@ public final class HibernateUtil {
      * Builds a session factory if it does not already exist.
      */
     public static void buildSessionFactory(String dbUrl, String username, String password) {
+        buildSessionFactory(dbUrl, username, password, Map.of());
+    }
+
+    /**
+     * Builds a session factory with additional Hibernate properties if it does not already exist.
+     *
+     * <p>The additional properties override the default ones, e.g. to enable JDBC batching for data migration.
+     */
+    public static void buildSessionFactory(String dbUrl, String username, String password,
+            Map<String, String> additionalProperties) {
         synchronized (HibernateUtil.class) {
             if (sessionFactory != null) {
                 return;
@@ -125,17 +156,20 @@ public final class HibernateUtil {
                 .setProperty("hibernate.hikari.maximumPoolSize", "30")
                 .setProperty("hibernate.hikari.idleTimeout", "300000")
                 .setProperty("hibernate.hikari.connectionTimeout", "30000")
-                // Uncomment only during migration for optimized batch-insertion, batch-update, and batch-fetch.
-                // .setProperty("hibernate.jdbc.batch_size", "50")
-                // .setProperty("hibernate.order_updates", "true")
-                // .setProperty("hibernate.batch_versioned_data", "true")
-                // .setProperty("hibernate.jdbc.fetch_size", "50")
+                // Loads lazy collections and eager associations not fetched by a query in batches instead of one by one.
+                .setProperty("hibernate.default_batch_fetch_size", "50")
+                // Counts the JDBC statements of every session towards the metrics of the current request.
+                .setProperty("hibernate.session.events.auto", HibernateMetricsListener.class.getName())
                 .addPackage("teammates.storage.sqlentity");
 
         if (Config.IS_DEV_SERVER) {
             config.setProperty("hibernate.hbm2ddl.auto", "update");
         }
 
+        for (Map.Entry<String, String> property : additionalProperties.entrySet()) {
+            config.setProperty(property.getKey(), property.getValue());
+        }
+
         for (Class<? extends BaseEntity> cls : ANNOTATED_CLASSES) {
             config = config.addAnnotatedClass(cls);
         }
@@ -177,6 +211,17 @@ public final class HibernateUtil {
         return getCurrentSession().createQuery(cr);
     }
 
+    /**
+     * Returns a generic typed TypedQuery object which eagerly loads the attributes of the named entity graph.
+     * @see Session#createQuery(CriteriaQuery)
+     * @see Session#getEntityGraph(String)
+     */
+    public static <T> TypedQuery<T> createQuery(CriteriaQuery<T> cr, String entityGraphName) {
+        Session session = getCurrentSession();
+        return session.createQuery(cr)
+                .setHint(SpecHints.HINT_SPEC_LOAD_GRAPH, session.getEntityGraph(entityGraphName));
+    }
+
     /**
      * Returns a MutationQuery object.
      * @see Session#createMutationQuery(CriteriaDelete)
@@ -185,6 +230,32 @@ public final class HibernateUtil {
         return getCurrentSession().createMutationQuery(cd);
     }
 
+    /**
+     * Returns a MutationQuery object.
+     * @see Session#createMutationQuery(CriteriaUpdate)
+     */
+    public static <T> MutationQuery createMutationQuery(CriteriaUpdate<T> cu) {
+        return getCurrentSession().createMutationQuery(cu);
+    }
+
+    /**
+     * Returns a MutationQuery object for the given native SQL statement.
+     *
+     * <p>This is only meant for statements which cannot be expressed with criteria, e.g. upserts.
+     * @see Session#createNativeMutationQuery(String)
+     */
+    public static MutationQuery createNativeMutationQuery(String sql) {
+        return getCurrentSession().createNativeMutationQuery(sql);
+    }
+
+    /**
+     * Returns the statistics of the session factory, e.g. to count the queries executed.
+     * @see SessionFactory#getStatistics()
+     */
+    public static Statistics getStatistics() {
+        return getSessionFactory().getStatistics();
+    }
+
     public static void setSessionFactory(SessionFactory sessionFactory) {
         HibernateUtil.sessionFactory = sessionFactory;
     }
@@ -219,6 +290,46 @@ public final class HibernateUtil {
         transaction.commit();
     }
 
+    /**
+     * Runs the action once the current transaction completes, whether it is committed or rolled back,
+     * or immediately if there is no active transaction.
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static void runAfterTransaction(Runnable action) {
+        runAfterTransaction(action, false);
+    }
+
+    /**
+     * Runs the action once the current transaction is committed, or immediately if there is no active transaction.
+     * The action is not run if the transaction is rolled back.
+     * @see Transaction#registerSynchronization(Synchronization)
+     */
+    public static void runAfterCommit(Runnable action) {
+        runAfterTransaction(action, true);
+    }
+
+    private static void runAfterTransaction(Runnable action, boolean isOnlyAfterCommit) {
+        Transaction transaction = sessionFactory == null ? null : getCurrentSession().getTransaction();
+        if (transaction == null || !transaction.isActive()) {
+            action.run();
+            return;
+        }
+
+        transaction.registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do before the transaction completes
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!isOnlyAfterCommit || status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
     /**
      * Force this session to flush. Must be called at the end of a unit of work, before the transaction is committed.
      * @see Session#flush()
@@ -227,6 +338,15 @@ public final class HibernateUtil {
         getCurrentSession().flush();
     }
 
+    /**
+     * Sets the number of statements grouped into a single JDBC batch for the rest of the current session.
+     * Usually called before writing many entities of the same type.
+     * @see Session#setJdbcBatchSize(Integer)
+     */
+    public static void setJdbcBatchSize(int jdbcBatchSize) {
+        getCurrentSession().setJdbcBatchSize(jdbcBatchSize);
+    }
+
     /**
      * Force this session to clear. Usually called together with flush.
      * @see Session#clear()
@@ -279,9 +399,61 @@ public final class HibernateUtil {
 
     /**
      * Create and execute a {@code MutationQuery} for the given delete criteria tree.
+     *
+     * @return the number of rows deleted
      */
-    public static <T> void executeDelete(CriteriaDelete<T> cd) {
-        getCurrentSession().createMutationQuery(cd).executeUpdate();
+    public static <T> int executeDelete(CriteriaDelete<T> cd) {
+        return getCurrentSession().createMutationQuery(cd).executeUpdate();
+    }
+
+    /**
+     * Create and execute a {@code MutationQuery} for the given update criteria tree,
+     * further restricted to the entities with the given ids.
+     *
+     * <p>The session is flushed first so that pending changes are not overwritten by the update, and the ids are
+     * processed in chunks to stay within the limit on the number of bind parameters of a statement.
+     * As bulk updates bypass the persistence context, the instances of the updated entities which have been loaded
+     * are evicted afterwards so that they are read again instead of keeping the values from before the update.
+     *
+     * @return the number of rows updated
+     */
+    public static <T extends BaseEntity> int executeUpdate(CriteriaUpdate<T> cu, Collection<?> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        flushSession();
+        Session session = getCurrentSession();
+        Root<T> root = cu.getRoot();
+        Predicate restriction = cu.getRestriction();
+        int numUpdated = 0;
+        for (List<?> chunk : partitionIds(ids)) {
+            Predicate inChunk = root.get("id").in(chunk);
+            cu.where(restriction == null ? inChunk : getCriteriaBuilder().and(restriction, inChunk));
+            numUpdated += session.createMutationQuery(cu).executeUpdate();
+
+            for (Object id : chunk) {
+                // the reference is the loaded instance if there is one, or else an uninitialized proxy
+                T entity = session.getReference(root.getJavaType(), id);
+                if (Hibernate.isInitialized(entity)) {
+                    session.evict(entity);
+                }
+            }
+        }
+        return numUpdated;
+    }
+
+    /**
+     * Splits the given ids into chunks of at most {@link #MAX_IDS_PER_STATEMENT} ids,
+     * each of which can be bound to a single statement.
+     */
+    public static <T> List<List<T>> partitionIds(Collection<T> ids) {
+        List<T> idList = List.copyOf(ids);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < idList.size(); i += MAX_IDS_PER_STATEMENT) {
+            chunks.add(idList.subList(i, Math.min(i + MAX_IDS_PER_STATEMENT, idList.size())));
+        }
+        return chunks;
     }
 
     /**
@@ -303,4 +475,29 @@ public final class HibernateUtil {
         getCurrentSession().evict(entity);
     }
 
+    /**
+     * Flush the current session and evict the given entities from the session.
+     *
+     * <p>Used by bulk operations which process entities in batches, so that the persistence context
+     * only ever holds the current batch instead of every entity processed so far.
+     * @see Session#evict(Object)
+     */
+    public static void flushAndEvictAll(Collection<?> entities) {
+        flushSession();
+        Session session = getCurrentSession();
+        for (Object entity : entities) {
+            if (session.contains(entity)) {
+                session.evict(entity);
+            }
+        }
+    }
+
+    /**
+     * Return the identifier value of the given entity associated with the current session.
+     * @see Session#getIdentifier(Object)
+     */
+    public static Object getIdentifier(Object entity) {
+        return getCurrentSession().getIdentifier(entity);
+    }
+
 }
@@ -0,0 +1,193 @@
+package teammates.common.util;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Collects in-memory metrics of the web API requests served by this instance.
+ *
+ * <p>Metrics are kept per action and are reset when the instance restarts.
+ * The statistics of registered in-memory caches are exported together with them.
+ */
+public final class MetricsRegistry {
+
+    private static final double[] QUANTILES = { 0.5, 0.9, 0.99 };
+
+    private static final ConcurrentMap<String, ActionMetrics> ACTION_METRICS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, Cache<?, ?>> CACHES = new ConcurrentHashMap<>();
+
+    private MetricsRegistry() {
+        // utility class
+    }
+
+    /**
+     * Records a request served by the given action.
+     *
+     * @param actionName the name of the action class which served the request
+     * @param statusCode the HTTP status code of the response
+     * @param latencyMillis the time taken to serve the request
+     * @param dbStatementCount the number of JDBC statements executed
+     * @param dbTimeNanos the time taken by the JDBC statements
+     * @param responseSize the size of the response body in characters
+     */
+    public static void recordRequest(String actionName, int statusCode, long latencyMillis,
+            long dbStatementCount, long dbTimeNanos, long responseSize) {
+        ActionMetrics metrics = ACTION_METRICS.computeIfAbsent(actionName, k -> new ActionMetrics());
+        metrics.latencyMillis.record(latencyMillis);
+        metrics.responseSize.record(responseSize);
+        metrics.statusCounts.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        metrics.dbStatementCount.add(dbStatementCount);
+        metrics.dbTimeNanos.add(dbTimeNanos);
+    }
+
+    /**
+     * Returns the metrics of all actions which have served at least one request, sorted by action name.
+     */
+    public static Map<String, ActionMetrics> getActionMetrics() {
+        return new TreeMap<>(ACTION_METRICS);
+    }
+
+    /**
+     * Registers a cache whose statistics are to be exported.
+     *
+     * <p>The cache should be built with {@code recordStats()}; otherwise all its statistics stay at zero.
+     */
+    public static void registerCache(String cacheName, Cache<?, ?> cache) {
+        CACHES.put(cacheName, cache);
+    }
+
+    /**
+     * Returns the current statistics of all registered caches, sorted by cache name.
+     */
+    public static Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        CACHES.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return stats;
+    }
+
+    /**
+     * Removes all recorded metrics.
+     *
+     * <p>Registered caches are kept as their statistics belong to the caches themselves.
+     */
+    public static void reset() {
+        ACTION_METRICS.clear();
+    }
+
+    /**
+     * Returns all recorded metrics in the Prometheus text exposition format.
+     */
+    public static String toPrometheusText() {
+        Map<String, ActionMetrics> metrics = getActionMetrics();
+        StringBuilder sb = new StringBuilder();
+
+        appendHeader(sb, "teammates_action_latency_milliseconds", "summary", "Time taken to serve requests.");
+        metrics.forEach((action, m) -> appendSummary(sb, "teammates_action_latency_milliseconds", action, m.latencyMillis));
+
+        appendHeader(sb, "teammates_action_response_size_chars", "summary", "Size of response bodies.");
+        metrics.forEach((action, m) -> appendSummary(sb, "teammates_action_response_size_chars", action, m.responseSize));
+
+        appendHeader(sb, "teammates_action_responses_total", "counter", "Number of responses by status code.");
+        metrics.forEach((action, m) -> new TreeMap<>(m.statusCounts).forEach((status, count) ->
+                sb.append("teammates_action_responses_total{action=\"").append(action)
+                        .append("\",status=\"").append(status).append("\"} ").append(count.sum()).append('\n')));
+
+        appendHeader(sb, "teammates_action_db_statements_total", "counter", "Number of JDBC statements executed.");
+        metrics.forEach((action, m) -> appendSample(sb, "teammates_action_db_statements_total", action,
+                String.valueOf(m.getDbStatementCount())));
+
+        appendHeader(sb, "teammates_action_db_time_milliseconds_total", "counter", "Time taken by JDBC statements.");
+        metrics.forEach((action, m) -> appendSample(sb, "teammates_action_db_time_milliseconds_total", action,
+                String.valueOf(m.getDbTimeNanos() / 1_000_000.0)));
+
+        Map<String, CacheStats> cacheStats = getCacheStats();
+
+        appendHeader(sb, "teammates_cache_requests_total", "counter", "Number of cache lookups by result.");
+        cacheStats.forEach((cache, stats) -> {
+            appendCacheSample(sb, "teammates_cache_requests_total", cache, ",result=\"hit\"", stats.hitCount());
+            appendCacheSample(sb, "teammates_cache_requests_total", cache, ",result=\"miss\"", stats.missCount());
+        });
+
+        appendHeader(sb, "teammates_cache_evictions_total", "counter", "Number of entries evicted from caches.");
+        cacheStats.forEach((cache, stats) ->
+                appendCacheSample(sb, "teammates_cache_evictions_total", cache, "", stats.evictionCount()));
+
+        return sb.toString();
+    }
+
+    private static void appendHeader(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSummary(StringBuilder sb, String name, String action, LatencyHistogram histogram) {
+        for (double quantile : QUANTILES) {
+            sb.append(name).append("{action=\"").append(action).append("\",quantile=\"").append(quantile)
+                    .append("\"} ").append(histogram.getValueAtPercentile(quantile * 100)).append('\n');
+        }
+        appendSample(sb, name + "_sum", action, String.valueOf(histogram.getSum()));
+        appendSample(sb, name + "_count", action, String.valueOf(histogram.getCount()));
+    }
+
+    private static void appendSample(StringBuilder sb, String name, String action, String value) {
+        sb.append(name).append("{action=\"").append(action).append("\"} ").append(value).append('\n');
+    }
+
+    private static void appendCacheSample(StringBuilder sb, String name, String cache, String labels, long value) {
+        sb.append(name).append("{cache=\"").append(cache).append('"').append(labels).append("} ")
+                .append(value).append('\n');
+    }
+
+    /**
+     * Metrics of a single action.
+     */
+    public static final class ActionMetrics {
+        private final LatencyHistogram latencyMillis = new LatencyHistogram();
+        private final LatencyHistogram responseSize = new LatencyHistogram();
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        private final LongAdder dbStatementCount = new LongAdder();
+        private final LongAdder dbTimeNanos = new LongAdder();
+
+        private ActionMetrics() {
+            // only created by the registry
+        }
+
+        public LatencyHistogram getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        public LatencyHistogram getResponseSize() {
+            return responseSize;
+        }
+
+        /**
+         * Returns the number of responses per HTTP status code, sorted by status code.
+         */
+        public Map<Integer, Long> getStatusCounts() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+
+        public long getDbStatementCount() {
+            return dbStatementCount.sum();
+        }
+
+        public long getDbTimeNanos() {
+            return dbTimeNanos.sum();
+        }
+
+        public long getDbTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(getDbTimeNanos());
+        }
+    }
+
+}
@@ -71,6 +71,53 @@ public final class RequestTracer {
         return Instant.now().toEpochMilli() - trace.initTimestamp;
     }
 
+    /**
+     * Records a JDBC statement executed while serving the current request.
+     */
+    public static void recordDbStatement(long durationNanos) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.dbStatementCount++;
+        trace.dbTimeNanos += durationNanos;
+    }
+
+    /**
+     * Returns the number of JDBC statements executed so far for the current request.
+     */
+    public static long getDbStatementCount() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return trace == null ? 0L : trace.dbStatementCount;
+    }
+
+    /**
+     * Returns the time (in nanoseconds) spent executing JDBC statements so far for the current request.
+     */
+    public static long getDbTimeNanos() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return trace == null ? 0L : trace.dbTimeNanos;
+    }
+
+    /**
+     * Records the size of the response body (in characters) of the current request.
+     */
+    public static void recordResponseSize(long responseSize) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return;
+        }
+        trace.responseSize = responseSize;
+    }
+
+    /**
+     * Returns the size of the response body (in characters) of the current request.
+     */
+    public static long getResponseSize() {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return trace == null ? 0L : trace.responseSize;
+    }
+
     /**
      * Initializes the request with an ID and the timeout value (in seconds).
      */
@@ -78,11 +125,21 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Clears the information of the current request from the current thread.
+     */
+    public static void clear() {
+        THREAD_LOCAL.remove();
+    }
+
     private static final class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private long dbStatementCount;
+        private long dbTimeNanos;
+        private long responseSize;
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
@@ -10,10 +10,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import javax.crypto.BadPaddingException;
-import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 
 import com.google.common.base.CharMatcher;
 
@@ -26,6 +23,8 @@ import teammates.common.exception.InvalidParametersException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     private StringHelper() {
         // utility class
     }
@@ -86,11 +85,7 @@ public final class StringHelper {
      */
     public static String generateSignature(String data) {
         try {
-            SecretKeySpec signingKey =
-                    new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA1");
-            Mac mac = Mac.getInstance("HmacSHA1");
-            mac.init(signingKey);
-            byte[] value = mac.doFinal(data.getBytes(Const.ENCODING));
+            byte[] value = CryptoService.inst().sign(data.getBytes(Const.ENCODING));
             return byteArrayToHexString(value);
         } catch (Exception e) {
             assert false;
@@ -121,10 +116,7 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes(Const.ENCODING));
+            byte[] encrypted = CryptoService.inst().encrypt(value.getBytes(Const.ENCODING));
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
             assert false;
@@ -142,10 +134,7 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = CryptoService.inst().decrypt(hexStringToByteArray(message));
             return new String(decrypted, Const.ENCODING);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
@@ -225,24 +214,30 @@ public final class StringHelper {
      * Converts a byte array to hexadecimal string.
      */
     static String byteArrayToHexString(byte[] bytes) {
-        StringBuilder sb = new StringBuilder(bytes.length * 2);
-        for (byte b : bytes) {
-            int v = b & 0xff;
-            if (v < 16) {
-                sb.append('0');
-            }
-            sb.append(Integer.toHexString(v));
+        char[] hexChars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            hexChars[i * 2] = HEX_DIGITS[v >>> 4];
+            hexChars[i * 2 + 1] = HEX_DIGITS[v & 0x0f];
         }
-        return sb.toString().toUpperCase();
+        return new String(hexChars);
     }
 
     /**
      * Converts a hexadecimal string to byte array.
+     *
+     * @throws NumberFormatException if the string contains non-hexadecimal characters
      */
     public static byte[] hexStringToByteArray(String s) {
         byte[] b = new byte[s.length() / 2];
-        IntStream.range(0, b.length)
-                .forEach(i -> b[i] = (byte) Integer.parseInt(s.substring(i * 2, i * 2 + 2), 16));
+        for (int i = 0; i < b.length; i++) {
+            int high = Character.digit(s.charAt(i * 2), 16);
+            int low = Character.digit(s.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new NumberFormatException("Not a hexadecimal string: " + s);
+            }
+            b[i] = (byte) (high << 4 | low);
+        }
         return b;
     }
 
@@ -11,12 +11,19 @@ public class TaskWrapper {
     private final String workerUrl;
     private final Map<String, String> paramMap;
     private final Object requestBody;
+    private final String taskName;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody) {
+        this(queueName, workerUrl, paramMap, requestBody, null);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
+                       String taskName) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
         this.requestBody = requestBody;
+        this.taskName = taskName;
     }
 
     public String getQueueName() {
@@ -35,4 +42,11 @@ public class TaskWrapper {
         return requestBody;
     }
 
+    /**
+     * Gets the name which identifies the task in its queue, or null if the task is not named.
+     */
+    public String getTaskName() {
+        return taskName;
+    }
+
 }
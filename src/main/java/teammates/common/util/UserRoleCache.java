@@ -0,0 +1,153 @@
+package teammates.common.util;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Short-lived cache of whether users are instructors or students in any course, keyed by Google ID.
+ *
+ * <p>Resolving the roles takes several queries across both databases and is needed for every authenticated request.
+ *
+ * <p>Roles a user does not have are only trusted for a few seconds, after which all the roles of the user are resolved
+ * again, so that a user who joins a course through another instance gets the role soon after.
+ *
+ * <p>Entries are invalidated when a Google ID is linked to or unlinked from a student or instructor on this instance,
+ * e.g. when a user is deleted or has the Google ID reset, once the transaction making the change completes.
+ * As the cache is local to the instance, roles removed by other instances are only seen after the entries expire.
+ */
+public final class UserRoleCache {
+
+    private static final String CACHE_NAME = "user-role";
+    private static final int CACHE_SIZE = 10000;
+    private static final long TIME_TO_LIVE_SECONDS = 30;
+    private static final long MISSING_ROLES_TIME_TO_LIVE_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static final Cache<String, Entry> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE_SECONDS, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+
+    // Counts the invalidations, so that roles resolved while an invalidation takes place are not kept in the cache.
+    private static final AtomicLong INVALIDATION_COUNT = new AtomicLong();
+
+    static {
+        MetricsRegistry.registerCache(CACHE_NAME, CACHE);
+    }
+
+    private UserRoleCache() {
+        // utility class
+    }
+
+    /**
+     * Gets the roles of the user with the given Google ID.
+     *
+     * <p>Roles which are not cached, or cached as missing for too long, are resolved with
+     * {@code isInstructorResolver} and {@code isStudentResolver}.
+     */
+    public static Roles getRoles(String googleId, Predicate<String> isInstructorResolver,
+            Predicate<String> isStudentResolver) {
+        Entry cachedEntry = CACHE.getIfPresent(googleId);
+        if (cachedEntry != null && !cachedEntry.isStale()) {
+            return cachedEntry.roles;
+        }
+
+        long invalidationCount = INVALIDATION_COUNT.get();
+        Roles roles = new Roles(isInstructorResolver.test(googleId), isStudentResolver.test(googleId));
+        CACHE.put(googleId, new Entry(roles));
+        if (INVALIDATION_COUNT.get() != invalidationCount) {
+            // the roles may have been resolved before the invalidated change was committed
+            CACHE.invalidate(googleId);
+        }
+        return roles;
+    }
+
+    /**
+     * Invalidates the cached roles of the user with the given Google ID once the current transaction completes.
+     *
+     * <p>Does nothing if the Google ID is null, i.e. the user is not registered.
+     */
+    public static void invalidate(String googleId) {
+        if (googleId != null) {
+            HibernateUtil.runAfterTransaction(() -> {
+                INVALIDATION_COUNT.incrementAndGet();
+                CACHE.invalidate(googleId);
+            });
+        }
+    }
+
+    /**
+     * Invalidates the cached roles of the users with the given Google IDs once the current transaction completes.
+     */
+    public static void invalidate(Collection<String> googleIds) {
+        googleIds.forEach(UserRoleCache::invalidate);
+    }
+
+    /**
+     * Invalidates the cached roles of all users once the current transaction completes.
+     *
+     * <p>This is needed when users are created or deleted in bulk, e.g. when data bundles are persisted or removed.
+     */
+    public static void invalidateAll() {
+        HibernateUtil.runAfterTransaction(() -> {
+            INVALIDATION_COUNT.incrementAndGet();
+            CACHE.invalidateAll();
+        });
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     */
+    public static CacheStats getStats() {
+        return CACHE.stats();
+    }
+
+    /**
+     * Cached roles of a user, together with the time they were resolved.
+     */
+    private static final class Entry {
+
+        private final Roles roles;
+        private final long resolvedAtNanos = System.nanoTime();
+
+        private Entry(Roles roles) {
+            this.roles = roles;
+        }
+
+        private boolean isStale() {
+            boolean hasMissingRoles = !roles.isInstructor() || !roles.isStudent();
+            return hasMissingRoles && System.nanoTime() - resolvedAtNanos >= MISSING_ROLES_TIME_TO_LIVE_NANOS;
+        }
+
+    }
+
+    /**
+     * The roles of a user which are resolved from the courses the user is in.
+     */
+    public static final class Roles {
+
+        private final boolean isInstructor;
+        private final boolean isStudent;
+
+        public Roles(boolean isInstructor, boolean isStudent) {
+            this.isInstructor = isInstructor;
+            this.isStudent = isStudent;
+        }
+
+        public boolean isInstructor() {
+            return isInstructor;
+        }
+
+        public boolean isStudent() {
+            return isStudent;
+        }
+
+    }
+
+}
@@ -1,12 +1,18 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import com.google.common.hash.Hashing;
+
+import teammates.common.exception.TaskQueueException;
 import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
@@ -15,6 +21,7 @@ import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
 import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
@@ -23,6 +30,11 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of students indexed by a single task, which keeps the task payload well within its size limit.
+     */
+    private static final int STUDENTS_SEARCH_INDEXING_BATCH_SIZE = 250;
+
     private static final TaskQueuer instance = new TaskQueuer();
     private final TaskQueueService service;
 
@@ -52,6 +64,12 @@ public class TaskQueuer {
         service.addDeferredTask(task, countdownTime);
     }
 
+    void addNamedDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
+                              String taskName, long countdownTime) {
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody, taskName);
+        service.addDeferredTaskOrFail(task, countdownTime);
+    }
+
     // The following methods are the actual API methods to be used by the client classes
 
     /**
@@ -109,6 +127,25 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, paramMap, null);
     }
 
+    /**
+     * Schedules for an automated email (e.g. opening soon, opened, closing soon, closed) of the specified
+     * feedback session to be sent.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param emailType the type of the automated email
+     */
+    public void scheduleFeedbackSessionAutomatedEmail(String courseId, String feedbackSessionName,
+                                                      EmailType emailType) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.EMAIL_TYPE, emailType.name());
+
+        addTask(TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL, paramMap, null);
+    }
+
     /**
      * Schedules for feedback session publication reminders
      * for the specified feedback session for the specified group of users.
@@ -185,23 +222,54 @@ public class TaskQueuer {
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
-        if (emails.isEmpty()) {
-            return;
+        long emailIntervalMillis = getEmailIntervalMillis(emails);
+        long numberOfEmailsSent = 0L;
+        for (EmailWrapper email : emails) {
+            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
+            scheduleEmailForSending(email, emailDelayTimer);
+            numberOfEmailsSent++;
         }
+    }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
-
+    /**
+     * Schedules for the given list of emails to be sent, failing if any of the emails cannot be scheduled.
+     *
+     * <p>The emails are scheduled at most once for the same {@code batchKey}, so that scheduling them again
+     * after an earlier attempt failed partway does not send the emails scheduled by that attempt twice.
+     *
+     * @param emails the list of emails to be sent
+     * @param batchKey the key which identifies the list of emails
+     * @throws TaskQueueException if any of the emails cannot be scheduled
+     */
+    public void scheduleEmailsForSending(List<EmailWrapper> emails, String batchKey) {
+        long emailIntervalMillis = getEmailIntervalMillis(emails);
         long numberOfEmailsSent = 0L;
+        Map<String, Integer> numberOfEmailsByRecipient = new HashMap<>();
         for (EmailWrapper email : emails) {
+            // a recipient can receive several emails of the batch, e.g. both as a student and as an instructor
+            int recipientIndex = numberOfEmailsByRecipient.merge(email.getRecipient(), 1, Integer::sum);
+            String taskName = Hashing.sha256()
+                    .hashString(batchKey + "%" + email.getRecipient() + "%" + recipientIndex, StandardCharsets.UTF_8)
+                    .toString();
+
             long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
+            addNamedDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    new HashMap<>(), new SendEmailRequest(email), taskName, emailDelayTimer);
             numberOfEmailsSent++;
         }
     }
 
+    private static long getEmailIntervalMillis(List<EmailWrapper> emails) {
+        if (emails.isEmpty()) {
+            return 0L;
+        }
+
+        // Equally spread out the emails to be sent over 1 hour
+        // Sets interval to a maximum of 5 seconds if the interval is too large
+        int oneHourInMillis = 60 * 60 * 1000;
+        return Math.min(5000, oneHourInMillis / emails.size());
+    }
+
     /**
      * Schedules for the search indexing of the instructor identified by {@code courseId} and {@code email}.
      *
@@ -245,6 +313,38 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the search indexing of the students identified by {@code courseId} and {@code emails}.
+     *
+     * <p>The students are split into tasks of at most {@value #STUDENTS_SEARCH_INDEXING_BATCH_SIZE} students each.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        for (int i = 0; i < emails.size(); i += STUDENTS_SEARCH_INDEXING_BATCH_SIZE) {
+            List<String> batch = emails.subList(i, Math.min(i + STUDENTS_SEARCH_INDEXING_BATCH_SIZE, emails.size()));
+            StudentsSearchIndexingRequest request = new StudentsSearchIndexingRequest(courseId, List.copyOf(batch));
+
+            addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL,
+                    new HashMap<>(), request);
+        }
+    }
+
+    /**
+     * Schedules for the students of an enrollment job to be enrolled, starting from the student at {@code offset}.
+     *
+     * @param enrollmentJobId the ID of the enrollment job
+     * @param offset the number of students of the job which have been processed
+     */
+    public void scheduleEnrollmentJobProcessing(UUID enrollmentJobId, int offset) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId.toString());
+        paramMap.put(ParamsNames.ENROLLMENT_JOB_OFFSET, String.valueOf(offset));
+
+        addTask(TaskQueue.ENROLLMENT_JOB_QUEUE_NAME, TaskQueue.ENROLLMENT_JOB_WORKER_URL, paramMap, null);
+    }
+
     private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
         try {
             SendEmailRequest request = new SendEmailRequest(email);
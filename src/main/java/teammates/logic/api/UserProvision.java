@@ -4,6 +4,7 @@ import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.util.Config;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.sqllogic.core.UsersLogic;
@@ -41,14 +42,24 @@ public class UserProvision {
 
         String userId = user.id;
         user.isAdmin = Config.APP_ADMINS.contains(userId);
-        user.isInstructor = usersLogic.isInstructorInAnyCourse(userId)
-                || instructorsLogic.isInstructorInAnyCourse(userId);
-        user.isStudent = usersLogic.isStudentInAnyCourse(userId)
-                || studentsLogic.isStudentInAnyCourse(userId);
+        UserRoleCache.Roles roles = UserRoleCache.getRoles(userId,
+                this::isInstructorInAnyCourse, this::isStudentInAnyCourse);
+        user.isInstructor = roles.isInstructor();
+        user.isStudent = roles.isStudent();
         user.isMaintainer = Config.APP_MAINTAINERS.contains(user.getId());
         return user;
     }
 
+    private boolean isInstructorInAnyCourse(String googleId) {
+        return usersLogic.isInstructorInAnyCourse(googleId)
+                || instructorsLogic.isInstructorInAnyCourse(googleId);
+    }
+
+    private boolean isStudentInAnyCourse(String googleId) {
+        return usersLogic.isStudentInAnyCourse(googleId)
+                || studentsLogic.isStudentInAnyCourse(googleId);
+    }
+
     /**
      * Gets the information of the current logged in user, with an SQL transaction.
      */
@@ -77,10 +88,10 @@ public class UserProvision {
     public UserInfo getMasqueradeUser(String googleId) {
         UserInfo userInfo = new UserInfo(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = usersLogic.isInstructorInAnyCourse(googleId)
-                || instructorsLogic.isInstructorInAnyCourse(googleId);
-        userInfo.isStudent = usersLogic.isInstructorInAnyCourse(googleId)
-                || studentsLogic.isStudentInAnyCourse(googleId);
+        UserRoleCache.Roles roles = UserRoleCache.getRoles(googleId,
+                this::isInstructorInAnyCourse, this::isStudentInAnyCourse);
+        userInfo.isInstructor = roles.isInstructor();
+        userInfo.isStudent = roles.isStudent();
         userInfo.isMaintainer = Config.APP_MAINTAINERS.contains(googleId);
         return userInfo;
     }
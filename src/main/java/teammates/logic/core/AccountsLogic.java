@@ -14,6 +14,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InstructorUpdateException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.sqlentity.Account;
 
@@ -116,6 +117,7 @@ public final class AccountsLogic {
         if (sqlAccountsDb.getAccountByGoogleId(googleId) == null) {
             createStudentAccount(student);
         }
+        UserRoleCache.invalidate(googleId);
 
         return student;
     }
@@ -160,6 +162,7 @@ public final class AccountsLogic {
                             .withGoogleId(student.getGoogleId())
                             .build());
         }
+        UserRoleCache.invalidate(googleId);
 
         return instructor;
     }
@@ -26,6 +26,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.AccountRequestsDb;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CoursesDb;
@@ -84,6 +85,9 @@ public final class DataBundleLogic {
             throw new InvalidParametersException("Null data bundle");
         }
 
+        // the users are created directly, so their cached roles are not invalidated one by one
+        UserRoleCache.invalidateAll();
+
         Collection<AccountAttributes> accounts = dataBundle.accounts.values();
         Collection<AccountRequestAttributes> accountRequests = dataBundle.accountRequests.values();
         Collection<CourseAttributes> courses = dataBundle.courses.values();
@@ -368,6 +372,7 @@ public final class DataBundleLogic {
      * Removes the items in the data bundle from the database.
      */
     public void removeDataBundle(DataBundle dataBundle) {
+        UserRoleCache.invalidateAll();
 
         // Questions, responses and deadline extensions will be deleted automatically.
         // We don't attempt to delete them again, to save time.
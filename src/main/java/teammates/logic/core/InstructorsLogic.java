@@ -18,6 +18,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.InstructorsDb;
 
 /**
@@ -85,6 +86,7 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRoleCache.invalidate(instructorToAdd.getGoogleId());
         return instructorsDb.createEntity(instructorToAdd);
     }
 
@@ -308,6 +310,8 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        // the Google IDs of the deleted instructors are not known
+        UserRoleCache.invalidateAll();
     }
 
     /**
@@ -323,6 +327,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        UserRoleCache.invalidate(instructorAttributes.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -359,6 +364,10 @@ public final class InstructorsLogic {
      * Resets the associated googleId of an instructor.
      */
     public void resetInstructorGoogleId(String originalEmail, String courseId) throws EntityDoesNotExistException {
+        InstructorAttributes instructor = getInstructorForEmail(courseId, originalEmail);
+        if (instructor != null) {
+            UserRoleCache.invalidate(instructor.getGoogleId());
+        }
         try {
             instructorsDb.updateInstructorByEmail(
                     InstructorAttributes.updateOptionsWithEmailBuilder(courseId, originalEmail)
@@ -16,6 +16,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -66,6 +67,7 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRoleCache.invalidate(studentData.getGoogleId());
         return studentsDb.createEntity(studentData);
     }
 
@@ -270,6 +272,10 @@ public final class StudentsLogic {
      */
     public void resetStudentGoogleId(String originalEmail, String courseId)
             throws EntityDoesNotExistException {
+        StudentAttributes student = getStudentForEmail(courseId, originalEmail);
+        if (student != null) {
+            UserRoleCache.invalidate(student.getGoogleId());
+        }
         try {
             updateStudentCascade(
                     StudentAttributes.updateOptionsBuilder(courseId, originalEmail)
@@ -445,6 +451,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        UserRoleCache.invalidate(student.getGoogleId());
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -473,6 +480,8 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        // the Google IDs of the deleted students are not known
+        UserRoleCache.invalidateAll();
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
 
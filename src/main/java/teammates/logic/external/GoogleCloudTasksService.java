@@ -3,15 +3,19 @@ package teammates.logic.external;
 import java.io.IOException;
 import java.time.Instant;
 
+import com.google.api.gax.rpc.AlreadyExistsException;
+import com.google.api.gax.rpc.ApiException;
 import com.google.cloud.tasks.v2.AppEngineHttpRequest;
 import com.google.cloud.tasks.v2.AppEngineRouting;
 import com.google.cloud.tasks.v2.CloudTasksClient;
 import com.google.cloud.tasks.v2.HttpMethod;
 import com.google.cloud.tasks.v2.QueueName;
 import com.google.cloud.tasks.v2.Task;
+import com.google.cloud.tasks.v2.TaskName;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
 
+import teammates.common.exception.TaskQueueException;
 import teammates.common.util.AppUrl;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -28,6 +32,26 @@ public class GoogleCloudTasksService implements TaskQueueService {
 
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
+        try {
+            createTask(task, countdownTime);
+        } catch (IOException e) {
+            log.severe("Cannot create Cloud Tasks client", e);
+        }
+    }
+
+    @Override
+    public void addDeferredTaskOrFail(TaskWrapper task, long countdownTime) {
+        try {
+            createTask(task, countdownTime);
+        } catch (AlreadyExistsException e) {
+            // the task has been added by an earlier attempt
+            log.info("Task " + task.getTaskName() + " has already been added to " + task.getQueueName());
+        } catch (IOException | ApiException e) {
+            throw new TaskQueueException("Cannot add task to " + task.getQueueName(), e);
+        }
+    }
+
+    private void createTask(TaskWrapper task, long countdownTime) throws IOException {
         try (CloudTasksClient client = CloudTasksClient.create()) {
             String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
 
@@ -52,6 +76,10 @@ public class GoogleCloudTasksService implements TaskQueueService {
             }
 
             Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
+            if (task.getTaskName() != null) {
+                taskBuilder.setName(TaskName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName(),
+                        task.getTaskName()).toString());
+            }
             if (countdownTime > 0) {
                 taskBuilder.setScheduleTime(
                         Timestamp.newBuilder()
@@ -59,8 +87,6 @@ public class GoogleCloudTasksService implements TaskQueueService {
             }
 
             client.createTask(queuePath, taskBuilder.build());
-        } catch (IOException e) {
-            log.severe("Cannot create Cloud Tasks client", e);
         }
     }
 
@@ -15,6 +15,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
 
+import teammates.common.exception.TaskQueueException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
@@ -30,6 +31,24 @@ public class LocalTaskQueueService implements TaskQueueService {
 
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
+        try {
+            executeTask(task);
+        } catch (IOException e) {
+            log.severe("Error when executing HTTP request", e);
+        }
+    }
+
+    @Override
+    public void addDeferredTaskOrFail(TaskWrapper task, long countdownTime) {
+        // task names are not tracked in dev server, i.e. a named task which is added again is executed again
+        try {
+            executeTask(task);
+        } catch (IOException e) {
+            throw new TaskQueueException("Error when executing HTTP request", e);
+        }
+    }
+
+    private void executeTask(TaskWrapper task) throws IOException {
         // In dev server, task queues are either not active (i.e. they will not be executed even if queued)
         // or they will be executed immediately without going through any kind of "queue"
 
@@ -50,8 +69,6 @@ public class LocalTaskQueueService implements TaskQueueService {
 
         try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
             httpClient.execute(post);
-        } catch (IOException e) {
-            log.severe("Error when executing HTTP request", e);
         }
     }
 
@@ -1,5 +1,6 @@
 package teammates.logic.external;
 
+import teammates.common.exception.TaskQueueException;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -15,4 +16,17 @@ public interface TaskQueueService {
      */
     void addDeferredTask(TaskWrapper task, long countdownTime);
 
+    /**
+     * Adds the given task, to be run after the specified time, to the specified queue,
+     * failing instead of only logging the error if the task cannot be added.
+     *
+     * <p>A named task is added at most once to its queue: adding it again, e.g. when retrying an operation
+     * which failed partway, is ignored.
+     *
+     * @param task the task object containing the details of task to be added
+     * @param countdownTime the time delay for the task to be executed
+     * @throws TaskQueueException if the task cannot be added
+     */
+    void addDeferredTaskOrFail(TaskWrapper task, long countdownTime);
+
 }
@@ -4,8 +4,13 @@ import java.io.File;
 import java.time.zone.ZoneRulesProvider;
 
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.webapp.WebAppContext;
 
 import teammates.common.util.Config;
@@ -22,6 +27,9 @@ public final class Application {
 
     private static final Logger log = Logger.getLogger();
 
+    /** Responses smaller than this (in bytes) are not worth the overhead of compressing. */
+    private static final int MIN_GZIP_SIZE = 1024;
+
     private Application() {
         // prevent initialization
     }
@@ -30,7 +38,10 @@ public final class Application {
     public static void main(String[] args) throws Exception {
         System.setProperty("org.eclipse.jetty.LEVEL", "INFO");
 
-        Server server = new Server(Config.getPort());
+        Server server = new Server(createThreadPool());
+        ServerConnector connector = new ServerConnector(server, Config.JETTY_ACCEPTORS, Config.JETTY_SELECTORS);
+        connector.setPort(Config.getPort());
+        server.addConnector(connector);
 
         WebAppContext webapp = new WebAppContext();
         webapp.setContextPath("/");
@@ -73,7 +84,13 @@ public final class Application {
             }
         };
 
-        server.setHandler(webapp);
+        // API responses such as session results can be large, and compress well as they are JSON
+        GzipHandler gzipHandler = new GzipHandler();
+        gzipHandler.setMinGzipSize(MIN_GZIP_SIZE);
+        gzipHandler.setIncludedMethods("GET", "POST", "PUT");
+        gzipHandler.setHandler(webapp);
+
+        server.setHandler(gzipHandler);
         server.setStopAtShutdown(true);
         server.addEventListener(customLifeCycleListener);
 
@@ -84,4 +101,35 @@ public final class Application {
         server.join();
     }
 
+    /**
+     * Creates the thread pool executing the requests as configured in build.properties.
+     *
+     * <p>Per-request state such as {@link teammates.common.util.RequestTracer} and the current Hibernate session
+     * is kept in thread locals. This works for both platform and virtual threads as a request is executed on
+     * one thread from start to end, and the state is set up again (or cleared) for each request.
+     */
+    private static QueuedThreadPool createThreadPool() {
+        int maxThreads = Config.JETTY_THREADPOOL_MAX_THREADS;
+        int minThreads = Math.min(Config.JETTY_THREADPOOL_MIN_THREADS, maxThreads);
+        int queueCapacity = Config.JETTY_THREADPOOL_QUEUE_CAPACITY;
+
+        // With a bounded queue, jobs offered when the queue is full are rejected by the pool,
+        // which closes the connection instead of letting requests pile up while waiting for a thread.
+        BlockingArrayQueue<Runnable> queue = queueCapacity > 0
+                ? new BlockingArrayQueue<>(queueCapacity)
+                : new BlockingArrayQueue<>(minThreads, minThreads);
+        QueuedThreadPool threadPool =
+                new QueuedThreadPool(maxThreads, minThreads, Config.JETTY_THREADPOOL_IDLE_TIMEOUT, queue);
+        threadPool.setName("request");
+
+        if (Config.JETTY_THREADPOOL_VIRTUAL_THREADS) {
+            if (VirtualThreads.areSupported()) {
+                threadPool.setUseVirtualThreads(true);
+            } else {
+                log.warning("Virtual threads are not supported by the current JVM; using platform threads instead.");
+            }
+        }
+        return threadPool;
+    }
+
 }
@@ -1,6 +1,7 @@
 package teammates.sqllogic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,6 +16,8 @@ import teammates.common.datatransfer.NotificationStyle;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.datatransfer.SqlDataBundle;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -23,11 +26,13 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.sqllogic.core.AccountRequestsLogic;
 import teammates.sqllogic.core.AccountsLogic;
 import teammates.sqllogic.core.CoursesLogic;
 import teammates.sqllogic.core.DataBundleLogic;
 import teammates.sqllogic.core.DeadlineExtensionsLogic;
+import teammates.sqllogic.core.EnrollmentJobsLogic;
 import teammates.sqllogic.core.FeedbackQuestionsLogic;
 import teammates.sqllogic.core.FeedbackResponseCommentsLogic;
 import teammates.sqllogic.core.FeedbackResponsesLogic;
@@ -40,6 +45,7 @@ import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.DeadlineExtension;
+import teammates.storage.sqlentity.EnrollmentJob;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
@@ -68,6 +74,7 @@ public class Logic {
     final AccountRequestsLogic accountRequestLogic = AccountRequestsLogic.inst();
     final CoursesLogic coursesLogic = CoursesLogic.inst();
     final DeadlineExtensionsLogic deadlineExtensionsLogic = DeadlineExtensionsLogic.inst();
+    final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
     final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
     final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
@@ -628,6 +635,15 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets all feedback sessions of the given courses, except those that are soft-deleted.
+     */
+    public List<FeedbackSession> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        assert courseIds != null;
+
+        return feedbackSessionsLogic.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Creates a new feedback question.
      *
@@ -1035,6 +1051,13 @@ public class Logic {
         return usersLogic.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Gets the students of the course with any of the given emails.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> emails) {
+        return usersLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -1368,6 +1391,20 @@ public class Logic {
                 feedbackSession, courseId, userEmail, questionId, sectionName, fetchType);
     }
 
+    /**
+     * Gets the statistics of the responses to a question which are visible to an instructor.
+     *
+     * @see FeedbackResponsesLogic#getQuestionStatistics(FeedbackQuestion, Instructor, String, FeedbackResultFetchType)
+     */
+    public FeedbackResponseStatistics getQuestionStatistics(FeedbackQuestion question, Instructor instructor,
+            @Nullable String sectionName, FeedbackResultFetchType fetchType) {
+        assert question != null;
+        assert instructor != null;
+        assert fetchType != null;
+
+        return feedbackResponsesLogic.getQuestionStatistics(question, instructor, sectionName, fetchType);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1665,6 +1702,67 @@ public class Logic {
         usersLogic.validateSectionsAndTeams(studentList, courseId);
     }
 
+    /**
+     * Enrolls students into a course, creating the students who are not in the course
+     * and updating the students who are.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * * The students have been validated with {@link #validateSectionsAndTeams(List, String)}.
+     *
+     * @see UsersLogic#enrollStudents(Course, List)
+     */
+    public StudentEnrollmentResult enrollStudents(Course course, List<Student> studentsToEnroll) {
+        assert course != null;
+        assert studentsToEnroll != null;
+
+        return usersLogic.enrollStudents(course, studentsToEnroll);
+    }
+
+    /**
+     * Creates an enrollment job, unless the course already has an enrollment job in progress for the same request.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the enrollment job in progress, i.e. either the given job or the existing one
+     */
+    public EnrollmentJob createEnrollmentJobIfAbsent(EnrollmentJob enrollmentJob) {
+        assert enrollmentJob != null;
+
+        return enrollmentJobsLogic.createEnrollmentJobIfAbsent(enrollmentJob);
+    }
+
+    /**
+     * Gets an enrollment job by its {@code id}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if the enrollment job does not exist
+     */
+    public EnrollmentJob getEnrollmentJob(UUID id) {
+        assert id != null;
+
+        return enrollmentJobsLogic.getEnrollmentJob(id);
+    }
+
+    /**
+     * Records the result of enrolling the next {@code numProcessed} students of the enrollment job.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see EnrollmentJobsLogic#recordEnrollmentJobProgress(EnrollmentJob, int, StudentEnrollmentResult)
+     */
+    public void recordEnrollmentJobProgress(EnrollmentJob enrollmentJob, int numProcessed,
+            StudentEnrollmentResult result) {
+        assert enrollmentJob != null;
+        assert result != null;
+
+        enrollmentJobsLogic.recordEnrollmentJobProgress(enrollmentJob, numProcessed, result);
+    }
+
     /**
      * Updates a feedback question by {@code FeedbackQuestionUpdateRequest}.
      *
@@ -1684,6 +1782,22 @@ public class Logic {
         return feedbackQuestionsLogic.updateFeedbackQuestionCascade(questionId, updateRequest);
     }
 
+    /**
+     * Marks the automated email of {@code emailType} as sent for the feedback session,
+     * if it has not been marked as sent yet.
+     *
+     * <p>Preconditions:</p>
+     * All parameters are non-null.
+     *
+     * @return true if the email is newly marked as sent, false if it has already been sent
+     */
+    public boolean markFeedbackSessionAutomatedEmailSent(FeedbackSession session, EmailType emailType) {
+        assert session != null;
+        assert emailType != null;
+
+        return feedbackSessionsLogic.markAutomatedEmailSent(session, emailType);
+    }
+
     /**
      * Returns a list of feedback sessions that need an "Open" email to be sent.
      */
@@ -1707,6 +1821,15 @@ public class Logic {
         usersLogic.putStudentDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     *
+     * @see UsersLogic#putStudentDocuments(List)
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        usersLogic.putStudentDocuments(students);
+    }
+
     /**
      * This is used by admin to search account requests in the whole system.
      *
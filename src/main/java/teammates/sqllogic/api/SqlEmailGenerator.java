@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -88,31 +89,11 @@ public final class SqlEmailGenerator {
         Course course = session.getCourse();
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionForUserTypeToAnswer(session, true);
-        List<Instructor> instructorsToNotify = isEmailNeededForStudents
-                ? usersLogic.getCoOwnersForCourse(course.getId())
-                : new ArrayList<>();
-        List<Student> students = isEmailNeededForStudents
-                ? usersLogic.getStudentsForCourse(course.getId())
-                : new ArrayList<>();
-        List<Instructor> instructors = isEmailNeededForInstructors
-                ? usersLogic.getInstructorsForCourse(course.getId())
-                : new ArrayList<>();
 
+        Set<UUID> userIdsToSkip = new HashSet<>();
         if (emailType == EmailType.FEEDBACK_CLOSING_SOON) {
-            List<DeadlineExtension> deadlines = session.getDeadlineExtensions();
-            Set<UUID> userIds = deadlines.stream()
-                    .map(d -> d.getUser().getId())
-                    .collect(Collectors.toSet());
-
-            // student.
-            students = students.stream()
-                    .filter(x -> !userIds.contains(x.getId()))
-                    .collect(Collectors.toList());
-
-            // instructor.
-            instructors = instructors.stream()
-                    .filter(x -> !userIds.contains(x.getId()))
-                    .collect(Collectors.toList());
+            // users with deadline extensions are not closing soon
+            session.getDeadlineExtensions().forEach(d -> userIdsToSkip.add(d.getUser().getId()));
         }
 
         String status = emailType == EmailType.FEEDBACK_OPENED
@@ -123,8 +104,8 @@ public final class SqlEmailGenerator {
                 ? EmailTemplates.USER_FEEDBACK_SESSION_OPENED.replace("${status}", status)
                 : EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", status);
 
-        return generateFeedbackSessionEmailBases(course, session, students, instructors, instructorsToNotify, template,
-                emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
+        return generateFeedbackSessionEmailBasesForCourse(course, session, isEmailNeededForStudents,
+                isEmailNeededForInstructors, userIdsToSkip, template, emailType, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
     }
 
     /**
@@ -604,18 +585,19 @@ public final class SqlEmailGenerator {
             FeedbackSession session, EmailType emailType) {
         boolean isEmailNeededForStudents = fsLogic.isFeedbackSessionViewableToUserType(session, false);
         boolean isEmailNeededForInstructors = fsLogic.isFeedbackSessionViewableToUserType(session, true);
-        List<Instructor> instructorsToNotify = isEmailNeededForStudents
-                ? usersLogic.getCoOwnersForCourse(session.getCourse().getId())
-                : new ArrayList<>();
-        List<Student> students = isEmailNeededForStudents
-                ? usersLogic.getStudentsForCourse(session.getCourse().getId())
-                : new ArrayList<>();
-        List<Instructor> instructors = isEmailNeededForInstructors
-                ? usersLogic.getInstructorsForCourse(session.getCourse().getId())
-                : new ArrayList<>();
 
-        return generateFeedbackSessionPublishedOrUnpublishedEmails(
-                session, students, instructors, instructorsToNotify, emailType);
+        String template;
+        String action;
+        if (emailType == EmailType.FEEDBACK_PUBLISHED) {
+            template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+            action = FEEDBACK_ACTION_VIEW;
+        } else {
+            template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+            action = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
+        }
+
+        return generateFeedbackSessionEmailBasesForCourse(session.getCourse(), session, isEmailNeededForStudents,
+                isEmailNeededForInstructors, new HashSet<>(), template, emailType, action);
     }
 
     private List<EmailWrapper> generateFeedbackSessionPublishedOrUnpublishedEmails(
@@ -754,6 +736,43 @@ public final class SqlEmailGenerator {
         return emails;
     }
 
+    /**
+     * Generates the emails for all students and/or instructors of the course, going through the course
+     * in batches instead of loading the whole roster at once.
+     */
+    private List<EmailWrapper> generateFeedbackSessionEmailBasesForCourse(
+            Course course, FeedbackSession session, boolean isEmailNeededForStudents,
+            boolean isEmailNeededForInstructors, Set<UUID> userIdsToSkip, String template,
+            EmailType type, String feedbackAction) {
+        String studentAdditionalContactInformation = getAdditionalContactInformationFragment(course, false);
+        String instructorAdditionalContactInformation = getAdditionalContactInformationFragment(course, true);
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        if (isEmailNeededForStudents) {
+            usersLogic.forEachStudentInCourse(course.getId(), student -> {
+                if (!userIdsToSkip.contains(student.getId())) {
+                    emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
+                            template, type, feedbackAction, studentAdditionalContactInformation));
+                }
+            });
+        }
+        if (isEmailNeededForInstructors) {
+            usersLogic.forEachInstructorInCourse(course.getId(), instructor -> {
+                if (!userIdsToSkip.contains(instructor.getId())) {
+                    emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                            template, type, feedbackAction, instructorAdditionalContactInformation));
+                }
+            });
+        }
+        if (isEmailNeededForStudents) {
+            for (Instructor instructor : usersLogic.getCoOwnersForCourse(course.getId())) {
+                emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
+                        template, type, feedbackAction, studentAdditionalContactInformation));
+            }
+        }
+        return emails;
+    }
+
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
             Course course, FeedbackSession session, Student student, String template,
             EmailType type, String feedbackAction, String additionalContactInformation) {
@@ -9,6 +9,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
@@ -214,6 +215,7 @@ public final class AccountsLogic {
         if (student.getAccount() == null) {
             student.setAccount(account);
         }
+        UserRoleCache.invalidate(googleId);
 
         return student;
     }
@@ -243,6 +245,7 @@ public final class AccountsLogic {
             student.setAccount(account);
             usersLogic.updateStudentCascade(student);
         }
+        UserRoleCache.invalidate(googleId);
 
         return instructor;
     }
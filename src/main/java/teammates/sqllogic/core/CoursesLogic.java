@@ -128,10 +128,7 @@ public final class CoursesLogic {
             fsLogic.deleteFeedbackSessionCascade(feedbackSession.getName(), courseId);
         });
         coursesDb.deleteSectionsByCourseId(courseId);
-        List<Instructor> instructors = usersLogic.getInstructorsForCourse(courseId);
-        instructors.forEach(instructor -> {
-            usersLogic.deleteInstructorCascade(courseId, instructor.getEmail());
-        });
+        usersLogic.deleteInstructorsInCourseCascade(courseId);
 
         coursesDb.deleteCourse(course);
     }
@@ -12,6 +12,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.AccountRequest;
 import teammates.storage.sqlentity.Course;
@@ -267,6 +268,8 @@ public final class DataBundleLogic {
             throw new InvalidParametersException("Null data bundle");
         }
 
+        // the users are created directly, so their cached roles are not invalidated one by one
+        UserRoleCache.invalidateAll();
         linkEntities(dataBundle);
 
         Collection<Account> accounts = dataBundle.accounts.values();
@@ -356,6 +359,7 @@ public final class DataBundleLogic {
             throw new InvalidParametersException("Data bundle is null");
         }
 
+        UserRoleCache.invalidateAll();
         linkEntities(dataBundle);
         dataBundle.courses.values().forEach(course -> {
             coursesLogic.deleteCourseCascade(course.getId());
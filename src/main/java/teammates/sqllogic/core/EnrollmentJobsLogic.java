@@ -0,0 +1,115 @@
+package teammates.sqllogic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.storage.sqlapi.EnrollmentJobsDb;
+import teammates.storage.sqlentity.EnrollmentJob;
+
+/**
+ * Handles operations related to enrollment jobs.
+ *
+ * @see EnrollmentJob
+ * @see EnrollmentJobsDb
+ */
+public final class EnrollmentJobsLogic {
+
+    /**
+     * The time after which a job in progress which has not progressed is considered stalled.
+     * This is much longer than the task queue takes to give up retrying a chunk of the job.
+     */
+    static final Duration STALLED_JOB_TIMEOUT = Duration.ofHours(1);
+
+    private static final EnrollmentJobsLogic instance = new EnrollmentJobsLogic();
+
+    private EnrollmentJobsDb enrollmentJobsDb;
+
+    private EnrollmentJobsLogic() {
+        // prevent initialization
+    }
+
+    public static EnrollmentJobsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies(EnrollmentJobsDb enrollmentJobsDb) {
+        this.enrollmentJobsDb = enrollmentJobsDb;
+    }
+
+    /**
+     * Creates an enrollment job, unless the course already has an enrollment job in progress for the same request.
+     *
+     * <p>A job in progress which has stalled is marked as failed instead, so that the request can be resubmitted.
+     *
+     * @return the enrollment job in progress, i.e. either the given job or the existing one
+     */
+    public EnrollmentJob createEnrollmentJobIfAbsent(EnrollmentJob enrollmentJob) {
+        EnrollmentJob existingJob =
+                enrollmentJobsDb.getInProgressEnrollmentJob(enrollmentJob.getCourseId(), enrollmentJob.getRequestHash());
+        if (existingJob != null && !failIfStalled(existingJob)) {
+            return existingJob;
+        }
+        return enrollmentJobsDb.createEnrollmentJobIfAbsent(enrollmentJob);
+    }
+
+    /**
+     * Gets an enrollment job by its {@code id}.
+     *
+     * <p>A job in progress which has stalled is marked as failed.
+     *
+     * @return null if the enrollment job does not exist
+     */
+    public EnrollmentJob getEnrollmentJob(UUID id) {
+        EnrollmentJob enrollmentJob = enrollmentJobsDb.getEnrollmentJob(id);
+        if (enrollmentJob != null) {
+            failIfStalled(enrollmentJob);
+        }
+        return enrollmentJob;
+    }
+
+    /**
+     * Marks the enrollment job as failed if it is in progress but has not progressed for {@link #STALLED_JOB_TIMEOUT},
+     * i.e. its task has failed more times than the task queue retries it.
+     *
+     * @return true if the job is marked as failed
+     */
+    private boolean failIfStalled(EnrollmentJob enrollmentJob) {
+        if (!enrollmentJob.isInProgress() || enrollmentJob.getUpdatedAt() == null
+                || enrollmentJob.getUpdatedAt().isAfter(Instant.now().minus(STALLED_JOB_TIMEOUT))) {
+            return false;
+        }
+        enrollmentJob.setStatus(EnrollmentJobStatus.FAILED);
+        return true;
+    }
+
+    /**
+     * Records the result of enrolling the next {@code numProcessed} students of the enrollment job.
+     *
+     * <p>The job is completed once all of its students have been processed.
+     */
+    public void recordEnrollmentJobProgress(EnrollmentJob enrollmentJob, int numProcessed,
+            StudentEnrollmentResult result) {
+        assert numProcessed > 0;
+        assert enrollmentJob.getProcessedCount() + numProcessed <= enrollmentJob.getTotalCount();
+
+        enrollmentJob.setProcessedCount(enrollmentJob.getProcessedCount() + numProcessed);
+        enrollmentJob.setEnrolledCount(enrollmentJob.getEnrolledCount() + result.getEnrolledStudents().size());
+
+        if (!result.getFailedEmailsToErrorMessages().isEmpty()) {
+            // a new map is set so that the change is detected when the job is flushed
+            Map<String, String> failedEnrollments = new LinkedHashMap<>(enrollmentJob.getFailedEnrollments());
+            failedEnrollments.putAll(result.getFailedEmailsToErrorMessages());
+            enrollmentJob.setFailedEnrollments(failedEnrollments);
+        }
+
+        if (enrollmentJob.getProcessedCount() == enrollmentJob.getTotalCount()) {
+            enrollmentJob.setStatus(EnrollmentJobStatus.COMPLETED);
+        }
+    }
+
+}
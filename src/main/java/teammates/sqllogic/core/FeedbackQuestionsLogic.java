@@ -12,8 +12,12 @@ import java.util.stream.Collectors;
 
 import jakarta.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.GiverRecipientMatrix;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackMsqQuestionDetails;
@@ -28,7 +32,9 @@ import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.storage.sqlentity.questions.FeedbackMcqQuestion;
 import teammates.storage.sqlentity.questions.FeedbackMsqQuestion;
 import teammates.ui.request.FeedbackQuestionUpdateRequest;
@@ -45,7 +51,14 @@ public final class FeedbackQuestionsLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int GENERATED_OPTIONS_CACHE_SIZE = 1000;
+
     private static final FeedbackQuestionsLogic instance = new FeedbackQuestionsLogic();
+
+    private final Cache<String, GeneratedOptions> generatedOptionsCache = CacheBuilder.newBuilder()
+            .maximumSize(GENERATED_OPTIONS_CACHE_SIZE)
+            .build();
+
     private FeedbackQuestionsDb fqDb;
     private CoursesLogic coursesLogic;
     private FeedbackResponsesLogic frLogic;
@@ -333,21 +346,18 @@ public final class FeedbackQuestionsLogic {
         case STUDENTS:
         case STUDENTS_IN_SAME_SECTION:
         case STUDENTS_EXCLUDING_SELF:
-            List<Student> studentList;
+            String studentsSectionName = null;
             if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
                 Student student =
                         usersLogic.getStudentForEmail(courseId, emailOfEntityDoingQuestion);
-                studentList = usersLogic.getStudentsForSection(student.getSectionName(), courseId);
-            } else {
-                studentList = usersLogic.getStudentsForCourse(courseId);
+                studentsSectionName = student.getSectionName();
             }
+            GeneratedOptions studentOptions = getGeneratedStudentOptions(courseId, studentsSectionName);
 
             if (generateOptionsFor == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF) {
-                studentList.removeIf(studentInList -> studentInList.getEmail().equals(emailOfEntityDoingQuestion));
-            }
-
-            for (Student student : studentList) {
-                optionList.add(student.getName() + " (" + student.getTeam().getName() + ")");
+                optionList.addAll(studentOptions.getOptionsExcluding(emailOfEntityDoingQuestion));
+            } else {
+                optionList.addAll(studentOptions.getOptions());
             }
 
             optionList.sort(null);
@@ -355,27 +365,18 @@ public final class FeedbackQuestionsLogic {
         case TEAMS:
         case TEAMS_IN_SAME_SECTION:
         case TEAMS_EXCLUDING_SELF:
-            List<String> teams;
+            Section teamsSection = null;
             if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
                 Student student =
                         usersLogic.getStudentForEmail(courseId, emailOfEntityDoingQuestion);
-                teams = coursesLogic.getTeamsForSection(student.getSection())
-                                    .stream()
-                                    .map(team -> { return team.getName(); })
-                                    .collect(Collectors.toList());
-            } else {
-                teams = coursesLogic.getTeamsForCourse(courseId)
-                                    .stream()
-                                    .map(team -> { return team.getName(); })
-                                    .collect(Collectors.toList());
+                teamsSection = student.getSection();
             }
+            GeneratedOptions teamOptions = getGeneratedTeamOptions(courseId, teamsSection);
 
             if (generateOptionsFor == FeedbackParticipantType.TEAMS_EXCLUDING_SELF) {
-                teams.removeIf(team -> team.equals(teamOfEntityDoingQuestion));
-            }
-
-            for (String team : teams) {
-                optionList.add(team);
+                optionList.addAll(teamOptions.getOptionsExcluding(teamOfEntityDoingQuestion));
+            } else {
+                optionList.addAll(teamOptions.getOptions());
             }
 
             optionList.sort(null);
@@ -423,6 +424,67 @@ public final class FeedbackQuestionsLogic {
         }
     }
 
+    /**
+     * Gets the "name (team)" options generated for the students in a course or a section of a course.
+     *
+     * <p>The options are cached against the roster version of the course, so they are only rebuilt
+     * after the roster has changed.
+     */
+    private GeneratedOptions getGeneratedStudentOptions(String courseId, @Nullable String sectionName) {
+        String cacheKey = getGeneratedOptionsCacheKey(FeedbackParticipantType.STUDENTS, courseId, sectionName);
+        GeneratedOptions generatedOptions = generatedOptionsCache.getIfPresent(cacheKey);
+        if (generatedOptions != null) {
+            return generatedOptions;
+        }
+
+        List<Student> studentList = sectionName == null
+                ? usersLogic.getStudentsForCourse(courseId)
+                : usersLogic.getStudentsForSection(sectionName, courseId);
+
+        Map<String, String> optionsByIdentifier = new HashMap<>();
+        for (Student student : studentList) {
+            optionsByIdentifier.put(student.getEmail(), student.getName() + " (" + student.getTeam().getName() + ")");
+        }
+
+        generatedOptions = new GeneratedOptions(optionsByIdentifier);
+        generatedOptionsCache.put(cacheKey, generatedOptions);
+        return generatedOptions;
+    }
+
+    /**
+     * Gets the team name options generated for the teams in a course or a section of a course.
+     *
+     * <p>The options are cached against the roster version of the course, so they are only rebuilt
+     * after the roster has changed.
+     */
+    private GeneratedOptions getGeneratedTeamOptions(String courseId, @Nullable Section section) {
+        String cacheKey = getGeneratedOptionsCacheKey(FeedbackParticipantType.TEAMS, courseId,
+                section == null ? null : section.getName());
+        GeneratedOptions generatedOptions = generatedOptionsCache.getIfPresent(cacheKey);
+        if (generatedOptions != null) {
+            return generatedOptions;
+        }
+
+        List<Team> teams = section == null
+                ? coursesLogic.getTeamsForCourse(courseId)
+                : coursesLogic.getTeamsForSection(section);
+
+        Map<String, String> optionsByIdentifier = new HashMap<>();
+        for (Team team : teams) {
+            optionsByIdentifier.put(team.getName(), team.getName());
+        }
+
+        generatedOptions = new GeneratedOptions(optionsByIdentifier);
+        generatedOptionsCache.put(cacheKey, generatedOptions);
+        return generatedOptions;
+    }
+
+    private String getGeneratedOptionsCacheKey(
+            FeedbackParticipantType generateOptionsFor, String courseId, @Nullable String sectionName) {
+        return String.join("|", generateOptionsFor.name(), courseId,
+                sectionName == null ? "" : sectionName, usersLogic.getRosterVersion(courseId));
+    }
+
     /**
      * Gets the recipients of a feedback question including recipient section and team.
      *
@@ -628,7 +690,11 @@ public final class FeedbackQuestionsLogic {
      * <p>Silently fail if question does not exist.
      */
     public void deleteFeedbackQuestionCascade(UUID feedbackQuestionId) {
+        FeedbackQuestion question = fqDb.getFeedbackQuestion(feedbackQuestionId);
         fqDb.deleteFeedbackQuestion(feedbackQuestionId);
+        if (question != null) {
+            frLogic.refreshSubmissionsForSession(question.getFeedbackSession());
+        }
     }
 
     /**
@@ -661,25 +727,33 @@ public final class FeedbackQuestionsLogic {
      */
     public Map<String, Set<String>> buildCompleteGiverRecipientMap(
             FeedbackQuestion relatedQuestion, SqlCourseRoster courseRoster) {
-        Map<String, Set<String>> completeGiverRecipientMap = new HashMap<>();
+        return buildGiverRecipientMatrix(relatedQuestion, courseRoster).toGiverRecipientMap();
+    }
+
+    /**
+     * Builds the matrix of all possible giver-recipient pairs for a {@code relatedQuestion}.
+     *
+     * @param relatedQuestion The question to be considered
+     * @param courseRoster the roster in the course
+     * @return the giver-recipient matrix of the question.
+     */
+    public GiverRecipientMatrix buildGiverRecipientMatrix(
+            FeedbackQuestion relatedQuestion, SqlCourseRoster courseRoster) {
+        GiverRecipientMatrix giverRecipientMatrix = new GiverRecipientMatrix();
 
         List<String> possibleGiverEmails = getPossibleGivers(relatedQuestion, courseRoster);
         for (String possibleGiverEmail : possibleGiverEmails) {
             switch (relatedQuestion.getGiverType()) {
             case STUDENTS:
                 Student studentGiver = courseRoster.getStudentForEmail(possibleGiverEmail);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
+                giverRecipientMatrix.setRecipientsForGiver(possibleGiverEmail,
+                        getRecipientsOfQuestion(relatedQuestion, null, studentGiver, courseRoster).keySet());
                 break;
             case TEAMS:
                 Student oneTeamMember =
                         courseRoster.getTeamToMembersTable().get(possibleGiverEmail).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
+                giverRecipientMatrix.setRecipientsForGiver(possibleGiverEmail,
+                        getRecipientsOfQuestion(relatedQuestion, null, oneTeamMember, courseRoster).keySet());
                 break;
             case INSTRUCTORS:
             case SELF:
@@ -698,10 +772,8 @@ public final class FeedbackQuestionsLogic {
                             );
                 }
 
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiverEmail, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
+                giverRecipientMatrix.setRecipientsForGiver(possibleGiverEmail,
+                        getRecipientsOfQuestion(relatedQuestion, instructorGiver, null, courseRoster).keySet());
                 break;
             default:
                 log.severe("Invalid giver type specified");
@@ -709,7 +781,7 @@ public final class FeedbackQuestionsLogic {
             }
         }
 
-        return completeGiverRecipientMap;
+        return giverRecipientMatrix;
     }
 
     /**
@@ -753,4 +825,39 @@ public final class FeedbackQuestionsLogic {
         return possibleGivers;
     }
 
+    /**
+     * Options generated from the roster of a course, sorted in their natural order.
+     */
+    private static final class GeneratedOptions {
+
+        private final List<String> options;
+        private final Map<String, String> optionsByIdentifier;
+
+        GeneratedOptions(Map<String, String> optionsByIdentifier) {
+            List<String> sortedOptions = new ArrayList<>(optionsByIdentifier.values());
+            sortedOptions.sort(null);
+            this.options = Collections.unmodifiableList(sortedOptions);
+            this.optionsByIdentifier = optionsByIdentifier;
+        }
+
+        List<String> getOptions() {
+            return options;
+        }
+
+        /**
+         * Gets the options without the option generated for the participant with {@code identifier}.
+         */
+        List<String> getOptionsExcluding(@Nullable String identifier) {
+            String optionToExclude = optionsByIdentifier.get(identifier);
+            if (optionToExclude == null) {
+                return options;
+            }
+            int indexToExclude = Collections.binarySearch(options, optionToExclude);
+            List<String> remainingOptions = new ArrayList<>(options.size() - 1);
+            remainingOptions.addAll(options.subList(0, indexToExclude));
+            remainingOptions.addAll(options.subList(indexToExclude + 1, options.size()));
+            return remainingOptions;
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package teammates.sqllogic.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -15,6 +16,7 @@ import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.ui.request.FeedbackResponseCommentUpdateRequest;
 
@@ -136,16 +138,12 @@ public final class FeedbackResponseCommentsLogic {
     }
 
     /**
-     * Updates all feedback response comments with new sections.
+     * Updates the sections of all comments in a course on the responses given by or to users
+     * who move to the same new section.
      */
-    public void updateFeedbackResponseCommentsForResponse(FeedbackResponse response)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseComment> comments = getFeedbackResponseCommentForResponse(response.getId());
-        for (FeedbackResponseComment comment : comments) {
-            comment.setGiverSection(response.getGiverSection());
-            comment.setRecipientSection(response.getRecipientSection());
-            frcDb.updateFeedbackResponseComment(comment);
-        }
+    public void updateFeedbackResponseCommentsSections(String courseId, Collection<String> emails, Section newSection) {
+        frcDb.updateGiverSectionOfFeedbackResponseComments(courseId, emails, newSection);
+        frcDb.updateRecipientSectionOfFeedbackResponseComments(courseId, emails, newSection);
     }
 
     /**
@@ -1,9 +1,13 @@
 package teammates.sqllogic.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,16 +15,22 @@ import java.util.UUID;
 
 import jakarta.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.GiverRecipientMatrix;
 import teammates.common.datatransfer.SqlCourseRoster;
 import teammates.common.datatransfer.SqlSessionResultsBundle;
-import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
+import teammates.common.datatransfer.questions.FeedbackResponseStatisticsAggregator;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.RequestTracer;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
 import teammates.storage.sqlentity.Course;
@@ -43,8 +53,19 @@ import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
  */
 public final class FeedbackResponsesLogic {
 
+    private static final int STATISTICS_CACHE_SIZE = 1000;
+
+    private static final Duration STATISTICS_CACHE_EXPIRY = Duration.ofMinutes(10);
+
     private static final FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
+    // cached entries are checked against the version of the responses before use, and are invalidated
+    // once the transaction changing the responses has ended, so that uncommitted changes are never cached
+    private final Cache<UUID, CachedStatistics> statisticsCache = CacheBuilder.newBuilder()
+            .maximumSize(STATISTICS_CACHE_SIZE)
+            .expireAfterWrite(STATISTICS_CACHE_EXPIRY)
+            .build();
+
     private FeedbackResponsesDb frDb;
     private UsersLogic usersLogic;
     private FeedbackQuestionsLogic fqLogic;
@@ -137,6 +158,40 @@ public final class FeedbackResponsesLogic {
         return frDb.hasResponsesFromGiverInSession(giver, feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets a set of giver identifiers that has at least one response under a feedback session.
+     *
+     * <p>The givers are read from the submissions recorded for the session.
+     */
+    public Set<String> getGiverSetThatAnsweredFeedbackSession(UUID feedbackSessionId) {
+        return frDb.getSubmittedGiversForSession(feedbackSessionId);
+    }
+
+    /**
+     * Gets the number of givers that have at least one response under a feedback session.
+     *
+     * @see #getGiverSetThatAnsweredFeedbackSession(UUID)
+     */
+    public int getNumGiversThatAnsweredFeedbackSession(UUID feedbackSessionId) {
+        return (int) frDb.getNumSubmittedGiversForSession(feedbackSessionId);
+    }
+
+    /**
+     * Moves the recorded submissions of {@code oldGiver} in the given sessions to {@code newGiver},
+     * after responses in the sessions have been changed to be given by {@code newGiver}.
+     */
+    public void updateSubmissionsForChangingGiver(Collection<UUID> feedbackSessionIds, String oldGiver, String newGiver) {
+        frDb.updateSubmissionsForChangingGiver(feedbackSessionIds, oldGiver, newGiver);
+    }
+
+    /**
+     * Brings the recorded submissions of a feedback session in line with its responses,
+     * e.g. after responses are deleted together with their question.
+     */
+    public void refreshSubmissionsForSession(FeedbackSession feedbackSession) {
+        frDb.refreshSubmissionsForSession(feedbackSession);
+    }
+
     /**
      * Creates a feedback response.
      * @return the created response
@@ -145,7 +200,9 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponse createFeedbackResponse(FeedbackResponse feedbackResponse)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createFeedbackResponse(feedbackResponse);
+        FeedbackResponse createdResponse = frDb.createFeedbackResponse(feedbackResponse);
+        invalidateCachedStatistics(createdResponse.getFeedbackQuestion().getId());
+        return createdResponse;
     }
 
     /**
@@ -216,6 +273,8 @@ public final class FeedbackResponsesLogic {
             frcLogic.updateFeedbackResponseComment(oldResponseComment);
         }
 
+        invalidateCachedStatistics(newResponse.getFeedbackQuestion().getId());
+
         return newResponse;
     }
 
@@ -225,6 +284,7 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponsesAndCommentsCascade(FeedbackResponse feedbackResponse) {
         frDb.deleteFeedbackResponse(feedbackResponse);
+        invalidateCachedStatistics(feedbackResponse.getFeedbackQuestion().getId());
     }
 
     /**
@@ -233,6 +293,7 @@ public final class FeedbackResponsesLogic {
     public void deleteFeedbackResponsesForQuestionCascade(UUID feedbackQuestionId) {
         // delete all responses, comments of the question
         frDb.deleteFeedbackResponsesForQuestionCascade(feedbackQuestionId);
+        invalidateCachedStatistics(feedbackQuestionId);
     }
 
     /**
@@ -256,19 +317,17 @@ public final class FeedbackResponsesLogic {
      * handled by Hibernate using the OnDelete annotation.
      */
     public void deleteFeedbackResponsesForCourseCascade(String courseId, String entityEmail) {
-        // delete responses from the entity
-        List<FeedbackResponse> responsesFromStudent =
-                getFeedbackResponsesFromGiverForCourse(courseId, entityEmail);
-        for (FeedbackResponse response : responsesFromStudent) {
-            frDb.deleteFeedbackResponse(response);
-        }
+        deleteFeedbackResponsesForCourseCascade(courseId, List.of(entityEmail));
+    }
 
-        // delete responses to the entity
-        List<FeedbackResponse> responsesToStudent =
-                getFeedbackResponsesForRecipientForCourse(courseId, entityEmail);
-        for (FeedbackResponse response : responsesToStudent) {
-            frDb.deleteFeedbackResponse(response);
-        }
+    /**
+     * Deletes all feedback responses in a course involving any of the given entities, cascade their comments.
+     *
+     * <p>The responses are deleted in bulk, so the ranks of 'rank recipient question' responses are not made
+     * consistent here; callers should do so once after deleting all the entities.
+     */
+    public void deleteFeedbackResponsesForCourseCascade(String courseId, Collection<String> entityIdentifiers) {
+        frDb.deleteFeedbackResponsesForCourseCascade(courseId, entityIdentifiers);
     }
 
     /**
@@ -321,228 +380,212 @@ public final class FeedbackResponsesLogic {
     }
 
     /**
-     * Updates the relevant responses before the deletion of a student.
-     * This method takes care of the following:
-     * Making existing responses of 'rank recipient question' consistent.
+     * Gets the statistics of the responses to a question which are visible to an instructor.
+     *
+     * <p>The statistics are aggregated once per question and cached against the version of its responses.
+     * Responses created, updated or deleted afterwards through this class are applied to the cached
+     * statistics incrementally, so the responses are not loaded again.
+     *
+     * @param sectionName if not null, only responses of the section are included
+     * @param fetchType whether the section applies to the giver, the recipient, or both
      */
-    public void updateRankRecipientQuestionResponsesAfterDeletingStudent(String courseId) {
-        List<FeedbackQuestion> filteredQuestions =
-                fqLogic.getFeedbackQuestionForCourseWithType(courseId, FeedbackQuestionType.RANK_RECIPIENTS);
-        SqlCourseRoster roster = new SqlCourseRoster(
-                usersLogic.getStudentsForCourse(courseId),
-                usersLogic.getInstructorsForCourse(courseId));
+    public FeedbackResponseStatistics getQuestionStatistics(FeedbackQuestion question, Instructor instructor,
+            @Nullable String sectionName, FeedbackResultFetchType fetchType) {
+        if (!isResponseOfFeedbackQuestionVisibleToInstructor(question)) {
+            return new FeedbackResponseStatistics();
+        }
+
+        String feedbackSessionName = question.getFeedbackSession().getName();
+        // instructors restricted in the giver's section may still view responses to GENERAL
+        boolean isRecipientSectionChecked = question.getRecipientType() != FeedbackParticipantType.NONE;
+
+        return getStatisticsAggregator(question).getStatistics((giverSection, recipientSection) ->
+                isSectionSelected(giverSection, recipientSection, sectionName, fetchType)
+                        && instructor.isAllowedForPrivilege(giverSection, feedbackSessionName,
+                                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)
+                        && (!isRecipientSectionChecked
+                                || instructor.isAllowedForPrivilege(recipientSection, feedbackSessionName,
+                                        Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)));
+    }
+
+    private boolean isSectionSelected(String giverSection, String recipientSection,
+            @Nullable String sectionName, FeedbackResultFetchType fetchType) {
+        if (sectionName == null) {
+            return true;
+        }
+        return (!fetchType.shouldFetchByGiver() || giverSection.equals(sectionName))
+                && (!fetchType.shouldFetchByReceiver() || recipientSection.equals(sectionName));
+    }
+
+    private FeedbackResponseStatisticsAggregator getStatisticsAggregator(FeedbackQuestion question) {
+        String version = getStatisticsVersion(question);
+        CachedStatistics cachedStatistics = statisticsCache.getIfPresent(question.getId());
+        if (cachedStatistics != null && cachedStatistics.version.equals(version)) {
+            return cachedStatistics.aggregator;
+        }
 
-        for (FeedbackQuestion question : filteredQuestions) {
-            makeRankRecipientQuestionResponsesConsistent(question, roster);
+        FeedbackResponseStatisticsAggregator aggregator =
+                new FeedbackResponseStatisticsAggregator(question.getQuestionDetailsCopy());
+        for (FeedbackResponse response : frDb.getResponsesWithSectionsForQuestion(question.getId())) {
+            putResponse(aggregator, response);
         }
+        statisticsCache.put(question.getId(), new CachedStatistics(version, aggregator));
+        return aggregator;
     }
 
     /**
-     * Makes the rankings by one giver in the response to a 'rank recipient question' consistent, after deleting a
-     * student.
-     * <p>
-     *     Fails silently if the question type is not 'rank recipient question'.
-     * </p>
+     * Invalidates the cached statistics of a question whose responses are changed in the current transaction.
+     *
+     * <p>The statistics are invalidated only once the transaction has ended. Until then, other requests keep
+     * the statistics of the committed responses, and cannot cache statistics which are rolled back later.
      */
-    private void makeRankRecipientQuestionResponsesConsistent(
-            FeedbackQuestion question, SqlCourseRoster roster) {
-        assert question.getQuestionDetailsCopy().getQuestionType()
-                .equals(FeedbackQuestionType.RANK_RECIPIENTS);
-
-        FeedbackParticipantType giverType = question.getGiverType();
-        List<FeedbackResponse> responses = new ArrayList<>();
-        int numberOfRecipients = 0;
+    private void invalidateCachedStatistics(UUID feedbackQuestionId) {
+        HibernateUtil.runAfterTransaction(() -> statisticsCache.invalidate(feedbackQuestionId));
+    }
 
-        switch (giverType) {
-        case INSTRUCTORS:
-        case SELF:
-            for (Instructor instructor : roster.getInstructors()) {
-                numberOfRecipients =
-                        fqLogic.getRecipientsOfQuestion(question, instructor, null, roster).size();
-                responses = getFeedbackResponsesFromGiverForQuestion(question.getId(), instructor.getEmail());
-            }
-            break;
-        case TEAMS:
-        case TEAMS_IN_SAME_SECTION:
-            Student firstMemberOfTeam;
-            String team;
-            Map<String, List<Student>> teams = roster.getTeamToMembersTable();
-            for (Map.Entry<String, List<Student>> entry : teams.entrySet()) {
-                team = entry.getKey();
-                firstMemberOfTeam = entry.getValue().get(0);
-                numberOfRecipients =
-                        fqLogic.getRecipientsOfQuestion(question, null, firstMemberOfTeam, roster).size();
-                responses =
-                        getFeedbackResponsesFromTeamForQuestion(
-                                question.getId(), question.getCourseId(), team, roster);
-            }
-            break;
-        default:
-            for (Student student : roster.getStudents()) {
-                numberOfRecipients =
-                        fqLogic.getRecipientsOfQuestion(question, null, student, roster).size();
-                responses = getFeedbackResponsesFromGiverForQuestion(question.getId(), student.getEmail());
-            }
-            break;
-        }
+    private String getStatisticsVersion(FeedbackQuestion question) {
+        // question details such as rubric weights affect the statistics as well
+        return question.getUpdatedAt() + "|" + frDb.getResponsesVersionForQuestion(question.getId());
+    }
 
-        updateFeedbackResponsesForRankRecipientQuestions(responses, numberOfRecipients);
+    private void putResponse(FeedbackResponseStatisticsAggregator aggregator, FeedbackResponse response) {
+        aggregator.putResponse(response.getId(), response.getGiver(), response.getGiverSectionName(),
+                response.getRecipient(), response.getRecipientSectionName(), response.getFeedbackResponseDetailsCopy());
     }
 
     /**
-     * Updates responses for 'rank recipient question', such that the ranks in the responses are consistent.
-     * @param responses responses to one feedback question, from one giver
-     * @param maxRank the maximum rank in each response
+     * Gets the responses to 'rank recipient questions' in a course whose ranks may become inconsistent
+     * when the given recipients are deleted.
+     *
+     * <p>This is to be called before the recipients are deleted, and the responses are then made consistent with
+     * {@link #makeRankRecipientResponsesConsistent(String, List)} after the recipients are deleted.
      */
-    private void updateFeedbackResponsesForRankRecipientQuestions(
-            List<FeedbackResponse> responses, int maxRank) {
-        if (maxRank <= 0) {
-            return;
-        }
-
-        FeedbackRankRecipientsResponseDetails responseDetails;
-        boolean[] isRankUsed;
-        boolean isUpdateNeeded = false;
-        int answer;
-        int maxUnusedRank = 0;
+    public List<FeedbackRankRecipientsResponse> getRankRecipientResponsesAffectedByRecipients(
+            String courseId, Collection<String> recipients) {
+        return frDb.getRankRecipientResponsesAffectedByRecipientsForCourse(courseId, recipients);
+    }
 
-        // Checks whether update is needed.
-        for (FeedbackResponse response : responses) {
-            if (!(response instanceof FeedbackRankRecipientsResponse)) {
-                continue;
-            }
-            responseDetails = ((FeedbackRankRecipientsResponse) response).getAnswer();
-            answer = responseDetails.getAnswer();
-            if (answer > maxRank) {
-                isUpdateNeeded = true;
-                break;
-            }
+    /**
+     * Makes the ranks in responses to 'rank recipient questions' consistent, after some of the recipients are deleted.
+     *
+     * <p>The responses are grouped by question and giver, and the ranks in each group are compacted in a single pass.
+     * Only the responses whose ranks change are updated.
+     *
+     * @param responses the responses obtained by {@link #getRankRecipientResponsesAffectedByRecipients}
+     */
+    public void makeRankRecipientResponsesConsistent(
+            String courseId, List<FeedbackRankRecipientsResponse> responses) {
+        Map<UUID, Map<String, List<FeedbackRankRecipientsResponse>>> questionToGiverToResponses = new LinkedHashMap<>();
+        for (FeedbackRankRecipientsResponse response : responses) {
+            questionToGiverToResponses
+                    .computeIfAbsent(response.getFeedbackQuestion().getId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(response.getGiver(), giver -> new ArrayList<>())
+                    .add(response);
         }
 
-        // Updates repeatedly, until all responses are consistent.
-        while (isUpdateNeeded) {
-            isUpdateNeeded = false; // will be set to true again once invalid rank appears after update
-            isRankUsed = new boolean[maxRank];
-
-            // Obtains the largest unused rank.
-            for (FeedbackResponse response : responses) {
-                if (!(response instanceof FeedbackRankRecipientsResponse)) {
-                    continue;
+        // the roster is only needed to count the recipients of givers whose ranks may be inconsistent
+        SqlCourseRoster roster = null;
+        for (Map<String, List<FeedbackRankRecipientsResponse>> giverToResponses : questionToGiverToResponses.values()) {
+            for (List<FeedbackRankRecipientsResponse> responsesFromGiver : giverToResponses.values()) {
+                int[] ranks = new int[responsesFromGiver.size()];
+                int maxAnswer = 0;
+                for (int i = 0; i < ranks.length; i++) {
+                    ranks[i] = responsesFromGiver.get(i).getAnswer().getAnswer();
+                    maxAnswer = Math.max(maxAnswer, ranks[i]);
                 }
-                responseDetails = ((FeedbackRankRecipientsResponse) response).getAnswer();
-                answer = responseDetails.getAnswer();
-                if (answer <= maxRank) {
-                    isRankUsed[answer - 1] = true;
+                if (maxAnswer <= ranks.length) {
+                    // a giver has at least as many recipients as responses, so the ranks are consistent
+                    continue;
                 }
-            }
-            for (int i = maxRank - 1; i >= 0; i--) {
-                if (!isRankUsed[i]) {
-                    maxUnusedRank = i + 1;
-                    break;
+
+                if (roster == null) {
+                    roster = new SqlCourseRoster(
+                            usersLogic.getStudentsForCourse(courseId),
+                            usersLogic.getInstructorsForCourse(courseId));
                 }
-            }
-            assert maxUnusedRank > 0; // if update is needed, there must be at least one unused rank
-
-            for (FeedbackResponse response : responses) {
-                if (response instanceof FeedbackRankRecipientsResponse) {
-                    responseDetails = ((FeedbackRankRecipientsResponse) response).getAnswer();
-                    answer = responseDetails.getAnswer();
-                    if (answer > maxUnusedRank) {
-                        answer--;
-                        responseDetails.setAnswer(answer);
-                    }
-                    if (answer > maxRank) {
-                        isUpdateNeeded = true; // sets the flag to true if the updated rank is still invalid
+                FeedbackRankRecipientsResponse firstResponse = responsesFromGiver.get(0);
+                int maxRank = getNumberOfRecipientsOfGiver(
+                        firstResponse.getFeedbackQuestion(), firstResponse.getGiver(), roster);
+                int[] consistentRanks = FeedbackRankRecipientsResponseDetails.getConsistentRanks(ranks, maxRank);
+
+                for (int i = 0; i < ranks.length; i++) {
+                    if (consistentRanks[i] != ranks[i]) {
+                        FeedbackRankRecipientsResponse response = responsesFromGiver.get(i);
+                        FeedbackRankRecipientsResponseDetails responseDetails =
+                                (FeedbackRankRecipientsResponseDetails) response.getFeedbackResponseDetailsCopy();
+                        responseDetails.setAnswer(consistentRanks[i]);
+                        response.setAnswer(responseDetails);
                     }
                 }
             }
         }
     }
 
+    private int getNumberOfRecipientsOfGiver(FeedbackQuestion question, String giver, SqlCourseRoster roster) {
+        switch (question.getGiverType()) {
+        case INSTRUCTORS:
+        case SELF:
+            Instructor instructor = roster.getInstructorForEmail(giver);
+            return instructor == null
+                    ? 0 : fqLogic.getRecipientsOfQuestion(question, instructor, null, roster).size();
+        case TEAMS:
+        case TEAMS_IN_SAME_SECTION:
+            List<Student> teamMembers = roster.getTeamToMembersTable().get(giver);
+            Student teamMember = teamMembers == null ? roster.getStudentForEmail(giver) : teamMembers.get(0);
+            return teamMember == null
+                    ? 0 : fqLogic.getRecipientsOfQuestion(question, null, teamMember, roster).size();
+        default:
+            Student student = roster.getStudentForEmail(giver);
+            return student == null
+                    ? 0 : fqLogic.getRecipientsOfQuestion(question, null, student, roster).size();
+        }
+    }
+
     /**
-     * Updates responses for a student when his team changes.
+     * Updates responses for students whose teams change.
      * <p>
-     *     This is done by deleting responses that are no longer relevant to him in his new team.
+     *     This is done by deleting responses that are no longer relevant to them in their new teams,
+     *     and the responses of the old teams which are left without students.
      * </p>
+     *
+     * <p>The responses of all the students are deleted in bulk across the course.
+     *
+     * @param emails the emails of the students who change team
+     * @param oldTeams the teams the students leave
      */
-    public void updateFeedbackResponsesForChangingTeam(Course course, String newEmail, Team newTeam, Team oldTeam)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestion qn;
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
+    public void updateFeedbackResponsesForChangingTeam(Course course, Collection<String> emails, Collection<Team> oldTeams) {
+        frDb.deleteFeedbackResponsesForChangingTeamCascade(course.getId(), emails);
 
-        for (FeedbackResponse response : responsesFromUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
+        Set<String> emptyOldTeams = new HashSet<>();
+        for (Team oldTeam : oldTeams) {
+            if (usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId()).isEmpty()) {
+                emptyOldTeams.add(oldTeam.getName());
             }
         }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            qn = fqLogic.getFeedbackQuestion(response.getId());
-            if (qn != null && qn.getGiverType() == FeedbackParticipantType.TEAMS) {
-                deleteFeedbackResponsesForQuestionCascade(qn.getId());
-            }
-        }
-
-        boolean isOldTeamEmpty = usersLogic.getStudentsForTeam(oldTeam.getName(), course.getId()).isEmpty();
-
-        if (isOldTeamEmpty) {
-            deleteFeedbackResponsesForCourseCascade(course.getId(), oldTeam.getName());
-        }
+        deleteFeedbackResponsesForCourseCascade(course.getId(), emptyOldTeams);
     }
 
     /**
-     * Updates responses for a student when his section changes.
+     * Updates responses for students who move to the same new section.
+     *
+     * <p>The responses and their comments are updated in bulk across the course.
      */
-    public void updateFeedbackResponsesForChangingSection(Course course, String newEmail, Section newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiverSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(course.getId(), newEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipientSection(newSection);
-            frDb.updateFeedbackResponse(response);
-            frcLogic.updateFeedbackResponseCommentsForResponse(response);
-        }
+    public void updateFeedbackResponsesForChangingSection(Course course, Collection<String> emails, Section newSection) {
+        frDb.updateGiverSectionOfFeedbackResponsesForCourse(course.getId(), emails, newSection);
+        frDb.updateRecipientSectionOfFeedbackResponsesForCourse(course.getId(), emails, newSection);
+        frcLogic.updateFeedbackResponseCommentsSections(course.getId(), emails, newSection);
     }
 
     /**
      * Updates a student's email in their given/received responses.
+     *
+     * <p>The responses are updated in bulk across the course.
      */
     public void updateFeedbackResponsesForChangingEmail(String courseId, String oldEmail, String newEmail)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        List<FeedbackResponse> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
-
-        for (FeedbackResponse response : responsesFromUser) {
-            response.setGiver(newEmail);
-            frDb.updateFeedbackResponse(response);
-        }
-
-        List<FeedbackResponse> responsesToUser =
-                getFeedbackResponsesForRecipientForCourse(courseId, oldEmail);
-
-        for (FeedbackResponse response : responsesToUser) {
-            response.setRecipient(newEmail);
-            frDb.updateFeedbackResponse(response);
-        }
+        frDb.updateGiverOfFeedbackResponsesForCourse(courseId, oldEmail, newEmail);
+        frDb.updateRecipientOfFeedbackResponsesForCourse(courseId, oldEmail, newEmail);
     }
 
     private List<FeedbackQuestion> getQuestionsForSession(
@@ -790,40 +833,55 @@ public final class FeedbackResponsesLogic {
             List<FeedbackResponse> existingResponses, SqlCourseRoster courseRoster, @Nullable String sectionName) {
 
         // first get all possible giver recipient pairs
-        Map<FeedbackQuestion, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
+        Map<FeedbackQuestion, GiverRecipientMatrix> questionGiverRecipientMatrix = new LinkedHashMap<>();
+        Map<FeedbackQuestion, BitSet[]> questionMissingRecipientIndexes = new HashMap<>();
         for (FeedbackQuestion feedbackQuestion : relatedQuestions) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion,
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion, new HashMap<>());
+            if (!feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
+                continue;
             }
+            GiverRecipientMatrix giverRecipientMatrix = fqLogic.buildGiverRecipientMatrix(feedbackQuestion, courseRoster);
+            BitSet[] missingRecipientIndexes = new BitSet[giverRecipientMatrix.getNumberOfGivers()];
+            for (int i = 0; i < missingRecipientIndexes.length; i++) {
+                missingRecipientIndexes[i] = giverRecipientMatrix.copyRecipientIndexesForGiver(i);
+            }
+            questionGiverRecipientMatrix.put(feedbackQuestion, giverRecipientMatrix);
+            questionMissingRecipientIndexes.put(feedbackQuestion, missingRecipientIndexes);
         }
 
         // remove the existing responses in those pairs
         for (FeedbackResponse existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestion());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
+            GiverRecipientMatrix currGiverRecipientMatrix =
+                    questionGiverRecipientMatrix.get(existingResponse.getFeedbackQuestion());
+            if (currGiverRecipientMatrix == null) {
                 continue;
             }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
+            int giverIndex = currGiverRecipientMatrix.getGiverIndex(existingResponse.getGiver());
+            int recipientIndex = currGiverRecipientMatrix.getRecipientIndex(existingResponse.getRecipient());
+            if (giverIndex < 0 || recipientIndex < 0) {
+                continue;
+            }
+            questionMissingRecipientIndexes.get(existingResponse.getFeedbackQuestion())[giverIndex]
+                    .clear(recipientIndex);
         }
 
         List<FeedbackResponse> missingResponses = new ArrayList<>();
         // build dummy responses
-        for (Map.Entry<FeedbackQuestion, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestion correspondingQuestion = currGiverRecipientMapEntry.getKey();
+        for (Map.Entry<FeedbackQuestion, GiverRecipientMatrix> currGiverRecipientMatrixEntry
+                : questionGiverRecipientMatrix.entrySet()) {
+            FeedbackQuestion correspondingQuestion = currGiverRecipientMatrixEntry.getKey();
+            GiverRecipientMatrix currGiverRecipientMatrix = currGiverRecipientMatrixEntry.getValue();
+            BitSet[] missingRecipientIndexes = questionMissingRecipientIndexes.get(correspondingQuestion);
 
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
+            for (int giverIndex = 0; giverIndex < missingRecipientIndexes.length; giverIndex++) {
                 // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
+                String giverIdentifier = currGiverRecipientMatrix.getGiver(giverIndex);
                 SqlCourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
+                BitSet missingRecipients = missingRecipientIndexes[giverIndex];
 
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
+                for (int recipientIndex = missingRecipients.nextSetBit(0); recipientIndex >= 0;
+                        recipientIndex = missingRecipients.nextSetBit(recipientIndex + 1)) {
                     // recipient
+                    String recipientIdentifier = currGiverRecipientMatrix.getRecipient(recipientIndex);
                     SqlCourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
 
                     // skip responses not in current section
@@ -1159,4 +1217,17 @@ public final class FeedbackResponsesLogic {
         return isCommentVisibleToInstructor && isGiverVisibleToInstructor;
     }
 
+    /**
+     * The statistics of the responses to a question, with the version of the responses they are up to date with.
+     */
+    private static final class CachedStatistics {
+        private final FeedbackResponseStatisticsAggregator aggregator;
+        private final String version;
+
+        private CachedStatistics(String version, FeedbackResponseStatisticsAggregator aggregator) {
+            this.version = version;
+            this.aggregator = aggregator;
+        }
+    }
+
 }
@@ -2,7 +2,7 @@ package teammates.sqllogic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -13,6 +13,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.EmailType;
 import teammates.common.util.Logger;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlapi.FeedbackSessionsDb;
@@ -106,6 +107,15 @@ public final class FeedbackSessionsLogic {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets all feedback sessions of the given courses, except those that are soft-deleted.
+     *
+     * <p>The sessions of all the courses are fetched in a single query, together with their deadline extensions.
+     */
+    public List<FeedbackSession> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return fsDb.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Gets all feedback sessions of a course started after time, except those that are soft-deleted.
      */
@@ -134,13 +144,7 @@ public final class FeedbackSessionsLogic {
                 .filter(instructor -> coursesLogic.getCourse(instructor.getCourseId()).getDeletedAt() == null)
                 .collect(Collectors.toList());
 
-        List<FeedbackSession> fsList = new ArrayList<>();
-
-        for (Instructor instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(getFeedbackSessionsForCourse(instructor.getCourseId()));
-        }
-
-        return fsList;
+        return getFeedbackSessionsForCourses(getCourseIds(courseNotDeletedInstructorList));
     }
 
     /**
@@ -155,13 +159,14 @@ public final class FeedbackSessionsLogic {
                 .filter(instructor -> coursesLogic.getCourse(instructor.getCourseId()).getDeletedAt() == null)
                 .collect(Collectors.toList());
 
-        List<FeedbackSession> fsList = new ArrayList<>();
-
-        for (Instructor instructor : courseNotDeletedInstructorList) {
-            fsList.addAll(fsDb.getSoftDeletedFeedbackSessionsForCourse(instructor.getCourseId()));
-        }
+        return fsDb.getSoftDeletedFeedbackSessionsForCourses(getCourseIds(courseNotDeletedInstructorList));
+    }
 
-        return fsList;
+    private static List<String> getCourseIds(List<Instructor> instructors) {
+        return instructors.stream()
+                .map(Instructor::getCourseId)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     /**
@@ -180,15 +185,7 @@ public final class FeedbackSessionsLogic {
 
         FeedbackSession feedbackSession = fsDb.getFeedbackSession(feedbackSessionName, courseId);
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(feedbackSession).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(feedbackSession.getId());
     }
 
     /**
@@ -197,15 +194,7 @@ public final class FeedbackSessionsLogic {
     public Set<String> getGiverSetThatAnsweredFeedbackSession(FeedbackSession fs) {
         assert fs != null;
 
-        Set<String> giverSet = new HashSet<>();
-
-        fqLogic.getFeedbackQuestionsForSession(fs).forEach(question -> {
-            frLogic.getFeedbackResponsesForQuestion(question.getId()).forEach(response -> {
-                giverSet.add(response.getGiver());
-            });
-        });
-
-        return giverSet;
+        return frLogic.getGiverSetThatAnsweredFeedbackSession(fs.getId());
     }
 
     /**
@@ -387,6 +376,17 @@ public final class FeedbackSessionsLogic {
         return !fqLogic.hasFeedbackQuestionsForInstructors(session.getFeedbackQuestions(), session.isCreator(userEmail));
     }
 
+    /**
+     * Marks the automated email of {@code emailType} as sent for the feedback session,
+     * if it has not been marked as sent yet.
+     *
+     * @return true if the email is newly marked as sent, false if it has already been sent
+     * @see FeedbackSessionsDb#markAutomatedEmailSent(FeedbackSession, EmailType)
+     */
+    public boolean markAutomatedEmailSent(FeedbackSession session, EmailType emailType) {
+        return fsDb.markAutomatedEmailSent(session, emailType);
+    }
+
     /**
      * After an update to feedback session's fields, may need to adjust the email status of the session.
      * @param session recently updated session.
@@ -529,9 +529,10 @@ public final class FeedbackSessionsLogic {
      */
     public int getExpectedTotalSubmission(FeedbackSession fs) {
         int expectedTotal = 0;
+        String courseId = fs.getCourse().getId();
         List<FeedbackQuestion> questions = fqLogic.getFeedbackQuestionsForSession(fs);
         if (fqLogic.hasFeedbackQuestionsForStudents(questions)) {
-            expectedTotal += usersLogic.getStudentsForCourse(fs.getCourse().getId()).size();
+            expectedTotal += (int) usersLogic.getNumStudentsForCourse(courseId);
         }
 
         // Pre-flight check to ensure there are questions for instructors.
@@ -539,20 +540,17 @@ public final class FeedbackSessionsLogic {
             return expectedTotal;
         }
 
-        List<Instructor> instructors = usersLogic.getInstructorsForCourse(fs.getCourse().getId());
-        if (instructors.isEmpty()) {
+        long numInstructors = usersLogic.getNumInstructorsForCourse(courseId);
+        if (numInstructors == 0) {
             return expectedTotal;
         }
 
         // Check presence of questions for instructors.
-        if (fqLogic.hasFeedbackQuestionsForInstructors(fqLogic.getFeedbackQuestionsForSession(fs), false)) {
-            expectedTotal += instructors.size();
-        } else {
+        if (fqLogic.hasFeedbackQuestionsForInstructors(questions, false)) {
+            expectedTotal += (int) numInstructors;
+        } else if (usersLogic.getInstructorForEmail(courseId, fs.getCreatorEmail()) != null) {
             // No questions for instructors. There must be questions for creator.
-            List<Instructor> creators = instructors.stream()
-                    .filter(instructor -> fs.getCreatorEmail().equals(instructor.getEmail()))
-                    .collect(Collectors.toList());
-            expectedTotal += creators.size();
+            expectedTotal += 1;
         }
         return expectedTotal;
     }
@@ -561,6 +559,6 @@ public final class FeedbackSessionsLogic {
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSession fs) {
-        return getGiverSetThatAnsweredFeedbackSession(fs).size();
+        return frLogic.getNumGiversThatAnsweredFeedbackSession(fs.getId());
     }
 }
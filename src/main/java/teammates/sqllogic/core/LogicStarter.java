@@ -8,6 +8,7 @@ import teammates.storage.sqlapi.AccountRequestsDb;
 import teammates.storage.sqlapi.AccountsDb;
 import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlapi.DeadlineExtensionsDb;
+import teammates.storage.sqlapi.EnrollmentJobsDb;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlapi.FeedbackResponsesDb;
@@ -33,6 +34,7 @@ public class LogicStarter implements ServletContextListener {
         CoursesLogic coursesLogic = CoursesLogic.inst();
         DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
         DeadlineExtensionsLogic deadlineExtensionsLogic = DeadlineExtensionsLogic.inst();
+        EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
         FeedbackSessionLogsLogic fslLogic = FeedbackSessionLogsLogic.inst();
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
@@ -49,6 +51,7 @@ public class LogicStarter implements ServletContextListener {
                 deadlineExtensionsLogic, fsLogic, fslLogic, fqLogic, frLogic, frcLogic,
                 notificationsLogic, usersLogic);
         deadlineExtensionsLogic.initLogicDependencies(DeadlineExtensionsDb.inst(), fsLogic);
+        enrollmentJobsLogic.initLogicDependencies(EnrollmentJobsDb.inst());
         fsLogic.initLogicDependencies(FeedbackSessionsDb.inst(), coursesLogic, frLogic, fqLogic, usersLogic);
         fslLogic.initLogicDependencies(FeedbackSessionLogsDb.inst());
         frLogic.initLogicDependencies(FeedbackResponsesDb.inst(), usersLogic, fqLogic, frcLogic);
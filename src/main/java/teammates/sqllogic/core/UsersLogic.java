@@ -6,14 +6,19 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.InstructorPermissionRole;
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -22,10 +27,14 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.exception.StudentUpdateException;
 import teammates.common.util.Const;
+import teammates.common.util.HibernateUtil;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.StringHelper;
+import teammates.common.util.UserRoleCache;
 import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.Instructor;
@@ -33,6 +42,7 @@ import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
 import teammates.storage.sqlentity.Team;
 import teammates.storage.sqlentity.User;
+import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
 import teammates.storage.sqlsearch.InstructorSearchManager;
 import teammates.storage.sqlsearch.StudentSearchManager;
 import teammates.ui.request.InstructorCreateRequest;
@@ -58,6 +68,10 @@ public final class UsersLogic {
 
     private static final int MAX_KEY_REGENERATION_TRIES = 10;
 
+    private static final int USER_BATCH_SIZE = 500;
+
+    private static final int ENROLLMENT_JDBC_BATCH_SIZE = 100;
+
     private UsersDb usersDb;
 
     private AccountsLogic accountsLogic;
@@ -108,6 +122,13 @@ public final class UsersLogic {
         getStudentSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students.
+     */
+    public void putStudentDocuments(List<Student> students) throws SearchServiceException {
+        getStudentSearchManager().putDocuments(students);
+    }
+
     /**
      * Create an instructor.
      *
@@ -121,6 +142,7 @@ public final class UsersLogic {
         if (getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()) != null) {
             throw new EntityAlreadyExistsException("Instructor already exists.");
         }
+        UserRoleCache.invalidate(instructor.getGoogleId());
         return usersDb.createInstructor(instructor);
     }
 
@@ -178,11 +200,13 @@ public final class UsersLogic {
             // cascade responses
             List<FeedbackResponse> responsesFromUser =
                     feedbackResponsesLogic.getFeedbackResponsesFromGiverForCourse(courseId, originalEmail);
+            Set<UUID> sessionIdsOfChangedGivers = new HashSet<>();
             for (FeedbackResponse responseFromUser : responsesFromUser) {
                 FeedbackQuestion question = responseFromUser.getFeedbackQuestion();
                 if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                         || question.getGiverType() == FeedbackParticipantType.SELF) {
                     responseFromUser.setGiver(newEmail);
+                    sessionIdsOfChangedGivers.add(question.getFeedbackSession().getId());
                 }
             }
             List<FeedbackResponse> responsesToUser =
@@ -195,6 +219,7 @@ public final class UsersLogic {
                     responseToUser.setRecipient(newEmail);
                 }
             }
+            feedbackResponsesLogic.updateSubmissionsForChangingGiver(sessionIdsOfChangedGivers, originalEmail, newEmail);
             // cascade comments
             feedbackResponseCommentsLogic.updateFeedbackResponseCommentsEmails(courseId, originalEmail, newEmail);
         }
@@ -228,6 +253,7 @@ public final class UsersLogic {
      *                                      database.
      */
     public Student createStudent(Student student) throws InvalidParametersException, EntityAlreadyExistsException {
+        UserRoleCache.invalidate(student.getGoogleId());
         return usersDb.createStudent(student);
     }
 
@@ -290,6 +316,9 @@ public final class UsersLogic {
      * Deletes an instructor or student.
      */
     public <T extends User> void deleteUser(T user) {
+        if (user != null) {
+            UserRoleCache.invalidate(user.getGoogleId());
+        }
         usersDb.deleteUser(user);
     }
 
@@ -335,6 +364,29 @@ public final class UsersLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Applies {@code action} to every instructor of the course, in ID order.
+     *
+     * <p>Instructors are loaded {@value #USER_BATCH_SIZE} at a time and each batch is evicted from the
+     * persistence context once processed, so that bulk operations on large courses use bounded memory.
+     */
+    public void forEachInstructorInCourse(String courseId, Consumer<Instructor> action) {
+        List<Instructor> batch = usersDb.getInstructorsForCourse(courseId, null, USER_BATCH_SIZE);
+        while (!batch.isEmpty()) {
+            batch.forEach(action);
+            UUID lastId = batch.get(batch.size() - 1).getId();
+            HibernateUtil.flushAndEvictAll(batch);
+            batch = usersDb.getInstructorsForCourse(courseId, lastId, USER_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Gets the number of instructors in the course.
+     */
+    public long getNumInstructorsForCourse(String courseId) {
+        return usersDb.getNumInstructorsForCourse(courseId);
+    }
+
     /**
      * Check if the instructors with the provided emails exist in the course.
      */
@@ -389,6 +441,7 @@ public final class UsersLogic {
             instructor.setGoogleId(googleId);
         }
         usersDb.updateUser(instructor);
+        UserRoleCache.invalidate(googleId);
 
         // Update the googleId of the student entity for the instructor which was created from sample data.
         Student student = getStudentForEmail(instructor.getCourseId(), instructor.getEmail());
@@ -501,6 +554,13 @@ public final class UsersLogic {
         return usersDb.getStudentForEmail(courseId, userEmail);
     }
 
+    /**
+     * Gets the students of the course with any of the given emails.
+     */
+    public List<Student> getStudentsForEmails(String courseId, List<String> emails) {
+        return usersDb.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Check if the students with the provided emails exist in the course.
      */
@@ -540,6 +600,37 @@ public final class UsersLogic {
         return studentReturnList;
     }
 
+    /**
+     * Applies {@code action} to every student of the course, in ID order.
+     *
+     * @see #forEachInstructorInCourse(String, Consumer)
+     */
+    public void forEachStudentInCourse(String courseId, Consumer<Student> action) {
+        List<Student> batch = usersDb.getStudentsForCourse(courseId, null, USER_BATCH_SIZE);
+        while (!batch.isEmpty()) {
+            batch.forEach(action);
+            UUID lastId = batch.get(batch.size() - 1).getId();
+            HibernateUtil.flushAndEvictAll(batch);
+            batch = usersDb.getStudentsForCourse(courseId, lastId, USER_BATCH_SIZE);
+        }
+    }
+
+    /**
+     * Gets the number of students in the course.
+     */
+    public long getNumStudentsForCourse(String courseId) {
+        return usersDb.getNumStudentsForCourse(courseId);
+    }
+
+    /**
+     * Gets the version of the roster of the specified course.
+     *
+     * @see UsersDb#getRosterVersion(String)
+     */
+    public String getRosterVersion(String courseId) {
+        return usersDb.getRosterVersion(courseId);
+    }
+
     /**
      * Gets a list of unregistered students for the specified course.
      */
@@ -657,6 +748,132 @@ public final class UsersLogic {
         return usersDb.getTeamOrCreate(section, teamName);
     }
 
+    /**
+     * Enrolls students into a course.
+     *
+     * <p>Students who are not in the course are created. Students who are already in the course are updated
+     * only if their details differ, and responses are only adjusted for students who move to another team or section,
+     * in bulk for all of them once the students are updated.
+     *
+     * <p>The sections, teams and students of the course are each loaded once, and missing sections and teams
+     * are created before any student so that the inserts of each entity type are sent in JDBC batches.
+     *
+     * <p>Preconditions: the sections and teams of {@code studentsToEnroll} have been validated
+     * with {@link #validateSectionsAndTeams(List, String)}.
+     *
+     * @param studentsToEnroll the students to enroll, whose teams and sections are only used for their names
+     * @return the enrolled students and the students that cannot be enrolled
+     */
+    public StudentEnrollmentResult enrollStudents(Course course, List<Student> studentsToEnroll) {
+        String courseId = course.getId();
+        StudentEnrollmentResult result = new StudentEnrollmentResult();
+        HibernateUtil.setJdbcBatchSize(ENROLLMENT_JDBC_BATCH_SIZE);
+
+        List<Student> validStudents = new ArrayList<>();
+        for (Student student : studentsToEnroll) {
+            if (student.isValid()) {
+                validStudents.add(student);
+            } else {
+                result.addFailure(student.getEmail(), StringHelper.toString(student.getInvalidityInfo()));
+            }
+        }
+
+        Map<String, Section> sections = new HashMap<>();
+        for (Section section : usersDb.getSectionsForCourse(courseId)) {
+            sections.put(section.getName(), section);
+        }
+        for (Student student : validStudents) {
+            sections.computeIfAbsent(student.getSectionName(),
+                    sectionName -> usersDb.createSection(new Section(course, sectionName)));
+        }
+
+        Map<String, Map<String, Team>> teamsBySection = new HashMap<>();
+        for (Team team : usersDb.getTeamsForCourse(courseId)) {
+            teamsBySection.computeIfAbsent(team.getSection().getName(), k -> new HashMap<>()).put(team.getName(), team);
+        }
+        List<Team> targetTeams = new ArrayList<>();
+        for (Student student : validStudents) {
+            Section section = sections.get(student.getSectionName());
+            Team team = teamsBySection.computeIfAbsent(section.getName(), k -> new HashMap<>())
+                    .computeIfAbsent(student.getTeamName(), teamName -> usersDb.createTeam(new Team(section, teamName)));
+            targetTeams.add(team);
+        }
+
+        Map<String, Student> roster = new HashMap<>();
+        for (Student student : usersDb.getStudentsForCourse(courseId)) {
+            roster.put(student.getEmail(), student);
+        }
+
+        // the responses of students who move are adjusted for all of them at once after the loop
+        List<String> emailsOfTeamChanges = new ArrayList<>();
+        Set<Team> originalTeamsOfTeamChanges = new HashSet<>();
+        Map<Section, List<String>> emailsOfSectionChanges = new HashMap<>();
+
+        for (int i = 0; i < validStudents.size(); i++) {
+            RequestTracer.checkRemainingTime();
+            Student student = validStudents.get(i);
+            Team team = targetTeams.get(i);
+            Student existingStudent = roster.get(student.getEmail());
+
+            if (existingStudent == null) {
+                student.setTeam(team);
+                try {
+                    Student createdStudent = usersDb.createStudent(student);
+                    UserRoleCache.invalidate(createdStudent.getGoogleId());
+                    roster.put(createdStudent.getEmail(), createdStudent);
+                    result.addEnrolledStudent(createdStudent, true);
+                } catch (InvalidParametersException | EntityAlreadyExistsException e) {
+                    result.addFailure(student.getEmail(), e.getMessage());
+                }
+                continue;
+            }
+
+            Team originalTeam = existingStudent.getTeam();
+            Section originalSection = existingStudent.getSection();
+            if (Objects.equals(existingStudent.getName(), student.getName())
+                    && Objects.equals(existingStudent.getComments(), student.getComments())
+                    && team.equals(originalTeam)) {
+                // already enrolled with the same details; no write or cascade is needed
+                result.addEnrolledStudent(existingStudent, false);
+                continue;
+            }
+
+            String originalName = existingStudent.getName();
+            String originalComments = existingStudent.getComments();
+            existingStudent.setName(student.getName());
+            existingStudent.setComments(student.getComments());
+            existingStudent.setTeam(team);
+            try {
+                usersDb.checkBeforeUpdateStudent(existingStudent);
+            } catch (InvalidParametersException | EntityDoesNotExistException | EntityAlreadyExistsException e) {
+                existingStudent.setName(originalName);
+                existingStudent.setComments(originalComments);
+                existingStudent.setTeam(originalTeam);
+                result.addFailure(student.getEmail(), e.getMessage());
+                continue;
+            }
+
+            if (isTeamChanged(originalTeam, team)) {
+                emailsOfTeamChanges.add(existingStudent.getEmail());
+                originalTeamsOfTeamChanges.add(originalTeam);
+            }
+            if (isSectionChanged(originalSection, team.getSection())) {
+                emailsOfSectionChanges.computeIfAbsent(team.getSection(), k -> new ArrayList<>())
+                        .add(existingStudent.getEmail());
+            }
+            result.addEnrolledStudent(existingStudent, true);
+        }
+
+        if (!emailsOfTeamChanges.isEmpty()) {
+            feedbackResponsesLogic.updateFeedbackResponsesForChangingTeam(
+                    course, emailsOfTeamChanges, originalTeamsOfTeamChanges);
+        }
+        emailsOfSectionChanges.forEach((section, emails) ->
+                feedbackResponsesLogic.updateFeedbackResponsesForChangingSection(course, emails, section));
+
+        return result;
+    }
+
     /**
      * Checks if there are any other registered instructors that can modify instructors.
      * If there are none, the instructor currently being edited will be granted the privilege
@@ -698,31 +915,75 @@ public final class UsersLogic {
             return;
         }
 
-        feedbackResponsesLogic
-                .deleteFeedbackResponsesForCourseCascade(courseId, studentEmail);
-
+        List<String> removedRecipients = new ArrayList<>();
+        removedRecipients.add(studentEmail);
         if (usersDb.getStudentCountForTeam(student.getTeamName(), student.getCourseId()) == 1) {
-            // the student is the only student in the team, delete responses related to the team
-            feedbackResponsesLogic
-                    .deleteFeedbackResponsesForCourseCascade(
-                            student.getCourse().getId(), student.getTeamName());
+            // the student is the only student in the team, responses related to the team are deleted as well
+            removedRecipients.add(student.getTeamName());
         }
 
+        // ranks given by others are made consistent once the student, the team and their responses are deleted
+        List<FeedbackRankRecipientsResponse> affectedRankResponses =
+                feedbackResponsesLogic.getRankRecipientResponsesAffectedByRecipients(courseId, removedRecipients);
+
+        feedbackResponsesLogic.deleteFeedbackResponsesForCourseCascade(courseId, removedRecipients);
+
         deadlineExtensionsLogic.deleteDeadlineExtensionsForUser(student);
         deleteUser(student);
-        feedbackResponsesLogic.updateRankRecipientQuestionResponsesAfterDeletingStudent(courseId);
+        feedbackResponsesLogic.makeRankRecipientResponsesConsistent(courseId, affectedRankResponses);
     }
 
     /**
      * Deletes students in the course cascade their associated responses, deadline extensions, and comments.
+     *
+     * <p>The students are deleted in batches, each with a constant number of statements.
+     * As all teams of the course become empty, responses involving the teams are deleted as well.
+     * No ranks need to be made consistent, as every student and team which can be ranked is deleted.
      */
     public void deleteStudentsInCourseCascade(String courseId) {
-        List<Student> studentsInCourse = getStudentsForCourse(courseId);
-
-        for (Student student : studentsInCourse) {
+        Set<String> teamNames = new HashSet<>();
+        List<Student> batch = usersDb.getStudentsForCourse(courseId, null, USER_BATCH_SIZE);
+        while (!batch.isEmpty()) {
             RequestTracer.checkRemainingTime();
-            deleteStudentCascade(courseId, student.getEmail());
+            batch.forEach(student -> teamNames.add(student.getTeamName()));
+            UUID lastId = batch.get(batch.size() - 1).getId();
+            deleteUsersInCourseCascade(courseId, batch);
+
+            batch = usersDb.getStudentsForCourse(courseId, lastId, USER_BATCH_SIZE);
         }
+
+        if (teamNames.isEmpty()) {
+            return;
+        }
+        feedbackResponsesLogic.deleteFeedbackResponsesForCourseCascade(courseId, teamNames);
+    }
+
+    /**
+     * Deletes all instructors in the course cascade their associated responses, deadline extensions, and comments.
+     */
+    public void deleteInstructorsInCourseCascade(String courseId) {
+        deleteUsersInCourseCascade(courseId, usersDb.getInstructorsForCourse(courseId));
+    }
+
+    private void deleteUsersInCourseCascade(String courseId, List<? extends User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = new ArrayList<>();
+        List<UUID> ids = new ArrayList<>();
+        for (User user : users) {
+            emails.add(user.getEmail());
+            ids.add(user.getId());
+            UserRoleCache.invalidate(user.getGoogleId());
+        }
+
+        feedbackResponsesLogic.deleteFeedbackResponsesForCourseCascade(courseId, emails);
+
+        // The deadline extensions and session logs of the users are deleted by the database together with the users.
+        // The users are evicted first, so that the persistence context does not refer to the deleted rows.
+        HibernateUtil.flushAndEvictAll(users);
+        usersDb.deleteUsers(ids);
     }
 
     private boolean isEmailChanged(String originalEmail, String newEmail) {
@@ -790,14 +1051,14 @@ public final class UsersLogic {
 
         // adjust submissions if moving to a different team
         if (changedTeam) {
-            feedbackResponsesLogic.updateFeedbackResponsesForChangingTeam(student.getCourse(), student.getEmail(),
-                    student.getTeam(), originalTeam);
+            feedbackResponsesLogic.updateFeedbackResponsesForChangingTeam(student.getCourse(),
+                    List.of(student.getEmail()), List.of(originalTeam));
         }
 
         // update the new section name in responses
         if (changedSection) {
             feedbackResponsesLogic.updateFeedbackResponsesForChangingSection(
-                    student.getCourse(), student.getEmail(), student.getSection());
+                    student.getCourse(), List.of(student.getEmail()), student.getSection());
         }
 
         return originalStudent;
@@ -820,6 +1081,7 @@ public final class UsersLogic {
         }
 
         instructor.setAccount(null);
+        UserRoleCache.invalidate(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -838,7 +1100,20 @@ public final class UsersLogic {
             return;
         }
 
-        String errorMessage = getSectionInvalidityInfo(mergedList) + getTeamInvalidityInfo(mergedList);
+        // Both checks only need the size of each section and, for each team, the sections it appears in
+        // together with the alphabetically first student in that section, so one pass over the students suffices.
+        Map<String, Integer> sectionToStudentCount = new HashMap<>();
+        Map<String, Map<String, String>> teamToSectionToFirstStudentName = new HashMap<>();
+        for (Student student : mergedList) {
+            sectionToStudentCount.merge(student.getSectionName(), 1, Integer::sum);
+            teamToSectionToFirstStudentName
+                    .computeIfAbsent(student.getTeamName(), teamName -> new HashMap<>())
+                    .merge(student.getSectionName(), student.getName(),
+                            (name, otherName) -> name.compareTo(otherName) <= 0 ? name : otherName);
+        }
+
+        String errorMessage = getSectionInvalidityInfo(sectionToStudentCount)
+                + getTeamInvalidityInfo(teamToSectionToFirstStudentName);
 
         if (!errorMessage.isEmpty()) {
             throw new EnrollException(errorMessage);
@@ -847,45 +1122,30 @@ public final class UsersLogic {
 
     private List<Student> getMergedList(List<Student> studentList, String courseId) {
 
-        List<Student> mergedList = new ArrayList<>();
-        List<Student> studentsInCourse = getStudentsForCourse(courseId);
-
+        List<Student> mergedList = new ArrayList<>(studentList);
+        Set<String> mergedEmails = new HashSet<>();
         for (Student student : studentList) {
-            mergedList.add(student);
+            mergedEmails.add(student.getEmail().toLowerCase());
         }
 
-        for (Student student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+        // the students are not sorted as the order does not matter for the validation
+        for (Student student : usersDb.getStudentsForCourse(courseId)) {
+            if (mergedEmails.add(student.getEmail().toLowerCase())) {
                 mergedList.add(student);
             }
         }
         return mergedList;
     }
 
-    private String getSectionInvalidityInfo(List<Student> mergedList) {
-
-        mergedList.sort(Comparator.comparing((Student student) -> student.getSectionName())
-                .thenComparing(student -> student.getTeamName())
-                .thenComparing(student -> student.getName()));
+    private String getSectionInvalidityInfo(Map<String, Integer> sectionToStudentCount) {
 
         List<String> invalidSectionList = new ArrayList<>();
-        int studentsCount = 1;
-        for (int i = 1; i < mergedList.size(); i++) {
-            Student currentStudent = mergedList.get(i);
-            Student previousStudent = mergedList.get(i - 1);
-            if (currentStudent.getSectionName().equals(previousStudent.getSectionName())) {
-                studentsCount++;
-            } else {
-                if (studentsCount > Const.SECTION_SIZE_LIMIT) {
-                    invalidSectionList.add(previousStudent.getSectionName());
-                }
-                studentsCount = 1;
-            }
-
-            if (i == mergedList.size() - 1 && studentsCount > Const.SECTION_SIZE_LIMIT) {
-                invalidSectionList.add(currentStudent.getSectionName());
+        for (Map.Entry<String, Integer> sectionCount : sectionToStudentCount.entrySet()) {
+            if (sectionCount.getValue() > Const.SECTION_SIZE_LIMIT) {
+                invalidSectionList.add(sectionCount.getKey());
             }
         }
+        invalidSectionList.sort(Comparator.naturalOrder());
 
         StringJoiner errorMessage = new StringJoiner(" ");
         for (String section : invalidSectionList) {
@@ -903,27 +1163,30 @@ public final class UsersLogic {
         return errorMessage.toString();
     }
 
-    private String getTeamInvalidityInfo(List<Student> mergedList) {
-        StringJoiner errorMessage = new StringJoiner(" ");
-        mergedList.sort(Comparator.comparing((Student student) -> student.getTeamName())
-                .thenComparing(student -> student.getName()));
+    private String getTeamInvalidityInfo(Map<String, Map<String, String>> teamToSectionToFirstStudentName) {
 
         List<String> invalidTeamList = new ArrayList<>();
-        for (int i = 1; i < mergedList.size(); i++) {
-            Student currentStudent = mergedList.get(i);
-            Student previousStudent = mergedList.get(i - 1);
-            if (currentStudent.getTeamName().equals(previousStudent.getTeamName())
-                    && !currentStudent.getSectionName().equals(previousStudent.getSectionName())
-                    && !invalidTeamList.contains(currentStudent.getTeamName())) {
-
-                errorMessage.add(String.format(ERROR_INVALID_TEAM_NAME,
-                        currentStudent.getTeamName(),
-                        previousStudent.getSectionName(),
-                        currentStudent.getSectionName()));
-
-                invalidTeamList.add(currentStudent.getTeamName());
+        for (Map.Entry<String, Map<String, String>> teamSections : teamToSectionToFirstStudentName.entrySet()) {
+            if (teamSections.getValue().size() > 1) {
+                invalidTeamList.add(teamSections.getKey());
             }
         }
+        invalidTeamList.sort(Comparator.naturalOrder());
+
+        StringJoiner errorMessage = new StringJoiner(" ");
+        for (String team : invalidTeamList) {
+            // The two sections reported are those of the first two students of the team, ordered by name,
+            // who are in different sections.
+            List<Map.Entry<String, String>> sectionsInTeam =
+                    new ArrayList<>(teamToSectionToFirstStudentName.get(team).entrySet());
+            sectionsInTeam.sort(Map.Entry.<String, String>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            errorMessage.add(String.format(ERROR_INVALID_TEAM_NAME,
+                    team,
+                    sectionsInTeam.get(0).getKey(),
+                    sectionsInTeam.get(1).getKey()));
+        }
 
         if (!invalidTeamList.isEmpty()) {
             errorMessage.add(ERROR_INVALID_TEAM_NAME_INSTRUCTION);
@@ -932,16 +1195,6 @@ public final class UsersLogic {
         return errorMessage.toString();
     }
 
-    private boolean isInEnrollList(Student student,
-                                   List<Student> studentInfoList) {
-        for (Student studentInfo : studentInfoList) {
-            if (studentInfo.getEmail().equalsIgnoreCase(student.getEmail())) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     /**
      * Resets the googleId associated with the student.
      */
@@ -959,6 +1212,7 @@ public final class UsersLogic {
         }
 
         student.setAccount(null);
+        UserRoleCache.invalidate(googleId);
 
         if (usersDb.getAllUsersByGoogleId(googleId).isEmpty()) {
             accountsLogic.deleteAccountCascade(googleId);
@@ -38,7 +38,7 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     public AccountAttributes getAccount(String googleId) {
         assert googleId != null;
 
-        return googleId.isEmpty() ? null : makeAttributesOrNull(getAccountEntity(googleId));
+        return googleId.isEmpty() ? null : makeAttributesOrNull(loadCached(Key.create(Account.class, googleId)));
     }
 
     /**
@@ -74,7 +74,8 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         E entity = convertToEntityForSaving(entityToAdd);
 
-        ofy().save().entity(entity).now();
+        Key<E> key = ofy().save().entity(entity).now();
+        EntityCache.invalidate(Collections.singletonList(key));
         log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
 
         return makeAttributes(entity);
@@ -133,7 +134,7 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         for (A attributes : entitiesToAdd) {
             log.info("Entity created: " + JsonUtils.toJson(attributes));
         }
-        ofy().save().entities(entities).now();
+        EntityCache.invalidate(ofy().save().entities(entities).now().keySet());
 
         return makeAttributes(entities);
     }
@@ -153,7 +154,8 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
 
-        ofy().save().entity(entityToSave).now();
+        Key<E> key = ofy().save().entity(entityToSave).now();
+        EntityCache.invalidate(Collections.singletonList(key));
     }
 
     /**
@@ -164,7 +166,7 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
         }
 
-        ofy().save().entities(entitiesToSave).now();
+        EntityCache.invalidate(ofy().save().entities(entitiesToSave).now().keySet());
     }
 
     /**
@@ -187,10 +189,23 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
                     key.getKind(), key.getRaw().getId(), key.getName()));
         }
         ofy().delete().keys(keys).now();
+        EntityCache.invalidate(keys);
     }
 
     abstract LoadType<E> load();
 
+    /**
+     * Loads an entity by key through the {@link EntityCache}.
+     *
+     * <p>This is meant for reads only; entities to be updated should be loaded directly from the database,
+     * so that the update is not based on a possibly outdated copy.
+     *
+     * @return null if the entity does not exist
+     */
+    E loadCached(Key<E> key) {
+        return EntityCache.load(key);
+    }
+
     /**
      * Converts from entity to attributes.
      */
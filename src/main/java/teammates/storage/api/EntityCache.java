@@ -0,0 +1,107 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.cloud.datastore.Entity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.googlecode.objectify.Key;
+
+import teammates.common.util.MetricsRegistry;
+
+/**
+ * Read-through cache of Datastore entities which are read often but rarely change.
+ *
+ * <p>The raw Datastore entities are cached instead of the Objectify entities, as the former are immutable.
+ * Every read thus produces a new Objectify entity which can be modified freely by the caller.
+ *
+ * <p>Entries are invalidated by {@link EntitiesDb} whenever entities are saved or deleted through it.
+ * As the cache is local to the instance, changes made by other instances are only seen after the entries expire.
+ *
+ * <p>Reads inside an Objectify transaction, and reads of entities already in the Objectify session, bypass the cache
+ * so that they see the same entities as the other reads of the transaction or session.
+ */
+public final class EntityCache {
+
+    private static final String CACHE_NAME = "datastore-entity";
+    private static final int CACHE_SIZE = 10000;
+    private static final long TIME_TO_LIVE_SECONDS = 60;
+
+    private static final Cache<com.google.cloud.datastore.Key, Entity> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE_SECONDS, TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+
+    // Counts the invalidations, so that entities read while an invalidation takes place are not kept in the cache.
+    private static final AtomicLong INVALIDATION_COUNT = new AtomicLong();
+
+    static {
+        MetricsRegistry.registerCache(CACHE_NAME, CACHE);
+    }
+
+    private EntityCache() {
+        // utility class
+    }
+
+    /**
+     * Loads the entity with the given key, from the cache if present.
+     *
+     * @return null if the entity does not exist
+     */
+    static <E> E load(Key<E> key) {
+        if (ofy().getTransaction() != null || ofy().isLoaded(key)) {
+            return ofy().load().key(key).now();
+        }
+
+        com.google.cloud.datastore.Key rawKey = key.getRaw();
+        Entity entity = CACHE.getIfPresent(rawKey);
+        if (entity == null) {
+            long invalidationCount = INVALIDATION_COUNT.get();
+            entity = ofy().factory().datastore().get(rawKey);
+            if (entity == null) {
+                // absence is not cached, as the entity can be created at any time
+                return null;
+            }
+            CACHE.put(rawKey, entity);
+            if (INVALIDATION_COUNT.get() != invalidationCount) {
+                // the entity may have been read before the invalidated change was saved
+                CACHE.invalidate(rawKey);
+            }
+        }
+        return ofy().load().fromEntity(entity);
+    }
+
+    /**
+     * Invalidates the cached entities with the given keys.
+     */
+    static void invalidate(Collection<? extends Key<?>> keys) {
+        INVALIDATION_COUNT.incrementAndGet();
+        for (Key<?> key : keys) {
+            CACHE.invalidate(key.getRaw());
+        }
+    }
+
+    /**
+     * Invalidates all cached entities.
+     *
+     * <p>This is needed when the database is modified without going through {@link EntitiesDb}, e.g. when it is reset.
+     */
+    public static void invalidateAll() {
+        INVALIDATION_COUNT.incrementAndGet();
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     */
+    public static CacheStats getStats() {
+        return CACHE.stats();
+    }
+
+}
@@ -38,7 +38,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
     public FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
         assert feedbackQuestionId != null;
 
-        return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackQuestionId));
+        return makeAttributesOrNull(makeKeyFromWebSafeString(feedbackQuestionId).map(this::loadCached).orElse(null));
     }
 
     /**
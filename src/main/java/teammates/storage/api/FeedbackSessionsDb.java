@@ -81,8 +81,8 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         assert feedbackSessionName != null;
         assert courseId != null;
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId));
+        FeedbackSessionAttributes feedbackSession = makeAttributesOrNull(loadCached(
+                Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId))));
 
         if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
             log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
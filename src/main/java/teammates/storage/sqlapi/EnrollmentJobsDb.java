@@ -0,0 +1,113 @@
+package teammates.storage.sqlapi;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.util.HibernateUtil;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+
+/**
+ * Handles CRUD operations for enrollment jobs.
+ *
+ * @see EnrollmentJob
+ */
+public final class EnrollmentJobsDb extends EntitiesDb {
+
+    private static final String INSERT_ENROLLMENT_JOB_IF_ABSENT = "INSERT INTO enrollment_jobs "
+            + "(id, created_at, updated_at, course_id, request_hash, enroll_requests, status, total_count, "
+            + "processed_count, enrolled_count, failed_enrollments) VALUES (:id, :createdAt, :updatedAt, :courseId, "
+            + ":requestHash, :enrollRequests, :status, :totalCount, :processedCount, :enrolledCount, :failedEnrollments) "
+            + "ON CONFLICT (course_id, request_hash) WHERE status = 'IN_PROGRESS' DO NOTHING";
+
+    private static final EnrollmentJobsDb instance = new EnrollmentJobsDb();
+
+    private EnrollmentJobsDb() {
+        // prevent initialization
+    }
+
+    public static EnrollmentJobsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Creates an enrollment job.
+     */
+    public EnrollmentJob createEnrollmentJob(EnrollmentJob enrollmentJob) {
+        assert enrollmentJob != null;
+
+        persist(enrollmentJob);
+        return enrollmentJob;
+    }
+
+    /**
+     * Creates an enrollment job, unless the course already has an enrollment job in progress with the same
+     * request hash.
+     *
+     * <p>The job is inserted with a single statement which does nothing if it conflicts with the unique index
+     * of the jobs in progress, so that only one of the concurrent submissions of the same request creates a job.
+     *
+     * @return the enrollment job in progress, i.e. either the given job or the existing one
+     */
+    public EnrollmentJob createEnrollmentJobIfAbsent(EnrollmentJob enrollmentJob) {
+        assert enrollmentJob != null;
+        assert enrollmentJob.isInProgress();
+
+        // a job which has just been marked as no longer in progress must not conflict with the new job
+        HibernateUtil.flushSession();
+
+        Instant now = Instant.now();
+        HibernateUtil.createNativeMutationQuery(INSERT_ENROLLMENT_JOB_IF_ABSENT)
+                .setParameter("id", enrollmentJob.getId())
+                .setParameter("createdAt", now)
+                .setParameter("updatedAt", now)
+                .setParameter("courseId", enrollmentJob.getCourseId())
+                .setParameter("requestHash", enrollmentJob.getRequestHash())
+                .setParameter("enrollRequests", enrollmentJob.getEnrollRequests())
+                .setParameter("status", enrollmentJob.getStatus().name())
+                .setParameter("totalCount", enrollmentJob.getTotalCount())
+                .setParameter("processedCount", enrollmentJob.getProcessedCount())
+                .setParameter("enrolledCount", enrollmentJob.getEnrolledCount())
+                .setParameter("failedEnrollments", new EnrollmentJob.FailedEnrollmentsConverter()
+                        .convertToDatabaseColumn(enrollmentJob.getFailedEnrollments()))
+                .executeUpdate();
+
+        return getInProgressEnrollmentJob(enrollmentJob.getCourseId(), enrollmentJob.getRequestHash());
+    }
+
+    /**
+     * Gets an enrollment job by its {@code id}.
+     */
+    public EnrollmentJob getEnrollmentJob(UUID id) {
+        assert id != null;
+
+        return HibernateUtil.get(EnrollmentJob.class, id);
+    }
+
+    /**
+     * Gets the enrollment job of the course with the given request hash which is still in progress, if any.
+     */
+    public EnrollmentJob getInProgressEnrollmentJob(String courseId, String requestHash) {
+        assert courseId != null;
+        assert requestHash != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<EnrollmentJob> cr = cb.createQuery(EnrollmentJob.class);
+        Root<EnrollmentJob> root = cr.from(EnrollmentJob.class);
+        Join<EnrollmentJob, Course> courseJoin = root.join("course");
+
+        cr.select(root).where(cb.and(
+                cb.equal(courseJoin.get("id"), courseId),
+                cb.equal(root.get("requestHash"), requestHash),
+                cb.equal(root.get("status"), EnrollmentJobStatus.IN_PROGRESS)));
+
+        return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
+    }
+
+}
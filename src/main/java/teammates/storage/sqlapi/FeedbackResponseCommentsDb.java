@@ -3,12 +3,16 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Root;
 
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -126,13 +130,7 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForGiverInCourse(courseId, oldEmail);
-
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setGiver(updatedEmail);
-            merge(responseComment);
-        }
+        updateFeedbackResponseCommentsForCourse(courseId, "giver", List.of(oldEmail), "giver", updatedEmail);
     }
 
     /**
@@ -147,48 +145,73 @@ public final class FeedbackResponseCommentsDb extends EntitiesDb {
             return;
         }
 
-        List<FeedbackResponseComment> responseComments =
-                getFeedbackResponseCommentEntitiesForLastEditorInCourse(courseId, oldEmail);
-
-        for (FeedbackResponseComment responseComment : responseComments) {
-            responseComment.setLastEditorEmail(updatedEmail);
-        }
+        updateFeedbackResponseCommentsForCourse(courseId, "lastEditorEmail", List.of(oldEmail),
+                "lastEditorEmail", updatedEmail);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForGiverInCourse(
-            String courseId, String giver) {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
-        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
-        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
-
-        cq.select(root)
-                .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("giver"), giver)));
+    /**
+     * Updates the giver section of all comments in a course on the responses given by any of the
+     * {@code responseGivers}.
+     */
+    public void updateGiverSectionOfFeedbackResponseComments(
+            String courseId, Collection<String> responseGivers, Section giverSection) {
+        assert courseId != null;
+        assert responseGivers != null;
+        assert giverSection != null;
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        updateFeedbackResponseCommentsForCourse(courseId, "feedbackResponse.giver", responseGivers,
+                "giverSection", giverSection);
     }
 
-    private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForLastEditorInCourse(
-            String courseId, String lastEditorEmail) {
-        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
-        CriteriaQuery<FeedbackResponseComment> cq = cb.createQuery(FeedbackResponseComment.class);
-        Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
-        Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
-        Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
-        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
-        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+    /**
+     * Updates the recipient section of all comments in a course on the responses given to any of the
+     * {@code responseRecipients}.
+     */
+    public void updateRecipientSectionOfFeedbackResponseComments(
+            String courseId, Collection<String> responseRecipients, Section recipientSection) {
+        assert courseId != null;
+        assert responseRecipients != null;
+        assert recipientSection != null;
 
-        cq.select(root)
-                .where(cb.and(
-                    cb.equal(cJoin.get("id"), courseId),
-                    cb.equal(root.get("lastEditorEmail"), lastEditorEmail)));
+        updateFeedbackResponseCommentsForCourse(courseId, "feedbackResponse.recipient", responseRecipients,
+                "recipientSection", recipientSection);
+    }
 
-        return HibernateUtil.createQuery(cq).getResultList();
+    /**
+     * Sets {@code attributeToUpdate} to {@code newValue} for all comments in a course whose {@code attributeToMatch}
+     * is any of the {@code valuesToMatch}.
+     *
+     * <p>{@code attributeToMatch} is either an attribute of the comment or, if prefixed with
+     * {@code feedbackResponse.}, an attribute of the response the comment is on.
+     */
+    private <T> void updateFeedbackResponseCommentsForCourse(String courseId, String attributeToMatch,
+            Collection<String> valuesToMatch, String attributeToUpdate, T newValue) {
+        for (List<String> valuesChunk : HibernateUtil.partitionIds(valuesToMatch)) {
+            CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+            CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+            Root<FeedbackResponseComment> root = cq.from(FeedbackResponseComment.class);
+            Join<FeedbackResponseComment, FeedbackResponse> frJoin = root.join("feedbackResponse");
+            Join<FeedbackResponse, FeedbackQuestion> fqJoin = frJoin.join("feedbackQuestion");
+            Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+            Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+
+            String responsePrefix = "feedbackResponse.";
+            Path<String> pathToMatch = attributeToMatch.startsWith(responsePrefix)
+                    ? frJoin.get(attributeToMatch.substring(responsePrefix.length()))
+                    : root.get(attributeToMatch);
+            cq.select(root.get("id"))
+                    .where(cb.and(
+                            cb.equal(cJoin.get("id"), courseId),
+                            pathToMatch.in(valuesChunk)));
+            List<Long> commentIds = HibernateUtil.createQuery(cq).getResultList();
+
+            // bulk updates do not go through the update timestamp generation, so it is set explicitly
+            CriteriaUpdate<FeedbackResponseComment> cu = cb.createCriteriaUpdate(FeedbackResponseComment.class);
+            cu.from(FeedbackResponseComment.class);
+            cu.set(attributeToUpdate, newValue);
+            cu.set("updatedAt", Instant.now());
+            HibernateUtil.executeUpdate(cu, commentIds);
+        }
     }
 
     /**
@@ -3,17 +3,28 @@ package teammates.storage.sqlapi;
 import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
 
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -23,15 +34,25 @@ import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackResponse;
 import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.FeedbackSessionSubmission;
 import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.responses.FeedbackRankRecipientsResponse;
 
 /**
  * Handles CRUD operations for feedbackResponses.
  *
+ * <p>The {@link FeedbackSessionSubmission}s recording which givers have responded to a session
+ * are maintained here together with the responses.
+ *
  * @see FeedbackResponse
+ * @see FeedbackSessionSubmission
  */
 public final class FeedbackResponsesDb extends EntitiesDb {
 
+    private static final String UPSERT_SUBMISSION = "INSERT INTO feedback_session_submissions "
+            + "(id, created_at, giver, session_id) VALUES (:id, :createdAt, :giver, :sessionId) "
+            + "ON CONFLICT (session_id, giver) DO UPDATE SET giver = EXCLUDED.giver";
+
     private static final FeedbackResponsesDb instance = new FeedbackResponsesDb();
 
     private FeedbackResponsesDb() {
@@ -128,6 +149,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         }
 
         persist(feedbackResponse);
+        recordSubmission(feedbackResponse.getFeedbackQuestion().getFeedbackSession().getId(), feedbackResponse.getGiver());
         return feedbackResponse;
     }
 
@@ -137,6 +159,8 @@ public final class FeedbackResponsesDb extends EntitiesDb {
     public void deleteFeedbackResponse(FeedbackResponse feedbackResponse) {
         if (feedbackResponse != null) {
             delete(feedbackResponse);
+            FeedbackSession feedbackSession = feedbackResponse.getFeedbackQuestion().getFeedbackSession();
+            deleteSubmissionsWithoutResponses(feedbackSession.getId(), List.of(feedbackResponse.getGiver()));
         }
     }
 
@@ -155,6 +179,38 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                 .where(cb.and(
                         cb.equal(frJoin.get("id"), feedbackQuestionId),
                         cb.equal(root.get("giver"), giverEmail)));
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_SUBMISSION).getResultList();
+    }
+
+    /**
+     * Gets the responses to 'rank recipient questions' in a course whose ranks may depend on any of the given recipients.
+     *
+     * <p>These are all responses to the 'rank recipient questions' of the course, as removing recipients lowers
+     * the maximum rank of every giver, including givers who did not rank the removed recipients.
+     * Responses given by or to the recipients themselves are excluded.
+     * The responses of all questions are fetched with a single query.
+     */
+    public List<FeedbackRankRecipientsResponse> getRankRecipientResponsesAffectedByRecipientsForCourse(
+            String courseId, Collection<String> recipients) {
+        assert courseId != null;
+        assert recipients != null;
+
+        if (recipients.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackRankRecipientsResponse> cq = cb.createQuery(FeedbackRankRecipientsResponse.class);
+        Root<FeedbackRankRecipientsResponse> root = cq.from(FeedbackRankRecipientsResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+        Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+
+        cq.select(root)
+                .where(cb.and(
+                        cb.equal(cJoin.get("id"), courseId),
+                        cb.not(root.get("giver").in(recipients)),
+                        cb.not(root.get("recipient").in(recipients))));
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
@@ -162,16 +218,86 @@ public final class FeedbackResponsesDb extends EntitiesDb {
      * Deletes all feedback responses of a question cascade its associated comments.
      */
     public void deleteFeedbackResponsesForQuestionCascade(UUID feedbackQuestionId) {
+        deleteFeedbackResponsesCascade((cb, frRoot) ->
+                cb.equal(frRoot.get("feedbackQuestion").get("id"), feedbackQuestionId));
+    }
+
+    /**
+     * Deletes all feedback responses in a course which are given by or to any of the given givers or recipients,
+     * cascade their associated comments.
+     *
+     * <p>The responses are deleted with a single statement instead of being loaded and deleted one at a time.
+     *
+     * @return the number of responses deleted
+     */
+    public int deleteFeedbackResponsesForCourseCascade(String courseId, Collection<String> giversOrRecipients) {
+        assert courseId != null;
+        assert giversOrRecipients != null;
+
+        if (giversOrRecipients.isEmpty()) {
+            return 0;
+        }
+
+        return deleteFeedbackResponsesCascade((cb, frRoot) -> {
+            Join<FeedbackResponse, FeedbackQuestion> fqJoin = frRoot.join("feedbackQuestion");
+            Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+            Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+            return cb.and(
+                    cb.equal(cJoin.get("id"), courseId),
+                    cb.or(
+                            frRoot.get("giver").in(giversOrRecipients),
+                            frRoot.get("recipient").in(giversOrRecipients)));
+        });
+    }
+
+    /**
+     * Deletes the responses matching the condition with a single statement, cascade their associated comments.
+     *
+     * <p>The givers of the responses are looked up beforehand, so that only their submissions need to be checked
+     * afterwards for givers who have lost all their responses in a session.
+     *
+     * @return the number of responses deleted
+     */
+    private int deleteFeedbackResponsesCascade(
+            BiFunction<CriteriaBuilder, Root<FeedbackResponse>, Predicate> condition) {
+        Map<UUID, Set<String>> giversBySession = getGiversOfResponsesBySession(condition);
+        if (giversBySession.isEmpty()) {
+            return 0;
+        }
+
         CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
         CriteriaDelete<FeedbackResponse> cd = cb.createCriteriaDelete(FeedbackResponse.class);
         Root<FeedbackResponse> frRoot = cd.from(FeedbackResponse.class);
         Subquery<UUID> subquery = cd.subquery(UUID.class);
         Root<FeedbackResponse> subqueryRoot = subquery.from(FeedbackResponse.class);
-        Join<FeedbackResponse, FeedbackQuestion> sqJoin = subqueryRoot.join("feedbackQuestion");
         subquery.select(subqueryRoot.get("id"));
-        subquery.where(cb.equal(sqJoin.get("id"), feedbackQuestionId));
+        subquery.where(condition.apply(cb, subqueryRoot));
         cd.where(cb.in(frRoot.get("id")).value(subquery));
-        HibernateUtil.createMutationQuery(cd).executeUpdate();
+        int numDeleted = HibernateUtil.executeDelete(cd);
+
+        deleteSubmissionsWithoutResponses(giversBySession);
+        return numDeleted;
+    }
+
+    /**
+     * Gets the distinct givers of the responses matching the condition, grouped by the id of their session.
+     */
+    private Map<UUID, Set<String>> getGiversOfResponsesBySession(
+            BiFunction<CriteriaBuilder, Root<FeedbackResponse>, Predicate> condition) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+
+        cq.multiselect(root.get("feedbackQuestion").get("feedbackSession").get("id"), root.get("giver"))
+                .distinct(true)
+                .where(condition.apply(cb, root));
+
+        Map<UUID, Set<String>> giversBySession = new HashMap<>();
+        for (Object[] sessionAndGiver : HibernateUtil.createQuery(cq).getResultList()) {
+            giversBySession.computeIfAbsent((UUID) sessionAndGiver[0], id -> new HashSet<>())
+                    .add((String) sessionAndGiver[1]);
+        }
+        return giversBySession;
     }
 
     /**
@@ -199,7 +325,42 @@ public final class FeedbackResponsesDb extends EntitiesDb {
 
         cq.select(root)
                 .where(cb.equal(fqJoin.get("id"), questionId));
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_STATISTICS).getResultList();
+    }
+
+    /**
+     * Gets all responses for a question together with their giver and recipient sections.
+     */
+    public List<FeedbackResponse> getResponsesWithSectionsForQuestion(UUID questionId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackResponse> cq = cb.createQuery(FeedbackResponse.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cq.select(root)
+                .where(cb.equal(fqJoin.get("id"), questionId));
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_SUBMISSION).getResultList();
+    }
+
+    /**
+     * Gets the version of the responses for a question.
+     *
+     * <p>The version changes whenever a response of the question is created, updated or deleted,
+     * so it can be used to validate data derived from the responses without loading the responses themselves.
+     */
+    public String getResponsesVersionForQuestion(UUID questionId) {
+        assert questionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Object[]> cr = cb.createQuery(Object[].class);
+        Root<FeedbackResponse> root = cr.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+
+        cr.multiselect(cb.count(root.get("id")), cb.greatest(root.<Instant>get("updatedAt")))
+                .where(cb.equal(fqJoin.get("id"), questionId));
+
+        Object[] result = HibernateUtil.createQuery(cr).getSingleResult();
+        return result[0] + "|" + result[1];
     }
 
     /**
@@ -261,6 +422,130 @@ public final class FeedbackResponsesDb extends EntitiesDb {
         return merge(feedbackResponse);
     }
 
+    /**
+     * Changes the giver of all responses in a course given by {@code oldGiver} to {@code newGiver}.
+     *
+     * <p>The responses are updated with a single statement instead of being loaded and merged one at a time.
+     *
+     * @return the number of responses updated
+     */
+    public int updateGiverOfFeedbackResponsesForCourse(String courseId, String oldGiver, String newGiver) {
+        assert courseId != null;
+        assert oldGiver != null;
+        assert newGiver != null;
+
+        Set<UUID> sessionIds = getGiversOfResponsesBySession((cb, frRoot) -> cb.and(
+                cb.equal(frRoot.get("feedbackQuestion").get("feedbackSession").get("course").get("id"), courseId),
+                cb.equal(frRoot.get("giver"), oldGiver)))
+                .keySet();
+        int numUpdated = updateFeedbackResponsesForCourse(courseId, "giver", List.of(oldGiver), "giver", newGiver);
+        updateSubmissionsForChangingGiver(sessionIds, oldGiver, newGiver);
+        return numUpdated;
+    }
+
+    /**
+     * Changes the recipient of all responses in a course given to {@code oldRecipient} to {@code newRecipient}.
+     *
+     * @return the number of responses updated
+     */
+    public int updateRecipientOfFeedbackResponsesForCourse(String courseId, String oldRecipient, String newRecipient) {
+        assert newRecipient != null;
+
+        return updateFeedbackResponsesForCourse(courseId, "recipient", List.of(oldRecipient), "recipient", newRecipient);
+    }
+
+    /**
+     * Changes the giver section of all responses in a course given by any of the {@code givers}.
+     *
+     * @return the number of responses updated
+     */
+    public int updateGiverSectionOfFeedbackResponsesForCourse(
+            String courseId, Collection<String> givers, Section giverSection) {
+        assert giverSection != null;
+
+        return updateFeedbackResponsesForCourse(courseId, "giver", givers, "giverSection", giverSection);
+    }
+
+    /**
+     * Changes the recipient section of all responses in a course given to any of the {@code recipients}.
+     *
+     * @return the number of responses updated
+     */
+    public int updateRecipientSectionOfFeedbackResponsesForCourse(
+            String courseId, Collection<String> recipients, Section recipientSection) {
+        assert recipientSection != null;
+
+        return updateFeedbackResponsesForCourse(courseId, "recipient", recipients, "recipientSection", recipientSection);
+    }
+
+    private <T> int updateFeedbackResponsesForCourse(String courseId, String participantAttribute,
+            Collection<String> participants, String attributeToUpdate, T newValue) {
+        assert courseId != null;
+        assert participants != null;
+
+        int numUpdated = 0;
+        for (List<String> participantsChunk : HibernateUtil.partitionIds(participants)) {
+            CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+            CriteriaQuery<UUID> cq = cb.createQuery(UUID.class);
+            Root<FeedbackResponse> frRoot = cq.from(FeedbackResponse.class);
+            Join<FeedbackResponse, FeedbackQuestion> fqJoin = frRoot.join("feedbackQuestion");
+            Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+            Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+            cq.select(frRoot.get("id"))
+                    .where(cb.and(
+                            cb.equal(cJoin.get("id"), courseId),
+                            frRoot.get(participantAttribute).in(participantsChunk)));
+            List<UUID> responseIds = HibernateUtil.createQuery(cq).getResultList();
+
+            // bulk updates do not go through the update timestamp generation, so it is set explicitly
+            // to keep the versions derived from it (e.g. of the cached statistics) up to date
+            CriteriaUpdate<FeedbackResponse> cu = cb.createCriteriaUpdate(FeedbackResponse.class);
+            cu.from(FeedbackResponse.class);
+            cu.set(attributeToUpdate, newValue);
+            cu.set("updatedAt", Instant.now());
+            numUpdated += HibernateUtil.executeUpdate(cu, responseIds);
+        }
+        return numUpdated;
+    }
+
+    /**
+     * Deletes the responses in a course which are no longer valid after students change team, cascade their comments.
+     *
+     * <p>These are the responses given by the students on behalf of their team, and the responses given by or to
+     * the students in questions about team members.
+     *
+     * @return the number of responses deleted
+     */
+    public int deleteFeedbackResponsesForChangingTeamCascade(String courseId, Collection<String> studentEmails) {
+        assert courseId != null;
+        assert studentEmails != null;
+
+        List<FeedbackParticipantType> teamMemberTypes = List.of(
+                FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
+
+        int numDeleted = 0;
+        for (List<String> emailsChunk : HibernateUtil.partitionIds(studentEmails)) {
+            numDeleted += deleteFeedbackResponsesCascade((cb, frRoot) -> {
+                Join<FeedbackResponse, FeedbackQuestion> fqJoin = frRoot.join("feedbackQuestion");
+                Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+                Join<FeedbackSession, Course> cJoin = fsJoin.join("course");
+                Predicate isAboutTeamMembers = fqJoin.get("recipientType").in(teamMemberTypes);
+                return cb.and(
+                        cb.equal(cJoin.get("id"), courseId),
+                        cb.or(
+                                cb.and(
+                                        frRoot.get("giver").in(emailsChunk),
+                                        cb.or(
+                                                cb.equal(fqJoin.get("giverType"), FeedbackParticipantType.TEAMS),
+                                                isAboutTeamMembers)),
+                                cb.and(
+                                        frRoot.get("recipient").in(emailsChunk),
+                                        isAboutTeamMembers)));
+            });
+        }
+        return numDeleted;
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
@@ -322,7 +607,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_RESULTS).getResultList();
     }
 
     /**
@@ -359,7 +644,7 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     recipientSectionFilter
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_RESULTS).getResultList();
     }
 
     /**
@@ -383,7 +668,186 @@ public final class FeedbackResponsesDb extends EntitiesDb {
                     cb.equal(cJoin.get("id"), courseId)
                     ));
 
-        return HibernateUtil.createQuery(cq).getResultList();
+        return HibernateUtil.createQuery(cq, FeedbackResponse.GRAPH_RESULTS).getResultList();
+    }
+
+    /**
+     * Gets the givers who have at least one response in a feedback session,
+     * as recorded by the submissions of the session.
+     */
+    public Set<String> getSubmittedGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackSessionSubmission> root = cq.from(FeedbackSessionSubmission.class);
+        Join<FeedbackSessionSubmission, FeedbackSession> fsJoin = root.join("feedbackSession");
+
+        cq.select(root.get("giver"))
+                .where(cb.equal(fsJoin.get("id"), feedbackSessionId));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
+    }
+
+    /**
+     * Gets the number of givers who have at least one response in a feedback session,
+     * as recorded by the submissions of the session.
+     */
+    public long getNumSubmittedGiversForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<FeedbackSessionSubmission> root = cq.from(FeedbackSessionSubmission.class);
+        Join<FeedbackSessionSubmission, FeedbackSession> fsJoin = root.join("feedbackSession");
+
+        cq.select(cb.count(root))
+                .where(cb.equal(fsJoin.get("id"), feedbackSessionId));
+
+        return HibernateUtil.createQuery(cq).getSingleResult();
+    }
+
+    /**
+     * Gets the distinct givers of the responses in a feedback session by scanning the responses.
+     */
+    public Set<String> getGiversOfResponsesForSession(UUID feedbackSessionId) {
+        assert feedbackSessionId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver")).distinct(true)
+                .where(cb.equal(fsJoin.get("id"), feedbackSessionId));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
+    }
+
+    /**
+     * Brings the submissions of a feedback session in line with its responses.
+     *
+     * <p>This rescans all responses of the session, and is used to backfill the submissions of sessions
+     * created before they were recorded and after responses are deleted together with their question.
+     *
+     * @return the number of submissions added
+     */
+    public int refreshSubmissionsForSession(FeedbackSession feedbackSession) {
+        assert feedbackSession != null;
+
+        Set<String> giversOfResponses = getGiversOfResponsesForSession(feedbackSession.getId());
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaDelete<FeedbackSessionSubmission> cd = cb.createCriteriaDelete(FeedbackSessionSubmission.class);
+        Root<FeedbackSessionSubmission> root = cd.from(FeedbackSessionSubmission.class);
+        Predicate isInSession = cb.equal(root.get("feedbackSession").get("id"), feedbackSession.getId());
+        cd.where(giversOfResponses.isEmpty()
+                ? isInSession
+                : cb.and(isInSession, cb.not(root.get("giver").in(giversOfResponses))));
+        HibernateUtil.executeDelete(cd);
+
+        Set<String> missingGivers = new HashSet<>(giversOfResponses);
+        missingGivers.removeAll(getSubmittedGiversForSession(feedbackSession.getId()));
+        for (String giver : missingGivers) {
+            recordSubmission(feedbackSession.getId(), giver);
+        }
+        return missingGivers.size();
+    }
+
+    /**
+     * Moves the submissions of {@code oldGiver} in the given sessions to {@code newGiver},
+     * after responses in the sessions have been changed to be given by {@code newGiver}.
+     *
+     * <p>The submission of {@code oldGiver} in a session is kept if some of their responses in it were not changed.
+     */
+    public void updateSubmissionsForChangingGiver(Collection<UUID> feedbackSessionIds, String oldGiver, String newGiver) {
+        assert feedbackSessionIds != null;
+        assert oldGiver != null;
+        assert newGiver != null;
+
+        Map<UUID, Set<String>> oldGiverBySession = new HashMap<>();
+        for (UUID feedbackSessionId : feedbackSessionIds) {
+            recordSubmission(feedbackSessionId, newGiver);
+            oldGiverBySession.put(feedbackSessionId, Set.of(oldGiver));
+        }
+        deleteSubmissionsWithoutResponses(oldGiverBySession);
+    }
+
+    /**
+     * Records that the giver has responded to the session, unless it is already recorded.
+     *
+     * <p>This is an upsert instead of a check followed by an insert, as the responses of a giver are often saved by
+     * parallel requests which would otherwise all miss the submission and all but one fail on the unique constraint.
+     * The existing submission is updated instead of left alone so that it is locked until the transaction ends,
+     * which makes a concurrent {@link #deleteSubmissionsWithoutResponses} wait for the response to be committed.
+     */
+    private void recordSubmission(UUID feedbackSessionId, String giver) {
+        HibernateUtil.createNativeMutationQuery(UPSERT_SUBMISSION)
+                .setParameter("id", UUID.randomUUID())
+                .setParameter("createdAt", Instant.now())
+                .setParameter("giver", giver)
+                .setParameter("sessionId", feedbackSessionId)
+                .executeUpdate();
+    }
+
+    /**
+     * Deletes the submissions of the given givers in the given sessions if the giver has no responses left
+     * in the session.
+     */
+    private void deleteSubmissionsWithoutResponses(Map<UUID, Set<String>> giversBySession) {
+        giversBySession.forEach((feedbackSessionId, givers) -> {
+            for (List<String> giversChunk : HibernateUtil.partitionIds(givers)) {
+                deleteSubmissionsWithoutResponses(feedbackSessionId, giversChunk);
+            }
+        });
+    }
+
+    /**
+     * Deletes the submissions of the givers in the session if the giver has no responses left in the session.
+     *
+     * <p>The submissions are locked before the responses are checked. A concurrent {@link #recordSubmission} thus
+     * either commits its response before the check, or waits for the deletion and then records the submission again.
+     */
+    private void deleteSubmissionsWithoutResponses(UUID feedbackSessionId, Collection<String> givers) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSessionSubmission> cq = cb.createQuery(FeedbackSessionSubmission.class);
+        Root<FeedbackSessionSubmission> root = cq.from(FeedbackSessionSubmission.class);
+        Join<FeedbackSessionSubmission, FeedbackSession> fsJoin = root.join("feedbackSession");
+
+        cq.select(root)
+                .where(cb.and(
+                        cb.equal(fsJoin.get("id"), feedbackSessionId),
+                        root.get("giver").in(givers)));
+
+        List<FeedbackSessionSubmission> submissions = HibernateUtil.createQuery(cq)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (submissions.isEmpty()) {
+            return;
+        }
+
+        Set<String> giversWithResponses = getGiversWithResponsesInSession(feedbackSessionId, givers);
+        for (FeedbackSessionSubmission submission : submissions) {
+            if (!giversWithResponses.contains(submission.getGiver())) {
+                HibernateUtil.remove(submission);
+            }
+        }
+    }
+
+    private Set<String> getGiversWithResponsesInSession(UUID feedbackSessionId, Collection<String> givers) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<String> cq = cb.createQuery(String.class);
+        Root<FeedbackResponse> root = cq.from(FeedbackResponse.class);
+        Join<FeedbackResponse, FeedbackQuestion> fqJoin = root.join("feedbackQuestion");
+        Join<FeedbackQuestion, FeedbackSession> fsJoin = fqJoin.join("feedbackSession");
+
+        cq.select(root.get("giver")).distinct(true)
+                .where(cb.and(
+                        cb.equal(fsJoin.get("id"), feedbackSessionId),
+                        root.get("giver").in(givers)));
+
+        return new HashSet<>(HibernateUtil.createQuery(cq).getResultList());
     }
 
 }
@@ -4,18 +4,22 @@ import static teammates.common.util.Const.ERROR_CREATE_ENTITY_ALREADY_EXISTS;
 import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Root;
 
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.TimeHelper;
 import teammates.storage.sqlentity.Course;
@@ -65,6 +69,63 @@ public final class FeedbackSessionsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Marks the automated email of {@code emailType} as sent for the feedback session,
+     * if it has not been marked as sent yet.
+     *
+     * <p>The check and the update are done in a single statement, so that at most one of the concurrent
+     * callers for the same feedback session and email type succeeds.
+     *
+     * @return true if the email is newly marked as sent
+     */
+    public boolean markAutomatedEmailSent(FeedbackSession feedbackSession, EmailType emailType) {
+        assert feedbackSession != null;
+
+        String emailSentField = getEmailSentField(emailType);
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaUpdate<FeedbackSession> cu = cb.createCriteriaUpdate(FeedbackSession.class);
+        Root<FeedbackSession> root = cu.from(FeedbackSession.class);
+        cu.set(root.<Boolean>get(emailSentField), true)
+                .where(cb.and(
+                        cb.equal(root.get("id"), feedbackSession.getId()),
+                        cb.isFalse(root.get(emailSentField))));
+        boolean isMarked = HibernateUtil.createMutationQuery(cu).executeUpdate() > 0;
+
+        if (isMarked) {
+            // keep the managed entity consistent with the bulk update
+            switch (emailType) {
+            case FEEDBACK_OPENING_SOON:
+                feedbackSession.setOpeningSoonEmailSent(true);
+                break;
+            case FEEDBACK_OPENED:
+                feedbackSession.setOpenedEmailSent(true);
+                break;
+            case FEEDBACK_CLOSING_SOON:
+                feedbackSession.setClosingSoonEmailSent(true);
+                break;
+            default:
+                feedbackSession.setClosedEmailSent(true);
+                break;
+            }
+        }
+        return isMarked;
+    }
+
+    private static String getEmailSentField(EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING_SOON:
+            return "isOpeningSoonEmailSent";
+        case FEEDBACK_OPENED:
+            return "isOpenedEmailSent";
+        case FEEDBACK_CLOSING_SOON:
+            return "isClosingSoonEmailSent";
+        case FEEDBACK_CLOSED:
+            return "isClosedEmailSent";
+        default:
+            throw new IllegalArgumentException("No automated email of type " + emailType);
+        }
+    }
+
     /**
      * Gets a feedback session reference.
      *
@@ -231,6 +292,43 @@ public final class FeedbackSessionsDb extends EntitiesDb {
         return HibernateUtil.createQuery(cq).getResultList();
     }
 
+    /**
+     * Gets the feedback sessions of the given courses, except those that are soft-deleted.
+     *
+     * <p>The courses and deadline extensions of the sessions are loaded in the same query.
+     */
+    public List<FeedbackSession> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return getFeedbackSessionsForCourses(courseIds, false);
+    }
+
+    /**
+     * Gets the soft-deleted feedback sessions of the given courses.
+     *
+     * <p>The courses and deadline extensions of the sessions are loaded in the same query.
+     */
+    public List<FeedbackSession> getSoftDeletedFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return getFeedbackSessionsForCourses(courseIds, true);
+    }
+
+    private List<FeedbackSession> getFeedbackSessionsForCourses(Collection<String> courseIds, boolean isSoftDeleted) {
+        assert courseIds != null;
+
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<FeedbackSession> cq = cb.createQuery(FeedbackSession.class);
+        Root<FeedbackSession> root = cq.from(FeedbackSession.class);
+        Join<FeedbackSession, Course> courseJoin = root.join("course");
+
+        cq.select(root).where(cb.and(
+                isSoftDeleted ? cb.isNotNull(root.get("deletedAt")) : cb.isNull(root.get("deletedAt")),
+                courseJoin.get("id").in(courseIds)));
+
+        return HibernateUtil.createQuery(cq, FeedbackSession.GRAPH_DASHBOARD).getResultList();
+    }
+
     /**
      * Gets feedback sessions for a given {@code courseId} that start after {@code after}.
      */
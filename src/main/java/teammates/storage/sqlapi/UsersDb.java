@@ -4,10 +4,12 @@ import static teammates.common.util.Const.ERROR_UPDATE_NON_EXISTENT;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
@@ -323,6 +325,25 @@ public final class UsersDb extends EntitiesDb {
         }
     }
 
+    /**
+     * Deletes the users with the given ids with a single statement.
+     *
+     * <p>The users should not be managed by the persistence context, as they are not removed from it.
+     */
+    public void deleteUsers(Collection<UUID> userIds) {
+        assert userIds != null;
+
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaDelete<User> cd = cb.createCriteriaDelete(User.class);
+        Root<User> root = cd.from(User.class);
+        cd.where(root.get("id").in(userIds));
+        HibernateUtil.executeDelete(cd);
+    }
+
     /**
      * Gets the number of instructors created within a specified time range.
      */
@@ -353,6 +374,26 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getSingleResult();
     }
 
+    /**
+     * Gets the version of the roster of the specified {@code courseId}.
+     *
+     * <p>The version changes whenever a student or instructor of the course is created, updated or deleted,
+     * so it can be used to validate data derived from the roster without loading the roster itself.
+     */
+    public String getRosterVersion(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Object[]> cr = cb.createQuery(Object[].class);
+        Root<User> root = cr.from(User.class);
+
+        cr.multiselect(cb.count(root.get("id")), cb.greatest(root.<Instant>get("updatedAt")))
+                .where(cb.equal(root.get("courseId"), courseId));
+
+        Object[] result = HibernateUtil.createQuery(cr).getSingleResult();
+        return result[0] + "|" + result[1];
+    }
+
     /**
      * Gets the list of instructors for the specified {@code courseId}.
      */
@@ -398,6 +439,76 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).setMaxResults(batchSize).getResultList();
     }
 
+    /**
+     * Gets a page of at most {@code batchSize} students for the specified {@code courseId}, ordered by ID.
+     *
+     * <p>The first page is fetched with a {@code null} {@code afterId}; each following page is fetched by passing
+     * the ID of the last student of the previous page. Unlike offset pagination, this stays cheap for later
+     * pages and does not skip or repeat students when earlier pages are deleted while paging.
+     */
+    public List<Student> getStudentsForCourse(String courseId, UUID afterId, int batchSize) {
+        assert courseId != null;
+
+        return getUsersForCourse(Student.class, courseId, afterId, batchSize);
+    }
+
+    /**
+     * Gets a page of at most {@code batchSize} instructors for the specified {@code courseId}, ordered by ID.
+     *
+     * @see #getStudentsForCourse(String, UUID, int)
+     */
+    public List<Instructor> getInstructorsForCourse(String courseId, UUID afterId, int batchSize) {
+        assert courseId != null;
+
+        return getUsersForCourse(Instructor.class, courseId, afterId, batchSize);
+    }
+
+    private <T extends User> List<T> getUsersForCourse(Class<T> userType, String courseId, UUID afterId, int batchSize) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<T> cr = cb.createQuery(userType);
+        Root<T> root = cr.from(userType);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("courseId"), courseId));
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.<UUID>get("id"), afterId));
+        }
+
+        cr.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(root.get("id")));
+
+        return HibernateUtil.createQuery(cr).setMaxResults(batchSize).getResultList();
+    }
+
+    /**
+     * Gets the number of students in the specified {@code courseId}.
+     */
+    public long getNumStudentsForCourse(String courseId) {
+        assert courseId != null;
+
+        return getNumUsersForCourse(Student.class, courseId);
+    }
+
+    /**
+     * Gets the number of instructors in the specified {@code courseId}.
+     */
+    public long getNumInstructorsForCourse(String courseId) {
+        assert courseId != null;
+
+        return getNumUsersForCourse(Instructor.class, courseId);
+    }
+
+    private <T extends User> long getNumUsersForCourse(Class<T> userType, String courseId) {
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Long> cr = cb.createQuery(Long.class);
+        Root<T> root = cr.from(userType);
+
+        cr.select(cb.count(root.get("id"))).where(cb.equal(root.get("courseId"), courseId));
+
+        return HibernateUtil.createQuery(cr).getSingleResult();
+    }
+
     /**
      * Gets the instructor with the specified {@code userEmail}.
      */
@@ -599,6 +710,32 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets all sections of the course with the specified {@code courseId}.
+     */
+    public List<Section> getSectionsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Section> cr = cb.createQuery(Section.class);
+        Root<Section> sectionRoot = cr.from(Section.class);
+        Join<Section, Course> courseJoin = sectionRoot.join("course");
+
+        cr.select(sectionRoot).where(cb.equal(courseJoin.get("id"), courseId));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Creates a section.
+     */
+    public Section createSection(Section section) {
+        assert section != null;
+
+        persist(section);
+        return section;
+    }
+
     /**
      * Gets a section by its {@code courseId} and {@code sectionName}.
      */
@@ -637,6 +774,33 @@ public final class UsersDb extends EntitiesDb {
         return HibernateUtil.createQuery(cr).getResultStream().findFirst().orElse(null);
     }
 
+    /**
+     * Gets all teams of the course with the specified {@code courseId}.
+     */
+    public List<Team> getTeamsForCourse(String courseId) {
+        assert courseId != null;
+
+        CriteriaBuilder cb = HibernateUtil.getCriteriaBuilder();
+        CriteriaQuery<Team> cr = cb.createQuery(Team.class);
+        Root<Team> teamRoot = cr.from(Team.class);
+        Join<Team, Section> sectionJoin = teamRoot.join("section");
+        Join<Section, Course> courseJoin = sectionJoin.join("course");
+
+        cr.select(teamRoot).where(cb.equal(courseJoin.get("id"), courseId));
+
+        return HibernateUtil.createQuery(cr).getResultList();
+    }
+
+    /**
+     * Creates a team.
+     */
+    public Team createTeam(Team team) {
+        assert team != null;
+
+        persist(team);
+        return team;
+    }
+
     /**
      * Gets a team by its {@code section} and {@code teamName}.
      */
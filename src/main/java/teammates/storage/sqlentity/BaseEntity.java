@@ -182,12 +182,15 @@ public abstract class BaseEntity {
 
     /**
      * Converter for InstructorPrivileges.
+     *
+     * <p>Privileges are stored as compact JSON, which reads back the same as the pretty-printed JSON
+     * of existing rows.
      */
     @Converter
     public static class InstructorPrivilegesConverter implements AttributeConverter<InstructorPrivileges, String> {
         @Override
         public String convertToDatabaseColumn(InstructorPrivileges entity) {
-            return JsonUtils.toJson(entity);
+            return JsonUtils.toCompactJson(entity);
         }
 
         @Override
@@ -0,0 +1,235 @@
+package teammates.storage.sqlentity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Converter;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.google.common.reflect.TypeToken;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Represents a request to enroll a list of students into a course, which is processed in chunks by the task queue.
+ */
+@Entity
+@Table(name = "EnrollmentJobs")
+public class EnrollmentJob extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @ManyToOne
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "courseId", nullable = false)
+    private Course course;
+
+    /**
+     * Hash of {@link #enrollRequests}, used to recognise resubmissions of the same enrollment.
+     */
+    @Column(nullable = false)
+    private String requestHash;
+
+    /**
+     * The students to enroll, stored as the JSON of the enrollment request.
+     */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String enrollRequests;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private EnrollmentJobStatus status;
+
+    @Column(nullable = false)
+    private int totalCount;
+
+    @Column(nullable = false)
+    private int processedCount;
+
+    @Column(nullable = false)
+    private int enrolledCount;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @Convert(converter = FailedEnrollmentsConverter.class)
+    private Map<String, String> failedEnrollments;
+
+    @UpdateTimestamp
+    private Instant updatedAt;
+
+    protected EnrollmentJob() {
+        // required by Hibernate
+    }
+
+    public EnrollmentJob(Course course, String requestHash, String enrollRequests, int totalCount) {
+        this.setId(UUID.randomUUID());
+        this.setCourse(course);
+        this.setRequestHash(requestHash);
+        this.setEnrollRequests(enrollRequests);
+        this.setStatus(EnrollmentJobStatus.IN_PROGRESS);
+        this.setTotalCount(totalCount);
+        this.setProcessedCount(0);
+        this.setEnrolledCount(0);
+        this.setFailedEnrollments(new LinkedHashMap<>());
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
+    public String getCourseId() {
+        return course.getId();
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public void setRequestHash(String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public String getEnrollRequests() {
+        return enrollRequests;
+    }
+
+    public void setEnrollRequests(String enrollRequests) {
+        this.enrollRequests = enrollRequests;
+    }
+
+    public EnrollmentJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EnrollmentJobStatus status) {
+        this.status = status;
+    }
+
+    public boolean isInProgress() {
+        return status == EnrollmentJobStatus.IN_PROGRESS;
+    }
+
+    public boolean isCompleted() {
+        return status == EnrollmentJobStatus.COMPLETED;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public int getProcessedCount() {
+        return processedCount;
+    }
+
+    public void setProcessedCount(int processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public void setEnrolledCount(int enrolledCount) {
+        this.enrolledCount = enrolledCount;
+    }
+
+    public Map<String, String> getFailedEnrollments() {
+        return failedEnrollments;
+    }
+
+    public void setFailedEnrollments(Map<String, String> failedEnrollments) {
+        this.failedEnrollments = failedEnrollments;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentJob [id=" + id + ", courseId=" + getCourseId() + ", status=" + status
+                + ", totalCount=" + totalCount + ", processedCount=" + processedCount
+                + ", enrolledCount=" + enrolledCount + ", createdAt=" + getCreatedAt()
+                + ", updatedAt=" + updatedAt + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getId().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            EnrollmentJob otherJob = (EnrollmentJob) other;
+            return Objects.equals(this.getId(), otherJob.getId());
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * Converter for the emails of students who cannot be enrolled, mapped to the reason, stored in JSON.
+     */
+    @Converter
+    public static class FailedEnrollmentsConverter implements AttributeConverter<Map<String, String>, String> {
+
+        @Override
+        public String convertToDatabaseColumn(Map<String, String> attribute) {
+            return JsonUtils.toCompactJson(attribute);
+        }
+
+        @Override
+        public Map<String, String> convertToEntityAttribute(String dbData) {
+            return JsonUtils.fromJson(dbData, new TypeToken<LinkedHashMap<String, String>>() {
+            }.getType());
+        }
+    }
+}
@@ -14,9 +14,13 @@ import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -36,7 +40,38 @@ import teammates.storage.sqlentity.responses.FeedbackTextResponse;
 @Entity
 @Table(name = "FeedbackResponses")
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = FeedbackResponse.GRAPH_RESULTS, attributeNodes = {
+                @NamedAttributeNode("feedbackQuestion"),
+                @NamedAttributeNode("giverSection"),
+                @NamedAttributeNode("recipientSection"),
+                @NamedAttributeNode("feedbackResponseComments")
+        }),
+        @NamedEntityGraph(name = FeedbackResponse.GRAPH_SUBMISSION, attributeNodes = {
+                @NamedAttributeNode("feedbackQuestion"),
+                @NamedAttributeNode("giverSection"),
+                @NamedAttributeNode("recipientSection")
+        }),
+        @NamedEntityGraph(name = FeedbackResponse.GRAPH_STATISTICS, attributeNodes = {
+                @NamedAttributeNode("feedbackQuestion")
+        })
+})
 public abstract class FeedbackResponse extends BaseEntity {
+    /**
+     * Entity graph for building session results, which need the question, sections and comments of responses.
+     */
+    public static final String GRAPH_RESULTS = "FeedbackResponse.results";
+
+    /**
+     * Entity graph for submitting responses, which need the question and sections of responses.
+     */
+    public static final String GRAPH_SUBMISSION = "FeedbackResponse.submission";
+
+    /**
+     * Entity graph for computing response statistics, which only need the question of responses.
+     */
+    public static final String GRAPH_STATISTICS = "FeedbackResponse.statistics";
+
     @Id
     private UUID id;
 
@@ -45,6 +80,7 @@ public abstract class FeedbackResponse extends BaseEntity {
     private FeedbackQuestion feedbackQuestion;
 
     @OneToMany(mappedBy = "feedbackResponse", cascade = CascadeType.REMOVE)
+    @BatchSize(size = 50)
     private List<FeedbackResponseComment> feedbackResponseComments = new ArrayList<>();
 
     @Column(nullable = false)
@@ -14,6 +14,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -32,7 +34,16 @@ import teammates.common.util.SanitizationHelper;
  */
 @Entity
 @Table(name = "FeedbackSessions", uniqueConstraints = @UniqueConstraint(columnNames = {"courseId", "name"}))
+@NamedEntityGraph(name = FeedbackSession.GRAPH_DASHBOARD, attributeNodes = {
+        @NamedAttributeNode("course"),
+        @NamedAttributeNode("deadlineExtensions")
+})
 public class FeedbackSession extends BaseEntity {
+    /**
+     * Entity graph for listing sessions on dashboards, which need the course and deadline extensions of sessions.
+     */
+    public static final String GRAPH_DASHBOARD = "FeedbackSession.dashboard";
+
     @Id
     private UUID id;
 
@@ -0,0 +1,103 @@
+package teammates.storage.sqlentity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Records that a giver has at least one response in a feedback session.
+ *
+ * <p>This is derived data of {@link FeedbackResponse} which is maintained together with the responses,
+ * so that the givers who have submitted a session can be found without scanning all of its responses.
+ */
+@Entity
+@Table(name = "FeedbackSessionSubmissions",
+        uniqueConstraints = @UniqueConstraint(name = "Unique sessionId and giver", columnNames = { "sessionId", "giver" }))
+public class FeedbackSessionSubmission extends BaseEntity {
+    @Id
+    private UUID id;
+
+    @ManyToOne
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JoinColumn(name = "sessionId", nullable = false)
+    private FeedbackSession feedbackSession;
+
+    @Column(nullable = false)
+    private String giver;
+
+    protected FeedbackSessionSubmission() {
+        // required by Hibernate
+    }
+
+    public FeedbackSessionSubmission(FeedbackSession feedbackSession, String giver) {
+        this.setId(UUID.randomUUID());
+        this.setFeedbackSession(feedbackSession);
+        this.setGiver(giver);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public FeedbackSession getFeedbackSession() {
+        return feedbackSession;
+    }
+
+    public void setFeedbackSession(FeedbackSession feedbackSession) {
+        this.feedbackSession = feedbackSession;
+    }
+
+    public String getGiver() {
+        return giver;
+    }
+
+    public void setGiver(String giver) {
+        this.giver = giver;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionSubmission [id=" + id + ", feedbackSessionId=" + feedbackSession.getId()
+                + ", giver=" + giver + ", createdAt=" + getCreatedAt() + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return this.getId().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            FeedbackSessionSubmission otherSubmission = (FeedbackSessionSubmission) other;
+            return Objects.equals(this.getId(), otherSubmission.getId());
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        return new ArrayList<>();
+    }
+}
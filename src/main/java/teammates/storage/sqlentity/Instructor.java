@@ -139,6 +139,13 @@ public class Instructor extends User {
         return this.privileges.getSectionsWithPrivilege(privilegeName);
     }
 
+    /**
+     * Returns true if the instructor has the specified privilege in any section.
+     */
+    public boolean hasSectionWithPrivilege(String privilegeName) {
+        return this.privileges.hasSectionWithPrivilege(privilegeName);
+    }
+
     /**
      * Returns true if the instructor has the given privilege in the course.
      */
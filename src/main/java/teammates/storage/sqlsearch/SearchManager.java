@@ -7,8 +7,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
+import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrServerException;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
@@ -36,12 +36,13 @@ abstract class SearchManager<T extends BaseEntity> {
     private static final String ERROR_SEARCH_DOCUMENT = "Failed to search for document(s) %s from Solr. Root cause: %s ";
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED = "Search service is not implemented";
     private static final String ERROR_PUT_DOCUMENT = "Failed to put document %s into Solr. Root cause: %s ";
+    private static final String ERROR_PUT_DOCUMENTS = "Failed to put %d documents into Solr. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION = "Failed to reset collections. Root cause: %s ";
 
     private static final int START_INDEX = 0;
     private static final int NUM_OF_RESULTS = Const.SEARCH_QUERY_SIZE_LIMIT;
 
-    private final HttpSolrClient client;
+    private final SolrClient client;
     private final boolean isResetAllowed;
 
     SearchManager(String searchServiceHost, boolean isResetAllowed) {
@@ -57,6 +58,14 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
+    /**
+     * Creates a search manager which sends its requests to the given client, e.g. a stand-in for the search service.
+     */
+    SearchManager(SolrClient client, boolean isResetAllowed) {
+        this.isResetAllowed = Config.IS_DEV_SERVER && isResetAllowed;
+        this.client = client;
+    }
+
     SolrQuery getBasicQuery(String queryString) {
         SolrQuery query = new SolrQuery();
 
@@ -126,6 +135,39 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
+    /**
+     * Creates or updates search documents for the given entities with a single request and commit.
+     */
+    public void putDocuments(List<T> entities) throws SearchServiceException {
+        if (client == null) {
+            log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
+            return;
+        }
+
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (T entity : entities) {
+            Map<String, Object> searchableFields = createDocument(entity).getSearchableFields();
+            SolrInputDocument document = new SolrInputDocument();
+            searchableFields.forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
+        }
+
+        try {
+            client.add(getCollectionName(), documents);
+            client.commit(getCollectionName());
+        } catch (SolrServerException e) {
+            log.severe(String.format(ERROR_PUT_DOCUMENTS, documents.size(), e.getRootCause()), e);
+            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+        } catch (IOException e) {
+            log.severe(String.format(ERROR_PUT_DOCUMENTS, documents.size(), e.getCause()), e);
+            throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
+        }
+    }
+
     /**
      * Removes search documents based on the given keys.
      */
@@ -168,41 +210,101 @@ abstract class SearchManager<T extends BaseEntity> {
         }
     }
 
-    private String cleanSpecialChars(String queryString) {
-        String htmlTagStripPattern = "<[^>]*>";
-
-        // Solr special characters: + - && || ! ( ) { } [ ] ^ " ~ * ? : \ /
-        String res = queryString.replaceAll(htmlTagStripPattern, "")
-                .replace("\\", "\\\\")
-                .replace("+", "\\+")
-                .replace("-", "\\-")
-                .replace("&&", "\\&&")
-                .replace("||", "\\||")
-                .replace("!", "\\!")
-                .replace("(", "\\(")
-                .replace(")", "\\)")
-                .replace("{", "\\{")
-                .replace("}", "\\}")
-                .replace("[", "\\[")
-                .replace("]", "\\]")
-                .replace("^", "\\^")
-                .replace("~", "\\~")
-                .replace("?", "\\?")
-                .replace(":", "\\:")
-                .replace("/", "\\/");
+    /**
+     * Strips HTML tags from the query string and escapes the Solr special characters
+     * {@code + - && || ! ( ) { } [ ] ^ ~ ? : \ /} in a single pass over the string.
+     *
+     * <p>Double quotes are kept for phrase queries unless they are imbalanced, in which case they are removed.
+     * Email-like input without quotes is turned into an exact phrase query.
+     */
+    static String cleanSpecialChars(String queryString) {
+        String res = stripHtmlTags(queryString);
 
+        int quoteCount = 0;
+        for (int i = 0; i < res.length(); i++) {
+            if (res.charAt(i) == '"') {
+                quoteCount++;
+            }
+        }
         // imbalanced double quotes are invalid
-        int count = StringUtils.countMatches(res, "\"");
-        if (count % 2 == 1) {
-            res = res.replace("\"", "");
+        boolean isRemovingQuotes = quoteCount % 2 == 1;
+
+        StringBuilder sb = new StringBuilder(res.length() + 16);
+        boolean hasAtSign = false;
+        for (int i = 0; i < res.length(); i++) {
+            char c = res.charAt(i);
+            switch (c) {
+            case '\\':
+            case '+':
+            case '-':
+            case '!':
+            case '(':
+            case ')':
+            case '{':
+            case '}':
+            case '[':
+            case ']':
+            case '^':
+            case '~':
+            case '?':
+            case ':':
+            case '/':
+                sb.append('\\').append(c);
+                break;
+            case '&':
+            case '|':
+                // only the two-character operators && and || are special
+                if (i + 1 < res.length() && res.charAt(i + 1) == c) {
+                    sb.append('\\').append(c).append(c);
+                    i++;
+                } else {
+                    sb.append(c);
+                }
+                break;
+            case '"':
+                if (!isRemovingQuotes) {
+                    sb.append(c);
+                }
+                break;
+            case '@':
+                hasAtSign = true;
+                sb.append(c);
+                break;
+            default:
+                sb.append(c);
+                break;
+            }
         }
 
         // use exact match only when there's email-like input
-        if (res.contains("@") && count == 0) {
-            return "\"" + res + "\"";
-        } else {
-            return res;
+        if (hasAtSign && quoteCount == 0) {
+            return "\"" + sb + "\"";
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Removes everything between {@code <} and the next {@code >}, both inclusive.
+     */
+    private static String stripHtmlTags(String str) {
+        int tagStart = str.indexOf('<');
+        if (tagStart == -1) {
+            return str;
+        }
+
+        StringBuilder sb = new StringBuilder(str.length());
+        int copyFrom = 0;
+        while (tagStart != -1) {
+            int tagEnd = str.indexOf('>', tagStart);
+            if (tagEnd == -1) {
+                break;
+            }
+            sb.append(str, copyFrom, tagStart);
+            copyFrom = tagEnd + 1;
+            tagStart = str.indexOf('<', copyFrom);
         }
+        sb.append(str, copyFrom, str.length());
+        return sb.toString();
     }
 
     abstract T getEntityFromDocument(SolrDocument document);
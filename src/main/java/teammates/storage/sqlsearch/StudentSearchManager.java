@@ -3,8 +3,11 @@ package teammates.storage.sqlsearch;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocument;
@@ -29,6 +32,10 @@ public class StudentSearchManager extends SearchManager<Student> {
         super(searchServiceHost, isResetAllowed);
     }
 
+    StudentSearchManager(SolrClient client, boolean isResetAllowed) {
+        super(client, isResetAllowed);
+    }
+
     @Override
     String getCollectionName() {
         return "students";
@@ -56,6 +63,17 @@ public class StudentSearchManager extends SearchManager<Student> {
                 .thenComparing(student -> student.getEmail()));
     }
 
+    /**
+     * Builds a filter query matching any of the given course IDs.
+     *
+     * <p>The terms query parser matches the IDs exactly without going through the query parser, and as the IDs
+     * are sorted, the same set of courses always produces the same filter query which Solr can serve from its
+     * filter cache. Course IDs cannot contain commas, so they can be used as the separator.
+     */
+    static String getCourseIdFilterQuery(SortedSet<String> courseIds) {
+        return "{!terms f=courseId}" + String.join(",", courseIds);
+    }
+
     /**
      * Searches for students.
      *
@@ -65,19 +83,18 @@ public class StudentSearchManager extends SearchManager<Student> {
             throws SearchServiceException {
         SolrQuery query = getBasicQuery(queryString);
 
-        List<String> courseIdsWithViewStudentPrivilege;
+        SortedSet<String> courseIdsWithViewStudentPrivilege;
         if (instructors == null) {
-            courseIdsWithViewStudentPrivilege = new ArrayList<>();
+            courseIdsWithViewStudentPrivilege = new TreeSet<>();
         } else {
             courseIdsWithViewStudentPrivilege = instructors.stream()
                     .filter(i -> i.getPrivileges().getCourseLevelPrivileges().isCanViewStudentInSections())
                     .map(ins -> ins.getCourseId())
-                    .collect(Collectors.toList());
+                    .collect(Collectors.toCollection(TreeSet::new));
             if (courseIdsWithViewStudentPrivilege.isEmpty()) {
                 return new ArrayList<>();
             }
-            String courseIdFq = String.join("\" OR \"", courseIdsWithViewStudentPrivilege);
-            query.addFilterQuery("courseId:(\"" + courseIdFq + "\")");
+            query.addFilterQuery(getCourseIdFilterQuery(courseIdsWithViewStudentPrivilege));
         }
 
         QueryResponse response = performQuery(query);
@@ -0,0 +1,91 @@
+package teammates.ui.output;
+
+import java.util.Map;
+
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.MetricsRegistry;
+
+/**
+ * The API output format of the {@link MetricsRegistry.ActionMetrics} of an action.
+ */
+public class ActionMetricsData extends ApiOutput {
+
+    private final String actionClass;
+    private final long numRequests;
+    private final long latencyMillisP50;
+    private final long latencyMillisP90;
+    private final long latencyMillisP99;
+    private final long latencyMillisMax;
+    private final long totalLatencyMillis;
+    private final Map<Integer, Long> numResponsesByStatus;
+    private final long numDbStatements;
+    private final long totalDbTimeMillis;
+    private final long responseSizeP50;
+    private final long responseSizeMax;
+
+    public ActionMetricsData(String actionClass, MetricsRegistry.ActionMetrics metrics) {
+        LatencyHistogram latency = metrics.getLatencyMillis();
+        LatencyHistogram responseSize = metrics.getResponseSize();
+        this.actionClass = actionClass;
+        this.numRequests = latency.getCount();
+        this.latencyMillisP50 = latency.getValueAtPercentile(50);
+        this.latencyMillisP90 = latency.getValueAtPercentile(90);
+        this.latencyMillisP99 = latency.getValueAtPercentile(99);
+        this.latencyMillisMax = latency.getMax();
+        this.totalLatencyMillis = latency.getSum();
+        this.numResponsesByStatus = metrics.getStatusCounts();
+        this.numDbStatements = metrics.getDbStatementCount();
+        this.totalDbTimeMillis = metrics.getDbTimeMillis();
+        this.responseSizeP50 = responseSize.getValueAtPercentile(50);
+        this.responseSizeMax = responseSize.getMax();
+    }
+
+    public String getActionClass() {
+        return actionClass;
+    }
+
+    public long getNumRequests() {
+        return numRequests;
+    }
+
+    public long getLatencyMillisP50() {
+        return latencyMillisP50;
+    }
+
+    public long getLatencyMillisP90() {
+        return latencyMillisP90;
+    }
+
+    public long getLatencyMillisP99() {
+        return latencyMillisP99;
+    }
+
+    public long getLatencyMillisMax() {
+        return latencyMillisMax;
+    }
+
+    public long getTotalLatencyMillis() {
+        return totalLatencyMillis;
+    }
+
+    public Map<Integer, Long> getNumResponsesByStatus() {
+        return numResponsesByStatus;
+    }
+
+    public long getNumDbStatements() {
+        return numDbStatements;
+    }
+
+    public long getTotalDbTimeMillis() {
+        return totalDbTimeMillis;
+    }
+
+    public long getResponseSizeP50() {
+        return responseSizeP50;
+    }
+
+    public long getResponseSizeMax() {
+        return responseSizeMax;
+    }
+
+}
@@ -0,0 +1,62 @@
+package teammates.ui.output;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.storage.sqlentity.EnrollmentJob;
+
+/**
+ * The API output format of an enrollment job, reporting its progress and the students that cannot be enrolled.
+ */
+public class EnrollmentJobData extends ApiOutput {
+
+    private final String enrollmentJobId;
+    private final String courseId;
+    private final EnrollmentJobStatus status;
+    private final int totalCount;
+    private final int processedCount;
+    private final int enrolledCount;
+    private final List<EnrollStudentsData.EnrollErrorResults> unsuccessfulEnrolls;
+
+    public EnrollmentJobData(EnrollmentJob enrollmentJob) {
+        this.enrollmentJobId = enrollmentJob.getId().toString();
+        this.courseId = enrollmentJob.getCourseId();
+        this.status = enrollmentJob.getStatus();
+        this.totalCount = enrollmentJob.getTotalCount();
+        this.processedCount = enrollmentJob.getProcessedCount();
+        this.enrolledCount = enrollmentJob.getEnrolledCount();
+        this.unsuccessfulEnrolls = enrollmentJob.getFailedEnrollments().entrySet()
+                .stream()
+                .map(entry -> new EnrollStudentsData.EnrollErrorResults(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    public String getEnrollmentJobId() {
+        return enrollmentJobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public EnrollmentJobStatus getStatus() {
+        return status;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public int getProcessedCount() {
+        return processedCount;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public List<EnrollStudentsData.EnrollErrorResults> getUnsuccessfulEnrolls() {
+        return unsuccessfulEnrolls;
+    }
+}
@@ -0,0 +1,46 @@
+package teammates.ui.output;
+
+import java.util.Map;
+
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
+import teammates.storage.sqlentity.FeedbackQuestion;
+
+/**
+ * The API output format of the statistics of the responses to a feedback question.
+ */
+public class FeedbackQuestionStatisticsData extends ApiOutput {
+    private final String feedbackQuestionId;
+    private final FeedbackQuestionType questionType;
+    private final int numResponses;
+    private final Map<String, FeedbackResponseStatistics.Tally> tallies;
+    private final Map<String, Map<String, FeedbackResponseStatistics.Tally>> talliesPerRecipient;
+
+    public FeedbackQuestionStatisticsData(FeedbackQuestion feedbackQuestion, FeedbackResponseStatistics statistics) {
+        this.feedbackQuestionId = feedbackQuestion.getId().toString();
+        this.questionType = feedbackQuestion.getQuestionDetailsCopy().getQuestionType();
+        this.numResponses = statistics.getNumResponses();
+        this.tallies = statistics.getTallies();
+        this.talliesPerRecipient = statistics.getTalliesPerRecipient();
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public FeedbackQuestionType getQuestionType() {
+        return questionType;
+    }
+
+    public int getNumResponses() {
+        return numResponses;
+    }
+
+    public Map<String, FeedbackResponseStatistics.Tally> getTallies() {
+        return tallies;
+    }
+
+    public Map<String, Map<String, FeedbackResponseStatistics.Tally>> getTalliesPerRecipient() {
+        return talliesPerRecipient;
+    }
+}
@@ -0,0 +1,26 @@
+package teammates.ui.output;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import teammates.common.util.MetricsRegistry;
+
+/**
+ * The API output format of the request metrics of all actions.
+ */
+public class MetricsData extends ApiOutput {
+
+    private final List<ActionMetricsData> actionMetrics;
+
+    public MetricsData(Map<String, MetricsRegistry.ActionMetrics> metrics) {
+        this.actionMetrics = metrics.entrySet().stream()
+                .map(entry -> new ActionMetricsData(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    public List<ActionMetricsData> getActionMetrics() {
+        return actionMetrics;
+    }
+
+}
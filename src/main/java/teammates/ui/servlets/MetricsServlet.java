@@ -0,0 +1,35 @@
+package teammates.ui.servlets;
+
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.MetricsRegistry;
+
+/**
+ * Servlet that exposes the request metrics of this instance in the Prometheus text format.
+ *
+ * <p>The metrics are only served to scrapers which present the backdoor key.
+ */
+public class MetricsServlet extends HttpServlet {
+
+    @Override
+    public void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!Config.BACKDOOR_KEY.equals(req.getHeader(Const.HeaderNames.BACKDOOR_KEY))) {
+            resp.setStatus(HttpStatus.SC_FORBIDDEN);
+            return;
+        }
+
+        resp.setStatus(HttpStatus.SC_OK);
+        resp.setContentType("text/plain; version=0.0.4");
+        resp.setCharacterEncoding("UTF-8");
+        resp.getWriter().write(MetricsRegistry.toPrometheusText());
+    }
+
+}
@@ -67,24 +67,29 @@ public class RequestTraceFilter implements Filter {
 
         RequestTracer.init(traceId, spanId, timeoutInSeconds);
 
-        if (Config.MAINTENANCE) {
-            throwError(request, response, HttpStatus.SC_SERVICE_UNAVAILABLE,
-                    "The server is currently undergoing some maintenance.");
-            return;
-        }
-
         try {
-            // Make sure that all parameters are valid UTF-8
-            request.getParameterMap();
-        } catch (RuntimeException e) {
-            if ("BadMessageException".equals(e.getClass().getSimpleName())) {
-                throwError(request, response, HttpStatus.SC_BAD_REQUEST, e.getMessage());
+            if (Config.MAINTENANCE) {
+                throwError(request, response, HttpStatus.SC_SERVICE_UNAVAILABLE,
+                        "The server is currently undergoing some maintenance.");
                 return;
             }
-            throw e;
-        }
 
-        chain.doFilter(req, resp);
+            try {
+                // Make sure that all parameters are valid UTF-8
+                request.getParameterMap();
+            } catch (RuntimeException e) {
+                if ("BadMessageException".equals(e.getClass().getSimpleName())) {
+                    throwError(request, response, HttpStatus.SC_BAD_REQUEST, e.getMessage());
+                    return;
+                }
+                throw e;
+            }
+
+            chain.doFilter(req, resp);
+        } finally {
+            // the thread may be reused for other requests, so the trace of this request is not kept
+            RequestTracer.clear();
+        }
     }
 
     private void throwError(HttpServletRequest req, HttpServletResponse resp, int statusCode, String message)
@@ -15,6 +15,8 @@ import teammates.common.datatransfer.logs.RequestLogUser;
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.HibernateUtil;
 import teammates.common.util.Logger;
+import teammates.common.util.MetricsRegistry;
+import teammates.common.util.RequestTracer;
 import teammates.ui.request.InvalidHttpRequestBodyException;
 import teammates.ui.webapi.Action;
 import teammates.ui.webapi.ActionFactory;
@@ -33,6 +35,8 @@ public class WebApiServlet extends HttpServlet {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final String UNMAPPED_ACTION = "UnmappedAction";
+
     @Override
     public void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         invokeServlet(req, resp);
@@ -69,7 +73,7 @@ public class WebApiServlet extends HttpServlet {
             }
 
             statusCode = result.getStatusCode();
-            result.send(resp);
+            result.send(req, resp);
         } catch (ActionMappingException e) {
             statusCode = e.getStatusCode();
             throwErrorBasedOnRequester(req, resp, e, statusCode);
@@ -115,6 +119,10 @@ public class WebApiServlet extends HttpServlet {
             }
 
             log.request(req, statusCode, actionClass, userInfo, requestBody, actionClass);
+            // unmapped requests are grouped together to keep the number of distinct metrics bounded
+            MetricsRegistry.recordRequest(actionClass == null ? UNMAPPED_ACTION : actionClass, statusCode,
+                    RequestTracer.getTimeElapsedMillis(), RequestTracer.getDbStatementCount(),
+                    RequestTracer.getDbTimeNanos(), RequestTracer.getResponseSize());
         }
     }
 
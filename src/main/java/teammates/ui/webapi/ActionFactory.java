@@ -81,6 +81,8 @@ public final class ActionFactory {
         map(ResourceURIs.STUDENTS, GET, GetStudentsAction.class);
         map(ResourceURIs.STUDENTS, PUT, EnrollStudentsAction.class);
         map(ResourceURIs.STUDENTS, DELETE, DeleteStudentsAction.class);
+        map(ResourceURIs.STUDENTS_ENROLLMENT_JOB, GET, GetEnrollmentJobAction.class);
+        map(ResourceURIs.STUDENTS_ENROLLMENT_JOB, POST, CreateEnrollmentJobAction.class);
 
         //STUDENT APIs
         map(ResourceURIs.STUDENT, DELETE, DeleteStudentAction.class);
@@ -125,6 +127,7 @@ public final class ActionFactory {
         map(ResourceURIs.QUESTION, PUT, UpdateFeedbackQuestionAction.class);
         map(ResourceURIs.QUESTION, DELETE, DeleteFeedbackQuestionAction.class);
         map(ResourceURIs.QUESTION_RECIPIENTS, GET, GetFeedbackQuestionRecipientsAction.class);
+        map(ResourceURIs.QUESTION_STATISTICS, GET, GetFeedbackQuestionStatisticsAction.class);
         map(ResourceURIs.RESPONSES, GET, GetFeedbackResponsesAction.class);
         map(ResourceURIs.RESPONSES, PUT, SubmitFeedbackResponsesAction.class);
         map(ResourceURIs.HAS_RESPONSES, GET, GetHasResponsesAction.class);
@@ -140,6 +143,7 @@ public final class ActionFactory {
         map(ResourceURIs.SESSION_LOGS, GET, GetFeedbackSessionLogsAction.class);
         map(ResourceURIs.LOGS, GET, QueryLogsAction.class);
         map(ResourceURIs.USAGE_STATISTICS, GET, GetUsageStatisticsAction.class);
+        map(ResourceURIs.METRICS, GET, GetMetricsAction.class);
         map(ResourceURIs.ACTION_CLASS, GET, GetActionClassesAction.class);
 
         // Cron jobs; use GET request
@@ -162,6 +166,8 @@ public final class ActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, POST, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL, POST,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL, POST,
+                FeedbackSessionAutomatedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_EMAIL_WORKER_URL, POST, FeedbackSessionRemindEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL, POST,
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class);
@@ -173,6 +179,8 @@ public final class ActionFactory {
         map(TaskQueue.ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL, POST, AccountRequestSearchIndexingWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL, POST, InstructorSearchIndexingWorkerAction.class);
         map(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, POST, StudentSearchIndexingWorkerAction.class);
+        map(TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL, POST, StudentsSearchIndexingWorkerAction.class);
+        map(TaskQueue.ENROLLMENT_JOB_WORKER_URL, POST, EnrollmentJobWorkerAction.class);
 
     }
 
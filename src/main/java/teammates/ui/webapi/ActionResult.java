@@ -2,6 +2,7 @@ package teammates.ui.webapi;
 
 import java.io.IOException;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
@@ -20,6 +21,16 @@ public abstract class ActionResult {
      */
     public abstract void send(HttpServletResponse resp) throws IOException;
 
+    /**
+     * Packages and forwards the action result to the HTTP response of the given request.
+     *
+     * <p>By default, the request is not considered; results can override this to respond based on the request,
+     * e.g. with conditional requests.
+     */
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        send(resp);
+    }
+
     public int getStatusCode() {
         return statusCode;
     }
@@ -0,0 +1,71 @@
+package teammates.ui.webapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.google.common.hash.Hashing;
+
+import teammates.common.exception.EnrollException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.EnrollmentJobData;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.StudentsEnrollRequest;
+
+/**
+ * Creates a job which enrolls a list of students in the background.
+ *
+ * <p>The sections and teams of the students are validated before the job is created.
+ * Submitting the same list of students again while the job is in progress returns the same job.
+ * A job which has stalled is marked as failed, and can then be restarted by submitting the students again.
+ */
+public class CreateEnrollmentJobAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
+        }
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(courseId, userInfo.id);
+        gateKeeper.verifyAccessible(
+                instructor, sqlLogic.getCourse(courseId), Const.InstructorPermissions.CAN_MODIFY_STUDENT);
+    }
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException, InvalidOperationException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        StudentsEnrollRequest enrollRequests = getAndValidateRequestBody(StudentsEnrollRequest.class);
+        Course course = sqlLogic.getCourse(courseId);
+
+        List<Student> studentsToEnroll =
+                EnrollStudentsAction.createStudentsToEnroll(course, enrollRequests.getStudentEnrollRequests());
+        try {
+            sqlLogic.validateSectionsAndTeams(studentsToEnroll, courseId);
+        } catch (EnrollException e) {
+            throw new InvalidOperationException(e);
+        }
+
+        String enrollRequestsJson = JsonUtils.toCompactJson(enrollRequests);
+        String requestHash = Hashing.sha256().hashString(enrollRequestsJson, StandardCharsets.UTF_8).toString();
+
+        EnrollmentJob newJob = new EnrollmentJob(course, requestHash, enrollRequestsJson, studentsToEnroll.size());
+        EnrollmentJob enrollmentJob = sqlLogic.createEnrollmentJobIfAbsent(newJob);
+        if (enrollmentJob.getId().equals(newJob.getId())) {
+            taskQueuer.scheduleEnrollmentJobProcessing(enrollmentJob.getId(), 0);
+        }
+
+        return new JsonResult(new EnrollmentJobData(enrollmentJob));
+    }
+
+}
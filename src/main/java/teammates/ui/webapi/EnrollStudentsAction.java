@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -70,68 +71,26 @@ public class EnrollStudentsAction extends Action {
         boolean isCourseMigrated = isCourseMigrated(courseId);
 
         if (isCourseMigrated) {
-            List<Student> studentsToEnroll = new ArrayList<>();
-            studentEnrollRequests.forEach(studentEnrollRequest -> {
-                Section section = new Section(course, studentEnrollRequest.getSection());
-                Team team = new Team(section, studentEnrollRequest.getTeam());
-                studentsToEnroll.add(new Student(
-                        course, studentEnrollRequest.getName(),
-                        studentEnrollRequest.getEmail(), studentEnrollRequest.getComments(), team));
-            });
+            List<Student> studentsToEnroll = createStudentsToEnroll(course, studentEnrollRequests);
             try {
                 sqlLogic.validateSectionsAndTeams(studentsToEnroll, courseId);
             } catch (EnrollException e) {
                 throw new InvalidOperationException(e);
             }
 
-            List<Student> enrolledStudents = new ArrayList<>();
-            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
-            Set<String> existingStudentsEmail;
+            StudentEnrollmentResult enrollmentResult = sqlLogic.enrollStudents(course, studentsToEnroll);
 
-            List<Student> existingStudents = sqlLogic.getStudentsForCourse(courseId);
-            existingStudentsEmail =
-                    existingStudents.stream().map(Student::getEmail).collect(Collectors.toSet());
+            List<String> modifiedStudentsEmail = enrollmentResult.getModifiedStudents()
+                    .stream()
+                    .map(Student::getEmail)
+                    .collect(Collectors.toList());
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId, modifiedStudentsEmail);
 
-            for (StudentsEnrollRequest.StudentEnrollRequest enrollRequest : studentEnrollRequests) {
-                RequestTracer.checkRemainingTime();
-                if (existingStudentsEmail.contains(enrollRequest.getEmail())) {
-                    // The student has been enrolled in the course.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent.setId(sqlLogic.getStudentForEmail(courseId, enrollRequest.getEmail()).getId());
-                        Student updatedStudent = sqlLogic.updateStudentCascade(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                updatedStudent.getCourseId(), updatedStudent.getEmail());
-                        enrolledStudents.add(updatedStudent);
-                    } catch (InvalidParametersException | EntityDoesNotExistException
-                            | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                } else {
-                    // The student is new.
-                    try {
-                        Section section = sqlLogic.getSectionOrCreate(courseId, enrollRequest.getSection());
-                        Team team = sqlLogic.getTeamOrCreate(section, enrollRequest.getTeam());
-                        Student newStudent = new Student(
-                                course, enrollRequest.getName(),
-                                enrollRequest.getEmail(), enrollRequest.getComments(), team);
-                        newStudent = sqlLogic.createStudent(newStudent);
-                        taskQueuer.scheduleStudentForSearchIndexing(
-                                newStudent.getCourseId(), newStudent.getEmail());
-                        enrolledStudents.add(newStudent);
-                    } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                        // Unsuccessfully enrolled students will not be returned.
-                        failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(enrollRequest.getEmail(),
-                                exception.getMessage()));
-                    }
-                }
-            }
+            List<Student> enrolledStudents = enrollmentResult.getEnrolledStudents();
+            // Unsuccessfully enrolled students will not be returned.
+            List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
+            enrollmentResult.getFailedEmailsToErrorMessages().forEach((email, errorMessage) ->
+                    failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(email, errorMessage)));
 
             List<StudentData> studentDataList = enrolledStudents
                     .stream()
@@ -222,4 +181,20 @@ public class EnrollStudentsAction extends Action {
 
         }
     }
+
+    /**
+     * Creates the students to be enrolled into the course, with sections and teams which only carry their names.
+     */
+    static List<Student> createStudentsToEnroll(
+            Course course, List<StudentsEnrollRequest.StudentEnrollRequest> studentEnrollRequests) {
+        List<Student> studentsToEnroll = new ArrayList<>();
+        studentEnrollRequests.forEach(studentEnrollRequest -> {
+            Section section = new Section(course, studentEnrollRequest.getSection());
+            Team team = new Team(section, studentEnrollRequest.getTeam());
+            studentsToEnroll.add(new Student(
+                    course, studentEnrollRequest.getName(),
+                    studentEnrollRequest.getEmail(), studentEnrollRequest.getComments(), team));
+        });
+        return studentsToEnroll;
+    }
 }
@@ -0,0 +1,69 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.HibernateUtil;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.request.StudentsEnrollRequest;
+
+/**
+ * Task queue worker action: enrolls the next chunk of students of an enrollment job.
+ *
+ * <p>The progress of the job is saved in the same transaction as the enrolled students, so a failed chunk
+ * is retried from where the job stopped. A task whose offset does not match the progress of the job
+ * (e.g. a duplicated task) does nothing. Follow-up tasks are only enqueued once the chunk is committed.
+ */
+public class EnrollmentJobWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final int CHUNK_SIZE = 250;
+
+    @Override
+    public JsonResult execute() {
+        UUID enrollmentJobId = getUuidRequestParamValue(ParamsNames.ENROLLMENT_JOB_ID);
+        int offset = (int) getLongRequestParamValue(ParamsNames.ENROLLMENT_JOB_OFFSET);
+
+        EnrollmentJob enrollmentJob = sqlLogic.getEnrollmentJob(enrollmentJobId);
+        if (enrollmentJob == null) {
+            log.severe("Enrollment job " + enrollmentJobId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+        if (!enrollmentJob.isInProgress() || enrollmentJob.getProcessedCount() != offset) {
+            log.info("Enrollment job " + enrollmentJobId + " has already processed " + enrollmentJob.getProcessedCount()
+                    + " students, skipping the chunk at " + offset + ".");
+            return new JsonResult("Successful");
+        }
+
+        List<StudentsEnrollRequest.StudentEnrollRequest> studentEnrollRequests =
+                JsonUtils.fromJson(enrollmentJob.getEnrollRequests(), StudentsEnrollRequest.class)
+                        .getStudentEnrollRequests();
+        int end = Math.min(offset + CHUNK_SIZE, studentEnrollRequests.size());
+        List<Student> studentsToEnroll = EnrollStudentsAction.createStudentsToEnroll(
+                enrollmentJob.getCourse(), studentEnrollRequests.subList(offset, end));
+
+        StudentEnrollmentResult result = sqlLogic.enrollStudents(enrollmentJob.getCourse(), studentsToEnroll);
+        String courseId = enrollmentJob.getCourseId();
+        List<String> modifiedStudentEmails =
+                result.getModifiedStudents().stream().map(Student::getEmail).collect(Collectors.toList());
+
+        sqlLogic.recordEnrollmentJobProgress(enrollmentJob, end - offset, result);
+        boolean hasNextChunk = enrollmentJob.isInProgress();
+        HibernateUtil.runAfterCommit(() -> {
+            taskQueuer.scheduleStudentsForSearchIndexing(courseId, modifiedStudentEmails);
+            if (hasNextChunk) {
+                taskQueuer.scheduleEnrollmentJobProcessing(enrollmentJobId, end);
+            }
+        });
+
+        return new JsonResult("Successful");
+    }
+
+}
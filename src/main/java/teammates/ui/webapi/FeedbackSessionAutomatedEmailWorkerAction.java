@@ -0,0 +1,77 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.storage.sqlentity.FeedbackSession;
+
+/**
+ * Task queue worker action: prepares an automated email (opening soon, opened, closing soon or closed)
+ * of a particular session to be sent.
+ */
+public class FeedbackSessionAutomatedEmailWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        EmailType emailType = getEmailType();
+
+        FeedbackSession session = sqlLogic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                    + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+
+        // The emails are identified by the session as it is before being marked, which stays the same
+        // until the mark is committed, or until the mark is reset when the session is updated.
+        String batchKey = session.getId() + "%" + emailType + "%" + session.getUpdatedAt();
+
+        // The email is marked as sent before it is scheduled so that duplicated tasks do not send it again.
+        // If scheduling any of the emails fails, the exception propagates, so that the mark is rolled back
+        // together with the transaction and the task is retried. The emails which were scheduled before the
+        // failure are not scheduled again by the retry, as they are scheduled at most once for the same key.
+        if (!sqlLogic.markFeedbackSessionAutomatedEmailSent(session, emailType)) {
+            log.info(emailType + " email for feedback session name: " + feedbackSessionName
+                    + " for course: " + courseId + " has already been sent.");
+            return new JsonResult("Successful");
+        }
+
+        List<EmailWrapper> emailsToBeSent = generateEmails(session, emailType);
+        taskQueuer.scheduleEmailsForSending(emailsToBeSent, batchKey);
+        return new JsonResult("Successful");
+    }
+
+    private EmailType getEmailType() {
+        String emailType = getNonNullRequestParamValue(ParamsNames.EMAIL_TYPE);
+        switch (emailType) {
+        case "FEEDBACK_OPENING_SOON":
+        case "FEEDBACK_OPENED":
+        case "FEEDBACK_CLOSING_SOON":
+        case "FEEDBACK_CLOSED":
+            return EmailType.valueOf(emailType);
+        default:
+            throw new InvalidHttpParameterException("Email type " + emailType + " not accepted");
+        }
+    }
+
+    private List<EmailWrapper> generateEmails(FeedbackSession session, EmailType emailType) {
+        switch (emailType) {
+        case FEEDBACK_OPENING_SOON:
+            return sqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session);
+        case FEEDBACK_OPENED:
+            return sqlEmailGenerator.generateFeedbackSessionOpenedEmails(session);
+        case FEEDBACK_CLOSING_SOON:
+            return sqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session);
+        default:
+            return sqlEmailGenerator.generateFeedbackSessionClosedEmails(session);
+        }
+    }
+
+}
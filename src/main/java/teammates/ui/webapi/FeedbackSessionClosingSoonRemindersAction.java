@@ -10,6 +10,7 @@ import teammates.common.datatransfer.attributes.DeadlineExtensionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -31,13 +32,9 @@ public class FeedbackSessionClosingSoonRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setClosingSoonEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            // the emails are prepared in a separate task per session, which also marks them as sent
+            taskQueuer.scheduleFeedbackSessionAutomatedEmail(
+                    session.getCourse().getId(), session.getName(), EmailType.FEEDBACK_CLOSING_SOON);
         }
 
         executeForDatastoreExtendedDeadlines();
@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -43,13 +44,9 @@ public class FeedbackSessionOpenedRemindersAction extends AdminOnlyAction {
 
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpenedEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setOpenedEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            // the emails are prepared in a separate task per session, which also marks them as sent
+            taskQueuer.scheduleFeedbackSessionAutomatedEmail(
+                    session.getCourse().getId(), session.getName(), EmailType.FEEDBACK_OPENED);
         }
 
         return new JsonResult("Successful");
@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
@@ -41,13 +42,9 @@ public class FeedbackSessionOpeningSoonRemindersAction extends AdminOnlyAction {
         List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsOpeningWithinTimeLimit();
         for (FeedbackSession session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = sqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                session.setOpeningSoonEmailSent(true);
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            // the emails are prepared in a separate task per session, which also marks them as sent
+            taskQueuer.scheduleFeedbackSessionAutomatedEmail(
+                    session.getCourse().getId(), session.getName(), EmailType.FEEDBACK_OPENING_SOON);
         }
 
         return new JsonResult("Successful");
@@ -0,0 +1,45 @@
+package teammates.ui.webapi;
+
+import java.util.UUID;
+
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.EnrollmentJobData;
+
+/**
+ * Gets the progress of an enrollment job and the students that cannot be enrolled so far.
+ */
+public class GetEnrollmentJobAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
+        }
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(courseId, userInfo.id);
+        gateKeeper.verifyAccessible(
+                instructor, sqlLogic.getCourse(courseId), Const.InstructorPermissions.CAN_MODIFY_STUDENT);
+    }
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        UUID enrollmentJobId = getUuidRequestParamValue(Const.ParamsNames.ENROLLMENT_JOB_ID);
+
+        EnrollmentJob enrollmentJob = sqlLogic.getEnrollmentJob(enrollmentJobId);
+        if (enrollmentJob == null || !enrollmentJob.getCourseId().equals(courseId)) {
+            throw new EntityNotFoundException("Enrollment job does not exist.");
+        }
+
+        return new JsonResult(new EnrollmentJobData(enrollmentJob));
+    }
+
+}
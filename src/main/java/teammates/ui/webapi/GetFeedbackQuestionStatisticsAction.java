@@ -0,0 +1,57 @@
+package teammates.ui.webapi;
+
+import java.util.UUID;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.FeedbackQuestionStatisticsData;
+
+/**
+ * Gets the statistics of the responses to a feedback question without the responses themselves.
+ *
+ * <p>Only questions of courses stored in SQL are supported.
+ *
+ * @see FeedbackQuestionStatisticsData for output format
+ */
+public class GetFeedbackQuestionStatisticsAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        FeedbackQuestion feedbackQuestion = getNonNullFeedbackQuestion();
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(feedbackQuestion.getCourseId(), userInfo.getId());
+
+        gateKeeper.verifyAccessible(instructor, feedbackQuestion.getFeedbackSession());
+    }
+
+    @Override
+    public JsonResult execute() {
+        FeedbackQuestion feedbackQuestion = getNonNullFeedbackQuestion();
+        Instructor instructor = sqlLogic.getInstructorByGoogleId(feedbackQuestion.getCourseId(), userInfo.getId());
+
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        FeedbackResultFetchType fetchType = FeedbackResultFetchType.parseFetchType(
+                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER));
+
+        FeedbackResponseStatistics statistics =
+                sqlLogic.getQuestionStatistics(feedbackQuestion, instructor, selectedSection, fetchType);
+        return new JsonResult(new FeedbackQuestionStatisticsData(feedbackQuestion, statistics));
+    }
+
+    private FeedbackQuestion getNonNullFeedbackQuestion() {
+        UUID feedbackQuestionId = getUuidRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        FeedbackQuestion feedbackQuestion = sqlLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (feedbackQuestion == null) {
+            throw new EntityNotFoundException("Feedback Question not found");
+        }
+        return feedbackQuestion;
+    }
+
+}
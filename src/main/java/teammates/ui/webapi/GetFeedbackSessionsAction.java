@@ -1,5 +1,6 @@
 package teammates.ui.webapi;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -92,14 +93,13 @@ public class GetFeedbackSessionsAction extends Action {
         if (courseId == null) {
             if (Const.EntityType.STUDENT.equals(entityType)) {
                 List<Student> students = sqlLogic.getStudentsByGoogleId(userInfo.getId());
+                List<String> studentCourseIds = new ArrayList<>();
                 for (Student student : students) {
-                    String studentCourseId = student.getCourse().getId();
-                    String emailAddress = student.getEmail();
-
-                    studentEmails.add(emailAddress);
-                    List<FeedbackSession> sessions = sqlLogic.getFeedbackSessionsForCourse(studentCourseId);
-                    feedbackSessions.addAll(sessions);
+                    studentCourseIds.add(student.getCourse().getId());
+                    studentEmails.add(student.getEmail());
                 }
+                // the sessions of all courses are fetched at once instead of course by course
+                feedbackSessions = sqlLogic.getFeedbackSessionsForCourses(studentCourseIds);
                 List<StudentAttributes> dataStoreStudents = logic.getStudentsForGoogleId(userInfo.getId());
                 for (StudentAttributes student : dataStoreStudents) {
                     String studentCourseId = student.getCourse();
@@ -204,6 +204,12 @@ public class GetFeedbackSessionsAction extends Action {
                 session.setPrivileges(privilege);
             });
         }
-        return new JsonResult(responseData);
+        JsonResult result = new JsonResult(responseData);
+        if (courseId == null && Const.EntityType.STUDENT.equals(entityType)) {
+            // the sessions change when the student joins a course or instructors publish or extend them,
+            // so the dashboard is revalidated on every load, which saves resending it when it is unchanged
+            result.setCacheable(Duration.ZERO);
+        }
+        return result;
     }
 }
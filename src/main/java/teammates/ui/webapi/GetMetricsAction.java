@@ -0,0 +1,16 @@
+package teammates.ui.webapi;
+
+import teammates.common.util.MetricsRegistry;
+import teammates.ui.output.MetricsData;
+
+/**
+ * Gets the request metrics of every action served by this instance.
+ */
+public class GetMetricsAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() {
+        return new JsonResult(new MetricsData(MetricsRegistry.getActionMetrics()));
+    }
+
+}
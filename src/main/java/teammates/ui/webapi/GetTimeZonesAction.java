@@ -1,5 +1,6 @@
 package teammates.ui.webapi;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.zone.ZoneRulesProvider;
@@ -37,6 +38,9 @@ public class GetTimeZonesAction extends Action {
             }
         }
         TimeZonesData output = new TimeZonesData(tzVersion, tzOffsets);
-        return new JsonResult(output);
+        JsonResult result = new JsonResult(output);
+        // the time zones are not sensitive and rarely change, so they are revalidated instead of fetched again
+        result.setCacheable(Duration.ZERO);
+        return result;
     }
 }
@@ -1,14 +1,24 @@
 package teammates.ui.webapi;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingOutputStream;
 
 import teammates.common.util.Config;
 import teammates.common.util.JsonUtils;
@@ -25,6 +35,7 @@ public class JsonResult extends ActionResult {
 
     private final ApiOutput output;
     private List<Cookie> cookies;
+    private Duration maxAge;
 
     public JsonResult(ApiOutput output) {
         super(HttpStatus.SC_OK);
@@ -51,6 +62,18 @@ public class JsonResult extends ActionResult {
         return output;
     }
 
+    /**
+     * Allows a successful response to a GET request to be stored by the browser of the user, and reused
+     * for the given duration before it has to be revalidated with its entity tag.
+     * A zero duration means that the response has to be revalidated before every use.
+     *
+     * <p>By default, the response is not stored at all. This must thus only be used for output which is not sensitive,
+     * as the stored response stays on the disk of the user.
+     */
+    public void setCacheable(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
     @Override
     public void send(HttpServletResponse resp) throws IOException {
         output.setRequestId(RequestTracer.getTraceId());
@@ -60,12 +83,106 @@ public class JsonResult extends ActionResult {
         }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
+        CountingWriter writer = new CountingWriter(resp.getWriter());
+        JsonUtils.toCompactJson(output, writer);
+        RequestTracer.recordResponseSize(writer.count);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Successful responses to GET requests which are {@link #setCacheable(Duration) cacheable} are tagged with
+     * a strong entity tag derived from the content of the output. If the request already has the same tag in its
+     * {@code If-None-Match} header, 304 (Not Modified) is sent without the body, so that unchanged resources which are
+     * fetched repeatedly are not transferred again.
+     */
+    @Override
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (maxAge == null || !HttpGet.METHOD_NAME.equals(req.getMethod()) || getStatusCode() != HttpStatus.SC_OK
+                || !cookies.isEmpty()) {
+            send(resp);
+            return;
+        }
+
+        // the request ID is different for every request, and is thus left out of the stored response
+        output.setRequestId(null);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        HashingOutputStream hashingStream = new HashingOutputStream(Hashing.sha256(), content);
+        try (Writer writer = new OutputStreamWriter(hashingStream, StandardCharsets.UTF_8)) {
+            JsonUtils.toCompactJson(output, writer);
+        }
+        String entityTag = '"' + hashingStream.hash().toString() + '"';
+
+        resp.setHeader("ETag", entityTag);
+        if (maxAge.isZero()) {
+            resp.setHeader("Cache-Control", "private, no-cache");
+        } else {
+            resp.setHeader("Cache-Control", "private, max-age=" + maxAge.toSeconds());
+            // the response must not be reused once another user logs in on the same browser
+            resp.setHeader("Vary", "Cookie");
+        }
+
+        if (isMatchingEntityTag(req.getHeader("If-None-Match"), entityTag)) {
+            resp.setStatus(HttpStatus.SC_NOT_MODIFIED);
+            RequestTracer.recordResponseSize(0);
+            return;
+        }
+
+        String json = content.toString(StandardCharsets.UTF_8);
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+        resp.getWriter().write(json);
+        RequestTracer.recordResponseSize(json.length());
     }
 
     public List<Cookie> getCookies() {
         return cookies;
     }
 
+    private static boolean isMatchingEntityTag(String ifNoneMatch, String entityTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // weak comparison is used for If-None-Match, as specified in RFC 9110
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || entityTag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writer which counts the characters written through it.
+     */
+    private static final class CountingWriter extends FilterWriter {
+        private long count;
+
+        CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            super.write(cbuf, off, len);
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            super.write(str, off, len);
+            count += len;
+        }
+    }
+
 }
@@ -0,0 +1,74 @@
+package teammates.common.datatransfer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link GiverRecipientMatrix}.
+ */
+public class GiverRecipientMatrixTest extends BaseTestCase {
+
+    @Test
+    public void testEmptyMatrix() {
+        GiverRecipientMatrix matrix = new GiverRecipientMatrix();
+
+        assertEquals(0, matrix.getNumberOfGivers());
+        assertEquals(-1, matrix.getGiverIndex("giver@email.com"));
+        assertEquals(-1, matrix.getRecipientIndex("recipient@email.com"));
+        assertTrue(matrix.toGiverRecipientMap().isEmpty());
+    }
+
+    @Test
+    public void testSetRecipientsForGiver() {
+        GiverRecipientMatrix matrix = new GiverRecipientMatrix();
+        matrix.setRecipientsForGiver("s1@email.com", Arrays.asList("s2@email.com", "s3@email.com"));
+        matrix.setRecipientsForGiver("s2@email.com", Arrays.asList("s1@email.com", "s3@email.com"));
+        matrix.setRecipientsForGiver("s3@email.com", Collections.emptyList());
+
+        ______TS("givers are kept in insertion order");
+
+        assertEquals(3, matrix.getNumberOfGivers());
+        assertEquals(0, matrix.getGiverIndex("s1@email.com"));
+        assertEquals(1, matrix.getGiverIndex("s2@email.com"));
+        assertEquals(2, matrix.getGiverIndex("s3@email.com"));
+        assertEquals("s2@email.com", matrix.getGiver(1));
+
+        ______TS("recipient indexes are shared between givers");
+
+        int recipientIndex = matrix.getRecipientIndex("s3@email.com");
+        assertEquals("s3@email.com", matrix.getRecipient(recipientIndex));
+        assertTrue(matrix.copyRecipientIndexesForGiver(0).get(recipientIndex));
+        assertTrue(matrix.copyRecipientIndexesForGiver(1).get(recipientIndex));
+
+        ______TS("copied rows do not affect the matrix");
+
+        BitSet row = matrix.copyRecipientIndexesForGiver(0);
+        row.clear(recipientIndex);
+        assertTrue(matrix.copyRecipientIndexesForGiver(0).get(recipientIndex));
+
+        ______TS("setting recipients again replaces the previous recipients");
+
+        matrix.setRecipientsForGiver("s1@email.com", Collections.singletonList("s4@email.com"));
+        assertEquals(3, matrix.getNumberOfGivers());
+        assertFalse(matrix.copyRecipientIndexesForGiver(0).get(matrix.getRecipientIndex("s2@email.com")));
+        assertTrue(matrix.copyRecipientIndexesForGiver(0).get(matrix.getRecipientIndex("s4@email.com")));
+
+        ______TS("expanded into giver to recipients map");
+
+        Map<String, Set<String>> giverRecipientMap = matrix.toGiverRecipientMap();
+        assertEquals(3, giverRecipientMap.size());
+        assertEquals(Collections.singleton("s4@email.com"), giverRecipientMap.get("s1@email.com"));
+        assertEquals(new HashSet<>(Arrays.asList("s1@email.com", "s3@email.com")),
+                giverRecipientMap.get("s2@email.com"));
+        assertTrue(giverRecipientMap.get("s3@email.com").isEmpty());
+    }
+
+}
@@ -1,8 +1,11 @@
 package teammates.common.datatransfer;
 
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -287,6 +290,91 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAnySection() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        String privilegeName = Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS;
+
+        ______TS("no sections: not allowed in any section");
+        assertFalse(privileges.isAllowedForPrivilegeAnySection("session", privilegeName));
+
+        ______TS("allowed in one of the sections");
+        privileges.updatePrivilege("section1", privilegeName, false);
+        privileges.updatePrivilege("section2", "session", privilegeName, false);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection("otherSession", privilegeName));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection("session", privilegeName));
+
+        ______TS("session-level privilege overrides section-level privilege");
+        privileges.updatePrivilege("section1", "session", privilegeName, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection("session", privilegeName));
+    }
+
+    @Test
+    public void testHasSectionWithPrivilege() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_OBSERVER);
+        String privilegeName = Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS;
+
+        assertFalse(privileges.hasSectionWithPrivilege(privilegeName));
+
+        privileges.addSectionWithDefaultPrivileges("section1");
+        assertFalse(privileges.hasSectionWithPrivilege(privilegeName));
+
+        privileges.updatePrivilege("section1", privilegeName, true);
+        assertTrue(privileges.hasSectionWithPrivilege(privilegeName));
+        assertEquals(!privileges.getSectionsWithPrivilege(privilegeName).isEmpty(),
+                privileges.hasSectionWithPrivilege(privilegeName));
+    }
+
+    @Test
+    public void testIsAllowedForPrivilege_manyOverrides_matchesPrivilegeHierarchy() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        String[] privilegeNames = {
+                Const.InstructorPermissions.CAN_VIEW_STUDENT_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS,
+                Const.InstructorPermissions.CAN_MODIFY_SESSION_COMMENT_IN_SECTIONS,
+        };
+        for (int section = 0; section < 20; section++) {
+            for (int session = 0; session < 20; session += section % 3 + 1) {
+                privileges.updatePrivilege("section" + section, "session" + session,
+                        privilegeNames[(section + session) % privilegeNames.length], (section + session) % 2 == 0);
+            }
+            privileges.updatePrivilege("section" + section, privilegeNames[section % privilegeNames.length],
+                    section % 3 == 0);
+        }
+
+        InstructorPrivileges deserialized = JsonUtils.fromJson(JsonUtils.toCompactJson(privileges),
+                InstructorPrivileges.class);
+        assertEquals(privileges, deserialized);
+
+        Map<String, InstructorPermissionSet> sectionLevel = privileges.getSectionLevelPrivileges();
+        Map<String, Map<String, InstructorPermissionSet>> sessionLevel = privileges.getSessionLevelPrivileges();
+        for (String privilegeName : privilegeNames) {
+            for (int section = 0; section < 22; section++) {
+                String sectionName = "section" + section;
+                boolean expectedInSection = sectionLevel.containsKey(sectionName)
+                        ? sectionLevel.get(sectionName).get(privilegeName)
+                        : privileges.isAllowedForPrivilege(privilegeName);
+                assertEquals(expectedInSection, deserialized.isAllowedForPrivilege(sectionName, privilegeName));
+
+                for (int session = 0; session < 22; session++) {
+                    String sessionName = "session" + session;
+                    InstructorPermissionSet sessionPrivileges = sessionLevel.containsKey(sectionName)
+                            ? sessionLevel.get(sectionName).get(sessionName)
+                            : null;
+                    boolean expectedInSession = sessionPrivileges == null
+                            ? expectedInSection
+                            : sessionPrivileges.get(privilegeName);
+                    assertEquals(expectedInSession,
+                            deserialized.isAllowedForPrivilege(sectionName, sessionName, privilegeName));
+                }
+            }
+        }
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
@@ -0,0 +1,98 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalCalculator}.
+ */
+public class TeamEvalCalculatorTest extends BaseTestCase {
+
+    @Test
+    public void testCalculate_specialValues_shouldMatchTeamEvalResult() {
+        TeamEvalCalculator calculator = new TeamEvalCalculator();
+
+        ______TS("all students submitted");
+
+        verifySameResult(calculator, new int[][] {
+                { 100, 100, 100, 100 },
+                { 110, 110, 110, 110 },
+                { 90, 90, 90, 90 },
+                { 10, 10, 10, 10 },
+        });
+
+        ______TS("some students are not sure or did not submit");
+
+        verifySameResult(calculator, new int[][] {
+                { 100, NSU, 100, 90 },
+                { NSB, NSB, NSB, NSB },
+                { 90, NSU, 110, 100 },
+                { NSU, NSU, NSU, NSU },
+        });
+
+        ______TS("nobody submitted");
+
+        verifySameResult(calculator, new int[][] {
+                { NSB, NSB, NSB },
+                { NSB, NSB, NSB },
+                { NSB, NSB, NSB },
+        });
+
+        ______TS("zero points are given");
+
+        verifySameResult(calculator, new int[][] {
+                { 0, 0, 0 },
+                { 0, 100, 0 },
+                { 0, 0, 0 },
+        });
+
+        ______TS("team of one");
+
+        verifySameResult(calculator, new int[][] { { 100 } });
+        verifySameResult(calculator, new int[][] { { NSB } });
+    }
+
+    @Test
+    public void testCalculate_randomSubmissionsWithReusedCalculator_shouldMatchTeamEvalResult() {
+        TeamEvalCalculator calculator = new TeamEvalCalculator();
+        Random random = new Random(0);
+
+        for (int run = 0; run < 200; run++) {
+            // team sizes vary so that the buffers of the calculator are both grown and reused
+            int teamSize = 1 + random.nextInt(12);
+            int[][] submissionValues = new int[teamSize][teamSize];
+            for (int i = 0; i < teamSize; i++) {
+                for (int j = 0; j < teamSize; j++) {
+                    int outcome = random.nextInt(10);
+                    if (outcome == 0) {
+                        submissionValues[i][j] = NSU;
+                    } else if (outcome == 1) {
+                        submissionValues[i][j] = NSB;
+                    } else {
+                        submissionValues[i][j] = random.nextInt(201);
+                    }
+                }
+            }
+            verifySameResult(calculator, submissionValues);
+        }
+    }
+
+    private void verifySameResult(TeamEvalCalculator calculator, int[][] submissionValues) {
+        TeamEvalResult expected = new TeamEvalResult(submissionValues);
+        TeamEvalResult actual = calculator.calculate(submissionValues);
+
+        assertSame(submissionValues, actual.claimed);
+        assertTrue(Arrays.deepEquals(expected.normalizedClaimed, actual.normalizedClaimed));
+        assertTrue(Arrays.deepEquals(expected.normalizedPeerContributionRatio, actual.normalizedPeerContributionRatio));
+        assertTrue(Arrays.equals(expected.normalizedAveragePerceived, actual.normalizedAveragePerceived));
+        assertTrue(Arrays.deepEquals(expected.denormalizedAveragePerceived, actual.denormalizedAveragePerceived));
+    }
+
+}
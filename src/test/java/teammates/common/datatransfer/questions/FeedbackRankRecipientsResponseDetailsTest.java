@@ -0,0 +1,82 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackRankRecipientsResponseDetails}.
+ */
+public class FeedbackRankRecipientsResponseDetailsTest extends BaseTestCase {
+
+    @Test
+    public void testGetConsistentRanks_consistentRanks_shouldReturnSameRanks() {
+        int[] ranks = { 1, 3, 3, 2 };
+        assertSame(ranks, FeedbackRankRecipientsResponseDetails.getConsistentRanks(ranks, 4));
+        assertSame(ranks, FeedbackRankRecipientsResponseDetails.getConsistentRanks(ranks, 0));
+
+        int[] noRanks = {};
+        assertSame(noRanks, FeedbackRankRecipientsResponseDetails.getConsistentRanks(noRanks, 3));
+    }
+
+    @Test
+    public void testGetConsistentRanks_ranksExceedingMaxRank_shouldCloseLargestUnusedRanks() {
+        ______TS("gap above the maximum rank");
+        assertTrue(Arrays.equals(new int[] { 1, 3 },
+                FeedbackRankRecipientsResponseDetails.getConsistentRanks(new int[] { 1, 5 }, 3)));
+
+        ______TS("gaps below the maximum rank are closed from the top");
+        assertTrue(Arrays.equals(new int[] { 2, 3 },
+                FeedbackRankRecipientsResponseDetails.getConsistentRanks(new int[] { 3, 5 }, 3)));
+
+        ______TS("ties are kept");
+        assertTrue(Arrays.equals(new int[] { 1, 1, 3 },
+                FeedbackRankRecipientsResponseDetails.getConsistentRanks(new int[] { 1, 1, 4 }, 3)));
+
+        ______TS("ranks which are not submitted are kept");
+        assertTrue(Arrays.equals(new int[] { -999, 1, 2 },
+                FeedbackRankRecipientsResponseDetails.getConsistentRanks(new int[] { -999, 2, 4 }, 2)));
+    }
+
+    @Test
+    public void testGetConsistentRanks_randomRanks_shouldMatchUpdateOptions() {
+        Random random = new Random(0);
+
+        for (int run = 0; run < 500; run++) {
+            int maxRank = 1 + random.nextInt(8);
+            int[] ranks = new int[random.nextInt(maxRank + 1)];
+            for (int i = 0; i < ranks.length; i++) {
+                // some ranks exceed the maximum rank, as if some recipients are removed
+                ranks[i] = 1 + random.nextInt(maxRank + random.nextInt(6));
+            }
+            verifySameRanks(ranks, maxRank);
+        }
+    }
+
+    private void verifySameRanks(int[] ranks, int maxRank) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (int i = 0; i < ranks.length; i++) {
+            FeedbackRankRecipientsResponseDetails details = new FeedbackRankRecipientsResponseDetails();
+            details.setAnswer(ranks[i]);
+            responses.add(FeedbackResponseAttributes.builder("question-id", "giver", "recipient" + i)
+                    .withResponseDetails(details)
+                    .build());
+        }
+
+        FeedbackRankRecipientsResponseDetails.getUpdateOptionsForRankRecipientQuestions(responses, maxRank);
+        int[] consistentRanks = FeedbackRankRecipientsResponseDetails.getConsistentRanks(ranks, maxRank);
+
+        for (int i = 0; i < ranks.length; i++) {
+            FeedbackRankRecipientsResponseDetails expected =
+                    (FeedbackRankRecipientsResponseDetails) responses.get(i).getResponseDetails();
+            assertEquals(expected.getAnswer(), consistentRanks[i]);
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackResponseStatisticsAggregator}.
+ */
+public class FeedbackResponseStatisticsAggregatorTest extends BaseTestCase {
+
+    @Test
+    public void testPutAndRemoveResponse_mcqQuestion_shouldCountOptions() {
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails();
+        questionDetails.setMcqChoices(Arrays.asList("A", "B"));
+        questionDetails.setOtherEnabled(true);
+        FeedbackResponseStatisticsAggregator aggregator = new FeedbackResponseStatisticsAggregator(questionDetails);
+
+        UUID response1 = UUID.randomUUID();
+        UUID response2 = UUID.randomUUID();
+        UUID response3 = UUID.randomUUID();
+
+        ______TS("responses are tallied per option and per recipient");
+
+        aggregator.putResponse(response1, "giver1", "Section 1", "recipient1", "Section 1", getMcqResponse("A"));
+        aggregator.putResponse(response2, "giver2", "Section 1", "recipient1", "Section 2", getMcqResponse("A"));
+        aggregator.putResponse(response3, "giver3", "Section 2", "recipient2", "Section 2", getMcqOtherResponse("C"));
+
+        FeedbackResponseStatistics statistics = aggregator.getStatistics((giverSection, recipientSection) -> true);
+        assertEquals(3, statistics.getNumResponses());
+        assertEquals(2, statistics.getTallies().get("A").getCount());
+        assertEquals(1, statistics.getTallies().get(FeedbackResponseStatistics.OTHER_OPTION).getCount());
+        assertNull(statistics.getTallies().get("C"));
+        assertEquals(2, statistics.getTalliesPerRecipient().get("recipient1").get("A").getCount());
+
+        ______TS("only the selected sections are included");
+
+        statistics = aggregator.getStatistics((giverSection, recipientSection) -> "Section 2".equals(recipientSection));
+        assertEquals(2, statistics.getNumResponses());
+        assertEquals(1, statistics.getTallies().get("A").getCount());
+
+        ______TS("updated response replaces its previous contribution");
+
+        aggregator.putResponse(response1, "giver1", "Section 1", "recipient1", "Section 1", getMcqResponse("B"));
+
+        statistics = aggregator.getStatistics((giverSection, recipientSection) -> true);
+        assertEquals(3, statistics.getNumResponses());
+        assertEquals(1, statistics.getTallies().get("A").getCount());
+        assertEquals(1, statistics.getTallies().get("B").getCount());
+
+        ______TS("removed responses leave no tallies behind");
+
+        aggregator.removeResponse(response2);
+        aggregator.removeResponse(response3);
+        aggregator.removeResponse(UUID.randomUUID());
+
+        statistics = aggregator.getStatistics((giverSection, recipientSection) -> true);
+        assertEquals(1, statistics.getNumResponses());
+        assertEquals(1, statistics.getTallies().size());
+        assertEquals(1, statistics.getTalliesPerRecipient().size());
+        assertEquals(1, statistics.getTallies().get("B").getCount());
+    }
+
+    @Test
+    public void testPutResponse_numericalScaleQuestion_shouldSumValuesWithAndWithoutSelf() {
+        FeedbackResponseStatisticsAggregator aggregator =
+                new FeedbackResponseStatisticsAggregator(new FeedbackNumericalScaleQuestionDetails());
+
+        aggregator.putResponse(UUID.randomUUID(), "student1", "Section 1", "student1", "Section 1",
+                getNumericalScaleResponse(5));
+        aggregator.putResponse(UUID.randomUUID(), "student2", "Section 1", "student1", "Section 1",
+                getNumericalScaleResponse(3));
+        aggregator.putResponse(UUID.randomUUID(), "student3", "Section 1", "student1", "Section 1",
+                getNumericalScaleResponse(3));
+
+        FeedbackResponseStatistics statistics = aggregator.getStatistics((giverSection, recipientSection) -> true);
+        FeedbackResponseStatistics.Tally tallyOfThree = statistics.getTalliesPerRecipient().get("student1").get("3.0");
+        FeedbackResponseStatistics.Tally tallyOfFive = statistics.getTalliesPerRecipient().get("student1").get("5.0");
+        assertEquals(2, tallyOfThree.getCount());
+        assertEquals(6.0, tallyOfThree.getSum(), 0);
+        assertEquals(1, tallyOfFive.getCount());
+        assertEquals(0, tallyOfFive.getCountExcludingSelf());
+        assertEquals(0.0, tallyOfFive.getSumExcludingSelf(), 0);
+    }
+
+    @Test
+    public void testPutResponse_textQuestion_shouldOnlyCountResponses() {
+        FeedbackResponseStatisticsAggregator aggregator =
+                new FeedbackResponseStatisticsAggregator(new FeedbackTextQuestionDetails("question"));
+
+        aggregator.putResponse(UUID.randomUUID(), "giver", "Section 1", "recipient", "Section 1",
+                new FeedbackTextResponseDetails("answer"));
+
+        FeedbackResponseStatistics statistics = aggregator.getStatistics((giverSection, recipientSection) -> true);
+        assertEquals(1, statistics.getNumResponses());
+        assertTrue(statistics.getTallies().isEmpty());
+        assertTrue(statistics.getTalliesPerRecipient().isEmpty());
+    }
+
+    private FeedbackMcqResponseDetails getMcqResponse(String answer) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+    private FeedbackMcqResponseDetails getMcqOtherResponse(String otherFieldContent) {
+        FeedbackMcqResponseDetails responseDetails = getMcqResponse(otherFieldContent);
+        responseDetails.setOther(true);
+        responseDetails.setOtherFieldContent(otherFieldContent);
+        return responseDetails;
+    }
+
+    private FeedbackNumericalScaleResponseDetails getNumericalScaleResponse(double answer) {
+        FeedbackNumericalScaleResponseDetails responseDetails = new FeedbackNumericalScaleResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+}
@@ -0,0 +1,57 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest extends BaseTestCase {
+
+    @Test
+    public void testGetBucketIndex_bucketUpperBoundsAreConsistent() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.getBucketIndex(value);
+            assertTrue(value <= LatencyHistogram.getBucketUpperBound(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.getBucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testRecord() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        ______TS("empty histogram");
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        ______TS("small values are exact");
+        for (int i = 1; i <= 5; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getCount());
+        assertEquals(15, histogram.getSum());
+        assertEquals(5, histogram.getMax());
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(5, histogram.getValueAtPercentile(100));
+
+        ______TS("large values are within the relative error");
+        LatencyHistogram latencies = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            latencies.record(i);
+        }
+        long p99 = latencies.getValueAtPercentile(99);
+        assertTrue(p99 >= 990 && p99 <= 990 * 9 / 8);
+        assertEquals(1000, latencies.getValueAtPercentile(100));
+
+        ______TS("negative values are recorded as 0");
+        LatencyHistogram negative = new LatencyHistogram();
+        negative.record(-1);
+        assertEquals(1, negative.getCount());
+        assertEquals(0, negative.getMax());
+    }
+
+}
@@ -0,0 +1,65 @@
+package teammates.common.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link MetricsRegistry}.
+ */
+public class MetricsRegistryTest extends BaseTestCase {
+
+    @BeforeMethod
+    public void setUp() {
+        MetricsRegistry.reset();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        MetricsRegistry.reset();
+    }
+
+    @Test
+    public void testToPrometheusText() {
+        MetricsRegistry.recordRequest("GetCourseAction", 200, 4, 2, 3_000_000, 120);
+        MetricsRegistry.recordRequest("GetCourseAction", 403, 2, 0, 0, 40);
+
+        String text = MetricsRegistry.toPrometheusText();
+
+        assertTrue(text.contains("# TYPE teammates_action_latency_milliseconds summary\n"));
+        assertTrue(text.contains("teammates_action_latency_milliseconds{action=\"GetCourseAction\",quantile=\"0.99\"} 4\n"));
+        assertTrue(text.contains("teammates_action_latency_milliseconds_sum{action=\"GetCourseAction\"} 6\n"));
+        assertTrue(text.contains("teammates_action_latency_milliseconds_count{action=\"GetCourseAction\"} 2\n"));
+        assertTrue(text.contains("teammates_action_responses_total{action=\"GetCourseAction\",status=\"200\"} 1\n"));
+        assertTrue(text.contains("teammates_action_responses_total{action=\"GetCourseAction\",status=\"403\"} 1\n"));
+        assertTrue(text.contains("teammates_action_db_statements_total{action=\"GetCourseAction\"} 2\n"));
+        assertTrue(text.contains("teammates_action_db_time_milliseconds_total{action=\"GetCourseAction\"} 3.0\n"));
+        assertTrue(text.contains("teammates_action_response_size_chars_sum{action=\"GetCourseAction\"} 160\n"));
+    }
+
+    @Test
+    public void testToPrometheusText_registeredCache() {
+        Cache<String, String> cache = CacheBuilder.newBuilder().recordStats().build();
+        MetricsRegistry.registerCache("test-cache", cache);
+
+        cache.put("key", "value");
+        cache.getIfPresent("key");
+        cache.getIfPresent("key");
+        cache.getIfPresent("absent-key");
+
+        assertEquals(2, MetricsRegistry.getCacheStats().get("test-cache").hitCount());
+
+        String text = MetricsRegistry.toPrometheusText();
+
+        assertTrue(text.contains("# TYPE teammates_cache_requests_total counter\n"));
+        assertTrue(text.contains("teammates_cache_requests_total{cache=\"test-cache\",result=\"hit\"} 2\n"));
+        assertTrue(text.contains("teammates_cache_requests_total{cache=\"test-cache\",result=\"miss\"} 1\n"));
+        assertTrue(text.contains("teammates_cache_evictions_total{cache=\"test-cache\"} 0\n"));
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.common.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.crypto.Cipher;
@@ -136,6 +137,19 @@ public class StringHelperTest extends BaseTestCase {
         for (String invalidCiphertext : invalidCiphertexts) {
             assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(invalidCiphertext));
         }
+
+        // the cipher of the thread must still be usable after failing to decrypt
+        assertEquals("Test decryption", StringHelper.decrypt(StringHelper.encrypt("Test decryption")));
+    }
+
+    @Test
+    public void testHexConversion() {
+        byte[] bytes = { 0, 10, 15, 16, 127, -128, -1 };
+        assertEquals("000A0F107F80FF", StringHelper.byteArrayToHexString(bytes));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("000A0F107F80FF")));
+        assertTrue(Arrays.equals(bytes, StringHelper.hexStringToByteArray("000a0f107f80ff")));
+
+        assertThrows(NumberFormatException.class, () -> StringHelper.hexStringToByteArray("0G"));
     }
 
     @Test
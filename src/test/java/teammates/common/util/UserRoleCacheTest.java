@@ -0,0 +1,104 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link UserRoleCache}.
+ */
+public class UserRoleCacheTest extends BaseTestCase {
+
+    private static final String GOOGLE_ID = "user-role-cache-test";
+
+    private final AtomicInteger instructorResolutions = new AtomicInteger();
+    private final AtomicInteger studentResolutions = new AtomicInteger();
+
+    private boolean isInstructor;
+    private boolean isStudent;
+
+    @BeforeMethod
+    public void setUp() {
+        UserRoleCache.invalidateAll();
+        instructorResolutions.set(0);
+        studentResolutions.set(0);
+        isInstructor = false;
+        isStudent = false;
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        UserRoleCache.invalidateAll();
+    }
+
+    @Test
+    public void testGetRoles() {
+        isStudent = true;
+
+        ______TS("roles the user has are cached");
+
+        assertTrue(getRoles().isStudent());
+        assertTrue(getRoles().isStudent());
+        assertEquals(1, studentResolutions.get());
+
+        ______TS("roles the user does not have are cached");
+
+        isInstructor = true;
+        assertFalse(getRoles().isInstructor());
+        assertEquals(1, instructorResolutions.get());
+
+        ______TS("invalidated roles are resolved again");
+
+        UserRoleCache.invalidate(GOOGLE_ID);
+        assertTrue(getRoles().isInstructor());
+        assertEquals(2, instructorResolutions.get());
+        assertEquals(2, studentResolutions.get());
+
+        ______TS("users with all roles are not resolved again");
+
+        assertTrue(getRoles().isInstructor());
+        assertEquals(2, instructorResolutions.get());
+
+        ______TS("users without roles are cached");
+
+        isInstructor = false;
+        isStudent = false;
+        UserRoleCache.invalidate(GOOGLE_ID);
+        assertFalse(getRoles().isInstructor());
+        isInstructor = true;
+        assertFalse(getRoles().isInstructor());
+        assertEquals(3, instructorResolutions.get());
+    }
+
+    @Test
+    public void testGetRoles_invalidatedWhileResolving_shouldNotCacheRoles() {
+        isStudent = true;
+
+        UserRoleCache.Roles roles = UserRoleCache.getRoles(GOOGLE_ID, googleId -> false, googleId -> {
+            UserRoleCache.invalidate(GOOGLE_ID);
+            return isStudent;
+        });
+        assertTrue(roles.isStudent());
+
+        isStudent = false;
+        assertFalse(getRoles().isStudent());
+        assertEquals(1, studentResolutions.get());
+    }
+
+    private UserRoleCache.Roles getRoles() {
+        return UserRoleCache.getRoles(GOOGLE_ID,
+                googleId -> {
+                    instructorResolutions.incrementAndGet();
+                    return isInstructor;
+                },
+                googleId -> {
+                    studentResolutions.incrementAndGet();
+                    return isStudent;
+                });
+    }
+
+}
@@ -1,10 +1,12 @@
 package teammates.logic.api;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.exception.TaskQueueException;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -16,6 +18,7 @@ import teammates.common.util.TaskWrapper;
 public class MockTaskQueuer extends TaskQueuer {
 
     private List<TaskWrapper> tasksAdded = new ArrayList<>();
+    private int numberOfNamedTasksBeforeFailure = -1;
 
     @Override
     void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
@@ -25,6 +28,26 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    void addNamedDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap, Object requestBody,
+                              String taskName, long countdownTime) {
+        if (numberOfNamedTasksBeforeFailure == 0) {
+            throw new TaskQueueException("Cannot add task to " + queueName, new IOException("Simulated failure"));
+        }
+        numberOfNamedTasksBeforeFailure--;
+
+        // countdown time not tested
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap, requestBody, taskName);
+        tasksAdded.add(task);
+    }
+
+    /**
+     * Makes adding named tasks fail after the given number of named tasks have been added.
+     */
+    public void failNamedTasksAfter(int numberOfTasks) {
+        numberOfNamedTasksBeforeFailure = numberOfTasks;
+    }
+
     /**
      * Gets the tasks added to the queue.
      */
@@ -51,6 +74,7 @@ public class MockTaskQueuer extends TaskQueuer {
      */
     public void clearTasks() {
         tasksAdded.clear();
+        numberOfNamedTasksBeforeFailure = -1;
     }
 
 }
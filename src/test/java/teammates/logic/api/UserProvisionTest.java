@@ -7,6 +7,7 @@ import teammates.common.datatransfer.UserInfoCookie;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Config;
+import teammates.logic.core.StudentsLogic;
 
 /**
  * SUT: {@link UserProvision}.
@@ -15,6 +16,8 @@ public class UserProvisionTest extends BaseLogicTest {
 
     private static UserProvision userProvision = UserProvision.inst();
 
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
     @Test
     public void testGetCurrentUser() {
 
@@ -57,4 +60,21 @@ public class UserProvisionTest extends BaseLogicTest {
         assertNull(userProvision.getCurrentUser(null));
     }
 
+    @Test
+    public void testGetCurrentUser_rolesChanged_shouldNotReturnCachedRoles() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        UserInfoCookie cookie = new UserInfoCookie(student.getGoogleId());
+        assertTrue(userProvision.getCurrentUser(cookie).isStudent);
+
+        ______TS("student deleted");
+
+        studentsLogic.deleteStudentCascade(student.getCourse(), student.getEmail());
+        assertFalse(userProvision.getCurrentUser(cookie).isStudent);
+
+        ______TS("student created");
+
+        studentsLogic.createStudent(student);
+        assertTrue(userProvision.getCurrentUser(cookie).isStudent);
+    }
+
 }
@@ -21,7 +21,6 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.storage.sqlapi.CoursesDb;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
-import teammates.storage.sqlentity.Instructor;
 import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
@@ -185,24 +184,20 @@ public class CoursesLogicTest extends BaseTestCase {
     @Test
     public void testDeleteCourseCascade_shouldDeleteCourse_success() {
         Course course = getTypicalCourse();
-        List<Instructor> instructors = new ArrayList<>();
         List<FeedbackSession> feedbackSessions = new ArrayList<>();
 
         FeedbackSession fs = new FeedbackSession("test-fs", course, "test@email.com",
                 "test", Instant.now(), Instant.now(), Instant.now(), Instant.now(), Duration.ofSeconds(60),
                 false, false, false);
         feedbackSessions.add(fs);
-        instructors.add(getTypicalInstructor());
 
         when(fsLogic.getFeedbackSessionsForCourse(course.getId())).thenReturn(feedbackSessions);
-        when(usersLogic.getInstructorsForCourse(course.getId())).thenReturn(instructors);
         when(coursesDb.getCourse(course.getId())).thenReturn(course);
 
         coursesLogic.deleteCourseCascade(course.getId());
 
         verify(usersLogic, times(1)).deleteStudentsInCourseCascade(course.getId());
-        verify(usersLogic, times(1)).getInstructorsForCourse(course.getId());
-        verify(usersLogic, times(1)).deleteInstructorCascade(course.getId(), instructors.get(0).getEmail());
+        verify(usersLogic, times(1)).deleteInstructorsInCourseCascade(course.getId());
         verify(fsLogic, times(1)).deleteFeedbackSessionCascade(fs.getName(), course.getId());
         verify(fsLogic, times(1)).getFeedbackSessionsForCourse(course.getId());
         verify(coursesDb, times(1)).deleteCourse(course);
@@ -0,0 +1,112 @@
+package teammates.sqllogic.core;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.common.util.Const;
+import teammates.storage.sqlapi.EnrollmentJobsDb;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.storage.sqlentity.Section;
+import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EnrollmentJobsLogic}.
+ */
+public class EnrollmentJobsLogicTest extends BaseTestCase {
+
+    private EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+
+    private EnrollmentJobsDb enrollmentJobsDb;
+
+    private Course course;
+
+    @BeforeMethod
+    public void setUpMethod() {
+        enrollmentJobsDb = mock(EnrollmentJobsDb.class);
+        enrollmentJobsLogic.initLogicDependencies(enrollmentJobsDb);
+        course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+    }
+
+    @Test
+    public void testCreateEnrollmentJobIfAbsent() {
+        EnrollmentJob newJob = new EnrollmentJob(course, "hash", "{}", 3);
+        when(enrollmentJobsDb.createEnrollmentJobIfAbsent(newJob)).thenReturn(newJob);
+
+        ______TS("no job in progress: job created");
+
+        assertSame(newJob, enrollmentJobsLogic.createEnrollmentJobIfAbsent(newJob));
+
+        ______TS("job in progress: existing job returned");
+
+        EnrollmentJob existingJob = new EnrollmentJob(course, "hash", "{}", 3);
+        existingJob.setUpdatedAt(Instant.now());
+        when(enrollmentJobsDb.getInProgressEnrollmentJob(course.getId(), "hash")).thenReturn(existingJob);
+
+        assertSame(existingJob, enrollmentJobsLogic.createEnrollmentJobIfAbsent(newJob));
+        assertTrue(existingJob.isInProgress());
+
+        ______TS("stalled job in progress: existing job failed and new job created");
+
+        existingJob.setUpdatedAt(Instant.now().minus(EnrollmentJobsLogic.STALLED_JOB_TIMEOUT).minusSeconds(1));
+
+        assertSame(newJob, enrollmentJobsLogic.createEnrollmentJobIfAbsent(newJob));
+        assertEquals(EnrollmentJobStatus.FAILED, existingJob.getStatus());
+    }
+
+    @Test
+    public void testGetEnrollmentJob_stalledJob_jobFailed() {
+        EnrollmentJob enrollmentJob = new EnrollmentJob(course, "hash", "{}", 3);
+        enrollmentJob.setUpdatedAt(Instant.now().minus(EnrollmentJobsLogic.STALLED_JOB_TIMEOUT).minusSeconds(1));
+        when(enrollmentJobsDb.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+
+        assertEquals(EnrollmentJobStatus.FAILED, enrollmentJobsLogic.getEnrollmentJob(enrollmentJob.getId()).getStatus());
+
+        ______TS("completed job is not failed");
+
+        enrollmentJob.setStatus(EnrollmentJobStatus.COMPLETED);
+
+        assertTrue(enrollmentJobsLogic.getEnrollmentJob(enrollmentJob.getId()).isCompleted());
+    }
+
+    @Test
+    public void testRecordEnrollmentJobProgress() {
+        EnrollmentJob enrollmentJob = new EnrollmentJob(course, "hash", "{}", 3);
+        Team team = new Team(new Section(course, "section"), "team");
+
+        ______TS("first chunk: progress recorded, job still in progress");
+
+        StudentEnrollmentResult result = new StudentEnrollmentResult();
+        result.addEnrolledStudent(new Student(course, "name 1", "student1@teammates.tmt", "", team), true);
+        result.addFailure("invalid-email", "error 1");
+        enrollmentJobsLogic.recordEnrollmentJobProgress(enrollmentJob, 2, result);
+
+        assertEquals(2, enrollmentJob.getProcessedCount());
+        assertEquals(1, enrollmentJob.getEnrolledCount());
+        assertEquals(Map.of("invalid-email", "error 1"), enrollmentJob.getFailedEnrollments());
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, enrollmentJob.getStatus());
+
+        ______TS("last chunk: failures accumulated, job completed");
+
+        result = new StudentEnrollmentResult();
+        result.addFailure("another-invalid-email", "error 2");
+        enrollmentJobsLogic.recordEnrollmentJobProgress(enrollmentJob, 1, result);
+
+        assertEquals(3, enrollmentJob.getProcessedCount());
+        assertEquals(1, enrollmentJob.getEnrolledCount());
+        assertEquals(Map.of("invalid-email", "error 1", "another-invalid-email", "error 2"),
+                enrollmentJob.getFailedEnrollments());
+        assertTrue(enrollmentJob.isCompleted());
+    }
+
+}
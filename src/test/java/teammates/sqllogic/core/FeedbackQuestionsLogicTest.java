@@ -1,6 +1,8 @@
 package teammates.sqllogic.core;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -12,6 +14,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SqlCourseRoster;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.storage.sqlapi.FeedbackQuestionsDb;
@@ -19,6 +22,7 @@ import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackQuestion;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -274,6 +278,51 @@ public class FeedbackQuestionsLogicTest extends BaseTestCase {
 
     }
 
+    @Test
+    public void testPopulateFieldsToGenerateInQuestion_studentOptions_cachedPerRosterVersion() {
+        Course c = getTypicalCourse();
+        FeedbackSession fs = getTypicalFeedbackSessionForCourse(c);
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails("mcq question");
+        questionDetails.setGenerateOptionsFor(FeedbackParticipantType.STUDENTS_EXCLUDING_SELF);
+        FeedbackQuestion fq = FeedbackQuestion.makeQuestion(fs, 1, "test-description",
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.NONE, 1, new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), questionDetails);
+
+        Team team = getTypicalTeam();
+        Student s1 = new Student(c, "Bob", "bob@teammates.tmt", "comments", team);
+        Student s2 = new Student(c, "Alice", "alice@teammates.tmt", "comments", team);
+        Student s3 = new Student(c, "Carol", "carol@teammates.tmt", "comments", team);
+
+        String courseId = c.getId();
+        when(usersLogic.getRosterVersion(courseId)).thenReturn(UUID.randomUUID().toString());
+        when(usersLogic.getStudentsForCourse(courseId)).thenReturn(new ArrayList<>(List.of(s1, s2, s3)));
+
+        ______TS("options are generated without the student doing the question");
+
+        fqLogic.populateFieldsToGenerateInQuestion(fq, courseId, s1.getEmail(), team.getName());
+        assertEquals(List.of("Alice (test-team)", "Carol (test-team)"),
+                ((FeedbackMcqQuestionDetails) fq.getQuestionDetailsCopy()).getMcqChoices());
+
+        ______TS("options are reused for other students while the roster is unchanged");
+
+        fq.setQuestionDetails(questionDetails.getDeepCopy());
+        fqLogic.populateFieldsToGenerateInQuestion(fq, courseId, s2.getEmail(), team.getName());
+        assertEquals(List.of("Bob (test-team)", "Carol (test-team)"),
+                ((FeedbackMcqQuestionDetails) fq.getQuestionDetailsCopy()).getMcqChoices());
+        verify(usersLogic, times(1)).getStudentsForCourse(courseId);
+
+        ______TS("options are regenerated after the roster has changed");
+
+        when(usersLogic.getRosterVersion(courseId)).thenReturn(UUID.randomUUID().toString());
+        when(usersLogic.getStudentsForCourse(courseId)).thenReturn(new ArrayList<>(List.of(s1, s2)));
+
+        fq.setQuestionDetails(questionDetails.getDeepCopy());
+        fqLogic.populateFieldsToGenerateInQuestion(fq, courseId, s3.getEmail(), team.getName());
+        assertEquals(List.of("Alice (test-team)", "Bob (test-team)"),
+                ((FeedbackMcqQuestionDetails) fq.getQuestionDetailsCopy()).getMcqChoices());
+        verify(usersLogic, times(2)).getStudentsForCourse(courseId);
+    }
+
     private List<FeedbackQuestion> createQuestionList(FeedbackSession fs, int numOfQuestions) {
         List<FeedbackQuestion> questions = new ArrayList<>();
         for (int i = 1; i <= numOfQuestions; i++) {
@@ -18,6 +18,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.storage.sqlapi.FeedbackResponseCommentsDb;
 import teammates.storage.sqlentity.FeedbackResponseComment;
+import teammates.storage.sqlentity.Section;
 import teammates.test.BaseTestCase;
 import teammates.ui.output.CommentVisibilityType;
 import teammates.ui.request.FeedbackResponseCommentUpdateRequest;
@@ -124,6 +125,17 @@ public class FeedbackResponseCommentsLogicTest extends BaseTestCase {
         verify(frcDb, times(1)).updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, newEmail);
     }
 
+    @Test
+    public void testUpdateCommentSections_success() {
+        String courseId = "Course_id";
+        List<String> emails = List.of("email@gmail.com", "email2@gmail.com");
+        Section newSection = getTypicalSection();
+        frcLogic.updateFeedbackResponseCommentsSections(courseId, emails, newSection);
+
+        verify(frcDb, times(1)).updateGiverSectionOfFeedbackResponseComments(courseId, emails, newSection);
+        verify(frcDb, times(1)).updateRecipientSectionOfFeedbackResponseComments(courseId, emails, newSection);
+    }
+
     @Test
     public void testUpdateComment_entityAlreadyExists_success()
             throws EntityDoesNotExistException {
@@ -15,6 +15,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Const;
 import teammates.common.util.Const.InstructorPermissions;
@@ -22,7 +23,9 @@ import teammates.storage.sqlapi.UsersDb;
 import teammates.storage.sqlentity.Account;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
+import teammates.storage.sqlentity.Section;
 import teammates.storage.sqlentity.Student;
+import teammates.storage.sqlentity.Team;
 import teammates.test.BaseTestCase;
 
 /**
@@ -166,4 +169,68 @@ public class UsersLogicTest extends BaseTestCase {
                 Const.InstructorPermissions.CAN_MODIFY_INSTRUCTOR));
     }
 
+    @Test
+    public void testValidateSectionsAndTeams_validRoster_success() throws EnrollException {
+        Team teamInSection1 = new Team(new Section(course, "Section 1"), "Team 1");
+        Team teamInSection2 = new Team(new Section(course, "Section 2"), "Team 1");
+
+        // the enrolled student moves the existing student, so the team is no longer in two sections
+        Student existingStudent = new Student(course, "Alice", "alice@email.tmt", "", teamInSection1);
+        Student otherStudent = new Student(course, "Bob", "bob@email.tmt", "", teamInSection2);
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of(existingStudent, otherStudent));
+
+        Student studentToEnroll = new Student(course, "Alice", "ALICE@email.tmt", "", teamInSection2);
+
+        usersLogic.validateSectionsAndTeams(List.of(studentToEnroll), course.getId());
+    }
+
+    @Test
+    public void testValidateSectionsAndTeams_teamInMultipleSections_throwsEnrollException() {
+        Section section1 = new Section(course, "Section 1");
+        Section section2 = new Section(course, "Section 2");
+        Section section3 = new Section(course, "Section 3");
+
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(List.of(
+                new Student(course, "Carol", "carol@email.tmt", "", new Team(section1, "Team B")),
+                new Student(course, "Dave", "dave@email.tmt", "", new Team(section2, "Team A"))));
+
+        List<Student> studentsToEnroll = List.of(
+                new Student(course, "Bob", "bob@email.tmt", "", new Team(section2, "Team B")),
+                new Student(course, "Alice", "alice@email.tmt", "", new Team(section3, "Team B")),
+                new Student(course, "Erin", "erin@email.tmt", "", new Team(section1, "Team A")));
+
+        EnrollException exception = assertThrows(EnrollException.class,
+                () -> usersLogic.validateSectionsAndTeams(studentsToEnroll, course.getId()));
+
+        // teams are reported in order of name, each with the sections of its first two students
+        // by name who are in different sections
+        assertEquals(String.join(" ",
+                String.format(UsersLogic.ERROR_INVALID_TEAM_NAME, "Team A", "Section 2", "Section 1"),
+                String.format(UsersLogic.ERROR_INVALID_TEAM_NAME, "Team B", "Section 3", "Section 2"),
+                UsersLogic.ERROR_INVALID_TEAM_NAME_INSTRUCTION), exception.getMessage());
+    }
+
+    @Test
+    public void testValidateSectionsAndTeams_sectionsOverLimit_throwsEnrollException() {
+        Team teamInSectionB = new Team(new Section(course, "Section B"), "Team B");
+        Team teamInSectionA = new Team(new Section(course, "Section A"), "Team A");
+
+        List<Student> existingStudents = new ArrayList<>();
+        List<Student> studentsToEnroll = new ArrayList<>();
+        for (int i = 0; i <= Const.SECTION_SIZE_LIMIT; i++) {
+            existingStudents.add(new Student(course, "Student B" + i, "b" + i + "@email.tmt", "", teamInSectionB));
+            studentsToEnroll.add(new Student(course, "Student A" + i, "a" + i + "@email.tmt", "", teamInSectionA));
+        }
+        when(usersDb.getStudentsForCourse(course.getId())).thenReturn(existingStudents);
+
+        EnrollException exception = assertThrows(EnrollException.class,
+                () -> usersLogic.validateSectionsAndTeams(studentsToEnroll, course.getId()));
+
+        assertEquals(String.join(" ",
+                String.format(UsersLogic.ERROR_ENROLL_EXCEED_SECTION_LIMIT, Const.SECTION_SIZE_LIMIT, "Section A"),
+                String.format(UsersLogic.ERROR_ENROLL_EXCEED_SECTION_LIMIT, Const.SECTION_SIZE_LIMIT, "Section B"),
+                String.format(UsersLogic.ERROR_ENROLL_EXCEED_SECTION_LIMIT_INSTRUCTION, Const.SECTION_SIZE_LIMIT)),
+                exception.getMessage());
+    }
+
 }
@@ -0,0 +1,117 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.exception.EnrollException;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.ui.output.EnrollmentJobData;
+import teammates.ui.request.StudentsEnrollRequest;
+import teammates.ui.webapi.CreateEnrollmentJobAction;
+import teammates.ui.webapi.InvalidOperationException;
+
+/**
+ * SUT: {@link CreateEnrollmentJobAction}.
+ */
+public class CreateEnrollmentJobActionTest extends BaseActionTest<CreateEnrollmentJobAction> {
+
+    private Course course;
+    private StudentsEnrollRequest request;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.STUDENTS_ENROLLMENT_JOB;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Mockito.reset(mockLogic);
+
+        course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        request = new StudentsEnrollRequest(List.of(
+                new StudentsEnrollRequest.StudentEnrollRequest(
+                        "name 1", "student1@teammates.tmt", "team", "section", ""),
+                new StudentsEnrollRequest.StudentEnrollRequest(
+                        "name 2", "student2@teammates.tmt", "team", "section", "")));
+
+        when(mockLogic.getCourse(course.getId())).thenReturn(course);
+        when(mockLogic.createEnrollmentJobIfAbsent(any(EnrollmentJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        loginAsInstructor(getTypicalInstructor().getGoogleId());
+    }
+
+    @Test
+    void testExecute_newEnrollment_jobCreatedAndScheduled() {
+        CreateEnrollmentJobAction action = getAction(request, Const.ParamsNames.COURSE_ID, course.getId());
+        EnrollmentJobData output = (EnrollmentJobData) getJsonResult(action).getOutput();
+
+        assertEquals(course.getId(), output.getCourseId());
+        assertEquals(EnrollmentJobStatus.IN_PROGRESS, output.getStatus());
+        assertEquals(2, output.getTotalCount());
+        assertEquals(0, output.getProcessedCount());
+        assertTrue(output.getUnsuccessfulEnrolls().isEmpty());
+        verifySpecifiedTasksAdded(Const.TaskQueue.ENROLLMENT_JOB_QUEUE_NAME, 1);
+    }
+
+    @Test
+    void testExecute_sameEnrollmentSubmittedTwice_sameRequestHash() {
+        getJsonResult(getAction(request, Const.ParamsNames.COURSE_ID, course.getId()));
+        getJsonResult(getAction(request, Const.ParamsNames.COURSE_ID, course.getId()));
+
+        ArgumentCaptor<EnrollmentJob> captor = ArgumentCaptor.forClass(EnrollmentJob.class);
+        verify(mockLogic, times(2)).createEnrollmentJobIfAbsent(captor.capture());
+        assertEquals(captor.getAllValues().get(0).getRequestHash(), captor.getAllValues().get(1).getRequestHash());
+    }
+
+    @Test
+    void testExecute_sameEnrollmentInProgress_existingJobReturned() {
+        EnrollmentJob existingJob = new EnrollmentJob(course, "hash", "{}", 2);
+        existingJob.setProcessedCount(1);
+        when(mockLogic.createEnrollmentJobIfAbsent(any(EnrollmentJob.class))).thenReturn(existingJob);
+
+        CreateEnrollmentJobAction action = getAction(request, Const.ParamsNames.COURSE_ID, course.getId());
+        EnrollmentJobData output = (EnrollmentJobData) getJsonResult(action).getOutput();
+
+        assertEquals(existingJob.getId().toString(), output.getEnrollmentJobId());
+        assertEquals(1, output.getProcessedCount());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_invalidSectionsOrTeams_throwsInvalidOperationException() throws Exception {
+        doThrow(new EnrollException("invalid teams")).when(mockLogic).validateSectionsAndTeams(any(), eq(course.getId()));
+
+        InvalidOperationException ioe =
+                verifyInvalidOperation(request, Const.ParamsNames.COURSE_ID, course.getId());
+
+        assertEquals("invalid teams", ioe.getMessage());
+        verify(mockLogic, never()).createEnrollmentJobIfAbsent(any(EnrollmentJob.class));
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyInstructorsOfTheSameCourseWithCorrectCoursePrivilegeCanAccess(
+                course, Const.InstructorPermissions.CAN_MODIFY_STUDENT, Const.ParamsNames.COURSE_ID, course.getId());
+    }
+}
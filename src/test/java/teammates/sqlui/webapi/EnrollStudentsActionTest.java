@@ -2,7 +2,7 @@ package teammates.sqlui.webapi;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -14,9 +14,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
+import teammates.common.datatransfer.StudentEnrollmentResult;
 import teammates.common.util.Const;
 import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.Instructor;
@@ -55,19 +53,19 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
     }
 
     @Test
-    public void testExecute_withNewStudent_shouldBeAdded() throws Exception {
+    public void testExecute_withNewStudent_shouldBeAdded() {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
         Student newStudent = new Student(course, "name", "email.com", "", team);
+        StudentEnrollmentResult enrollmentResult = new StudentEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(newStudent, true);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>());
-        when(mockLogic.createStudent(
-                argThat(argument -> Objects.equals(argument.getName(), newStudent.getName())
-                        && Objects.equals(argument.getEmail(), newStudent.getEmail())
-                        && Objects.equals(argument.getTeam(), newStudent.getTeam())
-                        && Objects.equals(argument.getSection(), newStudent.getSection())))).thenReturn(newStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course),
+                argThat(students -> students.size() == 1
+                        && Objects.equals(students.get(0).getName(), newStudent.getName())
+                        && Objects.equals(students.get(0).getEmail(), newStudent.getEmail())
+                        && Objects.equals(students.get(0).getTeamName(), "team")
+                        && Objects.equals(students.get(0).getSectionName(), "section")))).thenReturn(enrollmentResult);
 
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
@@ -83,21 +81,15 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
     }
 
     @Test
-    public void testExecute_studentAlreadyEnrolled_updateStudent() throws Exception {
+    public void testExecute_studentAlreadyEnrolled_updateStudent() {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
         Student newStudent = new Student(course, "name", "email.com", "", team);
-        Student existingStudent = new Student(course, "oldName", "email.com", "", team);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>(List.of(existingStudent)));
+        StudentEnrollmentResult enrollmentResult = new StudentEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(newStudent, true);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentForEmail(course.getId(), newStudent.getEmail())).thenReturn(existingStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
-        when(mockLogic.updateStudentCascade(
-                argThat(argument -> Objects.equals(argument.getName(), newStudent.getName())
-                        && Objects.equals(argument.getEmail(), newStudent.getEmail())
-                        && Objects.equals(argument.getTeam(), newStudent.getTeam())
-                        && Objects.equals(argument.getSection(), newStudent.getSection())))).thenReturn(newStudent);
+        when(mockLogic.enrollStudents(eq(course), any())).thenReturn(enrollmentResult);
+
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, course.getId(),
@@ -112,45 +104,37 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
     }
 
     @Test
-    public void testExecute_invalidParamsAndNotAlreadyEnrolled_studentAddedToErrorList() throws
-            EntityAlreadyExistsException, InvalidParametersException {
-        doThrow(new InvalidParametersException("")).when(mockLogic).createStudent(any(Student.class));
-
+    public void testExecute_studentAlreadyEnrolledWithSameDetails_notReindexed() {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
-        Student newStudent = new Student(course, "name", "email.com", "", team);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>());
+        Student existingStudent = new Student(course, "name", "email.com", "", team);
+        StudentEnrollmentResult enrollmentResult = new StudentEnrollmentResult();
+        enrollmentResult.addEnrolledStudent(existingStudent, false);
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course), any())).thenReturn(enrollmentResult);
 
-        StudentsEnrollRequest req = prepareRequest(newStudent);
+        StudentsEnrollRequest req = prepareRequest(existingStudent);
         String[] params = new String[] {
                 Const.ParamsNames.COURSE_ID, course.getId(),
         };
         EnrollStudentsAction action = getAction(req, params);
         JsonResult result = getJsonResult(action);
+
         List<StudentData> enrolledStudents = ((EnrollStudentsData) result.getOutput()).getStudentsData().getStudents();
-        List<EnrollStudentsData.EnrollErrorResults> errors =
-                ((EnrollStudentsData) result.getOutput()).getUnsuccessfulEnrolls();
-        assertEquals(errors.size(), 1);
-        assertEquals(enrolledStudents.size(), 0);
+        assertEquals(1, enrolledStudents.size());
+        assertEquals(existingStudent.getEmail(), enrolledStudents.get(0).getEmail());
+        verifyNoTasksAdded();
     }
 
     @Test
-    public void testExecute_invalidParamsAndAlreadyEnrolled_studentAddedToErrorList()
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+    public void testExecute_studentCannotBeEnrolled_studentAddedToErrorList() {
         Instructor instructor = getTypicalInstructor();
         loginAsInstructor(instructor.getGoogleId());
-
-        doThrow(new InvalidParametersException("")).when(mockLogic).updateStudentCascade(any(Student.class));
-
         Student newStudent = new Student(course, "name", "email.com", "", team);
+        StudentEnrollmentResult enrollmentResult = new StudentEnrollmentResult();
+        enrollmentResult.addFailure(newStudent.getEmail(), "error message");
         when(mockLogic.getCourse(course.getId())).thenReturn(course);
-        when(mockLogic.getStudentsForCourse(course.getId())).thenReturn(new ArrayList<>(List.of(newStudent)));
-        when(mockLogic.getStudentForEmail(course.getId(), newStudent.getEmail())).thenReturn(newStudent);
-        when(mockLogic.getTeamOrCreate(section, "team")).thenReturn(team);
-        when(mockLogic.getSectionOrCreate(course.getId(), "section")).thenReturn(section);
+        when(mockLogic.enrollStudents(eq(course), any())).thenReturn(enrollmentResult);
 
         StudentsEnrollRequest req = prepareRequest(newStudent);
         String[] params = new String[] {
@@ -162,7 +146,10 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         List<EnrollStudentsData.EnrollErrorResults> errors =
                 ((EnrollStudentsData) result.getOutput()).getUnsuccessfulEnrolls();
         assertEquals(errors.size(), 1);
+        assertEquals(newStudent.getEmail(), errors.get(0).getStudentEmail());
+        assertEquals("error message", errors.get(0).getErrorMessage());
         assertEquals(enrolledStudents.size(), 0);
+        verifyNoTasksAdded();
     }
 
     @Test
@@ -0,0 +1,142 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.datatransfer.StudentEnrollmentResult;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.StudentsEnrollRequest;
+import teammates.ui.webapi.EnrollmentJobWorkerAction;
+
+/**
+ * SUT: {@link EnrollmentJobWorkerAction}.
+ */
+public class EnrollmentJobWorkerActionTest extends BaseActionTest<EnrollmentJobWorkerAction> {
+
+    private Course course;
+    private EnrollmentJob enrollmentJob;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ENROLLMENT_JOB_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Mockito.reset(mockLogic);
+
+        course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        List<StudentsEnrollRequest.StudentEnrollRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            requests.add(new StudentsEnrollRequest.StudentEnrollRequest(
+                    "name " + i, "student" + i + "@teammates.tmt", "team", "section", ""));
+        }
+        enrollmentJob = new EnrollmentJob(course, "hash",
+                JsonUtils.toCompactJson(new StudentsEnrollRequest(requests)), requests.size());
+
+        loginAsAdmin();
+    }
+
+    @Test
+    void testExecute_missingParameters_throwsInvalidHttpParameterException() {
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.ENROLLMENT_JOB_ID, enrollmentJob.getId().toString());
+        verifyHttpParameterFailure(Const.ParamsNames.ENROLLMENT_JOB_OFFSET, "0");
+    }
+
+    @Test
+    void testExecute_jobDoesNotExist_failure() {
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(null);
+
+        EnrollmentJobWorkerAction action = getAction(getParams(0));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Failure", actionOutput.getMessage());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_firstChunk_nextChunkScheduled() {
+        StudentEnrollmentResult result = new StudentEnrollmentResult();
+        result.addEnrolledStudent(new Student(course, "name 0", "student0@teammates.tmt", ""), true);
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+        when(mockLogic.enrollStudents(eq(course), argThat(students -> students.size() == 250
+                && "student0@teammates.tmt".equals(students.get(0).getEmail())))).thenReturn(result);
+
+        EnrollmentJobWorkerAction action = getAction(getParams(0));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic).recordEnrollmentJobProgress(enrollmentJob, 250, result);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEARCH_INDEXING_QUEUE_NAME, 1);
+        verifySpecifiedTasksAdded(Const.TaskQueue.ENROLLMENT_JOB_QUEUE_NAME, 1);
+    }
+
+    @Test
+    void testExecute_lastChunk_noChunkScheduled() {
+        enrollmentJob.setProcessedCount(250);
+        StudentEnrollmentResult result = new StudentEnrollmentResult();
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+        when(mockLogic.enrollStudents(eq(course), argThat(students -> students.size() == 50
+                && "student250@teammates.tmt".equals(students.get(0).getEmail())))).thenReturn(result);
+        Mockito.doAnswer(invocation -> {
+            enrollmentJob.setProcessedCount(300);
+            enrollmentJob.setStatus(EnrollmentJobStatus.COMPLETED);
+            return null;
+        }).when(mockLogic).recordEnrollmentJobProgress(enrollmentJob, 50, result);
+
+        EnrollmentJobWorkerAction action = getAction(getParams(250));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic).recordEnrollmentJobProgress(enrollmentJob, 50, result);
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_offsetAlreadyProcessed_nothingEnrolled() {
+        enrollmentJob.setProcessedCount(250);
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+
+        EnrollmentJobWorkerAction action = getAction(getParams(0));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockLogic, never()).enrollStudents(any(), any());
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess(getParams(0));
+    }
+
+    private String[] getParams(int offset) {
+        return new String[] {
+                Const.ParamsNames.ENROLLMENT_JOB_ID, enrollmentJob.getId().toString(),
+                Const.ParamsNames.ENROLLMENT_JOB_OFFSET, String.valueOf(offset),
+        };
+    }
+}
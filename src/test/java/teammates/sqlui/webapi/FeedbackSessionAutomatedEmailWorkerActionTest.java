@@ -0,0 +1,187 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.TaskQueueException;
+import teammates.common.util.Const;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.webapi.FeedbackSessionAutomatedEmailWorkerAction;
+import teammates.ui.webapi.InvalidHttpParameterException;
+
+/**
+ * SUT: {@link FeedbackSessionAutomatedEmailWorkerAction}.
+ */
+public class FeedbackSessionAutomatedEmailWorkerActionTest
+        extends BaseActionTest<FeedbackSessionAutomatedEmailWorkerAction> {
+
+    private FeedbackSession session;
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Mockito.reset(mockLogic, mockSqlEmailGenerator);
+
+        Course course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        session = new FeedbackSession(
+                "session-name",
+                course,
+                "creater_email@tm.tmt",
+                null,
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-10-01T00:00:00.000Z"),
+                Instant.parse("2020-01-01T00:00:00.000Z"),
+                Instant.parse("2020-11-01T00:00:00.000Z"),
+                null,
+                true,
+                true,
+                true);
+
+        loginAsAdmin();
+    }
+
+    @Test
+    void testExecute_missingOrInvalidParameters_throwsInvalidHttpParameterException() {
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, session.getCourse().getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName());
+
+        InvalidHttpParameterException ihpe = verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, session.getCourse().getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.EMAIL_TYPE, EmailType.FEEDBACK_PUBLISHED.name());
+        assertEquals("Email type FEEDBACK_PUBLISHED not accepted", ihpe.getMessage());
+    }
+
+    @Test
+    void testExecute_sessionDoesNotExist_failure() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(null);
+
+        FeedbackSessionAutomatedEmailWorkerAction action = getAction(getParams(EmailType.FEEDBACK_OPENED));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Failure", actionOutput.getMessage());
+        verify(mockLogic, never()).markFeedbackSessionAutomatedEmailSent(session, EmailType.FEEDBACK_OPENED);
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testExecute_emailNotSentYet_emailsScheduled() {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient("student_email@tm.tmt");
+        email.setType(EmailType.FEEDBACK_CLOSING_SOON);
+        email.setSubjectFromType(session.getCourse().getName(), session.getName());
+
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockLogic.markFeedbackSessionAutomatedEmailSent(session, EmailType.FEEDBACK_CLOSING_SOON))
+                .thenReturn(true);
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session)).thenReturn(List.of(email));
+
+        FeedbackSessionAutomatedEmailWorkerAction action = getAction(getParams(EmailType.FEEDBACK_CLOSING_SOON));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockSqlEmailGenerator).generateFeedbackSessionClosingSoonEmails(session);
+        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+    }
+
+    @Test
+    void testExecute_schedulingFailsPartway_failureAndRetryDoesNotScheduleEmailsAgain() {
+        List<EmailWrapper> emails = List.of(
+                getClosingSoonEmail("student1_email@tm.tmt"), getClosingSoonEmail("student2_email@tm.tmt"));
+
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockLogic.markFeedbackSessionAutomatedEmailSent(session, EmailType.FEEDBACK_CLOSING_SOON))
+                .thenReturn(true);
+        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session)).thenReturn(emails);
+
+        ______TS("failure of the second email propagates");
+
+        mockTaskQueuer.failNamedTasksAfter(1);
+        FeedbackSessionAutomatedEmailWorkerAction action = getAction(getParams(EmailType.FEEDBACK_CLOSING_SOON));
+        assertThrows(TaskQueueException.class, action::execute);
+
+        List<TaskWrapper> tasksOfFailedAttempt = new ArrayList<>(mockTaskQueuer.getTasksAdded());
+        assertEquals(1, tasksOfFailedAttempt.size());
+
+        ______TS("retry schedules the emails under the same task names");
+
+        mockTaskQueuer.clearTasks();
+        action = getAction(getParams(EmailType.FEEDBACK_CLOSING_SOON));
+        getJsonResult(action);
+
+        List<TaskWrapper> tasksOfRetry = mockTaskQueuer.getTasksAdded();
+        assertEquals(2, tasksOfRetry.size());
+        assertEquals(tasksOfFailedAttempt.get(0).getTaskName(), tasksOfRetry.get(0).getTaskName());
+        assertNotEquals(tasksOfRetry.get(0).getTaskName(), tasksOfRetry.get(1).getTaskName());
+
+        ______TS("emails of a session which has been updated since are scheduled under new task names");
+
+        mockTaskQueuer.clearTasks();
+        session.setUpdatedAt(Instant.parse("2020-10-01T00:00:00.000Z"));
+        action = getAction(getParams(EmailType.FEEDBACK_CLOSING_SOON));
+        getJsonResult(action);
+
+        List<TaskWrapper> tasksAfterUpdate = mockTaskQueuer.getTasksAdded();
+        assertEquals(2, tasksAfterUpdate.size());
+        assertNotEquals(tasksOfRetry.get(0).getTaskName(), tasksAfterUpdate.get(0).getTaskName());
+    }
+
+    @Test
+    void testExecute_emailAlreadySent_noEmailsScheduled() {
+        when(mockLogic.getFeedbackSession(session.getName(), session.getCourse().getId())).thenReturn(session);
+        when(mockLogic.markFeedbackSessionAutomatedEmailSent(session, EmailType.FEEDBACK_CLOSED)).thenReturn(false);
+
+        FeedbackSessionAutomatedEmailWorkerAction action = getAction(getParams(EmailType.FEEDBACK_CLOSED));
+        MessageOutput actionOutput = (MessageOutput) getJsonResult(action).getOutput();
+
+        assertEquals("Successful", actionOutput.getMessage());
+        verify(mockSqlEmailGenerator, never()).generateFeedbackSessionClosedEmails(session);
+        verifyNoTasksAdded();
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess(getParams(EmailType.FEEDBACK_OPENED));
+    }
+
+    private EmailWrapper getClosingSoonEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        email.setType(EmailType.FEEDBACK_CLOSING_SOON);
+        email.setSubjectFromType(session.getCourse().getName(), session.getName());
+        return email;
+    }
+
+    private String[] getParams(EmailType emailType) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session.getCourse().getId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getName(),
+                Const.ParamsNames.EMAIL_TYPE, emailType.name(),
+        };
+    }
+}
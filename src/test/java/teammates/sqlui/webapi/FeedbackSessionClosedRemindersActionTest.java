@@ -16,8 +16,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
 import teammates.ui.webapi.FeedbackSessionClosedRemindersAction;
@@ -46,15 +46,16 @@ public class FeedbackSessionClosedRemindersActionTest extends BaseActionTest<Fee
 
         session = mock(FeedbackSession.class);
         session2 = mock(FeedbackSession.class);
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
+        Course course = getTypicalCourse();
 
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosedEmails(session)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosedEmails(session2)).thenReturn(List.of(mockEmail2));
+        when(session.getCourse()).thenReturn(course);
+        when(session.getName()).thenReturn("session1");
+        when(session2.getCourse()).thenReturn(course);
+        when(session2.getName()).thenReturn("session2");
     }
 
     @Test
-    void testExecute_allSessionsClosed_emailsSent() {
+    void testExecute_allSessionsClosed_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsClosedWithinThePastHour()).thenReturn(List.of(session, session2));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -63,19 +64,19 @@ public class FeedbackSessionClosedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsClosedWithinThePastHour();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session2);
-            verify(session, times(1)).setClosedEmailSent(true);
-            verify(session2, times(1)).setClosedEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
+            verify(session2, times(1)).getCourse();
+            verify(session2, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_oneSessionClosed_emailsSent() {
+    void testExecute_oneSessionClosed_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsClosedWithinThePastHour()).thenReturn(List.of(session));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -84,17 +85,17 @@ public class FeedbackSessionClosedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsClosedWithinThePastHour();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosedEmails(session);
-            verify(session, times(1)).setClosedEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_noSessionsClosed_noEmailsSent() {
+    void testExecute_noSessionsClosed_noEmailTasksAdded() {
         when(mockLogic.getFeedbackSessionsClosedWithinThePastHour()).thenReturn(List.of());
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
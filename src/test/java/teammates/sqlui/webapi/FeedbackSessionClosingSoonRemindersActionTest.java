@@ -18,6 +18,7 @@ import org.testng.annotations.Test;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.DeadlineExtension;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
@@ -57,13 +58,14 @@ public class FeedbackSessionClosingSoonRemindersActionTest
         deadlineExtension2 = mock(DeadlineExtension.class);
         deadlineExtension3 = mock(DeadlineExtension.class);
 
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
         EmailWrapper mockDeadlineEmail = mock(EmailWrapper.class);
         EmailWrapper mockDeadlineEmail2 = mock(EmailWrapper.class);
 
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session1)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionClosingSoonEmails(session2)).thenReturn(List.of(mockEmail2));
+        Course course = getTypicalCourse();
+        when(session1.getCourse()).thenReturn(course);
+        when(session1.getName()).thenReturn("session1");
+        when(session2.getCourse()).thenReturn(course);
+        when(session2.getName()).thenReturn("session2");
 
         when(deadlineExtension1.getFeedbackSession()).thenReturn(session1);
         when(deadlineExtension2.getFeedbackSession()).thenReturn(session1);
@@ -92,16 +94,16 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             verify(mockLogic, times(1)).getFeedbackSessionsClosingWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
 
-            // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session2);
-            verify(session1, times(1)).setClosingSoonEmailSent(true);
-            verify(session2, times(1)).setClosingSoonEmailSent(true);
+            // Verify regular closing soon email tasks
+            verify(session1, times(1)).getCourse();
+            verify(session1, times(1)).getName();
+            verify(session2, times(1)).getCourse();
+            verify(session2, times(1)).getName();
 
             // Verify deadline extensions grouping
             verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
             verifyNoMoreInteractions(mockSqlEmailGenerator, session1, session2,
                     deadlineExtension1, deadlineExtension2, deadlineExtension3);
             assertEquals("Successful", actionOutput.getMessage());
@@ -120,14 +122,14 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             verify(mockLogic, times(1)).getFeedbackSessionsClosingWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
 
-            // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(session1, times(1)).setClosingSoonEmailSent(true);
+            // Verify regular closing soon email tasks
+            verify(session1, times(1)).getCourse();
+            verify(session1, times(1)).getName();
 
             // Verify deadline extensions grouping
             verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockSqlEmailGenerator, session1, session2,
                     deadlineExtension1, deadlineExtension2, deadlineExtension3);
             assertEquals("Successful", actionOutput.getMessage());
@@ -265,11 +267,11 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             verify(mockLogic, times(1)).getFeedbackSessionsClosingWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(3));
 
-            // Verify regular closing soon emails
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session2);
-            verify(session1, times(1)).setClosingSoonEmailSent(true);
-            verify(session2, times(1)).setClosingSoonEmailSent(true);
+            // Verify regular closing soon email tasks
+            verify(session1, times(1)).getCourse();
+            verify(session1, times(1)).getName();
+            verify(session2, times(1)).getCourse();
+            verify(session2, times(1)).getName();
 
             // Verify deadline extensions grouping
             verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
@@ -283,7 +285,8 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             verify(deadlineExtension1, times(1)).setClosingSoonEmailSent(true);
             verify(deadlineExtension2, times(1)).setClosingSoonEmailSent(true);
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockSqlEmailGenerator, session1, session2,
                     deadlineExtension1, deadlineExtension2, deadlineExtension3);
             assertEquals("Successful", actionOutput.getMessage());
@@ -303,9 +306,9 @@ public class FeedbackSessionClosingSoonRemindersActionTest
             verify(mockLogic, times(1)).getFeedbackSessionsClosingWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(3));
 
-            // Verify regular closing soon emails (only session1)
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionClosingSoonEmails(session1);
-            verify(session1, times(1)).setClosingSoonEmailSent(true);
+            // Verify regular closing soon email tasks (only session1)
+            verify(session1, times(1)).getCourse();
+            verify(session1, times(1)).getName();
 
             // Verify deadline extensions grouping
             verify(mockLogic, times(1)).getDeadlineExtensionsPossiblyNeedingClosingSoonEmail();
@@ -326,7 +329,8 @@ public class FeedbackSessionClosingSoonRemindersActionTest
                     .generateFeedbackSessionClosingWithExtensionEmails(session2, deadlineExtensionsForSession2);
             verify(deadlineExtension3, never()).setClosingSoonEmailSent(true);
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
+            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockSqlEmailGenerator, session1, session2,
                     deadlineExtension1, deadlineExtension2, deadlineExtension3);
             assertEquals("Successful", actionOutput.getMessage());
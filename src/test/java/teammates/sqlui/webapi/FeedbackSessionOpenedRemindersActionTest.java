@@ -16,8 +16,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
 import teammates.ui.webapi.FeedbackSessionOpenedRemindersAction;
@@ -46,15 +46,16 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
         session = mock(FeedbackSession.class);
         session2 = mock(FeedbackSession.class);
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
+        Course course = getTypicalCourse();
 
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpenedEmails(session)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpenedEmails(session2)).thenReturn(List.of(mockEmail2));
+        when(session.getCourse()).thenReturn(course);
+        when(session.getName()).thenReturn("session1");
+        when(session2.getCourse()).thenReturn(course);
+        when(session2.getName()).thenReturn("session2");
     }
 
     @Test
-    void testExecute_allSessionsOpened_emailsSent() {
+    void testExecute_allSessionsOpened_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent()).thenReturn(List.of(session, session2));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -63,19 +64,19 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session2);
-            verify(session, times(1)).setOpenedEmailSent(true);
-            verify(session2, times(1)).setOpenedEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
+            verify(session2, times(1)).getCourse();
+            verify(session2, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_oneSessionOpened_emailsSent() {
+    void testExecute_oneSessionOpened_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent()).thenReturn(List.of(session));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -84,17 +85,17 @@ public class FeedbackSessionOpenedRemindersActionTest extends BaseActionTest<Fee
 
             verify(mockLogic, times(1)).getFeedbackSessionsWhichNeedOpenedEmailsToBeSent();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpenedEmails(session);
-            verify(session, times(1)).setOpenedEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_noSessionsOpened_noEmailsSent() {
+    void testExecute_noSessionsOpened_noEmailTasksAdded() {
         when(mockLogic.getFeedbackSessionsWhichNeedOpenedEmailsToBeSent()).thenReturn(List.of());
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -16,8 +16,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.util.Const;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
+import teammates.storage.sqlentity.Course;
 import teammates.storage.sqlentity.FeedbackSession;
 import teammates.ui.output.MessageOutput;
 import teammates.ui.webapi.FeedbackSessionOpeningSoonRemindersAction;
@@ -47,15 +47,16 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
 
         session = mock(FeedbackSession.class);
         session2 = mock(FeedbackSession.class);
-        EmailWrapper mockEmail = mock(EmailWrapper.class);
-        EmailWrapper mockEmail2 = mock(EmailWrapper.class);
+        Course course = getTypicalCourse();
 
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session)).thenReturn(List.of(mockEmail));
-        when(mockSqlEmailGenerator.generateFeedbackSessionOpeningSoonEmails(session2)).thenReturn(List.of(mockEmail2));
+        when(session.getCourse()).thenReturn(course);
+        when(session.getName()).thenReturn("session1");
+        when(session2.getCourse()).thenReturn(course);
+        when(session2.getName()).thenReturn("session2");
     }
 
     @Test
-    void testExecute_allSessionsOpeningSoon_emailsSent() {
+    void testExecute_allSessionsOpeningSoon_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsOpeningWithinTimeLimit()).thenReturn(List.of(session, session2));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -64,19 +65,19 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
 
             verify(mockLogic, times(1)).getFeedbackSessionsOpeningWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(2));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session);
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session2);
-            verify(session, times(1)).setOpeningSoonEmailSent(true);
-            verify(session2, times(1)).setOpeningSoonEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
+            verify(session2, times(1)).getCourse();
+            verify(session2, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 2);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_oneSessionOpeningSoon_emailsSent() {
+    void testExecute_oneSessionOpeningSoon_emailTasksAdded() {
         when(mockLogic.getFeedbackSessionsOpeningWithinTimeLimit()).thenReturn(List.of(session));
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -85,17 +86,17 @@ public class FeedbackSessionOpeningSoonRemindersActionTest
 
             verify(mockLogic, times(1)).getFeedbackSessionsOpeningWithinTimeLimit();
             mockRequestTracer.verify(RequestTracer::checkRemainingTime, times(1));
-            verify(mockSqlEmailGenerator, times(1)).generateFeedbackSessionOpeningSoonEmails(session);
-            verify(session, times(1)).setOpeningSoonEmailSent(true);
+            verify(session, times(1)).getCourse();
+            verify(session, times(1)).getName();
 
-            verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+            verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_AUTOMATED_EMAIL_QUEUE_NAME, 1);
             verifyNoMoreInteractions(mockLogic, mockSqlEmailGenerator, session, session2);
             assertEquals("Successful", actionOutput.getMessage());
         }
     }
 
     @Test
-    void testExecute_noSessionsOpeningSoon_noEmailsSent() {
+    void testExecute_noSessionsOpeningSoon_noEmailTasksAdded() {
         when(mockLogic.getFeedbackSessionsOpeningWithinTimeLimit()).thenReturn(List.of());
 
         try (MockedStatic<RequestTracer> mockRequestTracer = mockStatic(RequestTracer.class)) {
@@ -20,6 +20,7 @@ import teammates.ui.webapi.CompileLogsAction;
 import teammates.ui.webapi.CreateAccountAction;
 import teammates.ui.webapi.CreateAccountRequestAction;
 import teammates.ui.webapi.CreateCourseAction;
+import teammates.ui.webapi.CreateEnrollmentJobAction;
 import teammates.ui.webapi.CreateFeedbackQuestionAction;
 import teammates.ui.webapi.CreateFeedbackResponseCommentAction;
 import teammates.ui.webapi.CreateFeedbackSessionAction;
@@ -40,6 +41,8 @@ import teammates.ui.webapi.DeleteSqlDataBundleAction;
 import teammates.ui.webapi.DeleteStudentAction;
 import teammates.ui.webapi.DeleteStudentsAction;
 import teammates.ui.webapi.EnrollStudentsAction;
+import teammates.ui.webapi.EnrollmentJobWorkerAction;
+import teammates.ui.webapi.FeedbackSessionAutomatedEmailWorkerAction;
 import teammates.ui.webapi.FeedbackSessionClosedRemindersAction;
 import teammates.ui.webapi.FeedbackSessionClosingSoonRemindersAction;
 import teammates.ui.webapi.FeedbackSessionOpenedRemindersAction;
@@ -62,7 +65,9 @@ import teammates.ui.webapi.GetCourseJoinStatusAction;
 import teammates.ui.webapi.GetCourseSectionNamesAction;
 import teammates.ui.webapi.GetCoursesAction;
 import teammates.ui.webapi.GetDeadlineExtensionAction;
+import teammates.ui.webapi.GetEnrollmentJobAction;
 import teammates.ui.webapi.GetFeedbackQuestionRecipientsAction;
+import teammates.ui.webapi.GetFeedbackQuestionStatisticsAction;
 import teammates.ui.webapi.GetFeedbackQuestionsAction;
 import teammates.ui.webapi.GetFeedbackResponseCommentAction;
 import teammates.ui.webapi.GetFeedbackResponsesAction;
@@ -74,6 +79,7 @@ import teammates.ui.webapi.GetHasResponsesAction;
 import teammates.ui.webapi.GetInstructorAction;
 import teammates.ui.webapi.GetInstructorPrivilegeAction;
 import teammates.ui.webapi.GetInstructorsAction;
+import teammates.ui.webapi.GetMetricsAction;
 import teammates.ui.webapi.GetNotificationAction;
 import teammates.ui.webapi.GetNotificationsAction;
 import teammates.ui.webapi.GetOngoingSessionsAction;
@@ -115,6 +121,7 @@ import teammates.ui.webapi.SendLoginEmailAction;
 import teammates.ui.webapi.SessionLinksRecoveryAction;
 import teammates.ui.webapi.StudentCourseJoinEmailWorkerAction;
 import teammates.ui.webapi.StudentSearchIndexingWorkerAction;
+import teammates.ui.webapi.StudentsSearchIndexingWorkerAction;
 import teammates.ui.webapi.SubmitFeedbackResponsesAction;
 import teammates.ui.webapi.UnpublishFeedbackSessionAction;
 import teammates.ui.webapi.UpdateAccountRequestAction;
@@ -188,6 +195,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetFeedbackResponsesAction.class,
                 SubmitFeedbackResponsesAction.class,
                 FeedbackSessionPublishedEmailWorkerAction.class,
+                FeedbackSessionAutomatedEmailWorkerAction.class,
                 FeedbackSessionClosedRemindersAction.class,
                 SendErrorReportAction.class,
                 GetActionClassesAction.class,
@@ -225,6 +233,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetCourseAction.class,
                 UpdateCourseAction.class,
                 GetFeedbackQuestionRecipientsAction.class,
+                GetFeedbackQuestionStatisticsAction.class,
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
@@ -245,11 +254,16 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
+                CreateEnrollmentJobAction.class,
+                GetEnrollmentJobAction.class,
+                EnrollmentJobWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
                 CalculateUsageStatisticsAction.class,
                 GetUsageStatisticsAction.class,
+                GetMetricsAction.class,
                 GetNotificationAction.class,
                 CreateNotificationAction.class,
                 UpdateNotificationAction.class,
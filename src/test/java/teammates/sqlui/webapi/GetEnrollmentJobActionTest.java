@@ -0,0 +1,104 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EnrollmentJobStatus;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.EnrollmentJob;
+import teammates.ui.output.EnrollmentJobData;
+import teammates.ui.webapi.GetEnrollmentJobAction;
+
+/**
+ * SUT: {@link GetEnrollmentJobAction}.
+ */
+public class GetEnrollmentJobActionTest extends BaseActionTest<GetEnrollmentJobAction> {
+
+    private Course course;
+    private EnrollmentJob enrollmentJob;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.STUDENTS_ENROLLMENT_JOB;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        Mockito.reset(mockLogic);
+
+        course = new Course("course-id", "name", Const.DEFAULT_TIME_ZONE, "institute");
+        enrollmentJob = new EnrollmentJob(course, "hash", "{}", 3);
+        enrollmentJob.setProcessedCount(3);
+        enrollmentJob.setEnrolledCount(2);
+        enrollmentJob.setFailedEnrollments(Map.of("invalid-email", "error message"));
+        enrollmentJob.setStatus(EnrollmentJobStatus.COMPLETED);
+
+        loginAsInstructor(getTypicalInstructor().getGoogleId());
+    }
+
+    @Test
+    void testExecute_missingParameters_throwsInvalidHttpParameterException() {
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.COURSE_ID, course.getId());
+        verifyHttpParameterFailure(
+                Const.ParamsNames.COURSE_ID, course.getId(),
+                Const.ParamsNames.ENROLLMENT_JOB_ID, "not-a-uuid");
+    }
+
+    @Test
+    void testExecute_jobExists_progressAndErrorsReturned() {
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+
+        GetEnrollmentJobAction action = getAction(getParams(course.getId(), enrollmentJob.getId()));
+        EnrollmentJobData output = (EnrollmentJobData) getJsonResult(action).getOutput();
+
+        assertEquals(enrollmentJob.getId().toString(), output.getEnrollmentJobId());
+        assertEquals(EnrollmentJobStatus.COMPLETED, output.getStatus());
+        assertEquals(3, output.getTotalCount());
+        assertEquals(3, output.getProcessedCount());
+        assertEquals(2, output.getEnrolledCount());
+        assertEquals(1, output.getUnsuccessfulEnrolls().size());
+        assertEquals("invalid-email", output.getUnsuccessfulEnrolls().get(0).getStudentEmail());
+        assertEquals("error message", output.getUnsuccessfulEnrolls().get(0).getErrorMessage());
+    }
+
+    @Test
+    void testExecute_jobDoesNotExist_throwsEntityNotFoundException() {
+        UUID otherId = UUID.randomUUID();
+        when(mockLogic.getEnrollmentJob(otherId)).thenReturn(null);
+
+        verifyEntityNotFound(getParams(course.getId(), otherId));
+    }
+
+    @Test
+    void testExecute_jobOfOtherCourse_throwsEntityNotFoundException() {
+        when(mockLogic.getEnrollmentJob(enrollmentJob.getId())).thenReturn(enrollmentJob);
+
+        verifyEntityNotFound(getParams("other-course-id", enrollmentJob.getId()));
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyInstructorsOfTheSameCourseWithCorrectCoursePrivilegeCanAccess(
+                course, Const.InstructorPermissions.CAN_MODIFY_STUDENT, getParams(course.getId(), enrollmentJob.getId()));
+    }
+
+    private String[] getParams(String courseId, UUID enrollmentJobId) {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, enrollmentJobId.toString(),
+        };
+    }
+}
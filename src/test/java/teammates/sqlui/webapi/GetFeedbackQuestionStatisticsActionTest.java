@@ -0,0 +1,131 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.questions.FeedbackResponseStatistics;
+import teammates.common.util.Const;
+import teammates.storage.sqlentity.Course;
+import teammates.storage.sqlentity.FeedbackQuestion;
+import teammates.storage.sqlentity.FeedbackSession;
+import teammates.storage.sqlentity.Instructor;
+import teammates.ui.output.FeedbackQuestionStatisticsData;
+import teammates.ui.webapi.EntityNotFoundException;
+import teammates.ui.webapi.GetFeedbackQuestionStatisticsAction;
+import teammates.ui.webapi.JsonResult;
+
+/**
+ * SUT: {@link GetFeedbackQuestionStatisticsAction}.
+ */
+public class GetFeedbackQuestionStatisticsActionTest extends BaseActionTest<GetFeedbackQuestionStatisticsAction> {
+
+    private Instructor typicalInstructor;
+    private FeedbackQuestion typicalFeedbackQuestion;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.QUESTION_STATISTICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    void setUp() {
+        typicalInstructor = getTypicalInstructor();
+        Course typicalCourse = getTypicalCourse();
+        FeedbackSession typicalFeedbackSession = getTypicalFeedbackSessionForCourse(typicalCourse);
+        typicalFeedbackQuestion = getTypicalFeedbackQuestionForSession(typicalFeedbackSession);
+
+        when(mockLogic.getFeedbackQuestion(typicalFeedbackQuestion.getId())).thenReturn(typicalFeedbackQuestion);
+    }
+
+    @AfterMethod
+    void tearDown() {
+        logoutUser();
+    }
+
+    @Test
+    void testExecute_missingParameters_throwsInvalidHttpParameterException() {
+        verifyHttpParameterFailure();
+    }
+
+    @Test
+    void testExecute_nonExistentQuestion_throwsEntityNotFoundException() {
+        String[] params = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, UUID.randomUUID().toString(),
+        };
+
+        EntityNotFoundException enfe = verifyEntityNotFound(params);
+        assertEquals("Feedback Question not found", enfe.getMessage());
+    }
+
+    @Test
+    void testExecute_sectionSelected_success() {
+        String[] params = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, typicalFeedbackQuestion.getId().toString(),
+                Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, "Section 1",
+                Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER, "giver",
+        };
+
+        when(mockLogic.getInstructorByGoogleId(typicalInstructor.getCourseId(), typicalInstructor.getGoogleId()))
+                .thenReturn(typicalInstructor);
+        when(mockLogic.getQuestionStatistics(typicalFeedbackQuestion, typicalInstructor, "Section 1",
+                FeedbackResultFetchType.GIVER)).thenReturn(new FeedbackResponseStatistics());
+
+        loginAsInstructor(typicalInstructor.getGoogleId());
+
+        GetFeedbackQuestionStatisticsAction action = getAction(params);
+        JsonResult result = getJsonResult(action);
+        FeedbackQuestionStatisticsData output = (FeedbackQuestionStatisticsData) result.getOutput();
+
+        assertEquals(typicalFeedbackQuestion.getId().toString(), output.getFeedbackQuestionId());
+        assertEquals(0, output.getNumResponses());
+        assertTrue(output.getTallies().isEmpty());
+    }
+
+    @Test
+    void testCheckSpecificAccessControl_withoutLogin_throwsUnauthorizedAccessException() {
+        String[] params = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, typicalFeedbackQuestion.getId().toString(),
+        };
+
+        verifyCannotAccess(params);
+    }
+
+    @Test
+    void testCheckSpecificAccessControl_instructorOfOtherCourse_throwsUnauthorizedAccessException() {
+        String googleId = "instructor-of-other-course";
+        String[] params = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, typicalFeedbackQuestion.getId().toString(),
+        };
+
+        when(mockLogic.getInstructorByGoogleId(typicalInstructor.getCourseId(), googleId)).thenReturn(null);
+
+        loginAsInstructor(googleId);
+
+        verifyCannotAccess(params);
+    }
+
+    @Test
+    void testCheckSpecificAccessControl_instructorOfSameCourse_success() {
+        String[] params = new String[] {
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, typicalFeedbackQuestion.getId().toString(),
+        };
+
+        when(mockLogic.getInstructorByGoogleId(typicalInstructor.getCourseId(), typicalInstructor.getGoogleId()))
+                .thenReturn(typicalInstructor);
+
+        loginAsInstructor(typicalInstructor.getGoogleId());
+
+        verifyCanAccess(params);
+    }
+}
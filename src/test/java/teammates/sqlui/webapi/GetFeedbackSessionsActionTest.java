@@ -52,7 +52,7 @@ public class GetFeedbackSessionsActionTest extends BaseActionTest<GetFeedbackSes
         sessionsInCourse1.add(generateSession1InCourse(course1, "feedbacksession-1"));
         sessionsInCourse1.add(generateSession1InCourse(course1, "feedbacksession-2"));
 
-        when(mockLogic.getFeedbackSessionsForCourse(course1.getId())).thenReturn(sessionsInCourse1);
+        when(mockLogic.getFeedbackSessionsForCourses(List.of(course1.getId()))).thenReturn(sessionsInCourse1);
         when(mockLogic.getStudentsByGoogleId(student1.getAccount().getGoogleId())).thenReturn(List.of(student1));
         when(mockLogic.getInstructorByGoogleId(
                 instructor1.getAccount().getGoogleId(), course1.getId())).thenReturn(instructor1);
@@ -0,0 +1,83 @@
+package teammates.sqlui.webapi;
+
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.MetricsRegistry;
+import teammates.ui.output.ActionMetricsData;
+import teammates.ui.output.MetricsData;
+import teammates.ui.webapi.GetMetricsAction;
+import teammates.ui.webapi.JsonResult;
+
+/**
+ * SUT: {@link GetMetricsAction}.
+ */
+public class GetMetricsActionTest extends BaseActionTest<GetMetricsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.METRICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        MetricsRegistry.reset();
+        loginAsAdmin();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        MetricsRegistry.reset();
+    }
+
+    @Test
+    void testExecute_noRequestsRecorded_emptyMetrics() {
+        GetMetricsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        MetricsData data = (MetricsData) result.getOutput();
+
+        assertTrue(data.getActionMetrics().isEmpty());
+    }
+
+    @Test
+    void testExecute_requestsRecorded_metricsPerAction() {
+        MetricsRegistry.recordRequest("GetCourseAction", 200, 10, 3, 2_000_000, 100);
+        MetricsRegistry.recordRequest("GetCourseAction", 404, 30, 1, 1_000_000, 50);
+        MetricsRegistry.recordRequest("GetStudentsAction", 200, 5, 2, 500_000, 1000);
+
+        GetMetricsAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        List<ActionMetricsData> metrics = ((MetricsData) result.getOutput()).getActionMetrics();
+
+        assertEquals(2, metrics.size());
+
+        ActionMetricsData courseMetrics = metrics.get(0);
+        assertEquals("GetCourseAction", courseMetrics.getActionClass());
+        assertEquals(2, courseMetrics.getNumRequests());
+        assertEquals(30, courseMetrics.getLatencyMillisMax());
+        assertEquals(40, courseMetrics.getTotalLatencyMillis());
+        assertEquals(Long.valueOf(1), courseMetrics.getNumResponsesByStatus().get(200));
+        assertEquals(Long.valueOf(1), courseMetrics.getNumResponsesByStatus().get(404));
+        assertEquals(4, courseMetrics.getNumDbStatements());
+        assertEquals(3, courseMetrics.getTotalDbTimeMillis());
+        assertEquals(100, courseMetrics.getResponseSizeMax());
+
+        assertEquals("GetStudentsAction", metrics.get(1).getActionClass());
+        assertEquals(1, metrics.get(1).getNumRequests());
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.sqlui.webapi;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Const.TaskQueue;
+import teammates.storage.sqlentity.Student;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+import teammates.ui.webapi.JsonResult;
+import teammates.ui.webapi.StudentsSearchIndexingWorkerAction;
+
+/**
+ * SUT: {@link StudentsSearchIndexingWorkerAction}.
+ */
+public class StudentsSearchIndexingWorkerActionTest extends BaseActionTest<StudentsSearchIndexingWorkerAction> {
+
+    private Student typicalStudent;
+
+    @Override
+    String getActionUri() {
+        return TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Override
+    String getRequestMethod() {
+        return POST;
+    }
+
+    @BeforeMethod
+    void setUpMethod() {
+        typicalStudent = getTypicalStudent();
+        reset(mockLogic);
+        loginAsAdmin();
+    }
+
+    @Test
+    void testExecute_invalidRequestBody_throwsInvalidHttpRequestBodyException() {
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(null, List.of(typicalStudent.getEmail())));
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), null));
+        verifyHttpRequestBodyFailure(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), List.of()));
+    }
+
+    @Test
+    void testExecute_typicalCase_success() throws Exception {
+        List<String> emails = List.of(typicalStudent.getEmail());
+        when(mockLogic.getStudentsForEmails(typicalStudent.getCourseId(), emails)).thenReturn(List.of(typicalStudent));
+
+        StudentsSearchIndexingWorkerAction action =
+                getAction(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), emails));
+        JsonResult res = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, res.getStatusCode());
+        assertEquals("Successful", ((MessageOutput) res.getOutput()).getMessage());
+        verify(mockLogic, times(1)).putStudentDocuments(List.of(typicalStudent));
+    }
+
+    @Test
+    void testExecute_putDocuments_throwsException() throws Exception {
+        List<String> emails = List.of(typicalStudent.getEmail());
+        when(mockLogic.getStudentsForEmails(typicalStudent.getCourseId(), emails)).thenReturn(List.of(typicalStudent));
+        doThrow(new SearchServiceException("Failure", HttpStatus.SC_BAD_GATEWAY))
+                .when(mockLogic).putStudentDocuments(List.of(typicalStudent));
+
+        StudentsSearchIndexingWorkerAction action =
+                getAction(new StudentsSearchIndexingRequest(typicalStudent.getCourseId(), emails));
+        JsonResult res = getJsonResult(action, HttpStatus.SC_BAD_GATEWAY);
+
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, res.getStatusCode());
+        assertEquals("Failure", ((MessageOutput) res.getOutput()).getMessage());
+    }
+
+    @Test
+    void testAccessControl() {
+        verifyOnlyAdminsCanAccess();
+    }
+}
@@ -66,4 +66,36 @@ public class EntitiesDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         assertThrows(AssertionError.class, () -> coursesDb.createEntity(null));
     }
 
+    @Test
+    public void testLoadCached() throws Exception {
+        CourseAttributes c = CourseAttributes
+                .builder("Computing101-cached")
+                .withName("Basic Computing")
+                .withTimezone("UTC")
+                .withInstitute("Test institute")
+                .build();
+        coursesDb.createEntity(c);
+
+        ______TS("success: repeated reads are served from the cache");
+        long hitCount = EntityCache.getStats().hitCount();
+        assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+        assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+        assertTrue(EntityCache.getStats().hitCount() > hitCount);
+
+        ______TS("success: modifying the read result does not affect the cache");
+        coursesDb.getCourse(c.getId()).setName("Modified Computing");
+        assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+
+        ______TS("success: saving the entity invalidates the cache");
+        coursesDb.updateCourse(
+                CourseAttributes.updateOptionsBuilder(c.getId())
+                        .withName("Advanced Computing")
+                        .build());
+        assertEquals("Advanced Computing", coursesDb.getCourse(c.getId()).getName());
+
+        ______TS("success: deleting the entity invalidates the cache");
+        coursesDb.deleteCourse(c.getId());
+        assertNull(coursesDb.getCourse(c.getId()));
+    }
+
 }
@@ -0,0 +1,52 @@
+package teammates.storage.sqlsearch;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SearchManager}, {@link StudentSearchManager}.
+ */
+public class SearchManagerTest extends BaseTestCase {
+
+    @Test
+    public void testCleanSpecialChars() {
+        ______TS("plain query is unchanged");
+        assertEquals("alice bob", SearchManager.cleanSpecialChars("alice bob"));
+
+        ______TS("special characters are escaped");
+        assertEquals("a\\+b \\-c \\!d \\(e\\) \\{f\\} \\[g\\] \\^h \\~i \\?j \\:k \\/l \\\\m",
+                SearchManager.cleanSpecialChars("a+b -c !d (e) {f} [g] ^h ~i ?j :k /l \\m"));
+
+        ______TS("only double ampersands and pipes are escaped");
+        assertEquals("a & b \\&& c | d \\|| e", SearchManager.cleanSpecialChars("a & b && c | d || e"));
+        assertEquals("\\&&& \\||\\||", SearchManager.cleanSpecialChars("&&& ||||"));
+
+        ______TS("HTML tags are stripped");
+        assertEquals("bold text", SearchManager.cleanSpecialChars("<b>bold</b> text"));
+        assertEquals("a<b", SearchManager.cleanSpecialChars("a<b"));
+
+        ______TS("balanced quotes are kept, imbalanced quotes are removed");
+        assertEquals("\"exact phrase\"", SearchManager.cleanSpecialChars("\"exact phrase\""));
+        assertEquals("not exact", SearchManager.cleanSpecialChars("\"not exact"));
+
+        ______TS("email-like input is matched exactly");
+        assertEquals("\"alice@email.tmt\"", SearchManager.cleanSpecialChars("alice@email.tmt"));
+        assertEquals("\"alice@email.tmt\" bob", SearchManager.cleanSpecialChars("\"alice@email.tmt\" bob"));
+    }
+
+    @Test
+    public void testGetCourseIdFilterQuery() {
+        assertEquals("{!terms f=courseId}course-1",
+                StudentSearchManager.getCourseIdFilterQuery(new TreeSet<>(Arrays.asList("course-1"))));
+
+        ______TS("course IDs are sorted so that the same courses give the same filter query");
+        assertEquals("{!terms f=courseId}a.course,b_course,c$course",
+                StudentSearchManager.getCourseIdFilterQuery(
+                        new TreeSet<>(Arrays.asList("c$course", "a.course", "b_course"))));
+    }
+
+}
@@ -29,9 +29,11 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.NotificationAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.HibernateUtil;
+import teammates.common.util.UserRoleCache;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.core.LogicStarter;
 import teammates.sqllogic.api.Logic;
+import teammates.storage.api.EntityCache;
 import teammates.storage.api.OfyHelper;
 import teammates.storage.search.AccountRequestSearchManager;
 import teammates.storage.search.InstructorSearchManager;
@@ -109,6 +111,8 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         SearchManagerFactory.getStudentSearchManager().resetCollections();
 
         LOCAL_DATASTORE_HELPER.reset();
+        EntityCache.invalidateAll();
+        UserRoleCache.invalidateAll();
     }
 
     @AfterSuite
@@ -71,6 +71,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetFeedbackResponsesAction.class,
                 SubmitFeedbackResponsesAction.class,
                 FeedbackSessionPublishedEmailWorkerAction.class,
+                FeedbackSessionAutomatedEmailWorkerAction.class,
                 FeedbackSessionClosedRemindersAction.class,
                 SendErrorReportAction.class,
                 GetActionClassesAction.class,
@@ -108,6 +109,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 GetCourseAction.class,
                 UpdateCourseAction.class,
                 GetFeedbackQuestionRecipientsAction.class,
+                GetFeedbackQuestionStatisticsAction.class,
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
@@ -128,11 +130,16 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
+                CreateEnrollmentJobAction.class,
+                GetEnrollmentJobAction.class,
+                EnrollmentJobWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
                 CalculateUsageStatisticsAction.class,
                 GetUsageStatisticsAction.class,
+                GetMetricsAction.class,
                 GetNotificationAction.class,
                 CreateNotificationAction.class,
                 UpdateNotificationAction.class,
@@ -1,13 +1,16 @@
 package teammates.ui.webapi;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.servlet.http.Cookie;
 
+import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletRequest;
 import teammates.test.MockHttpServletResponse;
 import teammates.ui.output.MessageOutput;
 
@@ -45,4 +48,99 @@ public class JsonResultTest extends BaseTestCase {
         result.send(respWithCookie);
         assertEquals(1, respWithCookie.getCookies().size());
     }
+
+    @Test
+    public void testSendResponseWithRequest_conditionalGet() throws Exception {
+
+        ______TS("GET request without entity tag: full response with entity tag");
+
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/webapi/test");
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        getCacheableResult("output message").send(req, resp);
+
+        String entityTag = resp.getHeader("ETag");
+        assertNotNull(entityTag);
+        assertTrue(entityTag.startsWith("\"") && entityTag.endsWith("\""));
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+
+        ______TS("GET request with matching entity tag: not modified");
+
+        req = new MockHttpServletRequest("GET", "/webapi/test");
+        req.addHeader("If-None-Match", "\"other\", W/" + entityTag);
+        resp = new MockHttpServletResponse();
+        getCacheableResult("output message").send(req, resp);
+
+        assertEquals(entityTag, resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, resp.getStatus());
+
+        ______TS("GET request with outdated entity tag: full response with new entity tag");
+
+        req = new MockHttpServletRequest("GET", "/webapi/test");
+        req.addHeader("If-None-Match", entityTag);
+        resp = new MockHttpServletResponse();
+        getCacheableResult("another output message").send(req, resp);
+
+        assertNotNull(resp.getHeader("ETag"));
+        assertNotEquals(entityTag, resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+
+        ______TS("non-GET request or non-OK response: no entity tag");
+
+        req = new MockHttpServletRequest("PUT", "/webapi/test");
+        req.addHeader("If-None-Match", entityTag);
+        resp = new MockHttpServletResponse();
+        getCacheableResult("output message").send(req, resp);
+
+        assertNull(resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+
+        req = new MockHttpServletRequest("GET", "/webapi/test");
+        resp = new MockHttpServletResponse();
+        JsonResult errorResult = new JsonResult("error message", HttpStatus.SC_NOT_FOUND);
+        errorResult.setCacheable(Duration.ZERO);
+        errorResult.send(req, resp);
+
+        assertNull(resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_NOT_FOUND, resp.getStatus());
+    }
+
+    @Test
+    public void testSendResponseWithRequest_caching() throws Exception {
+
+        ______TS("not cacheable: response is not stored, and thus has no entity tag");
+
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/webapi/test");
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        new JsonResult("output message").send(req, resp);
+
+        assertNull(resp.getHeader("Cache-Control"));
+        assertNull(resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+
+        ______TS("cacheable without max age: response has to be revalidated before every use");
+
+        resp = new MockHttpServletResponse();
+        getCacheableResult("output message").send(req, resp);
+
+        assertEquals("private, no-cache", resp.getHeader("Cache-Control"));
+        assertNull(resp.getHeader("Vary"));
+
+        ______TS("cacheable with max age: response can be reused by the browser of the user");
+
+        JsonResult result = new JsonResult("output message");
+        result.setCacheable(Duration.ofSeconds(30));
+        resp = new MockHttpServletResponse();
+        result.send(req, resp);
+
+        assertEquals("private, max-age=30", resp.getHeader("Cache-Control"));
+        assertEquals("Cookie", resp.getHeader("Vary"));
+        assertNotNull(resp.getHeader("ETag"));
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+    }
+
+    private static JsonResult getCacheableResult(String message) {
+        JsonResult result = new JsonResult(message);
+        result.setCacheable(Duration.ZERO);
+        return result;
+    }
 }